@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStage;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
+
+import java.lang.reflect.Method;
+
+/**
+ * Kernel stage latency advice.
+ */
+public abstract class AbstractKernelStageLatencyAdvice implements InstanceMethodAdvice {
+    
+    @Override
+    public final void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args) {
+        KernelStageLatencyRecorder.INSTANCE.start(getKernelStage());
+    }
+    
+    @Override
+    public final void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
+        KernelStageLatencyRecorder.INSTANCE.finishWithCurrentSQL(getKernelStage());
+    }
+    
+    protected abstract KernelStage getKernelStage();
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStage;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
+
+import java.lang.reflect.Method;
+
+/**
+ * Executor connection manager advice.
+ */
+public final class ExecutorConnectionManagerAdvice implements InstanceMethodAdvice {
+    
+    public static final String GET_CONNECTIONS = "getConnections";
+    
+    public static final String GET_ACQUIRABLE_CONNECTION_SIZE = "getAcquirableConnectionSize";
+    
+    static {
+        MetricsPool.create(MetricIds.CONNECTION_ACQUISITION_LATENCY_MILLIS);
+        MetricsPool.create(MetricIds.CONNECTION_SIZE_DOWNGRADE);
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args) {
+        if (GET_CONNECTIONS.equals(method.getName())) {
+            KernelStageLatencyRecorder.INSTANCE.start(KernelStage.ACQUIRE_CONNECTION);
+        }
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
+        if (GET_CONNECTIONS.equals(method.getName())) {
+            KernelStageLatencyRecorder.INSTANCE.finish(KernelStage.ACQUIRE_CONNECTION, (String) args[0]);
+        } else if (GET_ACQUIRABLE_CONNECTION_SIZE.equals(method.getName()) && null != result && (int) result < (int) args[1]) {
+            MetricsPool.get(MetricIds.CONNECTION_SIZE_DOWNGRADE).ifPresent(optional -> optional.inc((String) args[0]));
+        }
+    }
+}
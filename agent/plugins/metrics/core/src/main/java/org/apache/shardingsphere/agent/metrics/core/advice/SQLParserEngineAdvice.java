@@ -22,6 +22,9 @@ import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.MetricsWrapper;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStage;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
+import org.apache.shardingsphere.agent.metrics.core.recorder.SQLStatementTypeLabel;
 import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
@@ -54,15 +57,29 @@ public final class SQLParserEngineAdvice implements InstanceMethodAdvice {
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RQL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RDL);
         MetricsPool.create(MetricIds.PARSE_DIST_SQL_RAL);
+        MetricsPool.create(MetricIds.PARSE_SQL_LATENCY_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final TargetAdviceObject target, final Method method, final Object[] args) {
+        KernelStageLatencyRecorder.INSTANCE.start(KernelStage.PARSE);
     }
     
     @Override
     public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
         SQLStatement sqlStatement = (SQLStatement) result;
+        KernelStageLatencyRecorder.INSTANCE.finish(KernelStage.PARSE, SQLStatementTypeLabel.getLabel(sqlStatement), getCacheLabel((boolean) args[1]));
         countSQL(sqlStatement);
         countDistSQL(sqlStatement);
     }
     
+    private String getCacheLabel(final boolean useCache) {
+        if (!useCache) {
+            return "none";
+        }
+        return KernelStageLatencyRecorder.INSTANCE.isParseCacheMissed() ? "miss" : "hit";
+    }
+    
     private void countSQL(final SQLStatement sqlStatement) {
         if (sqlStatement instanceof InsertStatement) {
             MetricsPool.get(MetricIds.PARSE_SQL_INSERT).ifPresent(MetricsWrapper::inc);
@@ -22,7 +22,11 @@ import org.apache.shardingsphere.agent.advice.type.InstanceMethodAdvice;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.MetricsWrapper;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStage;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
+import org.apache.shardingsphere.agent.metrics.core.recorder.SQLStatementTypeLabel;
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
@@ -47,6 +51,7 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAdvice {
         MetricsPool.create(MetricIds.ROUTE_SQL_SELECT);
         MetricsPool.create(MetricIds.ROUTE_DATASOURCE);
         MetricsPool.create(MetricIds.ROUTE_TABLE);
+        MetricsPool.create(MetricIds.ROUTE_SQL_LATENCY_MILLIS);
     }
     
     @Override
@@ -62,10 +67,13 @@ public final class SQLRouteEngineAdvice implements InstanceMethodAdvice {
         } else if (sqlStatement instanceof SelectStatement) {
             MetricsPool.get(MetricIds.ROUTE_SQL_SELECT).ifPresent(MetricsWrapper::inc);
         }
+        KernelStageLatencyRecorder.INSTANCE.setCurrentSQL(((ShardingSphereDatabase) args[2]).getName(), SQLStatementTypeLabel.getLabel(sqlStatement));
+        KernelStageLatencyRecorder.INSTANCE.start(KernelStage.ROUTE);
     }
     
     @Override
     public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result) {
+        KernelStageLatencyRecorder.INSTANCE.finishWithCurrentSQL(KernelStage.ROUTE);
         RouteContext routeContext = (RouteContext) result;
         if (null != routeContext) {
             Collection<RouteUnit> routeUnits = routeContext.getRouteUnits();
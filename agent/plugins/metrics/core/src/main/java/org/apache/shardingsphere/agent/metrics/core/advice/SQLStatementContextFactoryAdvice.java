@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.advice.type.StaticMethodAdvice;
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStage;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
+import org.apache.shardingsphere.agent.metrics.core.recorder.SQLStatementTypeLabel;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.lang.reflect.Method;
+
+/**
+ * SQL statement context factory advice.
+ */
+public final class SQLStatementContextFactoryAdvice implements StaticMethodAdvice {
+    
+    static {
+        MetricsPool.create(MetricIds.BIND_SQL_LATENCY_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final Class<?> clazz, final Method method, final Object[] args) {
+        KernelStageLatencyRecorder.INSTANCE.start(KernelStage.BIND);
+    }
+    
+    @Override
+    public void afterMethod(final Class<?> clazz, final Method method, final Object[] args, final Object result) {
+        KernelStageLatencyRecorder.INSTANCE.setCurrentSQL((String) args[args.length - 1], SQLStatementTypeLabel.getLabel((SQLStatement) args[args.length - 2]));
+        KernelStageLatencyRecorder.INSTANCE.finishWithCurrentSQL(KernelStage.BIND);
+    }
+}
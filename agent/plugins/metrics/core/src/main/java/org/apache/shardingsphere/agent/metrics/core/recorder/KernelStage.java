@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.recorder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+
+/**
+ * Kernel stage.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum KernelStage {
+    
+    PARSE(MetricIds.PARSE_SQL_LATENCY_MILLIS),
+    
+    BIND(MetricIds.BIND_SQL_LATENCY_MILLIS),
+    
+    ROUTE(MetricIds.ROUTE_SQL_LATENCY_MILLIS),
+    
+    REWRITE(MetricIds.REWRITE_SQL_LATENCY_MILLIS),
+    
+    EXECUTE_PREPARE(MetricIds.EXECUTE_PREPARE_LATENCY_MILLIS),
+    
+    ACQUIRE_CONNECTION(MetricIds.CONNECTION_ACQUISITION_LATENCY_MILLIS),
+    
+    EXECUTE(MetricIds.EXECUTE_SQL_LATENCY_MILLIS),
+    
+    MERGE(MetricIds.MERGE_RESULT_LATENCY_MILLIS);
+    
+    private final String metricId;
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.recorder;
+
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+
+/**
+ * Kernel stage latency recorder.
+ * 
+ * <p>Records are kept per thread, so nested or overloaded invocations of one stage are only observed once by the outermost invocation.</p>
+ */
+public enum KernelStageLatencyRecorder {
+    
+    INSTANCE;
+    
+    private static final String UNKNOWN_LABEL = "unknown";
+    
+    private static final ThreadLocal<StageRecord> CURRENT_RECORD = ThreadLocal.withInitial(StageRecord::new);
+    
+    /**
+     * Start recording stage.
+     *
+     * @param stage kernel stage
+     */
+    public void start(final KernelStage stage) {
+        StageRecord record = CURRENT_RECORD.get();
+        if (0 == record.depths[stage.ordinal()]++) {
+            record.startNanos[stage.ordinal()] = System.nanoTime();
+            if (KernelStage.PARSE == stage) {
+                record.parseCacheMissed = false;
+            }
+        }
+    }
+    
+    /**
+     * Finish recording stage and observe elapsed millis with labels.
+     *
+     * @param stage kernel stage
+     * @param labels labels
+     */
+    public void finish(final KernelStage stage, final String... labels) {
+        StageRecord record = CURRENT_RECORD.get();
+        if (0 == record.depths[stage.ordinal()] || 0 != --record.depths[stage.ordinal()]) {
+            return;
+        }
+        double elapsedMillis = (System.nanoTime() - record.startNanos[stage.ordinal()]) / 1000000D;
+        MetricsPool.get(stage.getMetricId()).ifPresent(optional -> optional.observe(elapsedMillis, labels));
+    }
+    
+    /**
+     * Finish recording stage and observe elapsed millis labelled with database name and statement type of current SQL.
+     *
+     * @param stage kernel stage
+     */
+    public void finishWithCurrentSQL(final KernelStage stage) {
+        StageRecord record = CURRENT_RECORD.get();
+        finish(stage, record.databaseName, record.statementType);
+    }
+    
+    /**
+     * Mark SQL statement cache missed for current parsing.
+     */
+    public void markParseCacheMissed() {
+        CURRENT_RECORD.get().parseCacheMissed = true;
+    }
+    
+    /**
+     * Judge whether SQL statement cache missed for current parsing.
+     *
+     * @return SQL statement cache missed or not
+     */
+    public boolean isParseCacheMissed() {
+        return CURRENT_RECORD.get().parseCacheMissed;
+    }
+    
+    /**
+     * Set database name and statement type of current SQL, which label stages unable to resolve them from arguments.
+     *
+     * @param databaseName database name
+     * @param statementType statement type
+     */
+    public void setCurrentSQL(final String databaseName, final String statementType) {
+        StageRecord record = CURRENT_RECORD.get();
+        record.databaseName = null == databaseName ? UNKNOWN_LABEL : databaseName;
+        record.statementType = statementType;
+    }
+    
+    private static final class StageRecord {
+        
+        private final long[] startNanos = new long[KernelStage.values().length];
+        
+        private final int[] depths = new int[KernelStage.values().length];
+        
+        private boolean parseCacheMissed;
+        
+        private String databaseName = UNKNOWN_LABEL;
+        
+        private String statementType = UNKNOWN_LABEL;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.recorder;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.distsql.parser.statement.ral.RALStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rdl.RDLStatement;
+import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
+
+/**
+ * SQL statement type label.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLStatementTypeLabel {
+    
+    /**
+     * Get statement type label of SQL statement.
+     *
+     * @param sqlStatement SQL statement
+     * @return statement type label
+     */
+    public static String getLabel(final SQLStatement sqlStatement) {
+        if (sqlStatement instanceof SelectStatement) {
+            return "select";
+        }
+        if (sqlStatement instanceof InsertStatement) {
+            return "insert";
+        }
+        if (sqlStatement instanceof UpdateStatement) {
+            return "update";
+        }
+        if (sqlStatement instanceof DeleteStatement) {
+            return "delete";
+        }
+        if (sqlStatement instanceof DDLStatement) {
+            return "ddl";
+        }
+        if (sqlStatement instanceof DCLStatement) {
+            return "dcl";
+        }
+        if (sqlStatement instanceof DALStatement) {
+            return "dal";
+        }
+        if (sqlStatement instanceof TCLStatement) {
+            return "tcl";
+        }
+        if (sqlStatement instanceof RQLStatement) {
+            return "rql";
+        }
+        if (sqlStatement instanceof RDLStatement) {
+            return "rdl";
+        }
+        if (sqlStatement instanceof RALStatement) {
+            return "ral";
+        }
+        return "other";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ExecutorConnectionManagerAdviceTest extends MetricsAdviceBaseTest {
+    
+    @Mock
+    private Method getConnections;
+    
+    @Mock
+    private Method getAcquirableConnectionSize;
+    
+    @Test
+    public void assertConnectionAcquisitionLatency() {
+        when(getConnections.getName()).thenReturn(ExecutorConnectionManagerAdvice.GET_CONNECTIONS);
+        ExecutorConnectionManagerAdvice advice = new ExecutorConnectionManagerAdvice();
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        advice.beforeMethod(targetObject, getConnections, new Object[]{"foo_ds", 1, null});
+        advice.afterMethod(targetObject, getConnections, new Object[]{"foo_ds", 1, null}, null);
+        assertTrue(MetricsPool.get(MetricIds.CONNECTION_ACQUISITION_LATENCY_MILLIS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.CONNECTION_ACQUISITION_LATENCY_MILLIS).get()).getFixtureValue(), greaterThan(0.0));
+    }
+    
+    @Test
+    public void assertConnectionSizeDowngrade() {
+        when(getAcquirableConnectionSize.getName()).thenReturn(ExecutorConnectionManagerAdvice.GET_ACQUIRABLE_CONNECTION_SIZE);
+        ExecutorConnectionManagerAdvice advice = new ExecutorConnectionManagerAdvice();
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        advice.afterMethod(targetObject, getAcquirableConnectionSize, new Object[]{"foo_ds", 4}, 4);
+        advice.afterMethod(targetObject, getAcquirableConnectionSize, new Object[]{"foo_ds", 4}, 1);
+        assertTrue(MetricsPool.get(MetricIds.CONNECTION_SIZE_DOWNGRADE).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.CONNECTION_SIZE_DOWNGRADE).get()).getFixtureValue(), is(1.0));
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.agent.metrics.core.advice;
 import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
 import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
 import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.apache.shardingsphere.agent.metrics.core.recorder.KernelStageLatencyRecorder;
 import org.apache.shardingsphere.distsql.parser.statement.rdl.create.RegisterStorageUnitStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.show.ShowStorageUnitsStatement;
 import org.apache.shardingsphere.migration.distsql.statement.ShowMigrationListStatement;
@@ -40,6 +41,7 @@ import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -100,9 +102,21 @@ public final class SQLParserEngineAdviceTest extends MetricsAdviceBaseTest {
         assertParse(MetricIds.PARSE_DIST_SQL_RAL, new ShowMigrationListStatement());
     }
     
+    @Test
+    public void assertParseLatency() {
+        MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
+        SQLParserEngineAdvice advice = new SQLParserEngineAdvice();
+        advice.beforeMethod(targetObject, mock(Method.class), new Object[]{"SELECT 1", true});
+        new SQLStatementCacheLoaderAdvice().beforeMethod(targetObject, mock(Method.class), new Object[]{"SELECT 1"});
+        assertTrue(KernelStageLatencyRecorder.INSTANCE.isParseCacheMissed());
+        advice.afterMethod(targetObject, mock(Method.class), new Object[]{"SELECT 1", true}, mock(SQLStatement.class));
+        assertTrue(MetricsPool.get(MetricIds.PARSE_SQL_LATENCY_MILLIS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_SQL_LATENCY_MILLIS).get()).getFixtureValue(), greaterThan(0.0));
+    }
+    
     private void assertParse(final String metricIds, final SQLStatement sqlStatement) {
         MockTargetAdviceObject targetObject = new MockTargetAdviceObject();
-        new SQLParserEngineAdvice().afterMethod(targetObject, mock(Method.class), new Object[]{}, sqlStatement);
+        new SQLParserEngineAdvice().afterMethod(targetObject, mock(Method.class), new Object[]{"", true}, sqlStatement);
         assertTrue(MetricsPool.get(metricIds).isPresent());
         assertThat(((FixtureWrapper) MetricsPool.get(metricIds).get()).getFixtureValue(), is(1.0));
     }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.metrics.core.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.core.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.core.fixture.FixtureWrapper;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLStatementContextFactoryAdviceTest extends MetricsAdviceBaseTest {
+    
+    @Test
+    public void assertBindLatency() {
+        SQLStatementContextFactoryAdvice advice = new SQLStatementContextFactoryAdvice();
+        Object[] args = {mock(ShardingSphereMetaData.class), Collections.emptyList(), new MySQLSelectStatement(), "foo_db"};
+        advice.beforeMethod(Object.class, mock(Method.class), args);
+        advice.afterMethod(Object.class, mock(Method.class), args, null);
+        assertTrue(MetricsPool.get(MetricIds.BIND_SQL_LATENCY_MILLIS).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.BIND_SQL_LATENCY_MILLIS).get()).getFixtureValue(), greaterThan(0.0));
+    }
+}
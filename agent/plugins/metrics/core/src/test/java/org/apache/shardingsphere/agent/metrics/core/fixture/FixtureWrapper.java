@@ -53,6 +53,11 @@ public final class FixtureWrapper implements MetricsWrapper {
         fixtureValue = value;
     }
     
+    @Override
+    public void observe(final double value, final String... labels) {
+        fixtureValue = value;
+    }
+    
     @Override
     public void delegate(final Object object) {
         fixtureValue = -1.0;
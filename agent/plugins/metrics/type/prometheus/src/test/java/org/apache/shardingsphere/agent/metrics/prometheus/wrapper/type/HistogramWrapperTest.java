@@ -34,4 +34,11 @@ public final class HistogramWrapperTest {
         histogram = (Histogram) Plugins.getMemberAccessor().get(HistogramWrapper.class.getDeclaredField("histogram"), histogramWrapper);
         assertThat(histogram.collect().size(), is(1));
     }
+    
+    @Test
+    public void assertObserveWithLabels() {
+        Histogram histogram = Histogram.build().name("b").help("help").labelNames("database", "statement_type").create();
+        new HistogramWrapper(histogram).observe(1, "foo_db", "select");
+        assertThat(histogram.labels("foo_db", "select").get().sum, is(1.0));
+    }
 }
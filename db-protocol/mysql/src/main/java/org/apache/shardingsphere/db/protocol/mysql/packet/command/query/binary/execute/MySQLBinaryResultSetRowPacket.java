@@ -18,10 +18,8 @@
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
-import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 /**
@@ -36,7 +34,9 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
+    private final Object[] data;
     
     @Override
     public void write(final MySQLPacketPayload payload) {
@@ -46,28 +46,23 @@ public final class MySQLBinaryResultSetRowPacket implements MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
-                result.setNullBit(index);
+        int length = (data.length + NULL_BITMAP_OFFSET + 7) / 8;
+        for (int byteIndex = 0; byteIndex < length; byteIndex++) {
+            int nullBits = 0;
+            for (int bitIndex = 0; bitIndex < 8; bitIndex++) {
+                int columnIndex = byteIndex * 8 + bitIndex - NULL_BITMAP_OFFSET;
+                if (columnIndex >= 0 && columnIndex < data.length && null == data[columnIndex]) {
+                    nullBits |= 1 << bitIndex;
+                }
             }
-            index++;
+            payload.writeInt1(nullBits);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+        for (int i = 0; i < data.length; i++) {
+            if (null != data[i]) {
+                binaryProtocolValues[i].write(payload, data[i]);
             }
         }
     }
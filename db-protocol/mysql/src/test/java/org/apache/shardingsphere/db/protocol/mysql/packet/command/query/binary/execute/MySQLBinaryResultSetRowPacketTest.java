@@ -17,17 +17,15 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute;
 
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.util.Arrays;
-
 import static org.mockito.Mockito.verify;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -38,11 +36,25 @@ public final class MySQLBinaryResultSetRowPacketTest {
     
     @Test
     public void assertWrite() {
-        BinaryRow row = new BinaryRow(Arrays.asList(new BinaryCell(MySQLBinaryColumnType.MYSQL_TYPE_STRING, "value"), new BinaryCell(MySQLBinaryColumnType.MYSQL_TYPE_STRING, null)));
-        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(row);
-        actual.write(payload);
+        MySQLBinaryProtocolValue[] binaryProtocolValues = {MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.MYSQL_TYPE_STRING), null};
+        Object[] data = {"value", null};
+        new MySQLBinaryResultSetRowPacket(binaryProtocolValues, data).write(payload);
         verify(payload).writeInt1(0x00);
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    public void assertWriteWithBinaryProtocolValues() {
+        MySQLBinaryProtocolValue stringValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.MYSQL_TYPE_STRING);
+        MySQLBinaryProtocolValue longValue = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(MySQLBinaryColumnType.MYSQL_TYPE_LONGLONG);
+        MySQLBinaryProtocolValue[] binaryProtocolValues = {longValue, null, null, null, null, null, null, stringValue};
+        Object[] data = {1L, null, null, null, null, null, null, "value"};
+        new MySQLBinaryResultSetRowPacket(binaryProtocolValues, data).write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0xF8);
+        verify(payload).writeInt1(0x01);
+        verify(payload).writeInt8(1L);
+        verify(payload).writeStringLenenc("value");
+    }
 }
@@ -28,6 +28,9 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLComCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLComTerminationPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 
@@ -78,6 +81,12 @@ public final class PostgreSQLCommandPacketFactory {
                 return new PostgreSQLComSyncPacket(payload);
             case CLOSE_COMMAND:
                 return new PostgreSQLComClosePacket(payload);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataPacket(payload);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDonePacket(payload);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailPacket(payload);
             case TERMINATE:
                 return new PostgreSQLComTerminationPacket(payload);
             default:
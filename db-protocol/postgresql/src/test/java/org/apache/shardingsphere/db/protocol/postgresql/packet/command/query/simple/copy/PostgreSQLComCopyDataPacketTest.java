@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class PostgreSQLComCopyDataPacketTest {
+    
+    @Test
+    public void assertNewInstance() {
+        byte[] row = "1\tfoo\n".getBytes(StandardCharsets.UTF_8);
+        ByteBuf byteBuf = Unpooled.buffer();
+        byteBuf.writeInt(row.length + 4);
+        byteBuf.writeBytes(row);
+        PostgreSQLComCopyDataPacket actual = new PostgreSQLComCopyDataPacket(new PostgreSQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(actual.getData(), is(row));
+        assertThat(actual.getIdentifier(), is(PostgreSQLCommandPacketType.COPY_DATA));
+        assertThat(byteBuf.readableBytes(), is(0));
+    }
+}
@@ -27,7 +27,27 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public final class ReplicaDataSourceStatus {
     
+    /**
+     * Replication delay of providers or heartbeats which do not measure it.
+     */
+    public static final long UNKNOWN_REPLICATION_DELAY = -1L;
+    
     private final boolean online;
     
     private final long replicationDelayMilliseconds;
+    
+    private final long replicationDelayResolutionMilliseconds;
+    
+    public ReplicaDataSourceStatus(final boolean online) {
+        this(online, UNKNOWN_REPLICATION_DELAY, 0L);
+    }
+    
+    /**
+     * Judge whether replication delay is measured.
+     *
+     * @return replication delay is measured or not
+     */
+    public boolean isReplicationDelayMeasured() {
+        return replicationDelayMilliseconds >= 0L;
+    }
 }
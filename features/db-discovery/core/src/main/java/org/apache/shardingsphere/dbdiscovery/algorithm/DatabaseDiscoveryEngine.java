@@ -22,6 +22,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.dbdiscovery.mysql.type.MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm;
 import org.apache.shardingsphere.dbdiscovery.spi.DatabaseDiscoveryProviderAlgorithm;
 import org.apache.shardingsphere.dbdiscovery.spi.ReplicaDataSourceStatus;
+import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
+import org.apache.shardingsphere.infra.datasource.state.ReplicationDelay;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
@@ -97,7 +99,10 @@ public final class DatabaseDiscoveryEngine {
         int enabledReplicasCount = dataSourceMap.size() - disabledDataSourceNames.size() - 1;
         for (Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
             if (!entry.getKey().equals(primaryDataSourceName)) {
-                StorageNodeDataSource storageNodeDataSource = createStorageNodeDataSource(loadReplicaStatus(entry.getValue()));
+                long measuredMillis = System.currentTimeMillis();
+                ReplicaDataSourceStatus replicaStatus = loadReplicaStatus(entry.getValue());
+                updateReplicationDelay(databaseName, entry.getKey(), replicaStatus, measuredMillis);
+                StorageNodeDataSource storageNodeDataSource = createStorageNodeDataSource(replicaStatus, measuredMillis);
                 if (StorageNodeStatus.isEnable(storageNodeDataSource.getStatus())) {
                     enabledReplicasCount += disabledDataSourceNames.contains(entry.getKey()) ? 1 : 0;
                     eventBusContext.post(new DataSourceDisabledEvent(databaseName, groupName, entry.getKey(), storageNodeDataSource));
@@ -112,8 +117,20 @@ public final class DatabaseDiscoveryEngine {
         }
     }
     
-    private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus) {
-        return new StorageNodeDataSource(StorageNodeRole.MEMBER, replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED, replicaStatus.getReplicationDelayMilliseconds());
+    private void updateReplicationDelay(final String databaseName, final String replicaDataSourceName, final ReplicaDataSourceStatus replicaStatus, final long measuredMillis) {
+        if (replicaStatus.isReplicationDelayMeasured()) {
+            DataSourceStateManager.getInstance().updateReplicationDelay(databaseName, replicaDataSourceName,
+                    new ReplicationDelay(replicaStatus.getReplicationDelayMilliseconds(), replicaStatus.getReplicationDelayResolutionMilliseconds(), measuredMillis));
+        } else {
+            DataSourceStateManager.getInstance().removeReplicationDelay(databaseName, replicaDataSourceName);
+        }
+    }
+    
+    private StorageNodeDataSource createStorageNodeDataSource(final ReplicaDataSourceStatus replicaStatus, final long measuredMillis) {
+        StorageNodeStatus status = replicaStatus.isOnline() ? StorageNodeStatus.ENABLED : StorageNodeStatus.DISABLED;
+        return replicaStatus.isReplicationDelayMeasured()
+                ? new StorageNodeDataSource(StorageNodeRole.MEMBER, status, replicaStatus.getReplicationDelayMilliseconds(), replicaStatus.getReplicationDelayResolutionMilliseconds(), measuredMillis)
+                : new StorageNodeDataSource(StorageNodeRole.MEMBER, status);
     }
     
     private ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) {
@@ -121,7 +138,7 @@ public final class DatabaseDiscoveryEngine {
             return databaseDiscoveryProviderAlgorithm.loadReplicaStatus(replicaDataSource);
         } catch (final SQLException ex) {
             log.error("Load data source replica status error: ", ex);
-            return new ReplicaDataSourceStatus(false, 0L);
+            return new ReplicaDataSourceStatus(false);
         }
     }
 }
@@ -46,7 +46,7 @@ public final class CoreDatabaseDiscoveryProviderAlgorithmFixture implements Data
     
     @Override
     public ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) {
-        return new ReplicaDataSourceStatus(true, 0L);
+        return new ReplicaDataSourceStatus(true);
     }
     
     @Override
@@ -150,7 +150,7 @@ public final class MGRMySQLDatabaseDiscoveryProviderAlgorithm implements Databas
     @Override
     public ReplicaDataSourceStatus loadReplicaStatus(final DataSource replicaDataSource) throws SQLException {
         try (Connection connection = replicaDataSource.getConnection()) {
-            return new ReplicaDataSourceStatus(isOnlineDataSource(connection, new MySQLDataSourceMetaData(connection.getMetaData().getURL())), 0L);
+            return new ReplicaDataSourceStatus(isOnlineDataSource(connection, new MySQLDataSourceMetaData(connection.getMetaData().getURL())));
         }
     }
     
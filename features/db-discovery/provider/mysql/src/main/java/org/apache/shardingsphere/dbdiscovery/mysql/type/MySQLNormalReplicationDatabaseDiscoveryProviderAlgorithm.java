@@ -48,6 +48,8 @@ public final class MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm impl
     
     private static final String SHOW_VARIABLES_READ_ONLY = "SHOW VARIABLES LIKE 'read_only'";
     
+    private static final long SECONDS_BEHIND_MASTER_RESOLUTION_MILLISECONDS = 1000L;
+    
     private Properties props;
     
     @Override
@@ -121,18 +123,21 @@ public final class MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm impl
                 Connection connection = replicaDataSource.getConnection();
                 Statement statement = connection.createStatement()) {
             long replicationDelayMilliseconds = queryReplicationDelayMilliseconds(statement);
+            if (ReplicaDataSourceStatus.UNKNOWN_REPLICATION_DELAY == replicationDelayMilliseconds) {
+                return new ReplicaDataSourceStatus(false);
+            }
             boolean isDelay = replicationDelayMilliseconds >= Long.parseLong(getProps().getProperty("delay-milliseconds-threshold"));
-            return new ReplicaDataSourceStatus(!isDelay, replicationDelayMilliseconds);
+            return new ReplicaDataSourceStatus(!isDelay, replicationDelayMilliseconds, SECONDS_BEHIND_MASTER_RESOLUTION_MILLISECONDS);
         }
     }
     
     private long queryReplicationDelayMilliseconds(final Statement statement) throws SQLException {
         try (ResultSet resultSet = statement.executeQuery(SHOW_SLAVE_STATUS)) {
             if (resultSet.next()) {
-                long delay = resultSet.getLong("Seconds_Behind_Master") * 1000;
-                return resultSet.wasNull() ? Long.MAX_VALUE : delay;
+                long delay = resultSet.getLong("Seconds_Behind_Master") * SECONDS_BEHIND_MASTER_RESOLUTION_MILLISECONDS;
+                return resultSet.wasNull() ? ReplicaDataSourceStatus.UNKNOWN_REPLICATION_DELAY : delay;
             }
-            return Long.MAX_VALUE;
+            return ReplicaDataSourceStatus.UNKNOWN_REPLICATION_DELAY;
         }
     }
     
@@ -31,6 +31,7 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -73,6 +74,23 @@ public final class MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithmTest
         ReplicaDataSourceStatus actual = algorithm.loadReplicaStatus(dataSource);
         assertTrue(actual.isOnline());
         assertThat(actual.getReplicationDelayMilliseconds(), is(10000L));
+        assertThat(actual.getReplicationDelayResolutionMilliseconds(), is(1000L));
+    }
+    
+    @Test
+    public void assertLoadReplicaStatusWhenReplicationStopped() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty("delay-milliseconds-threshold", "15000");
+        DatabaseDiscoveryProviderAlgorithm algorithm = new MySQLNormalReplicationDatabaseDiscoveryProviderAlgorithm();
+        algorithm.init(props);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.wasNull()).thenReturn(true);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        ReplicaDataSourceStatus actual = algorithm.loadReplicaStatus(new MockedDataSource(connection));
+        assertFalse(actual.isOnline());
+        assertFalse(actual.isReplicationDelayMeasured());
     }
     
     private DataSource mockDataSourceForReplicaStatus() throws SQLException {
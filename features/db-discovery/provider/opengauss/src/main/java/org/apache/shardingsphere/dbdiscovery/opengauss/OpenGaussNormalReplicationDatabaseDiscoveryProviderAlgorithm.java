@@ -63,7 +63,7 @@ public final class OpenGaussNormalReplicationDatabaseDiscoveryProviderAlgorithm
         try (
                 Connection connection = replicaDataSource.getConnection();
                 Statement statement = connection.createStatement()) {
-            return new ReplicaDataSourceStatus(isOnlineDataSource(statement), 0L);
+            return new ReplicaDataSourceStatus(isOnlineDataSource(statement));
         }
     }
     
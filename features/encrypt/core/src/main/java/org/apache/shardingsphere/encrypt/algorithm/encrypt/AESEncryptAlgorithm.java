@@ -25,12 +25,9 @@ import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlg
 import org.apache.shardingsphere.encrypt.spi.context.EncryptContext;
 
 import javax.crypto.Cipher;
-import javax.crypto.NoSuchPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
-import java.security.InvalidKeyException;
-import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Properties;
@@ -47,10 +44,16 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm<Objec
     
     private byte[] secretKey;
     
+    private ThreadLocal<Cipher> encryptCipher;
+    
+    private ThreadLocal<Cipher> decryptCipher;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
         secretKey = createSecretKey(props);
+        encryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+        decryptCipher = ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
     }
     
     private byte[] createSecretKey(final Properties props) {
@@ -64,7 +67,7 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCipher, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
@@ -74,13 +77,23 @@ public final class AESEncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.trim()));
+        byte[] result = doFinal(decryptCipher, Base64.getDecoder().decode(cipherValue.trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws NoSuchPaddingException, NoSuchAlgorithmException, InvalidKeyException {
+    private byte[] doFinal(final ThreadLocal<Cipher> cipher, final byte[] input) throws GeneralSecurityException {
+        try {
+            return cipher.get().doFinal(input);
+        } catch (final GeneralSecurityException ex) {
+            cipher.remove();
+            throw ex;
+        }
+    }
+    
+    @SneakyThrows(GeneralSecurityException.class)
+    private Cipher createCipher(final int cipherMode) {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(cipherMode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
@@ -50,6 +50,7 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
         this.props = props;
         reset();
         setKey(props.getProperty(RC4_KEY, "").getBytes(StandardCharsets.UTF_8));
+        sBox = initSBox(key);
     }
     
     private void setKey(final byte[] key) {
@@ -86,7 +87,7 @@ public final class RC4EncryptAlgorithm implements StandardEncryptAlgorithm<Objec
      * @see <a href="http://en.wikipedia.org/wiki/RC4#Pseudo-random_generation_algorithm_.28PRGA.29">Pseudo-random generation algorithm</a>
      */
     private byte[] crypt(final byte[] message) {
-        sBox = initSBox(key);
+        int[] sBox = this.sBox.clone();
         byte[] result = new byte[message.length];
         int i = 0;
         int j = 0;
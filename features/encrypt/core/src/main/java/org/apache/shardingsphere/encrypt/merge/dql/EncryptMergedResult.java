@@ -24,11 +24,14 @@ import org.apache.shardingsphere.infra.merge.result.MergedResult;
 
 import java.io.InputStream;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Optional;
 
 /**
  * Merged result for encrypt.
+ *
+ * <p>Encryptor of each column is resolved once per merged result on first access of the column.</p>
  */
 @RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
@@ -37,6 +40,13 @@ public final class EncryptMergedResult implements MergedResult {
     
     private final MergedResult mergedResult;
     
+    private boolean[] resolvedColumns = new boolean[0];
+    
+    @SuppressWarnings("rawtypes")
+    private StandardEncryptAlgorithm[] encryptAlgorithms = new StandardEncryptAlgorithm[0];
+    
+    private EncryptContext[] encryptContexts = new EncryptContext[0];
+    
     @Override
     public boolean next() throws SQLException {
         return mergedResult.next();
@@ -45,16 +55,30 @@ public final class EncryptMergedResult implements MergedResult {
     @SuppressWarnings({"rawtypes", "unchecked"})
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
-        if (!encryptContext.isPresent() || !metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Optional<StandardEncryptAlgorithm> encryptAlgorithm = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName());
-        if (!encryptAlgorithm.isPresent()) {
+        StandardEncryptAlgorithm encryptAlgorithm = getEncryptAlgorithm(columnIndex);
+        if (null == encryptAlgorithm) {
             return mergedResult.getValue(columnIndex, type);
         }
         Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        return null == cipherValue ? null : encryptAlgorithm.get().decrypt(cipherValue, encryptContext.get());
+        return null == cipherValue ? null : encryptAlgorithm.decrypt(cipherValue, encryptContexts[columnIndex - 1]);
+    }
+    
+    @SuppressWarnings("rawtypes")
+    private StandardEncryptAlgorithm getEncryptAlgorithm(final int columnIndex) {
+        if (columnIndex > resolvedColumns.length) {
+            resolvedColumns = Arrays.copyOf(resolvedColumns, columnIndex);
+            encryptAlgorithms = Arrays.copyOf(encryptAlgorithms, columnIndex);
+            encryptContexts = Arrays.copyOf(encryptContexts, columnIndex);
+        }
+        if (!resolvedColumns[columnIndex - 1]) {
+            Optional<EncryptContext> encryptContext = metaData.findEncryptContext(columnIndex);
+            if (encryptContext.isPresent() && metaData.isQueryWithCipherColumn(encryptContext.get().getTableName(), encryptContext.get().getColumnName())) {
+                encryptAlgorithms[columnIndex - 1] = metaData.findEncryptor(encryptContext.get().getTableName(), encryptContext.get().getColumnName()).orElse(null);
+                encryptContexts[columnIndex - 1] = encryptContext.get();
+            }
+            resolvedColumns[columnIndex - 1] = true;
+        }
+        return encryptAlgorithms[columnIndex - 1];
     }
     
     @Override
@@ -69,6 +69,14 @@ public final class AESEncryptAlgorithmTest {
         assertThat(actual.toString(), is("test"));
     }
     
+    @Test
+    public void assertEncryptAndDecryptRepeatedly() {
+        for (int i = 0; i < 3; i++) {
+            Object cipherValue = encryptAlgorithm.encrypt("test" + i, mock(EncryptContext.class));
+            assertThat(encryptAlgorithm.decrypt(cipherValue.toString(), mock(EncryptContext.class)).toString(), is("test" + i));
+        }
+    }
+    
     @Test
     public void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(EncryptContext.class)));
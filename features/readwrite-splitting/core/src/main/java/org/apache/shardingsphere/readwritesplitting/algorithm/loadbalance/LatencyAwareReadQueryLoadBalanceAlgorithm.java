@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatistic;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticRegistry;
+import org.apache.shardingsphere.readwritesplitting.aware.DatabaseNameAware;
+import org.apache.shardingsphere.readwritesplitting.spi.ReadQueryLoadBalanceAlgorithm;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Latency aware read query load-balance algorithm.
+ * 
+ * <p>Two replicas are chosen randomly, and the one with lower peak EWMA latency weighted by in-flight executions is selected.</p>
+ */
+public final class LatencyAwareReadQueryLoadBalanceAlgorithm implements ReadQueryLoadBalanceAlgorithm, DatabaseNameAware {
+    
+    @Getter
+    private Properties props = new Properties();
+    
+    private Map<String, DataSourceLatencyStatistic> statistics;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+    }
+    
+    @Override
+    public void setDatabaseName(final String databaseName) {
+        statistics = DataSourceLatencyStatisticRegistry.getOrRegister(databaseName);
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String writeDataSourceName, final List<String> readDataSourceNames, final TransactionConnectionContext context) {
+        if (context.isInTransaction()) {
+            return writeDataSourceName;
+        }
+        if (1 == readDataSourceNames.size()) {
+            return readDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(readDataSourceNames.size());
+        int secondIndex = random.nextInt(readDataSourceNames.size() - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String first = readDataSourceNames.get(firstIndex);
+        String second = readDataSourceNames.get(secondIndex);
+        if (null == statistics) {
+            return first;
+        }
+        return getStatistic(first).getLoad() <= getStatistic(second).getLoad() ? first : second;
+    }
+    
+    /*
+     * Latency of newly registered data source is seeded with mean latency of sampled data sources in the same database, so it does not take all the traffic before its first execution finishes.
+     */
+    private DataSourceLatencyStatistic getStatistic(final String dataSourceName) {
+        DataSourceLatencyStatistic result = statistics.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        double meanLatencyNanos = getMeanLatencyNanos(statistics.values());
+        return statistics.computeIfAbsent(dataSourceName, key -> new DataSourceLatencyStatistic(meanLatencyNanos));
+    }
+    
+    private double getMeanLatencyNanos(final Collection<DataSourceLatencyStatistic> databaseStatistics) {
+        double totalLatencyNanos = 0D;
+        int sampledCount = 0;
+        for (DataSourceLatencyStatistic each : databaseStatistics) {
+            if (each.isSampled()) {
+                totalLatencyNanos += each.getLatencyNanos();
+                sampledCount++;
+            }
+        }
+        return 0 == sampledCount ? 0D : totalLatencyNanos / sampledCount;
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY_AWARE";
+    }
+}
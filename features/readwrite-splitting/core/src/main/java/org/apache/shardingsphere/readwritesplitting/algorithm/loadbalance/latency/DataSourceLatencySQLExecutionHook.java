@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL execution hook to collect latency of data sources registered by latency aware read query load-balance algorithm.
+ */
+public final class DataSourceLatencySQLExecutionHook implements SQLExecutionHook {
+    
+    private DataSourceLatencyStatistic statistic;
+    
+    private long startNanos;
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params,
+                      final DataSourceMetaData dataSourceMetaData, final boolean isTrunkThread, final Map<String, Object> shardingExecuteDataMap) {
+        Object databaseName = shardingExecuteDataMap.get(ExecutorDataMap.DATABASE_NAME);
+        statistic = null == databaseName ? null : DataSourceLatencyStatisticRegistry.find(databaseName.toString(), dataSourceName).orElse(null);
+        if (null != statistic) {
+            statistic.start();
+            startNanos = System.nanoTime();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        if (null != statistic) {
+            statistic.finish(System.nanoTime() - startNanos);
+            statistic = null;
+        }
+    }
+}
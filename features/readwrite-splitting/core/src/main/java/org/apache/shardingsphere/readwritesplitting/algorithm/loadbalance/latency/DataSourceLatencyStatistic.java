@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Latency statistic of data source, which holds peak EWMA of execution latency and count of in-flight executions.
+ */
+@NoArgsConstructor
+public final class DataSourceLatencyStatistic {
+    
+    private static final double DECAY_TIME_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double latencyNanos;
+    
+    private volatile boolean sampled;
+    
+    private long lastUpdateNanos;
+    
+    public DataSourceLatencyStatistic(final double initialLatencyNanos) {
+        latencyNanos = initialLatencyNanos;
+    }
+    
+    /**
+     * Handle when execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Handle when execution finished.
+     *
+     * @param elapsedNanos elapsed nanoseconds of execution
+     */
+    public void finish(final long elapsedNanos) {
+        inFlightCount.decrementAndGet();
+        update(elapsedNanos, System.nanoTime());
+    }
+    
+    synchronized void update(final long elapsedNanos, final long currentNanos) {
+        if (!sampled || elapsedNanos > latencyNanos) {
+            latencyNanos = elapsedNanos;
+            sampled = true;
+        } else {
+            double weight = Math.exp(-Math.max(currentNanos - lastUpdateNanos, 0L) / DECAY_TIME_NANOS);
+            latencyNanos = latencyNanos * weight + elapsedNanos * (1 - weight);
+        }
+        lastUpdateNanos = currentNanos;
+    }
+    
+    /**
+     * Judge whether latency of any execution is sampled.
+     *
+     * @return sampled or not
+     */
+    public boolean isSampled() {
+        return sampled;
+    }
+    
+    /**
+     * Get latency nanoseconds.
+     *
+     * @return latency nanoseconds
+     */
+    public double getLatencyNanos() {
+        return latencyNanos;
+    }
+    
+    /**
+     * Get load, which is latency weighted by in-flight executions.
+     * 
+     * <p>Latency is at least one nanosecond, so in-flight executions are still weighed before any latency is known.</p>
+     *
+     * @return load
+     */
+    public double getLoad() {
+        return Math.max(latencyNanos, 1D) * (inFlightCount.get() + 1);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import com.google.common.collect.MapMaker;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source latency statistic registry, which holds latency statistics by database and data source.
+ * 
+ * <p>Latency statistics of database are weakly referenced, they are held by latency aware load-balance algorithms of readwrite-splitting rule,
+ * and released together with the rule.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceLatencyStatisticRegistry {
+    
+    private static final Map<String, Map<String, DataSourceLatencyStatistic>> STATISTICS = new MapMaker().weakValues().makeMap();
+    
+    /**
+     * Get latency statistics of database, register them if absent.
+     *
+     * @param databaseName database name
+     * @return latency statistics, key is data source name
+     */
+    public static Map<String, DataSourceLatencyStatistic> getOrRegister(final String databaseName) {
+        return STATISTICS.computeIfAbsent(databaseName.toLowerCase(), key -> new ConcurrentHashMap<>());
+    }
+    
+    /**
+     * Find latency statistic of registered data source.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found latency statistic
+     */
+    public static Optional<DataSourceLatencyStatistic> find(final String databaseName, final String dataSourceName) {
+        Map<String, DataSourceLatencyStatistic> databaseStatistics = STATISTICS.get(databaseName.toLowerCase());
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(dataSourceName));
+    }
+}
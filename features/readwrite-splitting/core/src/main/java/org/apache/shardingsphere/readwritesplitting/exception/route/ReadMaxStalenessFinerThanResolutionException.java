@@ -0,0 +1,34 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.exception.route;
+
+import org.apache.shardingsphere.infra.util.exception.external.sql.sqlstate.XOpenSQLState;
+import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplittingSQLException;
+
+/**
+ * Read max staleness finer than resolution exception.
+ */
+public final class ReadMaxStalenessFinerThanResolutionException extends ReadwriteSplittingSQLException {
+    
+    private static final long serialVersionUID = 5083170417368125307L;
+    
+    public ReadMaxStalenessFinerThanResolutionException(final long maxStalenessMilliseconds, final String dataSourceName, final long resolutionMilliseconds) {
+        super(XOpenSQLState.INVALID_DATA_TYPE, 81, "Read max staleness `%s` milliseconds is finer than replication delay resolution `%s` milliseconds of data source `%s`.",
+                maxStalenessMilliseconds, resolutionMilliseconds, dataSourceName);
+    }
+}
@@ -22,19 +22,30 @@ import org.apache.shardingsphere.infra.binder.statement.CommonSQLStatementContex
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.readwritesplitting.ReadwriteSplittingConnectionContext;
+import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
+import org.apache.shardingsphere.infra.datasource.state.ReplicationDelay;
 import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.readwritesplitting.exception.route.ReadMaxStalenessFinerThanResolutionException;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 import org.apache.shardingsphere.readwritesplitting.strategy.type.DynamicReadwriteSplittingStrategy;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.SelectStatementHandler;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 /**
  * Data source router for readwrite-splitting.
  */
 @RequiredArgsConstructor
 public final class ReadwriteSplittingDataSourceRouter {
     
+    private final String databaseName;
+    
     private final ReadwriteSplittingDataSourceRule rule;
     
     private final ConnectionContext connectionContext;
@@ -46,15 +57,26 @@ public final class ReadwriteSplittingDataSourceRouter {
      * @return data source name
      */
     public String route(final SQLStatementContext<?> sqlStatementContext) {
-        if (isPrimaryRoute(sqlStatementContext)) {
+        ReadwriteSplittingConnectionContext readwriteSplittingConnectionContext = connectionContext.getReadwriteSplittingConnectionContext();
+        readwriteSplittingConnectionContext.refreshLastWrite(connectionContext.getTransactionConnectionContext().isInTransaction());
+        if (isWriteRouteStatement(sqlStatementContext)) {
+            readwriteSplittingConnectionContext.markWrite();
             return rule.getWriteDataSource();
         }
-        return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getEnabledReplicaDataSources(),
-                connectionContext.getTransactionConnectionContext());
-    }
-    
-    private boolean isPrimaryRoute(final SQLStatementContext<?> sqlStatementContext) {
-        return isWriteRouteStatement(sqlStatementContext) || isHintWriteRouteOnly(sqlStatementContext) || isAllowWriteDataSourceQuery();
+        if (isHintWriteRouteOnly(sqlStatementContext) || isAllowWriteDataSourceQuery() || isReadYourWritesPending(sqlStatementContext, readwriteSplittingConnectionContext)) {
+            return rule.getWriteDataSource();
+        }
+        Optional<Long> hintMaxStalenessMilliseconds = findHintReadMaxStalenessMilliseconds(sqlStatementContext);
+        hintMaxStalenessMilliseconds.ifPresent(this::checkReadMaxStaleness);
+        Optional<Long> maxStalenessMilliseconds = findMaxStalenessMilliseconds(hintMaxStalenessMilliseconds, sqlStatementContext, readwriteSplittingConnectionContext);
+        if (!maxStalenessMilliseconds.isPresent()) {
+            return rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), rule.getEnabledReplicaDataSources(),
+                    connectionContext.getTransactionConnectionContext());
+        }
+        List<String> freshReplicaDataSources = getFreshReplicaDataSources(maxStalenessMilliseconds.get());
+        return freshReplicaDataSources.isEmpty()
+                ? rule.getWriteDataSource()
+                : rule.getLoadBalancer().getDataSource(rule.getName(), rule.getWriteDataSource(), freshReplicaDataSources, connectionContext.getTransactionConnectionContext());
     }
     
     private boolean isWriteRouteStatement(final SQLStatementContext<?> sqlStatementContext) {
@@ -78,4 +100,48 @@ public final class ReadwriteSplittingDataSourceRouter {
         return rule.getEnabledReplicaDataSources().isEmpty() && (rule.getReadwriteSplittingStrategy() instanceof DynamicReadwriteSplittingStrategy)
                 && ((DynamicReadwriteSplittingStrategy) rule.getReadwriteSplittingStrategy()).isAllowWriteDataSourceQuery();
     }
+    
+    private boolean isReadYourWritesPending(final SQLStatementContext<?> sqlStatementContext, final ReadwriteSplittingConnectionContext readwriteSplittingConnectionContext) {
+        return readwriteSplittingConnectionContext.isWritePending() && isHintReadYourWrites(sqlStatementContext);
+    }
+    
+    private Optional<Long> findHintReadMaxStalenessMilliseconds(final SQLStatementContext<?> sqlStatementContext) {
+        Optional<Long> result = HintManager.getReadMaxStalenessMilliseconds();
+        if (!result.isPresent() && sqlStatementContext instanceof CommonSQLStatementContext) {
+            result = ((CommonSQLStatementContext<?>) sqlStatementContext).findHintReadMaxStalenessMilliseconds();
+        }
+        return result;
+    }
+    
+    private void checkReadMaxStaleness(final long maxStalenessMilliseconds) {
+        for (String each : rule.getEnabledReplicaDataSources()) {
+            Optional<ReplicationDelay> replicationDelay = DataSourceStateManager.getInstance().findReplicationDelay(databaseName, each);
+            if (replicationDelay.isPresent()) {
+                ShardingSpherePreconditions.checkState(replicationDelay.get().getResolutionMilliseconds() <= maxStalenessMilliseconds,
+                        () -> new ReadMaxStalenessFinerThanResolutionException(maxStalenessMilliseconds, each, replicationDelay.get().getResolutionMilliseconds()));
+            }
+        }
+    }
+    
+    private Optional<Long> findMaxStalenessMilliseconds(final Optional<Long> hintMaxStalenessMilliseconds, final SQLStatementContext<?> sqlStatementContext,
+                                                        final ReadwriteSplittingConnectionContext readwriteSplittingConnectionContext) {
+        if (!isHintReadYourWrites(sqlStatementContext)) {
+            return hintMaxStalenessMilliseconds;
+        }
+        Optional<Long> elapsedMillisSinceLastWrite = readwriteSplittingConnectionContext.findElapsedMillisSinceLastWrite();
+        if (!elapsedMillisSinceLastWrite.isPresent()) {
+            return hintMaxStalenessMilliseconds;
+        }
+        return hintMaxStalenessMilliseconds.isPresent() ? Optional.of(Math.min(hintMaxStalenessMilliseconds.get(), elapsedMillisSinceLastWrite.get())) : elapsedMillisSinceLastWrite;
+    }
+    
+    private boolean isHintReadYourWrites(final SQLStatementContext<?> sqlStatementContext) {
+        return HintManager.isReadYourWrites() || (sqlStatementContext instanceof CommonSQLStatementContext && ((CommonSQLStatementContext<?>) sqlStatementContext).isHintReadYourWrites());
+    }
+    
+    private List<String> getFreshReplicaDataSources(final long maxStalenessMilliseconds) {
+        long currentMillis = System.currentTimeMillis();
+        return rule.getEnabledReplicaDataSources().stream().filter(each -> DataSourceStateManager.getInstance().findReplicationDelay(databaseName, each)
+                .map(optional -> optional.isWithinStaleness(maxStalenessMilliseconds, currentMillis)).orElse(false)).collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance;
+
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatistic;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class LatencyAwareReadQueryLoadBalanceAlgorithmTest {
+    
+    private final LatencyAwareReadQueryLoadBalanceAlgorithm loadBalanceAlgorithm = new LatencyAwareReadQueryLoadBalanceAlgorithm();
+    
+    private Map<String, DataSourceLatencyStatistic> statistics;
+    
+    @Before
+    public void setUp() {
+        loadBalanceAlgorithm.setDatabaseName("latency_db");
+        statistics = DataSourceLatencyStatisticRegistry.getOrRegister("latency_db");
+        statistics.clear();
+    }
+    
+    @Test
+    public void assertGetDataSourceInTransaction() {
+        TransactionConnectionContext context = new TransactionConnectionContext();
+        context.setInTransaction(true);
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("test_replica_ds_1", "test_replica_ds_2"), context), is("test_write_ds"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithOneReplica() {
+        assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Collections.singletonList("test_replica_ds_1"), new TransactionConnectionContext()), is("test_replica_ds_1"));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithLowerLatency() {
+        List<String> readDataSourceNames = Arrays.asList("latency_slow_replica_ds", "latency_fast_replica_ds");
+        statistics.put("latency_slow_replica_ds", createSampledStatistic(TimeUnit.SECONDS.toNanos(1L)));
+        statistics.put("latency_fast_replica_ds", createSampledStatistic(TimeUnit.MILLISECONDS.toNanos(1L)));
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("latency_fast_replica_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithFewerInFlightExecutionsBeforeSampled() {
+        List<String> readDataSourceNames = Arrays.asList("latency_busy_replica_ds", "latency_idle_replica_ds");
+        DataSourceLatencyStatistic busyStatistic = new DataSourceLatencyStatistic();
+        busyStatistic.start();
+        statistics.put("latency_busy_replica_ds", busyStatistic);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext()), is("latency_idle_replica_ds"));
+        }
+    }
+    
+    @Test
+    public void assertGetDataSourceWithMeanLatencySeeded() {
+        statistics.put("latency_replica_ds_0", createSampledStatistic(100L));
+        statistics.put("latency_replica_ds_1", createSampledStatistic(300L));
+        loadBalanceAlgorithm.getDataSource("ds", "test_write_ds", Arrays.asList("latency_replica_ds_2", "latency_replica_ds_3"), new TransactionConnectionContext());
+        assertThat(statistics.get("latency_replica_ds_2").getLatencyNanos(), is(200D));
+        assertThat(statistics.get("latency_replica_ds_3").getLatencyNanos(), is(200D));
+    }
+    
+    @Test
+    public void assertGetDataSourceWithoutDatabaseName() {
+        List<String> readDataSourceNames = Arrays.asList("test_replica_ds_1", "test_replica_ds_2");
+        String actual = new LatencyAwareReadQueryLoadBalanceAlgorithm().getDataSource("ds", "test_write_ds", readDataSourceNames, new TransactionConnectionContext());
+        assertThat(readDataSourceNames.contains(actual), is(true));
+    }
+    
+    private DataSourceLatencyStatistic createSampledStatistic(final long latencyNanos) {
+        DataSourceLatencyStatistic result = new DataSourceLatencyStatistic();
+        result.start();
+        result.finish(latencyNanos);
+        return result;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+
+public final class DataSourceLatencyStatisticRegistryTest {
+    
+    @Test
+    public void assertGetOrRegisterWithDifferentDatabases() {
+        Map<String, DataSourceLatencyStatistic> fooStatistics = DataSourceLatencyStatisticRegistry.getOrRegister("foo_db");
+        assertThat(DataSourceLatencyStatisticRegistry.getOrRegister("FOO_DB"), sameInstance(fooStatistics));
+        assertThat(DataSourceLatencyStatisticRegistry.getOrRegister("bar_db"), not(sameInstance(fooStatistics)));
+    }
+    
+    @Test
+    public void assertFind() {
+        Map<String, DataSourceLatencyStatistic> fooStatistics = DataSourceLatencyStatisticRegistry.getOrRegister("foo_db");
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic();
+        fooStatistics.put("replica_ds", statistic);
+        assertThat(DataSourceLatencyStatisticRegistry.find("foo_db", "replica_ds").get(), sameInstance(statistic));
+        assertFalse(DataSourceLatencyStatisticRegistry.find("foo_db", "other_replica_ds").isPresent());
+        assertFalse(DataSourceLatencyStatisticRegistry.find("none_db", "replica_ds").isPresent());
+    }
+}
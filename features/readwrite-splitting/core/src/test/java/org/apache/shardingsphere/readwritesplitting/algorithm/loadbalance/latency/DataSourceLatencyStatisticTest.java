@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DataSourceLatencyStatisticTest {
+    
+    @Test
+    public void assertUpdateWithPeakLatency() {
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic();
+        statistic.update(100L, 0L);
+        statistic.update(1000L, 1L);
+        assertThat(statistic.getLoad(), is(1000D));
+    }
+    
+    @Test
+    public void assertUpdateWithDecayedLatency() {
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic();
+        statistic.update(1000L, 0L);
+        statistic.update(100L, TimeUnit.SECONDS.toNanos(10L));
+        assertTrue(statistic.getLoad() < 1000D);
+        assertTrue(statistic.getLoad() > 100D);
+    }
+    
+    @Test
+    public void assertGetLoadWithInFlightExecutions() {
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic();
+        statistic.update(1000L, 0L);
+        statistic.start();
+        assertThat(statistic.getLoad(), is(2000D));
+    }
+    
+    @Test
+    public void assertUpdateWithInitialLatency() {
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic(1000D);
+        assertThat(statistic.getLoad(), is(1000D));
+        statistic.update(100L, 0L);
+        assertThat(statistic.getLoad(), is(100D));
+    }
+    
+    @Test
+    public void assertGetLoadWithInFlightExecutionsBeforeSampled() {
+        DataSourceLatencyStatistic statistic = new DataSourceLatencyStatistic();
+        statistic.start();
+        assertThat(statistic.getLoad(), is(2D));
+    }
+}
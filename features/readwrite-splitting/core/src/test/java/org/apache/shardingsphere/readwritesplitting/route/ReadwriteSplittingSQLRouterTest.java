@@ -25,6 +25,9 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
+import org.apache.shardingsphere.infra.datasource.state.ReplicationDelay;
+import org.apache.shardingsphere.infra.hint.HintManager;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -37,6 +40,7 @@ import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleCo
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.DynamicReadwriteSplittingStrategyConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
+import org.apache.shardingsphere.readwritesplitting.exception.route.ReadMaxStalenessFinerThanResolutionException;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.LockSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -85,14 +89,14 @@ public final class ReadwriteSplittingSQLRouterTest {
     
     @Before
     public void setUp() {
-        rule = new ReadwriteSplittingRule(new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration(DATASOURCE_NAME,
+        rule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration(DATASOURCE_NAME,
                 new StaticReadwriteSplittingStrategyConfiguration(WRITE_DATASOURCE, Collections.singletonList(READ_DATASOURCE)), null, "")),
                 Collections.emptyMap()), Collections.emptyList());
         sqlRouter = (ReadwriteSplittingSQLRouter) SQLRouterFactory.getInstances(Collections.singleton(rule)).get(rule);
         DynamicDataSourceContainedRule dynamicDataSourceRule = mock(DynamicDataSourceContainedRule.class, RETURNS_DEEP_STUBS);
         when(dynamicDataSourceRule.getPrimaryDataSourceName("readwrite_ds")).thenReturn(WRITE_DATASOURCE);
         when(dynamicDataSourceRule.getReplicaDataSourceNames("readwrite_ds")).thenReturn(Collections.emptyList());
-        dynamicRule = new ReadwriteSplittingRule(new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration(DATASOURCE_NAME, null,
+        dynamicRule = new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration(DATASOURCE_NAME, null,
                 new DynamicReadwriteSplittingStrategyConfiguration("readwrite_ds", "true"), "")), Collections.emptyMap()),
                 Collections.singleton(dynamicDataSourceRule));
         dynamicSqlRouter = (ReadwriteSplittingSQLRouter) SQLRouterFactory.getInstances(Collections.singleton(dynamicRule)).get(dynamicRule);
@@ -266,6 +270,79 @@ public final class ReadwriteSplittingSQLRouterTest {
         assertThat(routedDataSourceNames.next(), is(WRITE_DATASOURCE));
     }
     
+    @Test
+    public void assertCreateRouteContextToReplicaDataSourceWithinMaxStaleness() {
+        DataSourceStateManager.getInstance().updateReplicationDelay("within_staleness_db", READ_DATASOURCE, new ReplicationDelay(100L, 0L, System.currentTimeMillis()));
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(500L);
+            assertThat(routeSelectStatement("within_staleness_db", new ConnectionContext()), is(READ_DATASOURCE));
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextToPrimaryDataSourceBeyondMaxStaleness() {
+        DataSourceStateManager.getInstance().updateReplicationDelay("beyond_staleness_db", READ_DATASOURCE, new ReplicationDelay(1000L, 0L, System.currentTimeMillis()));
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(500L);
+            assertThat(routeSelectStatement("beyond_staleness_db", new ConnectionContext()), is(WRITE_DATASOURCE));
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextToPrimaryDataSourceWithOutdatedReplicationDelay() {
+        DataSourceStateManager.getInstance().updateReplicationDelay("outdated_delay_db", READ_DATASOURCE, new ReplicationDelay(0L, 0L, System.currentTimeMillis() - 60000L));
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(500L);
+            assertThat(routeSelectStatement("outdated_delay_db", new ConnectionContext()), is(WRITE_DATASOURCE));
+        }
+    }
+    
+    @Test(expected = ReadMaxStalenessFinerThanResolutionException.class)
+    public void assertCreateRouteContextWithMaxStalenessFinerThanResolution() {
+        DataSourceStateManager.getInstance().updateReplicationDelay("coarse_resolution_db", READ_DATASOURCE, new ReplicationDelay(0L, 1000L, System.currentTimeMillis()));
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(500L);
+            routeSelectStatement("coarse_resolution_db", new ConnectionContext());
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextToPrimaryDataSourceWithUnknownReplicationDelay() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(500L);
+            assertThat(routeSelectStatement("unknown_delay_db", new ConnectionContext()), is(WRITE_DATASOURCE));
+        }
+    }
+    
+    @Test
+    public void assertCreateRouteContextWithReadYourWrites() {
+        DataSourceStateManager.getInstance().updateReplicationDelay("read_your_writes_db", READ_DATASOURCE, new ReplicationDelay(60000L, 0L, System.currentTimeMillis()));
+        ConnectionContext connectionContext = new ConnectionContext();
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadYourWrites();
+            assertThat(routeSelectStatement("read_your_writes_db", connectionContext), is(READ_DATASOURCE));
+            connectionContext.getTransactionConnectionContext().setInTransaction(true);
+            when(sqlStatementContext.getSqlStatement()).thenReturn(mock(InsertStatement.class));
+            ShardingSphereDatabase database = new ShardingSphereDatabase("read_your_writes_db",
+                    mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(rule)), Collections.emptyMap());
+            sqlRouter.createRouteContext(new QueryContext(sqlStatementContext, "", Collections.emptyList()), database, rule, new ConfigurationProperties(new Properties()), connectionContext);
+            assertThat(routeSelectStatement("read_your_writes_db", connectionContext), is(WRITE_DATASOURCE));
+            connectionContext.getTransactionConnectionContext().setInTransaction(false);
+            assertThat(routeSelectStatement("read_your_writes_db", connectionContext), is(WRITE_DATASOURCE));
+        }
+    }
+    
+    private String routeSelectStatement(final String databaseName, final ConnectionContext connectionContext) {
+        MySQLSelectStatement selectStatement = mock(MySQLSelectStatement.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(selectStatement);
+        when(selectStatement.getLock()).thenReturn(Optional.empty());
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "", Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(databaseName,
+                mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(rule)), Collections.emptyMap());
+        RouteContext actual = sqlRouter.createRouteContext(queryContext, database, rule, new ConfigurationProperties(new Properties()), connectionContext);
+        return actual.getRouteUnits().iterator().next().getDataSourceMapper().getActualName();
+    }
+    
     private RouteContext mockRouteContext() {
         RouteContext result = new RouteContext();
         RouteUnit routeUnit = new RouteUnit(new RouteMapper(DATASOURCE_NAME, DATASOURCE_NAME), Collections.singletonList(new RouteMapper("table", "table_0")));
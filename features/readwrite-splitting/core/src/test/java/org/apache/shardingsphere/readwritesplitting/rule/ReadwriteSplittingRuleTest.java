@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.StorageNodeStatus;
 import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSourceChangedEvent;
+import org.apache.shardingsphere.readwritesplitting.algorithm.loadbalance.latency.DataSourceLatencyStatisticRegistry;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.strategy.StaticReadwriteSplittingStrategyConfiguration;
@@ -56,7 +58,7 @@ public final class ReadwriteSplittingRuleTest {
     private ReadwriteSplittingRule createReadwriteSplittingRule() {
         ReadwriteSplittingDataSourceRuleConfiguration config =
                 new ReadwriteSplittingDataSourceRuleConfiguration("readwrite", new StaticReadwriteSplittingStrategyConfiguration("write_ds", Arrays.asList("read_ds_0", "read_ds_1")), null, "random");
-        return new ReadwriteSplittingRule(new ReadwriteSplittingRuleConfiguration(
+        return new ReadwriteSplittingRule("logic_db", new ReadwriteSplittingRuleConfiguration(
                 Collections.singleton(config), Collections.singletonMap("random", new AlgorithmConfiguration("RANDOM", new Properties()))), Collections.emptyList());
     }
     
@@ -101,4 +103,15 @@ public final class ReadwriteSplittingRuleTest {
         Map<String, Collection<String>> expected = Collections.singletonMap("readwrite", Arrays.asList("write_ds", "read_ds_0", "read_ds_1"));
         assertThat(actual, is(expected));
     }
+    
+    @Test
+    public void assertLatencyAwareLoadBalancerWithDatabaseName() {
+        ReadwriteSplittingDataSourceRuleConfiguration config = new ReadwriteSplittingDataSourceRuleConfiguration(
+                "readwrite", new StaticReadwriteSplittingStrategyConfiguration("write_ds", Arrays.asList("read_ds_0", "read_ds_1")), null, "latency");
+        ReadwriteSplittingRule readwriteSplittingRule = new ReadwriteSplittingRule("latency_logic_db", new ReadwriteSplittingRuleConfiguration(
+                Collections.singleton(config), Collections.singletonMap("latency", new AlgorithmConfiguration("LATENCY_AWARE", new Properties()))), Collections.emptyList());
+        readwriteSplittingRule.getSingleDataSourceRule().getLoadBalancer().getDataSource("readwrite", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), new TransactionConnectionContext());
+        assertTrue(DataSourceLatencyStatisticRegistry.find("latency_logic_db", "read_ds_0").isPresent());
+        assertTrue(DataSourceLatencyStatisticRegistry.find("latency_logic_db", "read_ds_1").isPresent());
+    }
 }
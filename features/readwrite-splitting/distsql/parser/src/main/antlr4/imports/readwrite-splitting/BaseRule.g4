@@ -42,6 +42,7 @@ buildInAlgorithmTypeName
     | FIXED_REPLICA_ROUND_ROBIN
     | FIXED_REPLICA_WEIGHT
     | FIXED_PRIMARY
+    | LATENCY_AWARE
     ;
 
 propertiesDefinition
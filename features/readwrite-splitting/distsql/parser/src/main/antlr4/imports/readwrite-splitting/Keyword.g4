@@ -179,3 +179,7 @@ FIXED_REPLICA_WEIGHT
 FIXED_PRIMARY
     : F I X E D UL_ P R I M A R Y
     ;
+
+LATENCY_AWARE
+    : L A T E N C Y UL_ A W A R E
+    ;
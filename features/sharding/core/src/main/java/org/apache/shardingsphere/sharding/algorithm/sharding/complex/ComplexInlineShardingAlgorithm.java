@@ -18,8 +18,6 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.complex;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -95,11 +93,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     }
     
     private String doSharding(final Map<String, Comparable<?>> shardingValues) {
-        Closure<?> closure = createClosure();
-        for (Entry<String, Comparable<?>> entry : shardingValues.entrySet()) {
-            closure.setProperty(entry.getKey(), entry.getValue());
-        }
-        return closure.call().toString();
+        return new InlineExpressionParser(algorithmExpression).evaluateWithArgs(shardingValues);
     }
     
     private static <K, V> Collection<Map<K, V>> combine(final Map<K, Collection<V>> map) {
@@ -127,12 +121,6 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
         return result;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
     @Override
     public String getType() {
         return "COMPLEX_INLINE";
@@ -27,7 +27,8 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.RangeShardingVal
 import org.apache.shardingsphere.sharding.api.sharding.standard.StandardShardingAlgorithm;
 import org.apache.shardingsphere.sharding.exception.data.InvalidDatetimeFormatException;
 
-import java.text.DecimalFormat;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.text.ParsePosition;
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -102,8 +103,8 @@ public final class AutoIntervalShardingAlgorithm implements StandardShardingAlgo
     }
     
     private int doSharding(final long shardingValue) {
-        String position = new DecimalFormat("0.00").format((double) shardingValue / shardingSeconds);
-        return Math.min(Math.max(0, (int) Math.ceil(Double.parseDouble(position))), autoTablesAmount - 1);
+        BigDecimal position = new BigDecimal((double) shardingValue / shardingSeconds).setScale(2, RoundingMode.HALF_EVEN);
+        return Math.min(Math.max(0, position.setScale(0, RoundingMode.CEILING).intValue()), autoTablesAmount - 1);
     }
     
     private int getFirstPartition(final Range<Comparable<?>> valueRange) {
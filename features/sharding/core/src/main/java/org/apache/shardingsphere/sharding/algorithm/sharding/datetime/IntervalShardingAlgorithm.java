@@ -17,8 +17,9 @@
 
 package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -42,11 +43,14 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAccessor;
 import java.time.temporal.TemporalQueries;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * Interval sharding algorithm.
@@ -82,6 +86,10 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     
     private ChronoUnit stepUnit;
     
+    private IntervalShardingIndex<?> intervalShardingIndex;
+    
+    private Cache<Collection<String>, Map<String, Collection<String>>> targetNamesBySuffixCache;
+    
     @Override
     public void init(final Properties props) {
         this.props = props;
@@ -93,6 +101,8 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         tableSuffixPattern = getTableSuffixPattern(props);
         stepAmount = Integer.parseInt(props.getOrDefault(INTERVAL_AMOUNT_KEY, 1).toString());
         stepUnit = props.containsKey(INTERVAL_UNIT_KEY) ? getStepUnit(props.getProperty(INTERVAL_UNIT_KEY)) : ChronoUnit.DAYS;
+        intervalShardingIndex = createIntervalShardingIndex();
+        targetNamesBySuffixCache = Caffeine.newBuilder().weakKeys().build();
     }
     
     private String getDateTimePattern(final Properties props) {
@@ -142,163 +152,81 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
     }
     
     private Collection<String> doSharding(final Collection<String> availableTargetNames, final Range<Comparable<?>> range) {
-        TemporalAccessor calculateTime = dateTimeLower;
-        if (!calculateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                return doShardingInLocalDate(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.YEAR) && calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInYearMonth(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.YEAR)) {
-                return doShardingInYear(availableTargetNames, range, calculateTime);
-            }
-            if (calculateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                return doShardingInMonth(availableTargetNames, range, calculateTime);
-            }
-        }
-        if (!calculateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            return doShardingInLocalTime(availableTargetNames, range, calculateTime);
-        }
-        return doShardingInLocalDateTime(availableTargetNames, range, calculateTime);
-    }
-    
-    private Collection<String> doShardingInLocalDateTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
+        Map<String, Collection<String>> targetNamesBySuffix = targetNamesBySuffixCache.get(availableTargetNames, this::createTargetNamesBySuffix);
         Set<String> result = new HashSet<>();
-        LocalDateTime calculateTimeAsView = LocalDateTime.from(calculateTime);
-        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
-        LocalDateTime dateTimeLowerAsLocalDateTime = LocalDateTime.from(dateTimeLower);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDateTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDateTime, dateTimeUpperAsLocalDateTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
-            }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
+        for (String each : intervalShardingIndex.getTableSuffixes(range)) {
+            result.addAll(targetNamesBySuffix.getOrDefault(each, Collections.emptyList()));
         }
         return result;
     }
     
-    private Collection<String> doShardingInLocalTime(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
-        LocalTime dateTimeLowerAsLocalTime = dateTimeLower.query(TemporalQueries.localTime());
-        LocalTime calculateTimeAsView = calculateTime.query(TemporalQueries.localTime());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalTime)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalTime, dateTimeUpperAsLocalTime)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private Map<String, Collection<String>> createTargetNamesBySuffix(final Collection<String> availableTargetNames) {
+        Map<String, Collection<String>> result = new HashMap<>();
+        for (String each : availableTargetNames) {
+            for (int suffixLength : intervalShardingIndex.getTableSuffixLengths()) {
+                if (each.length() >= suffixLength) {
+                    result.computeIfAbsent(each.substring(each.length() - suffixLength), unused -> new LinkedList<>()).add(each);
+                }
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
         return result;
     }
     
-    private Collection<String> doShardingInLocalDate(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
-        LocalDate dateTimeLowerAsLocalDate = dateTimeLower.query(TemporalQueries.localDate());
-        LocalDate calculateTimeAsView = calculateTime.query(TemporalQueries.localDate());
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsLocalDate)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsLocalDate, dateTimeUpperAsLocalDate)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+    private IntervalShardingIndex<?> createIntervalShardingIndex() {
+        if (!dateTimeLower.isSupported(ChronoField.NANO_OF_DAY)) {
+            if (dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+                return createLocalDateIndex();
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInYear(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
-        Year dateTimeLowerAsYear = dateTimeLower.query(Year::from);
-        Year calculateTimeAsView = calculateTime.query(Year::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYear)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYear, dateTimeUpperAsYear)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.YEAR) && dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return createYearMonthIndex();
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
-        Month dateTimeLowerAsMonth = dateTimeLower.query(Month::from);
-        Month calculateTimeAsView = calculateTime.query(Month::from);
-        while (!(calculateTimeAsView.getValue() > dateTimeUpperAsMonth.getValue()) && (calculateTimeAsView.getValue() + stepAmount) <= Month.DECEMBER.getValue()) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount)), range, dateTimeLowerAsMonth, dateTimeUpperAsMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.YEAR)) {
+                return createYearIndex();
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount);
-        }
-        return result;
-    }
-    
-    private Collection<String> doShardingInYearMonth(final Collection<String> availableTargetNames, final Range<Comparable<?>> range, final TemporalAccessor calculateTime) {
-        Set<String> result = new HashSet<>();
-        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
-        YearMonth dateTimeLowerAsYearMonth = dateTimeLower.query(YearMonth::from);
-        YearMonth calculateTimeAsView = calculateTime.query(YearMonth::from);
-        while (!calculateTimeAsView.isAfter(dateTimeUpperAsYearMonth)) {
-            if (hasIntersection(Range.closedOpen(calculateTimeAsView, calculateTimeAsView.plus(stepAmount, stepUnit)), range, dateTimeLowerAsYearMonth, dateTimeUpperAsYearMonth)) {
-                result.addAll(getMatchedTables(calculateTimeAsView, availableTargetNames));
+            if (dateTimeLower.isSupported(ChronoField.MONTH_OF_YEAR)) {
+                return createMonthIndex();
             }
-            calculateTimeAsView = calculateTimeAsView.plus(stepAmount, stepUnit);
         }
-        return result;
+        if (!dateTimeLower.isSupported(ChronoField.EPOCH_DAY)) {
+            return createLocalTimeIndex();
+        }
+        return createLocalDateTimeIndex();
     }
     
-    private boolean hasIntersection(final Range<LocalDateTime> calculateRange, final Range<Comparable<?>> range, final LocalDateTime dateTimeLower, final LocalDateTime dateTimeUpper) {
-        LocalDateTime lower = range.hasLowerBound() ? parseLocalDateTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalDateTime upper = range.hasUpperBound() ? parseLocalDateTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDateTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<LocalDateTime> createLocalDateTimeIndex() {
+        LocalDateTime dateTimeUpperAsLocalDateTime = LocalDateTime.from(dateTimeUpper);
+        return new IntervalShardingIndex<>(LocalDateTime.from(dateTimeLower), dateTimeUpperAsLocalDateTime, each -> each.plus(stepAmount, stepUnit),
+                each -> !each.isAfter(dateTimeUpperAsLocalDateTime), tableSuffixPattern::format, this::parseLocalDateTime);
     }
     
-    private boolean hasIntersection(final Range<LocalDate> calculateRange, final Range<Comparable<?>> range, final LocalDate dateTimeLower, final LocalDate dateTimeUpper) {
-        LocalDate lower = range.hasLowerBound() ? parseLocalDate(range.lowerEndpoint()) : dateTimeLower;
-        LocalDate upper = range.hasUpperBound() ? parseLocalDate(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalDate> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<LocalTime> createLocalTimeIndex() {
+        LocalTime dateTimeUpperAsLocalTime = dateTimeUpper.query(TemporalQueries.localTime());
+        return new IntervalShardingIndex<>(dateTimeLower.query(TemporalQueries.localTime()), dateTimeUpperAsLocalTime, each -> each.plus(stepAmount, stepUnit),
+                each -> !each.isAfter(dateTimeUpperAsLocalTime), tableSuffixPattern::format, this::parseLocalTime);
     }
     
-    private boolean hasIntersection(final Range<LocalTime> calculateRange, final Range<Comparable<?>> range, final LocalTime dateTimeLower, final LocalTime dateTimeUpper) {
-        LocalTime lower = range.hasLowerBound() ? parseLocalTime(range.lowerEndpoint()) : dateTimeLower;
-        LocalTime upper = range.hasUpperBound() ? parseLocalTime(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<LocalTime> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<LocalDate> createLocalDateIndex() {
+        LocalDate dateTimeUpperAsLocalDate = dateTimeUpper.query(TemporalQueries.localDate());
+        return new IntervalShardingIndex<>(dateTimeLower.query(TemporalQueries.localDate()), dateTimeUpperAsLocalDate, each -> each.plus(stepAmount, stepUnit),
+                each -> !each.isAfter(dateTimeUpperAsLocalDate), tableSuffixPattern::format, this::parseLocalDate);
     }
     
-    private boolean hasIntersection(final Range<Year> calculateRange, final Range<Comparable<?>> range, final Year dateTimeLower, final Year dateTimeUpper) {
-        Year lower = range.hasLowerBound() ? parseYear(range.lowerEndpoint()) : dateTimeLower;
-        Year upper = range.hasUpperBound() ? parseYear(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Year> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<Year> createYearIndex() {
+        Year dateTimeUpperAsYear = dateTimeUpper.query(Year::from);
+        return new IntervalShardingIndex<>(dateTimeLower.query(Year::from), dateTimeUpperAsYear, each -> each.plus(stepAmount, stepUnit),
+                each -> !each.isAfter(dateTimeUpperAsYear), tableSuffixPattern::format, this::parseYear);
     }
     
-    private boolean hasIntersection(final Range<Month> calculateRange, final Range<Comparable<?>> range, final Month dateTimeLower, final Month dateTimeUpper) {
-        Month lower = range.hasLowerBound() ? parseMonth(range.lowerEndpoint()) : dateTimeLower;
-        Month upper = range.hasUpperBound() ? parseMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<Month> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<Month> createMonthIndex() {
+        Month dateTimeUpperAsMonth = dateTimeUpper.query(Month::from);
+        return new IntervalShardingIndex<>(dateTimeLower.query(Month::from), dateTimeUpperAsMonth, each -> each.plus(stepAmount),
+                each -> !(each.getValue() > dateTimeUpperAsMonth.getValue()) && (each.getValue() + stepAmount) <= Month.DECEMBER.getValue(), tableSuffixPattern::format, this::parseMonth);
     }
     
-    private boolean hasIntersection(final Range<YearMonth> calculateRange, final Range<Comparable<?>> range, final YearMonth dateTimeLower, final YearMonth dateTimeUpper) {
-        YearMonth lower = range.hasLowerBound() ? parseYearMonth(range.lowerEndpoint()) : dateTimeLower;
-        YearMonth upper = range.hasUpperBound() ? parseYearMonth(range.upperEndpoint()) : dateTimeUpper;
-        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
-        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
-        Range<YearMonth> dateTimeRange = Range.range(lower, lowerBoundType, upper, upperBoundType);
-        return calculateRange.isConnected(dateTimeRange) && !calculateRange.intersection(dateTimeRange).isEmpty();
+    private IntervalShardingIndex<YearMonth> createYearMonthIndex() {
+        YearMonth dateTimeUpperAsYearMonth = dateTimeUpper.query(YearMonth::from);
+        return new IntervalShardingIndex<>(dateTimeLower.query(YearMonth::from), dateTimeUpperAsYearMonth, each -> each.plus(stepAmount, stepUnit),
+                each -> !each.isAfter(dateTimeUpperAsYearMonth), tableSuffixPattern::format, this::parseYearMonth);
     }
     
     private LocalDateTime parseLocalDateTime(final Comparable<?> endpoint) {
@@ -341,34 +269,6 @@ public final class IntervalShardingAlgorithm implements StandardShardingAlgorith
         return endpoint.toString();
     }
     
-    private Collection<String> getMatchedTables(final TemporalAccessor dateTime, final Collection<String> availableTargetNames) {
-        String tableSuffix;
-        if (!dateTime.isSupported(ChronoField.NANO_OF_DAY)) {
-            if (dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(TemporalQueries.localDate()));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR) && dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(YearMonth::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Year::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-            if (dateTime.isSupported(ChronoField.MONTH_OF_YEAR)) {
-                tableSuffix = tableSuffixPattern.format(dateTime.query(Month::from));
-                return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-            }
-        }
-        if (!dateTime.isSupported(ChronoField.EPOCH_DAY)) {
-            tableSuffix = dateTime.query(TemporalQueries.localTime()).format(tableSuffixPattern);
-            return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-        }
-        tableSuffix = LocalDateTime.from(dateTime).format(tableSuffixPattern);
-        return availableTargetNames.parallelStream().filter(each -> each.endsWith(tableSuffix)).collect(Collectors.toSet());
-    }
-    
     @Override
     public String getType() {
         return "INTERVAL";
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.datetime;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Interval sharding index.
+ *
+ * <p>Holds the sorted boundaries of all intervals between datetime lower and datetime upper, interval {@code i} is {@code [boundaries[i], boundaries[i + 1])}.</p>
+ *
+ * @param <T> type of date time
+ */
+final class IntervalShardingIndex<T extends Comparable<? super T>> {
+    
+    private final T dateTimeLower;
+    
+    private final T dateTimeUpper;
+    
+    private final List<T> boundaries;
+    
+    private final Function<T, String> suffixFormatter;
+    
+    private final Function<Comparable<?>, T> endpointParser;
+    
+    private final Collection<Integer> tableSuffixLengths;
+    
+    IntervalShardingIndex(final T dateTimeLower, final T dateTimeUpper, final UnaryOperator<T> stepper, final Predicate<T> hasNextInterval,
+                          final Function<T, String> suffixFormatter, final Function<Comparable<?>, T> endpointParser) {
+        this.dateTimeLower = dateTimeLower;
+        this.dateTimeUpper = dateTimeUpper;
+        boundaries = createBoundaries(dateTimeLower, stepper, hasNextInterval);
+        this.suffixFormatter = suffixFormatter;
+        this.endpointParser = endpointParser;
+        tableSuffixLengths = boundaries.subList(0, boundaries.size() - 1).stream().map(each -> suffixFormatter.apply(each).length()).collect(Collectors.toSet());
+    }
+    
+    private List<T> createBoundaries(final T dateTimeLower, final UnaryOperator<T> stepper, final Predicate<T> hasNextInterval) {
+        ArrayList<T> result = new ArrayList<>();
+        T current = dateTimeLower;
+        while (hasNextInterval.test(current)) {
+            T next = stepper.apply(current);
+            if (next.compareTo(current) <= 0) {
+                break;
+            }
+            result.add(current);
+            current = next;
+        }
+        result.add(current);
+        result.trimToSize();
+        return result;
+    }
+    
+    /**
+     * Get distinct lengths of all table suffixes.
+     *
+     * @return table suffix lengths
+     */
+    Collection<Integer> getTableSuffixLengths() {
+        return tableSuffixLengths;
+    }
+    
+    /**
+     * Get table suffixes of intervals which intersect with range.
+     *
+     * @param range range of sharding value
+     * @return table suffixes
+     */
+    Collection<String> getTableSuffixes(final Range<Comparable<?>> range) {
+        Range<T> dateTimeRange = createDateTimeRange(range);
+        Collection<String> result = new LinkedHashSet<>();
+        for (int i = findFirstIntervalIndex(dateTimeRange); i < boundaries.size() - 1; i++) {
+            Range<T> interval = Range.closedOpen(boundaries.get(i), boundaries.get(i + 1));
+            if (!interval.isConnected(dateTimeRange) || interval.intersection(dateTimeRange).isEmpty()) {
+                break;
+            }
+            result.add(suffixFormatter.apply(boundaries.get(i)));
+        }
+        return result;
+    }
+    
+    private Range<T> createDateTimeRange(final Range<Comparable<?>> range) {
+        T lower = range.hasLowerBound() ? endpointParser.apply(range.lowerEndpoint()) : dateTimeLower;
+        T upper = range.hasUpperBound() ? endpointParser.apply(range.upperEndpoint()) : dateTimeUpper;
+        BoundType lowerBoundType = range.hasLowerBound() ? range.lowerBoundType() : BoundType.CLOSED;
+        BoundType upperBoundType = range.hasUpperBound() ? range.upperBoundType() : BoundType.CLOSED;
+        return Range.range(lower, lowerBoundType, upper, upperBoundType);
+    }
+    
+    private int findFirstIntervalIndex(final Range<T> dateTimeRange) {
+        int low = 0;
+        int high = boundaries.size() - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (boundaries.get(mid + 1).compareTo(dateTimeRange.lowerEndpoint()) > 0) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -18,9 +18,7 @@
 package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
 
 import com.google.common.base.Preconditions;
-import groovy.lang.Closure;
 import groovy.lang.MissingMethodException;
-import groovy.util.Expando;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -31,6 +29,7 @@ import org.apache.shardingsphere.sharding.api.sharding.standard.StandardSharding
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedInlineShardingAlgorithmExpressionAndColumnException;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Properties;
 
 /**
@@ -68,10 +67,7 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
     
     @Override
     public String doSharding(final Collection<String> availableTargetNames, final PreciseShardingValue<Comparable<?>> shardingValue) {
-        Closure<?> closure = createClosure();
-        Comparable<?> value = shardingValue.getValue();
-        closure.setProperty(shardingValue.getColumnName(), value);
-        return getTargetShardingNode(closure, shardingValue.getColumnName());
+        return getTargetShardingNode(shardingValue.getColumnName(), shardingValue.getValue());
     }
     
     @Override
@@ -81,15 +77,9 @@ public final class InlineShardingAlgorithm implements StandardShardingAlgorithm<
         return availableTargetNames;
     }
     
-    private Closure<?> createClosure() {
-        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
-        result.setResolveStrategy(Closure.DELEGATE_ONLY);
-        return result;
-    }
-    
-    private String getTargetShardingNode(final Closure<?> closure, final String columnName) {
+    private String getTargetShardingNode(final String columnName, final Comparable<?> value) {
         try {
-            return closure.call().toString();
+            return new InlineExpressionParser(algorithmExpression).evaluateWithArgs(Collections.singletonMap(columnName, value));
         } catch (final MissingMethodException | NullPointerException ex) {
             throw new MismatchedInlineShardingAlgorithmExpressionAndColumnException(algorithmExpression, columnName);
         }
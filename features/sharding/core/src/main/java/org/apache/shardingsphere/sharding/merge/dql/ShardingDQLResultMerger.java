@@ -59,6 +59,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long groupByMemoryMergeMaxMemorySize;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -127,7 +133,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
         return selectStatementContext.isSameGroupByAndOrderByItems()
                 ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema, groupByMemoryMergeMaxMemorySize);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
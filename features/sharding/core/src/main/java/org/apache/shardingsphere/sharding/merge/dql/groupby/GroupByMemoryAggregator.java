@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.Maps;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Group by memory aggregator.
+ * 
+ * <p>Rows of groups held in memory are aggregated in memory. Once the estimated size of groups held in memory reaches max memory size,
+ * rows of other groups are hash partitioned to temporary files, and each partition is aggregated after groups held in memory are released.
+ * Without spilling, the aggregated rows are a single sorted run in memory, otherwise every sorted run is written to a temporary file.</p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryAggregator {
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private static final long GROUP_SIZE = 128L;
+    
+    private static final long AGGREGATION_UNIT_SIZE = 32L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final GroupByRowComparator rowComparator;
+    
+    private final long maxMemorySize;
+    
+    /**
+     * Aggregate query results.
+     * 
+     * @param queryResults query results
+     * @return sorted runs of aggregated rows, a group belongs to only one sorted run
+     * @throws SQLException SQL exception
+     */
+    public List<GroupBySortedRun> aggregate(final List<QueryResult> queryResults) throws SQLException {
+        List<GroupBySortedRun> result = new LinkedList<>();
+        try {
+            aggregate(queryResults, 0, result);
+        } catch (final SQLException ex) {
+            close(result, ex);
+            throw ex;
+        }
+        if (result.isEmpty()) {
+            Object[] data = generateReturnData();
+            if (Arrays.stream(data).anyMatch(Objects::nonNull)) {
+                result.add(new GroupBySortedRun(Collections.singletonList(new MemoryQueryResultRow(data))));
+            }
+        }
+        return result;
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults, final int spillDepth, final Collection<GroupBySortedRun> sortedRuns) throws SQLException {
+        try (GroupBySpilledPartitions spilledPartitions = new GroupBySpilledPartitions(spillDepth)) {
+            aggregateInMemory(queryResults, spillDepth, spilledPartitions).ifPresent(sortedRuns::add);
+            for (QueryResult each : spilledPartitions.read()) {
+                aggregate(Collections.singletonList(each), spillDepth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private Optional<GroupBySortedRun> aggregateInMemory(final List<QueryResult> queryResults, final int spillDepth, final GroupBySpilledPartitions spilledPartitions) throws SQLException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        long memorySize = 0L;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (!dataMap.containsKey(groupByValue)) {
+                    if (isNeedSpill(memorySize, spillDepth)) {
+                        spilledPartitions.write(groupByValue, each);
+                        continue;
+                    }
+                    memorySize += initForFirstGroupByValue(each, groupByValue, dataMap, aggregationMap);
+                }
+                memorySize += aggregateRow(each, groupByValue, aggregationMap);
+            }
+        }
+        if (dataMap.isEmpty()) {
+            return Optional.empty();
+        }
+        setAggregationValueToMemoryRow(dataMap, aggregationMap);
+        List<MemoryQueryResultRow> rows = new ArrayList<>(dataMap.values());
+        rows.sort(rowComparator);
+        return Optional.of(0 == spillDepth && spilledPartitions.isEmpty() ? new GroupBySortedRun(rows) : spill(rows, queryResults.get(0).getMetaData()));
+    }
+    
+    private boolean isNeedSpill(final long memorySize, final int spillDepth) {
+        return maxMemorySize > 0L && memorySize >= maxMemorySize && spillDepth < MAX_SPILL_DEPTH;
+    }
+    
+    private long initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+        MemoryQueryResultRow row = new MemoryQueryResultRow(queryResult);
+        dataMap.put(groupByValue, row);
+        Map<AggregationProjection, AggregationUnit> map = Maps
+                .toMap(selectStatementContext.getProjectionsContext()
+                        .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        aggregationMap.put(groupByValue, map);
+        return GROUP_SIZE + map.size() * AGGREGATION_UNIT_SIZE + GroupByRowCodec.estimateSize(getData(row, queryResult.getMetaData().getColumnCount()));
+    }
+    
+    private long aggregateRow(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+        long result = 0L;
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+            if (each instanceof AggregationDistinctProjection) {
+                result += GroupByRowCodec.estimateSize(values.toArray());
+            }
+        }
+        return result;
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+        }
+    }
+    
+    private GroupBySortedRun spill(final List<MemoryQueryResultRow> rows, final QueryResultMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        Path file = null;
+        try {
+            file = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            try (DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+                for (MemoryQueryResultRow each : rows) {
+                    GroupByRowCodec.write(outputStream, getData(each, columnCount));
+                }
+            }
+            return new GroupBySortedRun(new GroupBySpilledQueryResult(file, rows.size(), metaData));
+        } catch (final IOException ex) {
+            SQLException result = new SQLException("Can not spill group by rows to temporary file", ex);
+            delete(file, result);
+            throw result;
+        }
+    }
+    
+    private Object[] getData(final MemoryQueryResultRow row, final int columnCount) {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = row.getCell(i + 1);
+        }
+        return result;
+    }
+    
+    private void delete(final Path file, final SQLException cause) {
+        if (null == file) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    private void close(final Collection<GroupBySortedRun> sortedRuns, final SQLException cause) {
+        for (GroupBySortedRun each : sortedRuns) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+}
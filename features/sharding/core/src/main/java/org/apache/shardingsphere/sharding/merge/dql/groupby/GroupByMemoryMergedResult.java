@@ -17,105 +17,67 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.base.Preconditions;
-import com.google.common.collect.Maps;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
-import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
-import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
-import org.apache.shardingsphere.sharding.rule.ShardingRule;
-import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Calendar;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Queue;
 
 /**
  * Memory merged result for group by.
+ * 
+ * <p>Aggregated rows are merged from sorted runs in order, so rows spilled to temporary files are streamed instead of being loaded back to memory.</p>
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
+public final class GroupByMemoryMergedResult implements MergedResult {
     
-    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
-        super(null, schema, selectStatementContext, queryResults);
-    }
+    private final Queue<GroupBySortedRun> sortedRuns;
     
-    @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
-                                              final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
-            }
-        }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
-    }
+    private boolean isFirstNext;
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps
-                    .toMap(selectStatementContext.getProjectionsContext()
-                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
-            aggregationMap.put(groupByValue, map);
-        }
-    }
+    private MemoryQueryResultRow currentRow;
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
-            }
-            aggregationMap.get(groupByValue).get(each).merge(values);
-        }
-    }
+    private boolean wasNull;
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResults, selectStatementContext, schema, 0L);
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                     final ShardingSphereSchema schema, final long maxMemorySize) throws SQLException {
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        List<GroupBySortedRun> aggregatedSortedRuns = new GroupByMemoryAggregator(selectStatementContext, rowComparator, maxMemorySize).aggregate(queryResults);
+        sortedRuns = new PriorityQueue<>(Math.max(aggregatedSortedRuns.size(), 1), (o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (GroupBySortedRun each : aggregatedSortedRuns) {
+            if (each.next()) {
+                sortedRuns.offer(each);
+            } else {
+                each.close();
             }
         }
+        if (!sortedRuns.isEmpty()) {
+            currentRow = sortedRuns.peek().getCurrentRow();
+        }
+        isFirstNext = true;
     }
     
     private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -141,25 +103,52 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return false;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext,
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        if (dataMap.isEmpty()) {
-            Object[] data = generateReturnData(selectStatementContext);
-            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+    @Override
+    public boolean next() throws SQLException {
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            return true;
+        }
+        GroupBySortedRun firstSortedRun = sortedRuns.poll();
+        if (firstSortedRun.next()) {
+            sortedRuns.offer(firstSortedRun);
+        } else {
+            firstSortedRun.close();
+        }
+        if (sortedRuns.isEmpty()) {
+            return false;
         }
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        currentRow = sortedRuns.peek().getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(Blob.class != type && Clob.class != type && Reader.class != type && InputStream.class != type && SQLXML.class != type,
+                () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
         return result;
     }
     
-    private Object[] generateReturnData(final SelectStatementContext selectStatementContext) {
-        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
-        Object[] result = new Object[projections.size()];
-        for (int i = 0; i < projections.size(); i++) {
-            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
-                result[i] = 0;
-            }
-        }
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
         return result;
     }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
 }
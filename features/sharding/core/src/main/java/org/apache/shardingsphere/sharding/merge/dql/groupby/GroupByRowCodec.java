@@ -0,0 +1,323 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Group by row codec.
+ * 
+ * <p>Values of JDBC types are written with a type tag and their own binary form, other serializable values fall back to Java serialization.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class GroupByRowCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte FLOAT = 7;
+    
+    private static final byte DOUBLE = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte LOCAL_DATE = 15;
+    
+    private static final byte LOCAL_TIME = 16;
+    
+    private static final byte LOCAL_DATE_TIME = 17;
+    
+    private static final byte SERIALIZABLE = 18;
+    
+    private static final int REFERENCE_SIZE = 8;
+    
+    private static final int OBJECT_HEADER_SIZE = 16;
+    
+    /**
+     * Write row.
+     * 
+     * @param output data output
+     * @param row row to be written
+     * @throws IOException IO exception
+     */
+    public static void write(final DataOutput output, final Object[] row) throws IOException {
+        for (Object each : row) {
+            writeValue(output, each);
+        }
+    }
+    
+    private static void writeValue(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            output.writeInt(((String) value).length());
+            output.writeChars((String) value);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Short) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (value instanceof BigDecimal) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else {
+            writeTemporalOrSerializableValue(output, value);
+        }
+    }
+    
+    private static void writeTemporalOrSerializableValue(final DataOutput output, final Object value) throws IOException {
+        if (value instanceof Timestamp) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (value instanceof Time) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (value instanceof LocalDate) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (value instanceof LocalTime) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            writeBytes(output, serialize(value));
+        } else {
+            throw new IOException(String.format("Can not spill group by value of type `%s`", value.getClass().getName()));
+        }
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    private static byte[] serialize(final Object value) throws IOException {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(result)) {
+            objectOutputStream.writeObject(value);
+        }
+        return result.toByteArray();
+    }
+    
+    /**
+     * Read row.
+     * 
+     * @param input data input
+     * @param columnCount column count
+     * @return read row
+     * @throws IOException IO exception
+     */
+    public static Object[] read(final DataInput input, final int columnCount) throws IOException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = readValue(input);
+        }
+        return result;
+    }
+    
+    private static Object readValue(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return readString(input);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case FLOAT:
+                return input.readFloat();
+            case DOUBLE:
+                return input.readDouble();
+            case BIG_DECIMAL:
+                return readBigDecimal(input);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                return readTimestamp(input);
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return readLocalDateTime(input);
+            case SERIALIZABLE:
+                return deserialize(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown spilled group by value type `%s`", type));
+        }
+    }
+    
+    private static BigDecimal readBigDecimal(final DataInput input) throws IOException {
+        int scale = input.readInt();
+        return new BigDecimal(new BigInteger(readBytes(input)), scale);
+    }
+    
+    private static Timestamp readTimestamp(final DataInput input) throws IOException {
+        Timestamp result = new Timestamp(input.readLong());
+        result.setNanos(input.readInt());
+        return result;
+    }
+    
+    private static LocalDateTime readLocalDateTime(final DataInput input) throws IOException {
+        LocalDate localDate = LocalDate.ofEpochDay(input.readLong());
+        return LocalDateTime.of(localDate, LocalTime.ofNanoOfDay(input.readLong()));
+    }
+    
+    private static String readString(final DataInput input) throws IOException {
+        char[] result = new char[input.readInt()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = input.readChar();
+        }
+        return new String(result);
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object deserialize(final byte[] value) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(value))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+    
+    /**
+     * Estimate heap size of row.
+     * 
+     * @param row row to be estimated
+     * @return estimated bytes
+     */
+    public static long estimateSize(final Object[] row) {
+        long result = OBJECT_HEADER_SIZE;
+        for (Object each : row) {
+            result += REFERENCE_SIZE + estimateSize(each);
+        }
+        return result;
+    }
+    
+    /**
+     * Estimate heap size of value.
+     * 
+     * @param value value to be estimated
+     * @return estimated bytes
+     */
+    public static long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof String) {
+            return OBJECT_HEADER_SIZE * 2 + ((String) value).length() * 2L;
+        }
+        if (value instanceof byte[]) {
+            return OBJECT_HEADER_SIZE + ((byte[]) value).length;
+        }
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return OBJECT_HEADER_SIZE * 4;
+        }
+        return OBJECT_HEADER_SIZE * 2;
+    }
+}
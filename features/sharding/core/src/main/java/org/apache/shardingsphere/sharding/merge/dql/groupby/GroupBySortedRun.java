@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Group by sorted run, rows of a run are sorted by group by row comparator and are held in memory or read from temporary file one by one.
+ */
+public final class GroupBySortedRun implements AutoCloseable {
+    
+    private final Iterator<MemoryQueryResultRow> memoryRows;
+    
+    private final QueryResult spilledRows;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    public GroupBySortedRun(final List<MemoryQueryResultRow> memoryRows) {
+        this.memoryRows = memoryRows.iterator();
+        spilledRows = null;
+    }
+    
+    public GroupBySortedRun(final QueryResult spilledRows) {
+        memoryRows = Collections.emptyIterator();
+        this.spilledRows = spilledRows;
+    }
+    
+    /**
+     * Iterate next row.
+     * 
+     * @return has next row
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (memoryRows.hasNext()) {
+            currentRow = memoryRows.next();
+            return true;
+        }
+        currentRow = null != spilledRows && spilledRows.next() ? new MemoryQueryResultRow(spilledRows) : null;
+        return null != currentRow;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != spilledRows) {
+            spilledRows.close();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+
+/**
+ * Group by spilled partitions.
+ * 
+ * <p>Rows are hash partitioned by group by value, so all rows of a group are spilled to the same temporary file.</p>
+ */
+public final class GroupBySpilledPartitions implements AutoCloseable {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private final int spillDepth;
+    
+    private final Path[] files = new Path[PARTITION_COUNT];
+    
+    private final DataOutputStream[] outputStreams = new DataOutputStream[PARTITION_COUNT];
+    
+    private final int[] rowCounts = new int[PARTITION_COUNT];
+    
+    private final Collection<GroupBySpilledQueryResult> spilledQueryResults = new LinkedList<>();
+    
+    private QueryResultMetaData metaData;
+    
+    public GroupBySpilledPartitions(final int spillDepth) {
+        this.spillDepth = spillDepth;
+    }
+    
+    /**
+     * Write current row of query result to partition of group by value.
+     * 
+     * @param groupByValue group by value
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void write(final GroupByValue groupByValue, final QueryResult queryResult) throws SQLException {
+        if (null == metaData) {
+            metaData = queryResult.getMetaData();
+        }
+        int partition = getPartition(groupByValue);
+        Object[] row = new Object[metaData.getColumnCount()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        try {
+            GroupByRowCodec.write(getOutputStream(partition), row);
+            rowCounts[partition]++;
+        } catch (final IOException ex) {
+            throw new SQLException("Can not spill group by rows to temporary file", ex);
+        }
+    }
+    
+    private int getPartition(final GroupByValue groupByValue) {
+        int result = groupByValue.hashCode() + spillDepth * 0x9E3779B9;
+        result ^= result >>> 16;
+        result *= 0x85EBCA6B;
+        result ^= result >>> 13;
+        result *= 0xC2B2AE35;
+        result ^= result >>> 16;
+        return result & (PARTITION_COUNT - 1);
+    }
+    
+    private DataOutputStream getOutputStream(final int partition) throws IOException {
+        if (null == outputStreams[partition]) {
+            files[partition] = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            outputStreams[partition] = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(files[partition])));
+        }
+        return outputStreams[partition];
+    }
+    
+    /**
+     * Judge whether no row is spilled.
+     * 
+     * @return no row is spilled or not
+     */
+    public boolean isEmpty() {
+        return null == metaData;
+    }
+    
+    /**
+     * Read spilled partitions as query results, each partition is a query result.
+     * 
+     * @return spilled query results
+     * @throws SQLException SQL exception
+     */
+    public Collection<QueryResult> read() throws SQLException {
+        Collection<QueryResult> result = new ArrayList<>(PARTITION_COUNT);
+        try {
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                if (null == outputStreams[i]) {
+                    continue;
+                }
+                outputStreams[i].close();
+                outputStreams[i] = null;
+                GroupBySpilledQueryResult spilledQueryResult = new GroupBySpilledQueryResult(files[i], rowCounts[i], metaData);
+                spilledQueryResults.add(spilledQueryResult);
+                result.add(spilledQueryResult);
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read spilled group by rows from temporary file", ex);
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            for (GroupBySpilledQueryResult each : spilledQueryResults) {
+                each.close();
+            }
+            for (int i = 0; i < PARTITION_COUNT; i++) {
+                if (null != outputStreams[i]) {
+                    outputStreams[i].close();
+                }
+                if (null != files[i]) {
+                    Files.deleteIfExists(files[i]);
+                }
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Can not delete spilled group by temporary file", ex);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+
+/**
+ * Query result of rows spilled by group by memory aggregator, rows are read from temporary file one by one.
+ * 
+ * <p>The temporary file is deleted once it is closed.</p>
+ */
+public final class GroupBySpilledQueryResult implements QueryResult {
+    
+    private final DataInputStream inputStream;
+    
+    private final int rowCount;
+    
+    private final int columnCount;
+    
+    @Getter
+    private final QueryResultMetaData metaData;
+    
+    private int rowIndex;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupBySpilledQueryResult(final Path file, final int rowCount, final QueryResultMetaData metaData) throws IOException, SQLException {
+        inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        this.rowCount = rowCount;
+        columnCount = metaData.getColumnCount();
+        this.metaData = metaData;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (rowIndex >= rowCount) {
+            currentRow = null;
+            return false;
+        }
+        try {
+            currentRow = GroupByRowCodec.read(inputStream, columnCount);
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read spilled group by rows from temporary file", ex);
+        }
+        rowIndex++;
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            inputStream.close();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not close spilled group by temporary file", ex);
+        }
+    }
+}
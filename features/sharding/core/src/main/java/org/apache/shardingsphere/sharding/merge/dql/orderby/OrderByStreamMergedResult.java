@@ -28,7 +28,6 @@ import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
 import java.util.Queue;
 
 /**
@@ -46,7 +45,7 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        orderByValuesQueue = new OrderByValueQueue(queryResults.size());
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
         isFirstNext = true;
     }
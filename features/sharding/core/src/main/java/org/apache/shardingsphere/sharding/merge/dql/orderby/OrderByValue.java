@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryRe
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -33,7 +35,6 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,8 @@ import java.util.Map;
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final Comparable<?>[] EMPTY_ORDER_VALUES = new Comparable<?>[0];
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -51,7 +54,11 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -59,6 +66,14 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType());
+            index++;
+        }
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -101,30 +116,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        orderValues = result ? getOrderValues() : EMPTY_ORDER_VALUES;
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+    private Comparable<?>[] getOrderValues() throws SQLException {
+        Comparable<?>[] result = new Comparable<?>[orderByItems.size()];
+        int index = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            result[index] = !orderValuesCaseSensitive.get(index) && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
+            index++;
         }
         return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtil.compareTo(orderValues[i], orderByValue.orderValues[i], orderDirections[i], nullsOrderTypes[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
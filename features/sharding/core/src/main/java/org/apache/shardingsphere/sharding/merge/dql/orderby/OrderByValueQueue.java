@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Order by value queue.
+ * 
+ * <p>Loser tree which merges one order by value per query result. The polled value is usually offered back after it moved to next row,
+ * so replaying the vacated leaf is deferred until the value comes back, which costs one pass of log(n) comparisons for each merged row.</p>
+ */
+public final class OrderByValueQueue extends AbstractQueue<OrderByValue> {
+    
+    private final List<OrderByValue> pendingValues;
+    
+    private OrderByValue[] leaves;
+    
+    private int[] tree;
+    
+    private int size;
+    
+    private int vacatedLeaf = -1;
+    
+    private boolean built;
+    
+    public OrderByValueQueue(final int initialCapacity) {
+        pendingValues = new ArrayList<>(initialCapacity);
+    }
+    
+    @Override
+    public boolean offer(final OrderByValue orderByValue) {
+        if (vacatedLeaf >= 0) {
+            leaves[vacatedLeaf] = orderByValue;
+            size++;
+            replay(vacatedLeaf);
+            vacatedLeaf = -1;
+            return true;
+        }
+        if (built) {
+            pendingValues.addAll(getValues());
+            built = false;
+        }
+        pendingValues.add(orderByValue);
+        size++;
+        return true;
+    }
+    
+    @Override
+    public OrderByValue poll() {
+        prepare();
+        if (0 == size) {
+            return null;
+        }
+        int winner = tree[0];
+        size--;
+        vacatedLeaf = winner;
+        OrderByValue result = leaves[winner];
+        leaves[winner] = null;
+        return result;
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        prepare();
+        return 0 == size ? null : leaves[tree[0]];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public Iterator<OrderByValue> iterator() {
+        prepare();
+        return getValues().iterator();
+    }
+    
+    private Collection<OrderByValue> getValues() {
+        Collection<OrderByValue> result = new ArrayList<>(size);
+        for (OrderByValue each : leaves) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    private void prepare() {
+        if (!built) {
+            build();
+        } else if (vacatedLeaf >= 0) {
+            replay(vacatedLeaf);
+            vacatedLeaf = -1;
+        }
+    }
+    
+    private void build() {
+        int leafCount = Math.max(pendingValues.size(), 1);
+        leaves = pendingValues.toArray(new OrderByValue[leafCount]);
+        pendingValues.clear();
+        tree = new int[leafCount];
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (isPrior(right, left)) {
+                winners[node] = right;
+                tree[node] = left;
+            } else {
+                winners[node] = left;
+                tree[node] = right;
+            }
+        }
+        tree[0] = winners[1];
+        built = true;
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int node = (leaf + leaves.length) / 2; node > 0; node /= 2) {
+            if (isPrior(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isPrior(final int leaf, final int otherLeaf) {
+        if (null == leaves[leaf]) {
+            return false;
+        }
+        if (null == leaves[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || (0 == result && leaf < otherLeaf);
+    }
+}
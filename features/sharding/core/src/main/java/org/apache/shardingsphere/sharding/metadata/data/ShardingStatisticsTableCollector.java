@@ -33,9 +33,9 @@ import org.apache.shardingsphere.sharding.rule.TableRule;
 import javax.sql.DataSource;
 import java.math.BigDecimal;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +48,10 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
     
     private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
     
-    private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = '%s' AND TABLE_NAME = '%s'";
+    private static final String MYSQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT TABLE_ROWS, DATA_LENGTH FROM information_schema.TABLES WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+    
+    private static final String POSTGRESQL_TABLE_ROWS_AND_DATA_LENGTH = "SELECT GREATEST(C.RELTUPLES, 0) AS TABLE_ROWS, PG_TABLE_SIZE(C.OID) AS DATA_LENGTH FROM PG_CLASS C "
+            + "JOIN PG_NAMESPACE N ON C.RELNAMESPACE = N.OID WHERE N.NSPNAME = ? AND C.RELNAME = ? AND C.RELKIND IN ('r', 'p')";
     
     @Override
     public Optional<ShardingSphereTableData> collect(final String databaseName, final ShardingSphereTable table,
@@ -93,24 +96,37 @@ public final class ShardingStatisticsTableCollector implements ShardingSphereDat
         if (databaseType instanceof MySQLDatabaseType) {
             addForMySQL(dataSources, dataNode, row);
         } else if (databaseType instanceof PostgreSQLDatabaseType || databaseType instanceof OpenGaussDatabaseType) {
-            // TODO get postgres rows and data length
-            row.add(BigDecimal.ZERO);
-            row.add(BigDecimal.ZERO);
+            addForPostgreSQL(dataSources, dataNode, row);
         }
     }
     
     private void addForMySQL(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row) throws SQLException {
-        DataSource dataSource = dataSources.get(dataNode.getDataSourceName());
+        try (
+                Connection connection = dataSources.get(dataNode.getDataSourceName()).getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(MYSQL_TABLE_ROWS_AND_DATA_LENGTH)) {
+            preparedStatement.setString(1, connection.getCatalog());
+            preparedStatement.setString(2, dataNode.getTableName());
+            addQueriedTableRowsAndDataLength(preparedStatement, row);
+        }
+    }
+    
+    private void addForPostgreSQL(final Map<String, DataSource> dataSources, final DataNode dataNode, final List<Object> row) throws SQLException {
+        try (
+                Connection connection = dataSources.get(dataNode.getDataSourceName()).getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(POSTGRESQL_TABLE_ROWS_AND_DATA_LENGTH)) {
+            preparedStatement.setString(1, null == dataNode.getSchemaName() ? connection.getSchema() : dataNode.getSchemaName());
+            preparedStatement.setString(2, dataNode.getTableName());
+            addQueriedTableRowsAndDataLength(preparedStatement, row);
+        }
+    }
+    
+    private void addQueriedTableRowsAndDataLength(final PreparedStatement preparedStatement, final List<Object> row) throws SQLException {
         BigDecimal tableRows = BigDecimal.ZERO;
         BigDecimal dataLength = BigDecimal.ZERO;
-        try (
-                Connection connection = dataSource.getConnection();
-                Statement statement = connection.createStatement()) {
-            try (ResultSet resultSet = statement.executeQuery(String.format(MYSQL_TABLE_ROWS_AND_DATA_LENGTH, connection.getCatalog(), dataNode.getTableName()))) {
-                if (resultSet.next()) {
-                    tableRows = resultSet.getBigDecimal("TABLE_ROWS");
-                    dataLength = resultSet.getBigDecimal("DATA_LENGTH");
-                }
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            if (resultSet.next()) {
+                tableRows = resultSet.getBigDecimal("TABLE_ROWS");
+                dataLength = resultSet.getBigDecimal("DATA_LENGTH");
             }
         }
         row.add(tableRows);
@@ -79,6 +79,11 @@ public final class ShardingSQLRouter implements SQLRouter<ShardingRule> {
         // TODO
     }
     
+    @Override
+    public boolean isRouteCacheable(final QueryContext queryContext, final ShardingRule rule) {
+        return queryContext.getParameters().isEmpty();
+    }
+    
     @Override
     public int getOrder() {
         return ShardingOrder.ORDER;
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.sharding.rule;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
@@ -73,8 +74,10 @@ import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -115,6 +118,15 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> actualTableLogicTables;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> allActualTables;
+    
     public ShardingRule(final ShardingRuleConfiguration ruleConfig, final Collection<String> dataSourceNames, final InstanceContext instanceContext) {
         configuration = ruleConfig;
         this.dataSourceNames = getDataSourceNames(ruleConfig.getTables(), ruleConfig.getAutoTables(), dataSourceNames);
@@ -133,6 +145,9 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
                 : keyGenerators.get(ruleConfig.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = ruleConfig.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        actualTableRules = createActualTableRules(tableRules);
+        actualTableLogicTables = createActualTableLogicTables(tableRules);
+        allActualTables = createAllActualTables(tableRules);
         Preconditions.checkArgument(isValidBindingTableConfiguration(tableRules, new BindingTableCheckedConfiguration(this.dataSourceNames, shardingAlgorithms, ruleConfig.getBindingTableGroups(),
                 broadcastTables, defaultDatabaseShardingStrategyConfig, defaultTableShardingStrategyConfig, defaultShardingColumn)),
                 "Invalid binding table configuration in ShardingRuleConfiguration.");
@@ -150,6 +165,41 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return result;
     }
     
+    private Map<String, TableRule> createActualTableRules(final Map<String, TableRule> tableRules) {
+        Map<String, TableRule> result = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.putIfAbsent(dataNode.getTableName().toLowerCase().intern(), each);
+            }
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Map<String, Collection<String>> createActualTableLogicTables(final Map<String, TableRule> tableRules) {
+        Map<String, Set<String>> logicTables = new HashMap<>();
+        for (TableRule each : tableRules.values()) {
+            String logicTable = each.getLogicTable().intern();
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                logicTables.computeIfAbsent(dataNode.getTableName().toLowerCase().intern(), key -> new HashSet<>()).add(logicTable);
+            }
+        }
+        Map<String, Collection<String>> result = new HashMap<>(logicTables.size(), 1);
+        for (Entry<String, Set<String>> entry : logicTables.entrySet()) {
+            result.put(entry.getKey(), 1 == entry.getValue().size() ? Collections.singleton(entry.getValue().iterator().next()) : Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private Collection<String> createAllActualTables(final Map<String, TableRule> tableRules) {
+        Set<String> result = new HashSet<>();
+        for (TableRule each : tableRules.values()) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                result.add(dataNode.getTableName().intern());
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -290,7 +340,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
     public Collection<String> getAllTables() {
         Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
         result.addAll(getTables());
-        result.addAll(getAllActualTables());
+        result.addAll(allActualTables);
         return result;
     }
     
@@ -344,12 +394,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return Strings.isNullOrEmpty(actualTableName) ? Optional.empty() : Optional.ofNullable(actualTableRules.get(actualTableName.toLowerCase()));
     }
     
     /**
@@ -652,7 +697,7 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
      * @return logic tables
      */
     public Collection<String> getLogicTablesByActualTable(final String actualTable) {
-        return tableRules.values().stream().filter(each -> each.isExisted(actualTable)).map(TableRule::getLogicTable).collect(Collectors.toSet());
+        return Strings.isNullOrEmpty(actualTable) ? Collections.emptySet() : actualTableLogicTables.getOrDefault(actualTable.toLowerCase(), Collections.emptySet());
     }
     
     @Override
@@ -665,10 +710,6 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return shardingTableDataNodes.getOrDefault(tableName.toLowerCase(), Collections.emptyList());
     }
     
-    private Collection<String> getAllActualTables() {
-        return tableRules.values().stream().flatMap(each -> each.getActualDataNodes().stream().map(DataNode::getTableName)).collect(Collectors.toSet());
-    }
-    
     @Override
     public Optional<String> findFirstActualTable(final String logicTable) {
         return findTableRule(logicTable).map(optional -> optional.getActualDataNodes().get(0).getTableName());
@@ -679,6 +720,41 @@ public final class ShardingRule implements DatabaseRule, DataNodeContainedRule,
         return !isAllBroadcastTables(tables);
     }
     
+    @Override
+    public boolean isDistributedByColumns(final String tableName, final Collection<String> columnNames) {
+        Optional<TableRule> tableRule = findTableRule(tableName);
+        if (!tableRule.isPresent()) {
+            return true;
+        }
+        boolean isSingleDataSource = tableRule.get().getActualDataSourceNames().size() <= 1;
+        boolean isSingleTablePerDataSource = tableRule.get().getActualDataNodes().size() <= tableRule.get().getActualDataSourceNames().size();
+        return (isSingleDataSource || isDistributedByColumns(getDatabaseShardingStrategyConfiguration(tableRule.get()), columnNames))
+                && (isSingleTablePerDataSource || isDistributedByColumns(getTableShardingStrategyConfiguration(tableRule.get()), columnNames));
+    }
+    
+    private boolean isDistributedByColumns(final ShardingStrategyConfiguration shardingStrategyConfig, final Collection<String> columnNames) {
+        Collection<String> shardingColumns = getShardingColumns(shardingStrategyConfig);
+        if (shardingColumns.isEmpty()) {
+            return false;
+        }
+        Collection<String> caseInsensitiveColumnNames = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        caseInsensitiveColumnNames.addAll(columnNames);
+        return caseInsensitiveColumnNames.containsAll(shardingColumns);
+    }
+    
+    private Collection<String> getShardingColumns(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        if (shardingStrategyConfig instanceof StandardShardingStrategyConfiguration) {
+            String shardingColumn = null == ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn()
+                    ? defaultShardingColumn
+                    : ((StandardShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumn();
+            return null == shardingColumn ? Collections.emptyList() : Collections.singletonList(shardingColumn);
+        }
+        if (shardingStrategyConfig instanceof ComplexShardingStrategyConfiguration) {
+            return Splitter.on(",").trimResults().splitToList(((ComplexShardingStrategyConfiguration) shardingStrategyConfig).getShardingColumns());
+        }
+        return Collections.emptyList();
+    }
+    
     @Override
     public Optional<String> findLogicTableByActualTable(final String actualTable) {
         return findTableRuleByActualTable(actualTable).map(TableRule::getLogicTable);
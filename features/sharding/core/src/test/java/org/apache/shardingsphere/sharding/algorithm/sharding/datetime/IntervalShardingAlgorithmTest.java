@@ -42,7 +42,10 @@ import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.Properties;
 
@@ -319,6 +322,33 @@ public final class IntervalShardingAlgorithmTest {
         assertThat(actual.size(), is(7));
     }
     
+    @Test
+    public void assertRangeDoShardingByMonthWithDifferentAvailableTargetNames() {
+        Range<Comparable<?>> range = Range.closed("2019-12-15 10:59:08", "2020-02-08 10:59:08");
+        Collection<String> actual = shardingAlgorithmByMonth.doSharding(Arrays.asList("t_order_201912", "t_order_202001"), new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_201912", "t_order_202001"))));
+        actual = shardingAlgorithmByMonth.doSharding(Arrays.asList("t_order_202001", "t_order_202002", "t_order_202003"), new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, range));
+        assertThat(actual, is((Collection<String>) new HashSet<>(Arrays.asList("t_order_202001", "t_order_202002"))));
+    }
+    
+    @Test
+    public void assertRangeDoShardingByHourInTenYears() {
+        Properties props = new Properties();
+        props.setProperty("datetime-pattern", "yyyy-MM-dd HH:mm:ss");
+        props.setProperty("datetime-lower", "2010-01-01 00:00:00");
+        props.setProperty("datetime-upper", "2019-12-31 23:00:00");
+        props.setProperty("sharding-suffix-pattern", "yyyyMMddHH");
+        props.setProperty("datetime-interval-unit", "Hours");
+        IntervalShardingAlgorithm shardingAlgorithm = (IntervalShardingAlgorithm) ShardingAlgorithmFactory.newInstance(new AlgorithmConfiguration("INTERVAL", props));
+        Collection<String> availableTargetNames = Arrays.asList("t_order_2015061209", "t_order_2015061210", "t_order_2015061211", "t_order_2015061212");
+        Collection<String> actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.openClosed("2015-06-12 10:00:00", "2015-06-12 11:00:00")));
+        assertThat(actual, is(new HashSet<>(Arrays.asList("t_order_2015061210", "t_order_2015061211"))));
+        actual = shardingAlgorithm.doSharding(availableTargetNames,
+                new RangeShardingValue<>("t_order", "create_time", DATA_NODE_INFO, Range.closedOpen("2015-06-12 10:00:00", "2015-06-12 11:00:00")));
+        assertThat(actual, is(Collections.singleton("t_order_2015061210")));
+    }
+    
     @Test
     public void assertLowerHalfRangeDoSharding() {
         Collection<String> actual = shardingAlgorithmByQuarter.doSharding(availableTablesForQuarterDataSources,
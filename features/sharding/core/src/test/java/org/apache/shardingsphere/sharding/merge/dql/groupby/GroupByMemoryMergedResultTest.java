@@ -54,6 +54,7 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -116,6 +117,31 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextForGroupsSpilledToTemporaryFiles() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        QueryResult queryResult1 = createQueryResult(new Object[]{20, 0, 2, 2, 20}, new Object[]{10, 0, 3, 1, 10});
+        QueryResult queryResult2 = createQueryResult(new Object[]{20, 0, 3, 2, 20}, new Object[]{30, 0, 4, 3, 30}, new Object[]{10, 0, 2, 1, 10});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"), 1L);
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), database, mock(ConnectionContext.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(4));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(3));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(actual.getValue(3, Object.class), is(2));
+        assertThat(actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat(actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertFalse(actual.next());
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -192,6 +218,17 @@ public final class GroupByMemoryMergedResultTest {
         return result;
     }
     
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = createQueryResult();
+        AtomicInteger cursor = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= rows.length);
+        for (int i = 0; i < 5; i++) {
+            int columnIndex = i;
+            when(result.getValue(columnIndex + 1, Object.class)).thenAnswer(invocation -> rows[cursor.get() - 1][columnIndex]);
+        }
+        return result;
+    }
+    
     @Test
     public void assertNextForDistinctShorthandResultSetsEmpty() throws SQLException {
         QueryResult queryResult = mock(QueryResult.class, RETURNS_DEEP_STUBS);
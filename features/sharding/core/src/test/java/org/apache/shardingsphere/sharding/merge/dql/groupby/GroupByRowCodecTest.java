@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class GroupByRowCodecTest {
+    
+    @Test
+    public void assertWriteAndRead() throws IOException {
+        Timestamp timestamp = new Timestamp(1000L);
+        timestamp.setNanos(123456789);
+        String supplementaryText = "foo" + new String(Character.toChars(0x1F600));
+        Object[] expected = new Object[]{null, supplementaryText, 1, 2L, (short) 3, (byte) 4, true, 5.5F, 6.5D, new BigDecimal("-7.50"), new BigInteger("8"), new byte[]{9, 10},
+                new Date(11L), new Time(12L), timestamp, LocalDate.of(2022, 1, 1), LocalTime.of(1, 2, 3, 4), LocalDateTime.of(2022, 1, 1, 1, 2, 3, 4), UUID.randomUUID()};
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        GroupByRowCodec.write(new DataOutputStream(outputStream), expected);
+        Object[] actual = GroupByRowCodec.read(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())), expected.length);
+        assertThat(actual, is(expected));
+        assertThat(((BigDecimal) actual[9]).scale(), is(2));
+        assertThat(((Timestamp) actual[14]).getNanos(), is(123456789));
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertWriteNotSerializableValue() throws IOException {
+        GroupByRowCodec.write(new DataOutputStream(new ByteArrayOutputStream()), new Object[]{new Object()});
+    }
+    
+    @Test
+    public void assertEstimateSize() {
+        assertTrue(GroupByRowCodec.estimateSize(new Object[]{"foo_bar"}) > GroupByRowCodec.estimateSize(new Object[]{"foo"}));
+        assertTrue(GroupByRowCodec.estimateSize(new Object[]{1, 2}) > GroupByRowCodec.estimateSize(new Object[]{1}));
+    }
+}
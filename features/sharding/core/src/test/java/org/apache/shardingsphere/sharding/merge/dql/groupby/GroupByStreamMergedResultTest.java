@@ -52,6 +52,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -111,27 +112,9 @@ public final class GroupByStreamMergedResultTest {
     
     @Test
     public void assertNextForMix() throws SQLException {
-        QueryResult queryResult1 = mockQueryResult();
-        when(queryResult1.next()).thenReturn(true, false);
-        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
-        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(5, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(6, Object.class)).thenReturn(20);
-        QueryResult queryResult2 = mockQueryResult();
-        when(queryResult2.next()).thenReturn(true, true, true, false);
-        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 40);
-        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(5, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(6, Object.class)).thenReturn(20, 20, 30, 30, 30, 40);
-        QueryResult queryResult3 = mockQueryResult();
-        when(queryResult3.next()).thenReturn(true, true, false);
-        when(queryResult3.getValue(1, Object.class)).thenReturn(10, 30);
-        when(queryResult3.getValue(2, Object.class)).thenReturn(10);
-        when(queryResult3.getValue(3, Object.class)).thenReturn(1, 1, 1, 1, 3);
-        when(queryResult3.getValue(5, Object.class)).thenReturn(1, 1, 3);
-        when(queryResult3.getValue(6, Object.class)).thenReturn(10, 10, 30);
+        QueryResult queryResult1 = mockQueryResult(new Object[]{20, 0, 2, null, 2, 20});
+        QueryResult queryResult2 = mockQueryResult(new Object[]{20, 0, 2, null, 2, 20}, new Object[]{30, 0, 3, null, 3, 30}, new Object[]{40, 0, 4, null, 4, 40});
+        QueryResult queryResult3 = mockQueryResult(new Object[]{10, 10, 1, null, 1, 10}, new Object[]{30, 10, 3, null, 3, 30});
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeFactory.getInstance("MySQL"));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
@@ -204,4 +187,15 @@ public final class GroupByStreamMergedResultTest {
         when(result.getMetaData().getColumnName(3)).thenReturn("col3");
         return result;
     }
+    
+    private QueryResult mockQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mockQueryResult();
+        AtomicInteger cursor = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= rows.length);
+        for (int i = 0; i < 6; i++) {
+            int columnIndex = i;
+            when(result.getValue(columnIndex + 1, Object.class)).thenAnswer(invocation -> rows[cursor.get() - 1][columnIndex]);
+        }
+        return result;
+    }
 }
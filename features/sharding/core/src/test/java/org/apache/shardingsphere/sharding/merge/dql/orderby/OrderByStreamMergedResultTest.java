@@ -196,9 +196,9 @@ public final class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
     
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueQueueTest {
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private Collection<OrderByItem> orderByItems;
+    
+    @Before
+    public void setUp() {
+        IndexOrderByItemSegment orderByItemSegment = new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST);
+        MySQLSelectStatement selectStatement = new MySQLSelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(orderByItemSegment)));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, mock(ShardingSphereDatabase.class)), mock(ShardingSphereRuleMetaData.class), mock(ConfigurationProperties.class));
+        selectStatementContext = new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+        OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
+        orderByItem.setIndex(1);
+        orderByItems = Collections.singletonList(orderByItem);
+    }
+    
+    @Test
+    public void assertMerge() throws SQLException {
+        Queue<OrderByValue> queue = new OrderByValueQueue(5);
+        offer(queue, 3L, 7L, 9L);
+        offer(queue, 1L, 2L, 10L);
+        offer(queue);
+        offer(queue, 4L, 4L);
+        offer(queue, 5L, 6L, 8L);
+        List<Long> actual = new ArrayList<>(11);
+        while (!queue.isEmpty()) {
+            OrderByValue orderByValue = queue.poll();
+            actual.add((Long) orderByValue.getQueryResult().getValue(1, Object.class));
+            if (orderByValue.next()) {
+                queue.offer(orderByValue);
+            }
+        }
+        assertThat(actual, is(Arrays.asList(1L, 2L, 3L, 4L, 4L, 5L, 6L, 7L, 8L, 9L, 10L)));
+    }
+    
+    @Test
+    public void assertPeekAfterPollWithoutOffer() throws SQLException {
+        Queue<OrderByValue> queue = new OrderByValueQueue(2);
+        offer(queue, 2L);
+        offer(queue, 1L);
+        assertThat(queue.size(), is(2));
+        assertThat(queue.poll().getQueryResult().getValue(1, Object.class), is(1L));
+        assertThat(queue.peek().getQueryResult().getValue(1, Object.class), is(2L));
+        assertThat(queue.poll().getQueryResult().getValue(1, Object.class), is(2L));
+        assertTrue(queue.isEmpty());
+        assertThat(queue.peek(), nullValue());
+        assertThat(queue.poll(), nullValue());
+    }
+    
+    @Test
+    public void assertOfferNewValueAfterBuilt() throws SQLException {
+        Queue<OrderByValue> queue = new OrderByValueQueue(1);
+        offer(queue, 3L);
+        assertThat(queue.peek().getQueryResult().getValue(1, Object.class), is(3L));
+        offer(queue, 1L);
+        assertThat(queue.size(), is(2));
+        assertThat(queue.poll().getQueryResult().getValue(1, Object.class), is(1L));
+        assertThat(queue.poll().getQueryResult().getValue(1, Object.class), is(3L));
+    }
+    
+    private void offer(final Queue<OrderByValue> queue, final Long... values) throws SQLException {
+        OrderByValue orderByValue = new OrderByValue(createQueryResult(values), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+        if (orderByValue.next()) {
+            queue.offer(orderByValue);
+        }
+    }
+    
+    private QueryResult createQueryResult(final Long... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger();
+        when(result.next()).thenAnswer(invocation -> cursor.incrementAndGet() <= values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get() - 1]);
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.metadata.data;
+
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.TableRule;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class ShardingStatisticsTableCollectorTest {
+    
+    @Test
+    public void assertCollectForPostgreSQL() throws SQLException {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBigDecimal("TABLE_ROWS")).thenReturn(new BigDecimal("100"));
+        when(resultSet.getBigDecimal("DATA_LENGTH")).thenReturn(new BigDecimal("8192"));
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(contains("JOIN PG_NAMESPACE"))).thenReturn(preparedStatement);
+        when(connection.getSchema()).thenReturn("public");
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        Optional<ShardingSphereTableData> actual = new ShardingStatisticsTableCollector().collect("sharding_db", null,
+                Collections.singletonMap("sharding_db", createDatabase(dataSource)));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRows().size(), is(2));
+        List<Object> expectedRow = Arrays.asList(1, "sharding_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), new BigDecimal("8192"));
+        assertTrue(actual.get().getRows().stream().anyMatch(each -> expectedRow.equals(each.getRows())));
+        verify(preparedStatement).setString(1, "public");
+        verify(preparedStatement).setString(1, "foo_schema");
+        verify(preparedStatement).setString(2, "t_order_0");
+        verify(preparedStatement).setString(2, "t_order_1");
+    }
+    
+    private ShardingSphereDatabase createDatabase(final DataSource dataSource) {
+        DataNode unqualifiedDataNode = new DataNode("ds_0.t_order_0");
+        DataNode qualifiedDataNode = new DataNode("ds_0.t_order_1");
+        qualifiedDataNode.setSchemaName("foo_schema");
+        TableRule tableRule = mock(TableRule.class);
+        when(tableRule.getLogicTable()).thenReturn("t_order");
+        when(tableRule.getActualDataNodes()).thenReturn(Arrays.asList(unqualifiedDataNode, qualifiedDataNode));
+        ShardingRule shardingRule = mock(ShardingRule.class);
+        when(shardingRule.getTableRules()).thenReturn(Collections.singletonMap("t_order", tableRule));
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("sharding_db");
+        when(result.getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
+        when(result.getRuleMetaData().findSingleRule(ShardingRule.class)).thenReturn(Optional.of(shardingRule));
+        when(result.getResourceMetaData().getDataSources()).thenReturn(Collections.singletonMap("ds_0", dataSource));
+        return result;
+    }
+}
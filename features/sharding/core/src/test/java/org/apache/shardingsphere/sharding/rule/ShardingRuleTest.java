@@ -126,6 +126,16 @@ public final class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
     }
     
+    @Test
+    public void assertFindTableRuleByActualTableWithDifferentCase() {
+        assertTrue(createMaximumShardingRule().findTableRuleByActualTable("TABLE_0").isPresent());
+    }
+    
+    @Test
+    public void assertNotFindTableRuleByActualTableWhenTableNameIsNull() {
+        assertFalse(createMaximumShardingRule().findTableRuleByActualTable(null).isPresent());
+    }
+    
     @Test
     public void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
@@ -284,6 +294,22 @@ public final class ShardingRuleTest {
         assertFalse(actual.isPresent());
     }
     
+    @Test
+    public void assertIsDistributedByColumns() {
+        ShardingRule actual = createMaximumShardingRule();
+        assertTrue(actual.isDistributedByColumns("logic_table", Arrays.asList("USER_ID", "order_id", "status")));
+        assertFalse(actual.isDistributedByColumns("logic_table", Collections.singletonList("order_id")));
+        assertTrue(actual.isDistributedByColumns("broadcast_table", Collections.singletonList("id")));
+        assertTrue(actual.isDistributedByColumns("other_table", Collections.singletonList("id")));
+    }
+    
+    @Test
+    public void assertIsDistributedByColumnsWithNoneTableShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames(), mock(InstanceContext.class)).isDistributedByColumns("logic_table", Collections.singletonList("column")));
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
@@ -679,6 +705,11 @@ public final class ShardingRuleTest {
                 is(new LinkedHashSet<>(Arrays.asList("ID_STRATEGY_LOGIC_TABLE", "HINT_STRATEGY_LOGIC_TABLE"))));
     }
     
+    @Test
+    public void assertGetLogicTablesByAbsentActualTable() {
+        assertTrue(createShardingRuleWithSameActualTablesButDifferentLogicTables().getLogicTablesByActualTable("table_3").isEmpty());
+    }
+    
     private ShardingRule createShardingRuleWithSameActualTablesButDifferentLogicTables() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
         ShardingTableRuleConfiguration idTableRuleConfig = createTableRuleConfiguration("ID_STRATEGY_LOGIC_TABLE", "ds_${0..1}.table_${0..2}");
@@ -37,6 +37,8 @@ public final class QueryContext {
     
     private final List<Object> parameters;
     
+    private final boolean literalParameterized;
+    
     private HintValueContext hintValueContext;
     
     private String sqlStatementDatabaseName;
@@ -46,10 +48,15 @@ public final class QueryContext {
     }
     
     public QueryContext(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext) {
+        this(sqlStatementContext, sql, params, hintValueContext, false);
+    }
+    
+    public QueryContext(final SQLStatementContext<?> sqlStatementContext, final String sql, final List<Object> params, final HintValueContext hintValueContext, final boolean literalParameterized) {
         this.sqlStatementContext = sqlStatementContext;
         this.sql = sql;
         parameters = params;
         this.hintValueContext = hintValueContext;
+        this.literalParameterized = literalParameterized;
         if (sqlStatementContext instanceof TableAvailable) {
             ((TableAvailable) sqlStatementContext).getTablesContext().getDatabaseName().ifPresent(optional -> sqlStatementDatabaseName = optional);
         }
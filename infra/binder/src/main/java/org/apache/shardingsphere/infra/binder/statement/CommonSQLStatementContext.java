@@ -96,4 +96,22 @@ public class CommonSQLStatementContext<T extends SQLStatement> implements SQLSta
     public boolean isHintWriteRouteOnly() {
         return sqlHintExtractor.isHintWriteRouteOnly();
     }
+    
+    /**
+     * Find hint max replication delay milliseconds of replica data source which read query can be routed to.
+     *
+     * @return max staleness milliseconds
+     */
+    public Optional<Long> findHintReadMaxStalenessMilliseconds() {
+        return sqlHintExtractor.findHintReadMaxStalenessMilliseconds();
+    }
+    
+    /**
+     * Judge whether hint read query should observe the last write of current connection or not.
+     *
+     * @return whether hint read query should observe the last write of current connection or not
+     */
+    public boolean isHintReadYourWrites() {
+        return sqlHintExtractor.isHintReadYourWrites();
+    }
 }
@@ -42,21 +42,46 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     SQL_SIMPLE("sql-simple", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Whether parse trivial DML by hand-written fast path parser instead of ANTLR.
+     */
+    SQL_FAST_PATH_PARSE_ENABLED("sql-fast-path-parse-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * The max thread size of worker group to execute SQL.
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Thread type of worker group to execute SQL: PLATFORM(default), VIRTUAL, FORK_JOIN.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", KernelExecutorType.PLATFORM.name(), KernelExecutorType.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max percentage of data source pool which queries acquiring multiple connections from one data source can use, 0 means no limit.
+     */
+    CONNECTION_POOL_SCATTER_USAGE_PERCENTAGE("connection-pool-scatter-usage-percentage", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
     CHECK_TABLE_META_DATA_ENABLED("check-table-metadata-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
     
+    /**
+     * Max lazy loaded table count held in memory per schema, table meta data is loaded on first reference instead of startup when it is greater than 0.
+     */
+    TABLE_META_DATA_LAZY_LOADING_CACHE_SIZE("table-meta-data-lazy-loading-cache-size", String.valueOf(0), int.class, true),
+    
+    /**
+     * Max estimated bytes of groups held in memory when merging group by result in memory, groups beyond it are spilled to temporary files, 0 means unlimited.
+     */
+    GROUP_BY_MEMORY_MERGE_MAX_MEMORY_SIZE("group-by-memory-merge-max-memory-size", String.valueOf(0L), long.class, false),
+    
     /**
      * SQL federation type.
      */
@@ -114,6 +139,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_NETTY_BACKLOG("proxy-netty-backlog", "1024", int.class, false),
     
+    /**
+     * Proxy insert coalescing window milliseconds. Less than or equal to 0 means autocommit single-row inserts are not coalesced.
+     */
+    PROXY_INSERT_COALESCING_WINDOW_MILLISECONDS("proxy-insert-coalescing-window-milliseconds", "0", int.class, false),
+    
+    /**
+     * Whether replace literals of MySQL text protocol DML with parameters, to reuse SQL statement cache and execute by prepared statement.
+     */
+    PROXY_SQL_LITERAL_PARAMETERIZE_ENABLED("proxy-sql-literal-parameterize-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy instance type.
      */
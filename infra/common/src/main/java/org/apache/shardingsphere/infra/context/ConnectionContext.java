@@ -23,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.apache.shardingsphere.infra.context.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.context.datasource.PreferredDataSourceProvider;
+import org.apache.shardingsphere.infra.context.readwritesplitting.ReadwriteSplittingConnectionContext;
 import org.apache.shardingsphere.infra.context.transaction.TransactionConnectionContext;
 
 import java.util.Collection;
@@ -40,6 +41,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionConnectionContext = new TransactionConnectionContext();
     
+    private final ReadwriteSplittingConnectionContext readwriteSplittingConnectionContext = new ReadwriteSplittingConnectionContext();
+    
     @Getter(AccessLevel.NONE)
     private final PreferredDataSourceProvider preferredDataSourceProvider;
     
@@ -73,6 +76,7 @@ public final class ConnectionContext implements AutoCloseable {
         clearTrafficInstance();
         clearCursorConnectionContext();
         clearTransactionConnectionContext();
+        readwriteSplittingConnectionContext.close();
     }
     
     /**
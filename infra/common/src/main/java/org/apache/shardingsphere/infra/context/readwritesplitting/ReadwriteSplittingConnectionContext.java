@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.readwritesplitting;
+
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Readwrite-splitting connection context.
+ */
+public final class ReadwriteSplittingConnectionContext implements AutoCloseable {
+    
+    @Getter
+    private volatile boolean writePending;
+    
+    private volatile long lastWriteMillis;
+    
+    /**
+     * Mark write statement routed to write data source.
+     */
+    public void markWrite() {
+        writePending = true;
+    }
+    
+    /**
+     * Refresh last write time.
+     * 
+     * <p>The pending write is regarded as committed when next statement is routed out of transaction, so the time of refresh is an upper bound of its commit time.</p>
+     *
+     * @param inTransaction whether in transaction or not
+     */
+    public void refreshLastWrite(final boolean inTransaction) {
+        if (writePending && !inTransaction) {
+            lastWriteMillis = System.currentTimeMillis();
+            writePending = false;
+        }
+    }
+    
+    /**
+     * Find elapsed milliseconds since last write of current connection.
+     *
+     * @return elapsed milliseconds since last committed write, empty if no write committed
+     */
+    public Optional<Long> findElapsedMillisSinceLastWrite() {
+        return 0L == lastWriteMillis ? Optional.empty() : Optional.of(Math.max(0L, System.currentTimeMillis() - lastWriteMillis));
+    }
+    
+    @Override
+    public void close() {
+        writePending = false;
+        lastWriteMillis = 0L;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.usage;
+
+import lombok.RequiredArgsConstructor;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Acquirable connection size calculator.
+ * 
+ * <p>Queries acquiring multiple connections from one data source can only use the scatter usage percentage of the data source pool,
+ * the rest of pool is kept for queries acquiring single connection.</p>
+ */
+@RequiredArgsConstructor
+public final class AcquirableConnectionSizeCalculator {
+    
+    private final int scatterUsagePercentage;
+    
+    /**
+     * Calculate acquirable connection size.
+     *
+     * @param dataSource data source
+     * @param connectionSize expected connection size
+     * @return acquirable connection size, at least one
+     */
+    public int calculate(final DataSource dataSource, final int connectionSize) {
+        if (scatterUsagePercentage <= 0 || connectionSize <= 1) {
+            return connectionSize;
+        }
+        Optional<DataSourcePoolUsage> poolUsage = DataSourcePoolUsageCollectorFactory.getInstance(dataSource.getClass().getName()).collect(dataSource);
+        if (!poolUsage.isPresent() || poolUsage.get().getMaxPoolSize() <= 0) {
+            return connectionSize;
+        }
+        if (poolUsage.get().getThreadsAwaitingConnection() > 0) {
+            return 1;
+        }
+        int usableSize = poolUsage.get().getMaxPoolSize() * scatterUsagePercentage / 100 - poolUsage.get().getActiveConnections();
+        return Math.max(1, Math.min(connectionSize, usableSize));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.usage.type;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsage;
+import org.apache.shardingsphere.infra.datasource.pool.usage.DataSourcePoolUsageCollector;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hikari data source pool usage collector.
+ */
+public final class HikariDataSourcePoolUsageCollector implements DataSourcePoolUsageCollector {
+    
+    private static final Map<Class<?>, HikariMethods> HIKARI_METHODS_CACHE = new ConcurrentHashMap<>();
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<DataSourcePoolUsage> collect(final DataSource dataSource) {
+        HikariMethods hikariMethods = HIKARI_METHODS_CACHE.computeIfAbsent(dataSource.getClass(), HikariDataSourcePoolUsageCollector::loadHikariMethods);
+        Object hikariPoolMXBean = hikariMethods.getHikariPoolMXBean.invoke(dataSource);
+        if (null == hikariPoolMXBean) {
+            return Optional.empty();
+        }
+        int activeConnections = (int) hikariMethods.getActiveConnections.invoke(hikariPoolMXBean);
+        int threadsAwaitingConnection = (int) hikariMethods.getThreadsAwaitingConnection.invoke(hikariPoolMXBean);
+        int maxPoolSize = (int) hikariMethods.getMaximumPoolSize.invoke(dataSource);
+        return Optional.of(new DataSourcePoolUsage(activeConnections, maxPoolSize, threadsAwaitingConnection));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static HikariMethods loadHikariMethods(final Class<?> dataSourceClass) {
+        Method getHikariPoolMXBean = dataSourceClass.getMethod("getHikariPoolMXBean");
+        Class<?> hikariPoolMXBeanClass = getHikariPoolMXBean.getReturnType();
+        return new HikariMethods(getHikariPoolMXBean, hikariPoolMXBeanClass.getMethod("getActiveConnections"),
+                hikariPoolMXBeanClass.getMethod("getThreadsAwaitingConnection"), dataSourceClass.getMethod("getMaximumPoolSize"));
+    }
+    
+    @Override
+    public String getType() {
+        return "com.zaxxer.hikari.HikariDataSource";
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HikariMethods {
+        
+        private final Method getHikariPoolMXBean;
+        
+        private final Method getActiveConnections;
+        
+        private final Method getThreadsAwaitingConnection;
+        
+        private final Method getMaximumPoolSize;
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -44,6 +45,8 @@ public final class DataSourceStateManager {
     
     private final Map<String, DataSourceState> dataSourceStates = new ConcurrentHashMap<>();
     
+    private final Map<String, ReplicationDelay> replicationDelays = new ConcurrentHashMap<>();
+    
     private volatile boolean forceStart;
     
     private volatile boolean initialized;
@@ -151,6 +154,38 @@ public final class DataSourceStateManager {
         dataSourceStates.put(getCacheKey(databaseName, actualDataSourceName), dataSourceState);
     }
     
+    /**
+     * Update replication delay of replica data source.
+     *
+     * @param databaseName database name
+     * @param actualDataSourceName actual data source name
+     * @param replicationDelay replication delay
+     */
+    public void updateReplicationDelay(final String databaseName, final String actualDataSourceName, final ReplicationDelay replicationDelay) {
+        replicationDelays.put(getCacheKey(databaseName, actualDataSourceName), replicationDelay);
+    }
+    
+    /**
+     * Remove replication delay of replica data source whose delay is unknown.
+     *
+     * @param databaseName database name
+     * @param actualDataSourceName actual data source name
+     */
+    public void removeReplicationDelay(final String databaseName, final String actualDataSourceName) {
+        replicationDelays.remove(getCacheKey(databaseName, actualDataSourceName));
+    }
+    
+    /**
+     * Find replication delay of replica data source.
+     *
+     * @param databaseName database name
+     * @param actualDataSourceName actual data source name
+     * @return replication delay, empty if unknown
+     */
+    public Optional<ReplicationDelay> findReplicationDelay(final String databaseName, final String actualDataSourceName) {
+        return Optional.ofNullable(replicationDelays.get(getCacheKey(databaseName, actualDataSourceName)));
+    }
+    
     private String getCacheKey(final String databaseName, final String dataSourceName) {
         return databaseName + "." + dataSourceName;
     }
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.state;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replication delay of replica data source.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ReplicationDelay {
+    
+    private final long delayMilliseconds;
+    
+    private final long resolutionMilliseconds;
+    
+    private final long measuredMillis;
+    
+    /**
+     * Judge whether replica is within max staleness.
+     * 
+     * <p>Staleness is bounded by delay plus resolution at measurement, plus the age of the measurement, so replicas whose heartbeat stops are aged out.</p>
+     *
+     * @param maxStalenessMilliseconds max staleness milliseconds
+     * @param currentMillis current millis
+     * @return within max staleness or not
+     */
+    public boolean isWithinStaleness(final long maxStalenessMilliseconds, final long currentMillis) {
+        return delayMilliseconds + resolutionMilliseconds + Math.max(0L, currentMillis - measuredMillis) <= maxStalenessMilliseconds;
+    }
+}
@@ -44,6 +44,10 @@ public final class HintManager implements AutoCloseable {
     
     private boolean writeRouteOnly;
     
+    private Long readMaxStalenessMilliseconds;
+    
+    private boolean readYourWrites;
+    
     @Setter
     private String dataSourceName;
     
@@ -166,6 +170,40 @@ public final class HintManager implements AutoCloseable {
         return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().writeRouteOnly;
     }
     
+    /**
+     * Set max replication delay milliseconds of replica data source which read query can be routed to.
+     *
+     * @param maxStalenessMilliseconds max staleness milliseconds
+     */
+    public void setReadMaxStalenessMilliseconds(final long maxStalenessMilliseconds) {
+        readMaxStalenessMilliseconds = maxStalenessMilliseconds;
+    }
+    
+    /**
+     * Get max replication delay milliseconds of replica data source which read query can be routed to.
+     *
+     * @return max staleness milliseconds
+     */
+    public static Optional<Long> getReadMaxStalenessMilliseconds() {
+        return Optional.ofNullable(HINT_MANAGER_HOLDER.get()).map(optional -> optional.readMaxStalenessMilliseconds);
+    }
+    
+    /**
+     * Set read query to observe the last write of current connection.
+     */
+    public void setReadYourWrites() {
+        readYourWrites = true;
+    }
+    
+    /**
+     * Judge whether read query should observe the last write of current connection or not.
+     *
+     * @return read query should observe the last write of current connection or not
+     */
+    public static boolean isReadYourWrites() {
+        return null != HINT_MANAGER_HOLDER.get() && HINT_MANAGER_HOLDER.get().readYourWrites;
+    }
+    
     /**
      * Clear thread local for hint manager.
      */
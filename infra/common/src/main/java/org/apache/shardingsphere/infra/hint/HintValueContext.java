@@ -39,6 +39,10 @@ public final class HintValueContext {
     
     private boolean writeRouteOnly;
     
+    private long readMaxStalenessMilliseconds = -1L;
+    
+    private boolean readYourWrites;
+    
     private boolean useTraffic;
     
     private boolean skipEncryptRewrite;
@@ -67,6 +67,25 @@ public final class SQLHintExtractor {
         return hintValueContext.isWriteRouteOnly();
     }
     
+    /**
+     * Find hint max replication delay milliseconds of replica data source which read query can be routed to.
+     *
+     * @return max staleness milliseconds
+     */
+    public Optional<Long> findHintReadMaxStalenessMilliseconds() {
+        long result = hintValueContext.getReadMaxStalenessMilliseconds();
+        return result < 0L ? Optional.empty() : Optional.of(result);
+    }
+    
+    /**
+     * Judge whether hint read query should observe the last write of current connection or not.
+     *
+     * @return whether hint read query should observe the last write of current connection or not
+     */
+    public boolean isHintReadYourWrites() {
+        return hintValueContext.isReadYourWrites();
+    }
+    
     /**
      * Judge whether hint skip encrypt rewrite or not.
      *
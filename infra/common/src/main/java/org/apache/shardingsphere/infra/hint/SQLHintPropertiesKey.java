@@ -38,6 +38,16 @@ public enum SQLHintPropertiesKey implements TypedPropertyKey {
      */
     WRITE_ROUTE_ONLY_KEY("WRITE_ROUTE_ONLY", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Hint max replication delay milliseconds of replica data source which read query can be routed to.
+     */
+    READ_MAX_STALENESS_MILLISECONDS_KEY("READ_MAX_STALENESS_MILLISECONDS", "-1", long.class),
+    
+    /**
+     * Whether hint read query should observe the last write of current connection or not.
+     */
+    READ_YOUR_WRITES_KEY("READ_YOUR_WRITES", String.valueOf(Boolean.FALSE), boolean.class),
+    
     /**
      * Whether to use traffic or not.
      */
@@ -111,6 +111,12 @@ public final class SQLHintUtils {
         if (hintProperties.containsKey(SQLHintPropertiesKey.WRITE_ROUTE_ONLY_KEY.getKey())) {
             result.setWriteRouteOnly(Boolean.parseBoolean(hintProperties.getProperty(SQLHintPropertiesKey.WRITE_ROUTE_ONLY_KEY.getKey())));
         }
+        if (hintProperties.containsKey(SQLHintPropertiesKey.READ_MAX_STALENESS_MILLISECONDS_KEY.getKey())) {
+            result.setReadMaxStalenessMilliseconds(Long.parseLong(String.valueOf(hintProperties.get(SQLHintPropertiesKey.READ_MAX_STALENESS_MILLISECONDS_KEY.getKey()))));
+        }
+        if (hintProperties.containsKey(SQLHintPropertiesKey.READ_YOUR_WRITES_KEY.getKey())) {
+            result.setReadYourWrites(Boolean.parseBoolean(hintProperties.getProperty(SQLHintPropertiesKey.READ_YOUR_WRITES_KEY.getKey())));
+        }
         if (hintProperties.containsKey(SQLHintPropertiesKey.USE_TRAFFIC_KEY.getKey())) {
             result.setUseTraffic(Boolean.parseBoolean(hintProperties.getProperty(SQLHintPropertiesKey.USE_TRAFFIC_KEY.getKey())));
         }
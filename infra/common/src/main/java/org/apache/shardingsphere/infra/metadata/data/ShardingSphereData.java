@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.infra.metadata.data;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere data.
@@ -29,4 +31,23 @@ import java.util.Map;
 public final class ShardingSphereData {
     
     private final Map<String, ShardingSphereDatabaseData> databaseData = new LinkedHashMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
+    /**
+     * Get version, which changes whenever data is altered.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+    
+    /**
+     * Mark data altered.
+     */
+    public void markAltered() {
+        version.incrementAndGet();
+    }
 }
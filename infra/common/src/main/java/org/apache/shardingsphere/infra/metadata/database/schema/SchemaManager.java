@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.metadata.database.schema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -45,7 +46,7 @@ public final class SchemaManager {
     }
     
     private static ShardingSphereSchema getToBeAddedTablesBySchema(final ShardingSphereSchema reloadSchema, final ShardingSphereSchema currentSchema) {
-        return new ShardingSphereSchema(getToBeAddedTables(reloadSchema.getTables(), currentSchema.getTables()), new LinkedHashMap<>());
+        return new ShardingSphereSchema(getToBeAddedTables(reloadSchema.getLoadedTables(), currentSchema.getLoadedTables()), new LinkedHashMap<>());
     }
     
     /**
@@ -74,7 +75,10 @@ public final class SchemaManager {
     }
     
     private static ShardingSphereSchema getToBeDeletedTablesBySchema(final ShardingSphereSchema reloadSchema, final ShardingSphereSchema currentSchema) {
-        return new ShardingSphereSchema(getToBeDeletedTables(reloadSchema.getTables(), currentSchema.getTables()), new LinkedHashMap<>());
+        Map<String, ShardingSphereTable> result = new LinkedHashMap<>();
+        currentSchema.getAllTableNames().stream().filter(each -> !reloadSchema.containsTable(each)).forEach(each -> result.put(each,
+                currentSchema.getLoadedTables().getOrDefault(each, new ShardingSphereTable(each, Collections.emptyList(), Collections.emptyList(), Collections.emptyList()))));
+        return new ShardingSphereSchema(result, new LinkedHashMap<>());
     }
     
     /**
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.builder;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.LazyTableMetaDataLoader;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Generic lazy table meta data loader.
+ *
+ * <p>Table is loaded through {@link GenericSchemaBuilder#build(Collection, GenericSchemaBuilderMaterial)}, so dialect loaders and rule decorators still apply.</p>
+ */
+@RequiredArgsConstructor
+public final class GenericLazyTableMetaDataLoader implements LazyTableMetaDataLoader {
+    
+    @Getter
+    private final Collection<String> tableNames;
+    
+    private final GenericSchemaBuilderMaterial material;
+    
+    @Getter
+    private final int cacheSize;
+    
+    @Override
+    public Optional<ShardingSphereTable> load(final String tableName) throws SQLException {
+        Map<String, ShardingSphereSchema> schemas = GenericSchemaBuilder.build(Collections.singletonList(tableName), material);
+        return schemas.values().stream().map(each -> each.getTable(tableName)).filter(Objects::nonNull).findFirst();
+    }
+}
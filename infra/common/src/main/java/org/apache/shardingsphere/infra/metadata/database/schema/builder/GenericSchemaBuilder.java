@@ -62,7 +62,9 @@ public final class GenericSchemaBuilder {
      * @throws SQLException SQL exception
      */
     public static Map<String, ShardingSphereSchema> build(final GenericSchemaBuilderMaterial material) throws SQLException {
-        return build(getAllTableNames(material.getRules()), material);
+        Collection<String> tableNames = getAllTableNames(material.getRules());
+        int lazyLoadingCacheSize = material.getProps().getValue(ConfigurationPropertyKey.TABLE_META_DATA_LAZY_LOADING_CACHE_SIZE);
+        return lazyLoadingCacheSize > 0 && !material.getProtocolType().isSchemaAvailable() ? buildLazily(tableNames, material, lazyLoadingCacheSize) : build(tableNames, material);
     }
     
     /**
@@ -81,6 +83,13 @@ public final class GenericSchemaBuilder {
         return decorate(result, material);
     }
     
+    private static Map<String, ShardingSphereSchema> buildLazily(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material, final int lazyLoadingCacheSize) {
+        Map<String, ShardingSphereSchema> result = new ConcurrentHashMap<>(1, 1);
+        result.put(material.getDefaultSchemaName().toLowerCase(),
+                new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), new GenericLazyTableMetaDataLoader(tableNames, material, lazyLoadingCacheSize)));
+        return result;
+    }
+    
     private static boolean isProtocolTypeSameWithStorageType(final GenericSchemaBuilderMaterial material) {
         for (DatabaseType each : material.getStorageTypes().values()) {
             if (!material.getProtocolType().equals(each)) {
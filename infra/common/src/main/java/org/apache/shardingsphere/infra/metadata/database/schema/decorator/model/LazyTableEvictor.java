@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lazy table evictor.
+ *
+ * <p>Tables are evicted with second chance (clock) policy, so tables referenced since last sweep stay loaded.</p>
+ */
+@RequiredArgsConstructor
+final class LazyTableEvictor {
+    
+    private final int cacheSize;
+    
+    private final Map<String, AtomicBoolean> loadedTables = new ConcurrentHashMap<>();
+    
+    private final Queue<String> evictionQueue = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Mark table as referenced, which keeps it from next eviction.
+     *
+     * @param tableName lower case table name
+     */
+    void reference(final String tableName) {
+        AtomicBoolean referenced = loadedTables.get(tableName);
+        if (null != referenced) {
+            referenced.lazySet(true);
+        }
+    }
+    
+    /**
+     * Record loaded table and evict tables beyond cache size.
+     *
+     * @param tableName lower case table name
+     * @return lower case names of evicted tables
+     */
+    Collection<String> recordLoaded(final String tableName) {
+        if (null != loadedTables.putIfAbsent(tableName, new AtomicBoolean())) {
+            return Collections.emptyList();
+        }
+        evictionQueue.add(tableName);
+        Collection<String> result = new LinkedList<>();
+        while (loadedTables.size() > cacheSize) {
+            String candidate = evictionQueue.poll();
+            if (null == candidate) {
+                break;
+            }
+            AtomicBoolean referenced = loadedTables.get(candidate);
+            if (null == referenced) {
+                continue;
+            }
+            if (referenced.compareAndSet(true, false)) {
+                evictionQueue.add(candidate);
+                continue;
+            }
+            loadedTables.remove(candidate);
+            result.add(candidate);
+        }
+        return result;
+    }
+    
+    /**
+     * Remove table.
+     *
+     * @param tableName lower case table name
+     */
+    void remove(final String tableName) {
+        loadedTables.remove(tableName);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Lazy table meta data loader, which loads table meta data of lazy loading schema on first reference.
+ */
+public interface LazyTableMetaDataLoader {
+    
+    /**
+     * Get names of all tables which can be loaded.
+     *
+     * @return table names
+     */
+    Collection<String> getTableNames();
+    
+    /**
+     * Get max amount of loaded tables kept by schema.
+     *
+     * @return cache size
+     */
+    int getCacheSize();
+    
+    /**
+     * Load table meta data.
+     *
+     * @param tableName table name
+     * @return loaded table meta data, empty if table does not exist
+     * @throws SQLException SQL exception
+     */
+    Optional<ShardingSphereTable> load(String tableName) throws SQLException;
+}
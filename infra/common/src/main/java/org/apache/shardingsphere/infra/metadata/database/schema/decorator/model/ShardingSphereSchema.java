@@ -17,14 +17,24 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.decorator.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.metadata.database.schema.exception.TableMetaDataLoadingException;
 
+import java.sql.SQLException;
+import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere schema.
@@ -32,21 +42,90 @@ import java.util.concurrent.ConcurrentHashMap;
 @Getter
 public final class ShardingSphereSchema {
     
+    @Getter(AccessLevel.NONE)
     private final Map<String, ShardingSphereTable> tables;
     
     private final Map<String, ShardingSphereView> views;
     
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong version = new AtomicLong();
+    
+    @Getter(AccessLevel.NONE)
+    private final LazyTableMetaDataLoader lazyTableMetaDataLoader;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, String> lazyTableNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final LazyTableEvictor lazyTableEvictor;
+    
     @SuppressWarnings("CollectionWithoutInitialCapacity")
     public ShardingSphereSchema() {
         tables = new ConcurrentHashMap<>();
         views = new ConcurrentHashMap<>();
+        lazyTableMetaDataLoader = null;
+        lazyTableNames = Collections.emptyMap();
+        lazyTableEvictor = null;
     }
     
     public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views) {
+        this(tables, views, null);
+    }
+    
+    public ShardingSphereSchema(final Map<String, ShardingSphereTable> tables, final Map<String, ShardingSphereView> views, final LazyTableMetaDataLoader lazyTableMetaDataLoader) {
         this.tables = new ConcurrentHashMap<>(tables.size(), 1);
         this.views = new ConcurrentHashMap<>(views.size(), 1);
         tables.forEach((key, value) -> this.tables.put(key.toLowerCase(), value));
         views.forEach((key, value) -> this.views.put(key.toLowerCase(), value));
+        this.lazyTableMetaDataLoader = lazyTableMetaDataLoader;
+        if (null == lazyTableMetaDataLoader) {
+            lazyTableNames = Collections.emptyMap();
+            lazyTableEvictor = null;
+        } else {
+            lazyTableNames = new ConcurrentHashMap<>(lazyTableMetaDataLoader.getTableNames().size(), 1);
+            lazyTableMetaDataLoader.getTableNames().forEach(each -> lazyTableNames.put(each.toLowerCase(), each));
+            lazyTableEvictor = new LazyTableEvictor(lazyTableMetaDataLoader.getCacheSize());
+        }
+    }
+    
+    /**
+     * Judge whether table meta data is lazy loaded.
+     *
+     * @return table meta data is lazy loaded or not
+     */
+    public boolean isLazyLoading() {
+        return null != lazyTableMetaDataLoader;
+    }
+    
+    /**
+     * Get tables.
+     *
+     * <p>Tables of lazy loading schema are loaded when they are got or iterated, use {@link #getAllTableNames()} or {@link #getLoadedTables()} to avoid loading them.</p>
+     *
+     * @return tables
+     */
+    public Map<String, ShardingSphereTable> getTables() {
+        return null == lazyTableMetaDataLoader ? tables : new LazyTables();
+    }
+    
+    /**
+     * Get loaded tables.
+     *
+     * <p>Tables of lazy loading schema which are not loaded yet or evicted are absent, otherwise all tables are loaded.</p>
+     *
+     * @return loaded tables
+     */
+    public Map<String, ShardingSphereTable> getLoadedTables() {
+        return tables;
+    }
+    
+    /**
+     * Get version, which increases whenever tables or views are changed.
+     *
+     * @return version
+     */
+    public long getVersion() {
+        return version.get();
     }
     
     /**
@@ -55,7 +134,28 @@ public final class ShardingSphereSchema {
      * @return all table names
      */
     public Collection<String> getAllTableNames() {
-        return tables.keySet();
+        if (null == lazyTableMetaDataLoader) {
+            return tables.keySet();
+        }
+        Collection<String> result = new HashSet<>(tables.keySet());
+        result.addAll(lazyTableNames.keySet());
+        return result;
+    }
+    
+    /**
+     * Get all table names with original letter case.
+     *
+     * @return all table names with original letter case
+     */
+    public Collection<String> getAllOriginalTableNames() {
+        Collection<String> result = new LinkedList<>();
+        tables.values().forEach(each -> result.add(each.getName()));
+        lazyTableNames.forEach((key, value) -> {
+            if (!tables.containsKey(key)) {
+                result.add(value);
+            }
+        });
+        return result;
     }
     
     /**
@@ -74,7 +174,39 @@ public final class ShardingSphereSchema {
      * @return table meta data
      */
     public ShardingSphereTable getTable(final String tableName) {
-        return tables.get(tableName.toLowerCase());
+        String lowerTableName = tableName.toLowerCase();
+        ShardingSphereTable result = tables.get(lowerTableName);
+        if (null == lazyTableMetaDataLoader) {
+            return result;
+        }
+        if (null != result) {
+            lazyTableEvictor.reference(lowerTableName);
+            return result;
+        }
+        String lazyTableName = lazyTableNames.get(lowerTableName);
+        return null == lazyTableName ? null : loadLazyTable(lowerTableName, lazyTableName).orElse(null);
+    }
+    
+    private Optional<ShardingSphereTable> loadLazyTable(final String lowerTableName, final String lazyTableName) {
+        Optional<ShardingSphereTable> loadedTable;
+        try {
+            loadedTable = lazyTableMetaDataLoader.load(lazyTableName);
+        } catch (final SQLException ex) {
+            throw new TableMetaDataLoadingException(lazyTableName, ex);
+        }
+        if (!loadedTable.isPresent()) {
+            return Optional.empty();
+        }
+        ShardingSphereTable previous = tables.putIfAbsent(lowerTableName, loadedTable.get());
+        if (null != previous) {
+            return Optional.of(previous);
+        }
+        if (!lazyTableNames.containsKey(lowerTableName)) {
+            tables.remove(lowerTableName, loadedTable.get());
+            return Optional.empty();
+        }
+        lazyTableEvictor.recordLoaded(lowerTableName).forEach(tables::remove);
+        return loadedTable;
     }
     
     /**
@@ -95,6 +227,7 @@ public final class ShardingSphereSchema {
      */
     public void putTable(final String tableName, final ShardingSphereTable table) {
         tables.put(tableName.toLowerCase(), table);
+        version.incrementAndGet();
     }
     
     /**
@@ -105,6 +238,7 @@ public final class ShardingSphereSchema {
      */
     public void putView(final String viewName, final ShardingSphereView view) {
         views.put(viewName.toLowerCase(), view);
+        version.incrementAndGet();
     }
     
     /**
@@ -125,6 +259,11 @@ public final class ShardingSphereSchema {
      */
     public void removeTable(final String tableName) {
         tables.remove(tableName.toLowerCase());
+        if (null != lazyTableMetaDataLoader) {
+            lazyTableNames.remove(tableName.toLowerCase());
+            lazyTableEvictor.remove(tableName.toLowerCase());
+        }
+        version.incrementAndGet();
     }
     
     /**
@@ -134,6 +273,7 @@ public final class ShardingSphereSchema {
      */
     public void removeView(final String viewName) {
         views.remove(viewName.toLowerCase());
+        version.incrementAndGet();
     }
     
     /**
@@ -143,7 +283,7 @@ public final class ShardingSphereSchema {
      * @return contains table from table metadata or not
      */
     public boolean containsTable(final String tableName) {
-        return tables.containsKey(tableName.toLowerCase());
+        return tables.containsKey(tableName.toLowerCase()) || lazyTableNames.containsKey(tableName.toLowerCase());
     }
     
     /**
@@ -154,7 +294,8 @@ public final class ShardingSphereSchema {
      * @return contains column name or not
      */
     public boolean containsColumn(final String tableName, final String columnName) {
-        return containsTable(tableName) && getTable(tableName).getColumns().containsKey(columnName.toLowerCase());
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.getColumns().containsKey(columnName.toLowerCase());
     }
     
     /**
@@ -165,7 +306,8 @@ public final class ShardingSphereSchema {
      * @return whether contains index name or not
      */
     public boolean containsIndex(final String tableName, final String indexName) {
-        return containsTable(tableName) && getTable(tableName).getIndexes().containsKey(indexName.toLowerCase());
+        ShardingSphereTable table = getTable(tableName);
+        return null != table && table.getIndexes().containsKey(indexName.toLowerCase());
     }
     
     /**
@@ -185,7 +327,8 @@ public final class ShardingSphereSchema {
      * @return column names
      */
     public List<String> getAllColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getColumnNames() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getColumnNames();
     }
     
     /**
@@ -195,6 +338,47 @@ public final class ShardingSphereSchema {
      * @return visible column names
      */
     public List<String> getVisibleColumnNames(final String tableName) {
-        return containsTable(tableName) ? getTable(tableName).getVisibleColumns() : Collections.emptyList();
+        ShardingSphereTable table = getTable(tableName);
+        return null == table ? Collections.emptyList() : table.getVisibleColumns();
+    }
+    
+    private final class LazyTables extends AbstractMap<String, ShardingSphereTable> {
+        
+        @Override
+        public int size() {
+            return getAllTableNames().size();
+        }
+        
+        @Override
+        public boolean isEmpty() {
+            return tables.isEmpty() && lazyTableNames.isEmpty();
+        }
+        
+        @Override
+        public boolean containsKey(final Object key) {
+            return key instanceof String && containsTable((String) key);
+        }
+        
+        @Override
+        public ShardingSphereTable get(final Object key) {
+            return key instanceof String ? getTable((String) key) : null;
+        }
+        
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(new HashSet<>(getAllTableNames()));
+        }
+        
+        @Override
+        public Set<Entry<String, ShardingSphereTable>> entrySet() {
+            Map<String, ShardingSphereTable> result = new LinkedHashMap<>();
+            for (String each : getAllTableNames()) {
+                ShardingSphereTable table = getTable(each);
+                if (null != table) {
+                    result.put(each, table);
+                }
+            }
+            return Collections.unmodifiableMap(result).entrySet();
+        }
     }
 }
@@ -60,6 +60,17 @@ public interface DataNodeContainedRule extends ShardingSphereRule {
      */
     boolean isNeedAccumulate(Collection<String> tables);
     
+    /**
+     * Judge whether rows of table with same values of given columns are always stored in the same data node.
+     *
+     * @param tableName table name
+     * @param columnNames column names
+     * @return rows are distributed by given columns or not
+     */
+    default boolean isDistributedByColumns(final String tableName, final Collection<String> columnNames) {
+        return getDataNodesByTableName(tableName).size() <= 1;
+    }
+    
     /**
      * Find logic table name via actual table name.
      *
@@ -34,6 +34,7 @@ public final class ConfigurationPropertiesTest {
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertTrue(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(20));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(KernelExecutorType.VIRTUAL));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(20));
         assertTrue(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("ORIGINAL"));
@@ -54,6 +55,7 @@ public final class ConfigurationPropertiesTest {
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_SIMPLE.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE.getKey(), "20");
+        result.setProperty(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE.getKey(), KernelExecutorType.VIRTUAL.name());
         result.setProperty(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY.getKey(), "20");
         result.setProperty(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED.getKey(), Boolean.TRUE.toString());
         result.setProperty(ConfigurationPropertyKey.SQL_FEDERATION_TYPE.getKey(), "ORIGINAL");
@@ -76,6 +78,7 @@ public final class ConfigurationPropertiesTest {
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SHOW));
         assertFalse(actual.getValue(ConfigurationPropertyKey.SQL_SIMPLE));
         assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), is(0));
+        assertThat(actual.getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE), is(KernelExecutorType.PLATFORM));
         assertThat(actual.getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY), is(1));
         assertFalse(actual.getValue(ConfigurationPropertyKey.CHECK_TABLE_META_DATA_ENABLED));
         assertThat(actual.getValue(ConfigurationPropertyKey.SQL_FEDERATION_TYPE), is("NONE"));
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.usage;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public final class AcquirableConnectionSizeCalculatorTest {
+    
+    @Test
+    public void assertCalculateWithoutLimit() {
+        assertThat(new AcquirableConnectionSizeCalculator(0).calculate(mock(DataSource.class), 8), is(8));
+    }
+    
+    @Test
+    public void assertCalculateWithUnsupportedDataSource() {
+        assertThat(new AcquirableConnectionSizeCalculator(50).calculate(mock(DataSource.class), 8), is(8));
+    }
+    
+    @Test
+    public void assertCalculateWithIdlePool() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource()) {
+            try (Connection ignored = dataSource.getConnection()) {
+                assertThat(new AcquirableConnectionSizeCalculator(50).calculate(dataSource, 8), is(3));
+                assertThat(new AcquirableConnectionSizeCalculator(50).calculate(dataSource, 2), is(2));
+            }
+        }
+    }
+    
+    @Test
+    public void assertCalculateWithSaturatedPool() throws SQLException {
+        try (HikariDataSource dataSource = createHikariDataSource()) {
+            try (
+                    Connection ignored0 = dataSource.getConnection();
+                    Connection ignored1 = dataSource.getConnection();
+                    Connection ignored2 = dataSource.getConnection();
+                    Connection ignored3 = dataSource.getConnection()) {
+                assertThat(new AcquirableConnectionSizeCalculator(50).calculate(dataSource, 8), is(1));
+            }
+        }
+    }
+    
+    private HikariDataSource createHikariDataSource() {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName("org.h2.Driver");
+        config.setJdbcUrl("jdbc:h2:mem:foo_calculator_ds;DB_CLOSE_DELAY=-1");
+        config.setUsername("root");
+        config.setPassword("root");
+        config.setMaximumPoolSize(8);
+        return new HikariDataSource(config);
+    }
+}
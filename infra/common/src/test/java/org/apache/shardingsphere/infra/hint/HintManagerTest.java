@@ -21,6 +21,7 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -177,6 +178,24 @@ public final class HintManagerTest {
         }
     }
     
+    @Test
+    public void assertSetReadMaxStalenessMilliseconds() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadMaxStalenessMilliseconds(100L);
+            assertThat(HintManager.getReadMaxStalenessMilliseconds(), is(Optional.of(100L)));
+        }
+        assertFalse(HintManager.getReadMaxStalenessMilliseconds().isPresent());
+    }
+    
+    @Test
+    public void assertSetReadYourWrites() {
+        try (HintManager hintManager = HintManager.getInstance()) {
+            hintManager.setReadYourWrites();
+            assertTrue(HintManager.isReadYourWrites());
+        }
+        assertFalse(HintManager.isReadYourWrites());
+    }
+    
     @Test
     public void assertClearShardingValues() {
         try (HintManager hintManager = HintManager.getInstance()) {
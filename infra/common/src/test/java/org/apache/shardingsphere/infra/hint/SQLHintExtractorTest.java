@@ -43,6 +43,25 @@ public final class SQLHintExtractorTest {
         assertTrue(new SQLHintExtractor(statement).isHintWriteRouteOnly());
     }
     
+    @Test
+    public void assertSQLHintReadMaxStalenessMilliseconds() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        when(statement.getCommentSegments()).thenReturn(Collections.singletonList(new CommentSegment("/* SHARDINGSPHERE_HINT: READ_MAX_STALENESS_MILLISECONDS=500 */", 0, 0)));
+        assertThat(new SQLHintExtractor(statement).findHintReadMaxStalenessMilliseconds(), is(Optional.of(500L)));
+    }
+    
+    @Test
+    public void assertSQLHintReadMaxStalenessMillisecondsAbsent() {
+        assertFalse(new SQLHintExtractor("/* SHARDINGSPHERE_HINT: WRITE_ROUTE_ONLY=true */").findHintReadMaxStalenessMilliseconds().isPresent());
+    }
+    
+    @Test
+    public void assertSQLHintReadYourWrites() {
+        AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
+        when(statement.getCommentSegments()).thenReturn(Collections.singletonList(new CommentSegment("/* SHARDINGSPHERE_HINT: READ_YOUR_WRITES=true */", 0, 0)));
+        assertTrue(new SQLHintExtractor(statement).isHintReadYourWrites());
+    }
+    
     @Test
     public void assertSQLHintSkipEncryptRewrite() {
         AbstractSQLStatement statement = mock(AbstractSQLStatement.class);
@@ -17,21 +17,29 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema;
 
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.LazyTableMetaDataLoader;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereIndex;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereView;
+import org.apache.shardingsphere.infra.metadata.database.schema.exception.TableMetaDataLoadingException;
 import org.junit.Test;
 
+import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public final class ShardingSphereSchemaTest {
     
@@ -119,4 +127,51 @@ public final class ShardingSphereSchemaTest {
                 new ShardingSphereColumn("col", 0, false, false, false, false, true)), Collections.emptyList(), Collections.emptyList());
         assertThat(new ShardingSphereSchema(Collections.singletonMap("tbl", table), Collections.emptyMap()).getVisibleColumnNames("tbl"), is(Collections.emptyList()));
     }
+    
+    @Test
+    public void assertGetTablesOfLazyLoadingSchema() throws SQLException {
+        LazyTableMetaDataLoader loader = mockLazyTableMetaDataLoader(1);
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), loader);
+        assertTrue(actual.getLoadedTables().isEmpty());
+        assertThat(actual.getTables().size(), is(2));
+        assertThat(new HashSet<>(actual.getAllOriginalTableNames()), is(new HashSet<>(Arrays.asList("T_ORDER", "T_ORDER_ITEM"))));
+        assertThat(actual.getTables().get("t_order").getName(), is("T_ORDER"));
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("t_order")));
+        assertThat(actual.getTables().values().size(), is(2));
+        verify(loader).load("T_ORDER_ITEM");
+    }
+    
+    @Test
+    public void assertEvictLazyLoadedTable() throws SQLException {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), mockLazyTableMetaDataLoader(1));
+        actual.getTable("t_order");
+        actual.getTable("t_order_item");
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("t_order_item")));
+        assertTrue(actual.containsTable("t_order"));
+    }
+    
+    @Test(expected = TableMetaDataLoadingException.class)
+    public void assertGetTableWhenLoadFailed() throws SQLException {
+        LazyTableMetaDataLoader loader = mockLazyTableMetaDataLoader(1);
+        when(loader.load("T_ORDER")).thenThrow(SQLException.class);
+        new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), loader).getTable("t_order");
+    }
+    
+    @Test
+    public void assertRemoveLazyLoadingTable() throws SQLException {
+        ShardingSphereSchema actual = new ShardingSphereSchema(Collections.emptyMap(), Collections.emptyMap(), mockLazyTableMetaDataLoader(1));
+        actual.removeTable("t_order");
+        assertFalse(actual.containsTable("t_order"));
+        assertNull(actual.getTable("t_order"));
+        assertThat(actual.getAllTableNames(), is(Collections.singleton("t_order_item")));
+    }
+    
+    private LazyTableMetaDataLoader mockLazyTableMetaDataLoader(final int cacheSize) throws SQLException {
+        LazyTableMetaDataLoader result = mock(LazyTableMetaDataLoader.class);
+        when(result.getTableNames()).thenReturn(Arrays.asList("T_ORDER", "T_ORDER_ITEM"));
+        when(result.getCacheSize()).thenReturn(cacheSize);
+        when(result.load("T_ORDER")).thenReturn(Optional.of(new ShardingSphereTable("T_ORDER", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        when(result.load("T_ORDER_ITEM")).thenReturn(Optional.of(new ShardingSphereTable("T_ORDER_ITEM", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())));
+        return result;
+    }
 }
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.metadata.database.schema.builder;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
@@ -26,6 +27,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.fixture.rule.Tab
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.SchemaMetaDataLoaderEngine;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -36,6 +38,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Collectors;
@@ -47,6 +50,7 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
 
 public final class GenericSchemaBuilderTest {
     
@@ -90,6 +94,27 @@ public final class GenericSchemaBuilderTest {
         assertTables(new ShardingSphereSchema(actual.values().iterator().next().getTables(), Collections.emptyMap()).getTables());
     }
     
+    @Test
+    public void assertBuildLazily() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.TABLE_META_DATA_LAZY_LOADING_CACHE_SIZE.getKey(), "1");
+        TableContainedRule rule = mock(TableContainedRule.class);
+        when(rule.getTables()).thenReturn(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"));
+        GenericSchemaBuilderMaterial lazyMaterial = new GenericSchemaBuilderMaterial(material.getProtocolType(), material.getStorageTypes(), material.getDataSourceMap(),
+                Collections.singleton(rule), new ConfigurationProperties(props), DefaultDatabase.LOGIC_NAME);
+        engine.when(() -> SchemaMetaDataLoaderEngine.load(any())).thenReturn(createSchemaMetaDataMap(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"), lazyMaterial));
+        ShardingSphereSchema actual = GenericSchemaBuilder.build(lazyMaterial).get(DefaultDatabase.LOGIC_NAME);
+        assertTrue(actual.isLazyLoading());
+        assertTrue(actual.getLoadedTables().isEmpty());
+        assertThat(actual.getTables().size(), is(2));
+        assertTrue(actual.containsTable("data_node_routed_table1"));
+        assertThat(actual.getTable("data_node_routed_table1").getName(), is("data_node_routed_table1"));
+        assertThat(actual.getTable("data_node_routed_table2").getName(), is("data_node_routed_table2"));
+        assertThat(actual.getLoadedTables().keySet(), is(Collections.singleton("data_node_routed_table2")));
+        assertTrue(actual.containsTable("data_node_routed_table1"));
+        assertThat(actual.getTables().keySet(), is(new HashSet<>(Arrays.asList("data_node_routed_table1", "data_node_routed_table2"))));
+    }
+    
     private Map<String, SchemaMetaData> createSchemaMetaDataMap(final Collection<String> tableNames, final GenericSchemaBuilderMaterial material) {
         if (!tableNames.isEmpty() && (tableNames.contains("data_node_routed_table1") || tableNames.contains("data_node_routed_table2"))) {
             Collection<TableMetaData> tableMetaDataList = tableNames.stream()
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+
+/**
+ * Kernel execution plan cache.
+ * 
+ * <p>Plans are cached by the database instance they are built for, so databases with the same name from different meta data contexts never share a plan.
+ * Plan refers to its database, so plans are held softly to let the weakly held database and its plan be released together.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KernelExecutionPlanCache {
+    
+    private static final Cache<ShardingSphereDatabase, KernelExecutionPlan> PLANS = Caffeine.newBuilder().weakKeys().softValues().build();
+    
+    /**
+     * Get execution plan.
+     * 
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return execution plan
+     */
+    public static KernelExecutionPlan getExecutionPlan(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        KernelExecutionPlan cachedPlan = PLANS.getIfPresent(database);
+        if (null != cachedPlan && cachedPlan.isValid(database, globalRuleMetaData, props)) {
+            return cachedPlan;
+        }
+        KernelExecutionPlan result = new KernelExecutionPlan(database, globalRuleMetaData, props);
+        PLANS.put(database, result);
+        return result;
+    }
+}
@@ -26,10 +26,10 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuil
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
-import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+
+import java.util.Optional;
 
 /**
  * Kernel processor.
@@ -48,21 +48,39 @@ public final class KernelProcessor {
      */
     public ExecutionContext generateExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
                                                      final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        RouteContext routeContext = route(queryContext, database, props, connectionContext);
-        SQLRewriteResult rewriteResult = rewrite(queryContext, database, globalRuleMetaData, props, routeContext, connectionContext);
-        ExecutionContext result = createExecutionContext(queryContext, database, routeContext, rewriteResult);
+        KernelExecutionPlan executionPlan = KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props);
+        ExecutionContext result = executionPlan.getRouteEngine().isRouteCacheable(queryContext)
+                ? generateCacheableExecutionContext(executionPlan, queryContext, database, connectionContext)
+                : generateExecutionContext(executionPlan, queryContext, database, connectionContext);
         logSQL(queryContext, props, result);
         return result;
     }
     
-    private RouteContext route(final QueryContext queryContext, final ShardingSphereDatabase database, final ConfigurationProperties props, final ConnectionContext connectionContext) {
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(connectionContext, queryContext, database);
+    private ExecutionContext generateExecutionContext(final KernelExecutionPlan executionPlan, final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                      final ConnectionContext connectionContext) {
+        RouteContext routeContext = route(executionPlan, queryContext, database, connectionContext);
+        SQLRewriteResult rewriteResult = rewrite(executionPlan, queryContext, routeContext, connectionContext);
+        return createExecutionContext(queryContext, database, routeContext, rewriteResult);
+    }
+    
+    private ExecutionContext generateCacheableExecutionContext(final KernelExecutionPlan executionPlan, final QueryContext queryContext, final ShardingSphereDatabase database,
+                                                               final ConnectionContext connectionContext) {
+        Optional<KernelRouteCacheValue> cachedValue = executionPlan.getRouteCache().get(queryContext.getSql(), database);
+        RouteContext routeContext = cachedValue.isPresent() ? cachedValue.get().getRouteContext() : route(executionPlan, queryContext, database, connectionContext);
+        Optional<SQLRewriteResult> cachedRewriteResult = cachedValue.flatMap(KernelRouteCacheValue::getRewriteResult).filter(each -> queryContext.getParameters().isEmpty());
+        SQLRewriteResult rewriteResult = cachedRewriteResult.isPresent() ? cachedRewriteResult.get() : rewrite(executionPlan, queryContext, routeContext, connectionContext);
+        if (!cachedValue.isPresent()) {
+            executionPlan.getRouteCache().put(queryContext.getSql(), new KernelRouteCacheValue(database, routeContext, queryContext.getParameters().isEmpty() ? rewriteResult : null));
+        }
+        return createExecutionContext(queryContext, database, routeContext, rewriteResult);
+    }
+    
+    private RouteContext route(final KernelExecutionPlan executionPlan, final QueryContext queryContext, final ShardingSphereDatabase database, final ConnectionContext connectionContext) {
+        return executionPlan.getRouteEngine().route(connectionContext, queryContext, database);
     }
     
-    private SQLRewriteResult rewrite(final QueryContext queryContext, final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData,
-                                     final ConfigurationProperties props, final RouteContext routeContext, final ConnectionContext connectionContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
+    private SQLRewriteResult rewrite(final KernelExecutionPlan executionPlan, final QueryContext queryContext, final RouteContext routeContext, final ConnectionContext connectionContext) {
+        return executionPlan.getRewriteEntry().rewrite(queryContext.getSql(), queryContext.getParameters(), queryContext.getSqlStatementContext(), routeContext, connectionContext);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Optional;
+
+/**
+ * Cache for kernel route and rewrite result, which is keyed by SQL.
+ */
+public final class KernelRouteCache {
+    
+    private final Cache<String, KernelRouteCacheValue> cache;
+    
+    public KernelRouteCache(final int initialCapacity, final long maximumSize) {
+        cache = Caffeine.newBuilder().initialCapacity(initialCapacity).maximumSize(maximumSize).softValues().build();
+    }
+    
+    /**
+     * Cache route and rewrite result.
+     *
+     * @param sql SQL
+     * @param value cache value
+     */
+    public void put(final String sql, final KernelRouteCacheValue value) {
+        cache.put(sql, value);
+    }
+    
+    /**
+     * Get cached route and rewrite result which is built on current version of schemas.
+     *
+     * @param sql SQL
+     * @param database database
+     * @return optional cached route and rewrite result
+     */
+    public Optional<KernelRouteCacheValue> get(final String sql, final ShardingSphereDatabase database) {
+        KernelRouteCacheValue result = cache.getIfPresent(sql);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (!result.isUpToDate(database)) {
+            cache.invalidate(sql);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+}
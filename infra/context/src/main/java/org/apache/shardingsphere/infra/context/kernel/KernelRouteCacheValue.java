@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Value of kernel route cache.
+ *
+ * <p>Rewrite result is only cached for SQL without parameters, because SQL units carry the parameters they are rewritten with.</p>
+ */
+public final class KernelRouteCacheValue {
+    
+    private final Map<ShardingSphereSchema, Long> schemaVersions;
+    
+    private final RouteContext routeContext;
+    
+    private final SQLRewriteResult rewriteResult;
+    
+    public KernelRouteCacheValue(final ShardingSphereDatabase database, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
+        schemaVersions = getSchemaVersions(database);
+        this.routeContext = deepCopyRouteContext(routeContext);
+        this.rewriteResult = rewriteResult;
+    }
+    
+    private Map<ShardingSphereSchema, Long> getSchemaVersions(final ShardingSphereDatabase database) {
+        Map<ShardingSphereSchema, Long> result = new IdentityHashMap<>(database.getSchemas().size());
+        for (ShardingSphereSchema each : database.getSchemas().values()) {
+            result.put(each, each.getVersion());
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether cached value is built on current version of schemas.
+     *
+     * @param database database
+     * @return cached value is up to date or not
+     */
+    public boolean isUpToDate(final ShardingSphereDatabase database) {
+        if (schemaVersions.size() != database.getSchemas().size()) {
+            return false;
+        }
+        for (ShardingSphereSchema each : database.getSchemas().values()) {
+            Long version = schemaVersions.get(each);
+            if (null == version || version != each.getVersion()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Get copy of cached route context.
+     *
+     * @return route context
+     */
+    public RouteContext getRouteContext() {
+        return deepCopyRouteContext(routeContext);
+    }
+    
+    /**
+     * Get cached rewrite result.
+     *
+     * @return optional cached rewrite result
+     */
+    public Optional<SQLRewriteResult> getRewriteResult() {
+        return Optional.ofNullable(rewriteResult);
+    }
+    
+    private RouteContext deepCopyRouteContext(final RouteContext routeContext) {
+        RouteContext result = new RouteContext();
+        result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes(routeContext));
+        result.getRouteUnits().addAll(deepCopyRouteUnits(routeContext));
+        result.getRouteStageContexts().putAll(routeContext.getRouteStageContexts());
+        return result;
+    }
+    
+    private Collection<Collection<DataNode>> deepCopyOriginalDataNodes(final RouteContext routeContext) {
+        Collection<Collection<DataNode>> result = new ArrayList<>(routeContext.getOriginalDataNodes().size());
+        for (Collection<DataNode> eachDataNodes : routeContext.getOriginalDataNodes()) {
+            Collection<DataNode> eachResult = new ArrayList<>(eachDataNodes.size());
+            for (DataNode each : eachDataNodes) {
+                DataNode copiedDataNode = new DataNode(each.getDataSourceName(), each.getTableName());
+                copiedDataNode.setSchemaName(each.getSchemaName());
+                eachResult.add(copiedDataNode);
+            }
+            result.add(eachResult);
+        }
+        return result;
+    }
+    
+    private Collection<RouteUnit> deepCopyRouteUnits(final RouteContext routeContext) {
+        Collection<RouteUnit> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.add(new RouteUnit(each.getDataSourceMapper(), new ArrayList<>(each.getTableMappers())));
+        }
+        return result;
+    }
+}
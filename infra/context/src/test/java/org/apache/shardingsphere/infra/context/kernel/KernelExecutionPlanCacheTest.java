@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.sqltranslator.rule.SQLTranslatorRule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class KernelExecutionPlanCacheTest {
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertGetExecutionPlanWithSameMetaData() {
+        ShardingSphereDatabase database = createDatabase();
+        KernelExecutionPlan expected = KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props);
+        assertThat(KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props), sameInstance(expected));
+    }
+    
+    @Test
+    public void assertGetExecutionPlanWithChangedDatabase() {
+        KernelExecutionPlan expected = KernelExecutionPlanCache.getExecutionPlan(createDatabase(), globalRuleMetaData, props);
+        assertThat(KernelExecutionPlanCache.getExecutionPlan(createDatabase(), globalRuleMetaData, props), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetExecutionPlanWithReloadedRules() {
+        ShardingSphereDatabase database = createDatabase();
+        KernelExecutionPlan expected = KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props);
+        database.getRuleMetaData().getRules().clear();
+        database.getRuleMetaData().getRules().add(mock(ShardingSphereRule.class));
+        assertThat(KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props), not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertGetExecutionPlanWithChangedProps() {
+        ShardingSphereDatabase database = createDatabase();
+        KernelExecutionPlan expected = KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, props);
+        assertThat(KernelExecutionPlanCache.getExecutionPlan(database, globalRuleMetaData, new ConfigurationProperties(new Properties())), not(sameInstance(expected)));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS),
+                new ShardingSphereRuleMetaData(Collections.singleton(mock(ShardingSphereRule.class))), Collections.emptyMap());
+    }
+}
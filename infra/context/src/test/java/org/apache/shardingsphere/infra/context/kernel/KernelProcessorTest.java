@@ -38,6 +38,8 @@ import java.util.Collections;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -59,6 +61,23 @@ public final class KernelProcessorTest {
         assertThat(actual.getExecutionUnits().size(), is(1));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    public void assertGenerateExecutionContextWithCachedRoute() {
+        SQLStatementContext<SQLStatement> sqlStatementContext = mock(CommonSQLStatementContext.class);
+        when(sqlStatementContext.getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList());
+        ShardingSphereDatabase database = new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, mock(DatabaseType.class),
+                mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class))), Collections.emptyMap());
+        ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.singleton(mock(SQLTranslatorRule.class)));
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        ExecutionContext expected = new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+        ExecutionContext actual = new KernelProcessor().generateExecutionContext(queryContext, database, globalRuleMetaData, props, mock(ConnectionContext.class));
+        assertThat(actual.getRouteContext(), not(sameInstance(expected.getRouteContext())));
+        assertThat(actual.getRouteContext().getRouteUnits(), is(expected.getRouteContext().getRouteUnits()));
+        assertThat(actual.getExecutionUnits(), is(expected.getExecutionUnits()));
+    }
+    
     private Properties createProperties() {
         Properties result = new Properties();
         result.setProperty(ConfigurationPropertyKey.SQL_SHOW.getKey(), Boolean.TRUE.toString());
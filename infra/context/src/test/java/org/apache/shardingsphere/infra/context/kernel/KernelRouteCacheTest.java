@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rewrite.engine.result.GenericSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class KernelRouteCacheTest {
+    
+    @Test
+    public void assertGetWithUnchangedSchema() {
+        ShardingSphereDatabase database = createDatabase();
+        RouteContext routeContext = createRouteContext();
+        SQLRewriteResult rewriteResult = new GenericSQLRewriteResult(new SQLRewriteUnit("SELECT 1", Collections.emptyList()));
+        KernelRouteCache routeCache = new KernelRouteCache(1, 1L);
+        routeCache.put("SELECT 1", new KernelRouteCacheValue(database, routeContext, rewriteResult));
+        Optional<KernelRouteCacheValue> actual = routeCache.get("SELECT 1", database);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getRouteContext(), not(sameInstance(routeContext)));
+        assertThat(actual.get().getRouteContext().getRouteUnits(), is(routeContext.getRouteUnits()));
+        assertThat(actual.get().getRewriteResult().orElse(null), is(rewriteResult));
+    }
+    
+    @Test
+    public void assertGetWithChangedSchema() {
+        ShardingSphereDatabase database = createDatabase();
+        KernelRouteCache routeCache = new KernelRouteCache(1, 1L);
+        routeCache.put("SELECT 1", new KernelRouteCacheValue(database, createRouteContext(), null));
+        database.getSchema("foo_db").putTable("t_order", mock(ShardingSphereTable.class));
+        assertFalse(routeCache.get("SELECT 1", database).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithoutRewriteResult() {
+        ShardingSphereDatabase database = createDatabase();
+        KernelRouteCache routeCache = new KernelRouteCache(1, 1L);
+        routeCache.put("SELECT ?", new KernelRouteCacheValue(database, createRouteContext(), null));
+        Optional<KernelRouteCacheValue> actual = routeCache.get("SELECT ?", database);
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().getRewriteResult().isPresent());
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList()), Collections.singletonMap("foo_db", new ShardingSphereSchema()));
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "foo_ds"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        return result;
+    }
+}
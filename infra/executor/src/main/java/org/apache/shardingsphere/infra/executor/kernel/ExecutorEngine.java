@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ManagedBlockingCallable;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
@@ -32,7 +34,10 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 /**
@@ -49,6 +54,10 @@ public final class ExecutorEngine implements AutoCloseable {
         executorServiceManager = new ExecutorServiceManager(executorSize);
     }
     
+    private ExecutorEngine(final int executorSize, final KernelExecutorType executorType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorType);
+    }
+    
     /**
      * Create executor engine with executor size.
      *
@@ -59,6 +68,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return new ExecutorEngine(executorSize);
     }
     
+    /**
+     * Create executor engine with executor size and type.
+     *
+     * @param executorSize executor size, ignored by virtual thread executor
+     * @param executorType executor type, use platform thread executor if absent
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngineWithSizeAndType(final int executorSize, final KernelExecutorType executorType) {
+        return null == executorType ? new ExecutorEngine(executorSize) : new ExecutorEngine(executorSize, executorType);
+    }
+    
     /**
      * Create executor engine with CPU and resources.
      * 
@@ -145,7 +165,9 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        Callable<Collection<O>> task = () -> callback.execute(executionGroup.getInputs(), false, dataMap);
+        ExecutorService executorService = executorServiceManager.getExecutorService();
+        return executorService instanceof ForkJoinPool ? executorService.submit(new ManagedBlockingCallable<>(task)) : executorService.submit(task);
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
@@ -29,6 +29,11 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ExecutorDataMap {
     
+    /**
+     * Key of name of database which SQL is executed on.
+     */
+    public static final String DATABASE_NAME = "DATABASE_NAME";
+    
     private static final ThreadLocal<Map<String, Object>> DATA_MAP = ThreadLocal.withInitial(LinkedHashMap::new);
     
     /**
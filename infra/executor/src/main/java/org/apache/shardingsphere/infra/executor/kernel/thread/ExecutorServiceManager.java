@@ -18,9 +18,12 @@
 package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -28,10 +31,13 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final int CPU_CORES = Runtime.getRuntime().availableProcessors();
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
     private final ExecutorService executorService;
@@ -41,14 +47,45 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = getExecutorService(executorSize, nameFormat);
+        this(executorSize, nameFormat, KernelExecutorType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final KernelExecutorType executorType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorType);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorType executorType) {
+        executorService = getExecutorService(executorSize, nameFormat, executorType);
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getExecutorService(final int executorSize, final String nameFormat, final KernelExecutorType executorType) {
+        if (null == executorType) {
+            return getPlatformThreadExecutorService(executorSize, nameFormat);
+        }
+        switch (executorType) {
+            case VIRTUAL:
+                return getVirtualThreadExecutorService(nameFormat);
+            case FORK_JOIN:
+                return new ForkJoinPool(0 == executorSize ? CPU_CORES : executorSize, ExecutorThreadFactoryBuilder.buildForkJoinWorkerThreadFactory(nameFormat), null, true);
+            default:
+                return getPlatformThreadExecutorService(executorSize, nameFormat);
+        }
+    }
+    
+    private ExecutorService getPlatformThreadExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualThreadExecutorService(final String nameFormat) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, ExecutorThreadFactoryBuilder.buildVirtual(nameFormat));
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual thread is not supported by current JVM, use platform thread instead.");
+            return getPlatformThreadExecutorService(0, nameFormat);
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -21,7 +21,11 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Executor thread factory builder.
@@ -51,4 +55,34 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build fork join worker thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return fork join worker thread factory
+     */
+    public static ForkJoinWorkerThreadFactory buildForkJoinWorkerThreadFactory(final String nameFormat) {
+        AtomicLong count = new AtomicLong();
+        return pool -> {
+            ForkJoinWorkerThread result = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            result.setDaemon(true);
+            return result;
+        };
+    }
+    
+    /**
+     * Build virtual thread factory with thread name format.
+     *
+     * @param nameFormat thread name format
+     * @return virtual thread factory
+     * @throws ReflectiveOperationException reflective operation exception if virtual thread is not supported by current JVM
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) throws ReflectiveOperationException {
+        Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+        Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+        builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, NAME_FORMAT_PREFIX + nameFormat.replace("%d", ""), 0L);
+        return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
 }
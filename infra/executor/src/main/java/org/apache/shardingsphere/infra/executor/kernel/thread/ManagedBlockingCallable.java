@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+
+/**
+ * Managed blocking callable.
+ * 
+ * <p>Runs blocking task in {@link ForkJoinPool#managedBlock(ManagedBlocker)}, so fork join pool can compensate workers blocked by JDBC calls.</p>
+ *
+ * @param <T> type of result
+ */
+@RequiredArgsConstructor
+public final class ManagedBlockingCallable<T> implements Callable<T> {
+    
+    private final Callable<T> delegate;
+    
+    @Override
+    public T call() throws Exception {
+        CallableBlocker<T> blocker = new CallableBlocker<>(delegate);
+        ForkJoinPool.managedBlock(blocker);
+        if (null != blocker.exception) {
+            throw blocker.exception;
+        }
+        return blocker.result;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CallableBlocker<T> implements ManagedBlocker {
+        
+        private final Callable<T> callable;
+        
+        private T result;
+        
+        private Exception exception;
+        
+        private boolean isDone;
+        
+        @Override
+        public boolean block() {
+            try {
+                result = callable.call();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                exception = ex;
+            }
+            isDone = true;
+            return true;
+        }
+        
+        @Override
+        public boolean isReleasable() {
+            return isDone;
+        }
+    }
+}
@@ -57,20 +57,33 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<SQLUnit>> entry : aggregateSQLUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<SQLUnit> sqlUnits = entry.getValue();
-            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int expectedConnectionSize = Math.min(maxConnectionsSizePerQuery, sqlUnits.size());
+            int connectionSize = 1 == expectedConnectionSize ? 1 : getAcquirableConnectionSize(dataSourceName, expectedConnectionSize);
+            List<List<SQLUnit>> sqlUnitGroups = group(sqlUnits, connectionSize);
+            ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, sqlUnitGroups, connectionMode));
         }
         return decorate(routeContext, result);
     }
     
-    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<SQLUnit>> group(final List<SQLUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
     protected abstract List<ExecutionGroup<T>> group(String dataSourceName, List<List<SQLUnit>> sqlUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
+    /**
+     * Get acquirable connection size of data source.
+     * 
+     * @param dataSourceName data source name
+     * @param connectionSize expected connection size
+     * @return acquirable connection size
+     */
+    protected int getAcquirableConnectionSize(final String dataSourceName, final int connectionSize) {
+        return connectionSize;
+    }
+    
     private Map<String, List<SQLUnit>> aggregateSQLUnitGroups(final Collection<ExecutionUnit> executionUnits) {
         Map<String, List<SQLUnit>> result = new LinkedHashMap<>(executionUnits.size(), 1);
         for (ExecutionUnit each : executionUnits) {
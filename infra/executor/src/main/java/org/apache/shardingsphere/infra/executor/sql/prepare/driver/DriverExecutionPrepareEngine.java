@@ -92,6 +92,11 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected int getAcquirableConnectionSize(final String dataSourceName, final int connectionSize) {
+        return connectionManager.getAcquirableConnectionSize(dataSourceName, connectionSize);
+    }
+    
     @SuppressWarnings("unchecked")
     private ExecutionGroup<T> createExecutionGroup(final String dataSourceName, final List<SQLUnit> sqlUnits, final C connection, final ConnectionMode connectionMode) throws SQLException {
         List<T> result = new LinkedList<>();
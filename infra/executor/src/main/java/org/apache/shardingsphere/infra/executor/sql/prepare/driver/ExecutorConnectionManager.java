@@ -39,4 +39,15 @@ public interface ExecutorConnectionManager<C> {
      * @throws SQLException SQL exception
      */
     List<C> getConnections(String dataSourceName, int connectionSize, ConnectionMode connectionMode) throws SQLException;
+    
+    /**
+     * Get acquirable connection size, which is less than expected connection size when data source is short of connections.
+     *
+     * @param dataSourceName data source name
+     * @param connectionSize expected connection size
+     * @return acquirable connection size
+     */
+    default int getAcquirableConnectionSize(final String dataSourceName, final int connectionSize) {
+        return connectionSize;
+    }
 }
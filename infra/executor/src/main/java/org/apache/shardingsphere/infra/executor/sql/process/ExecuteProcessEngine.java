@@ -85,6 +85,9 @@ public final class ExecuteProcessEngine {
         if (Strings.isNullOrEmpty(executionGroupContext.getExecutionID())) {
             executionGroupContext.setExecutionID(new UUID(ThreadLocalRandom.current().nextLong(), ThreadLocalRandom.current().nextLong()).toString().replace("-", ""));
         }
+        if (null != executionGroupContext.getDatabaseName()) {
+            ExecutorDataMap.getValue().put(ExecutorDataMap.DATABASE_NAME, executionGroupContext.getDatabaseName());
+        }
         if (reporter.isPresent() && isMySQLDDLOrDMLStatement(queryContext.getSqlStatementContext().getSqlStatement())) {
             ExecutorDataMap.getValue().put(ExecuteProcessConstants.EXECUTE_ID.name(), executionGroupContext.getExecutionID());
             reporter.get().report(queryContext, executionGroupContext, ExecuteProcessConstants.EXECUTE_STATUS_START, eventBusContext);
@@ -127,6 +130,7 @@ public final class ExecuteProcessEngine {
             reporter.get().reportClean(ExecutorDataMap.getValue().get(ExecuteProcessConstants.EXECUTE_ID.name()).toString());
         }
         ExecutorDataMap.getValue().remove(ExecuteProcessConstants.EXECUTE_ID.name());
+        ExecutorDataMap.getValue().remove(ExecutorDataMap.DATABASE_NAME);
     }
     
     private static boolean isMySQLDDLOrDMLStatement(final SQLStatement sqlStatement) {
@@ -29,7 +29,9 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertTrue;
@@ -103,4 +105,11 @@ public final class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    public void assertCreateExecutorEngineWithAbsentExecutorType() {
+        try (ExecutorEngine actual = ExecutorEngine.createExecutorEngineWithSizeAndType(1, null)) {
+            assertThat(actual.getExecutorServiceManager().getExecutorService(), instanceOf(ThreadPoolExecutor.class));
+        }
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class ExecutorServiceManagerTest {
+    
+    @Test
+    public void assertCreatePlatformExecutorService() {
+        ExecutorServiceManager actual = new ExecutorServiceManager(2, KernelExecutorType.PLATFORM);
+        assertThat(actual.getExecutorService(), instanceOf(ThreadPoolExecutor.class));
+        assertThat(((ThreadPoolExecutor) actual.getExecutorService()).getMaximumPoolSize(), is(2));
+        actual.close();
+    }
+    
+    @Test
+    public void assertCreateExecutorServiceWithoutExecutorType() {
+        ExecutorServiceManager actual = new ExecutorServiceManager(2, (KernelExecutorType) null);
+        assertThat(actual.getExecutorService(), instanceOf(ThreadPoolExecutor.class));
+        assertThat(((ThreadPoolExecutor) actual.getExecutorService()).getMaximumPoolSize(), is(2));
+        actual.close();
+    }
+    
+    @Test
+    public void assertCreateForkJoinExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager actual = new ExecutorServiceManager(2, KernelExecutorType.FORK_JOIN);
+        assertThat(actual.getExecutorService(), instanceOf(ForkJoinPool.class));
+        assertThat(((ForkJoinPool) actual.getExecutorService()).getParallelism(), is(2));
+        assertThat(actual.getExecutorService().submit(() -> "succeed").get(), is("succeed"));
+        actual.close();
+    }
+    
+    @Test
+    public void assertCreateVirtualExecutorService() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager actual = new ExecutorServiceManager(2, KernelExecutorType.VIRTUAL);
+        assertThat(actual.getExecutorService().submit(() -> "succeed").get(), is("succeed"));
+        actual.close();
+    }
+}
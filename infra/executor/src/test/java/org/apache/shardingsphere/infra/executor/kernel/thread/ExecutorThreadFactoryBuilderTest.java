@@ -19,10 +19,13 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import org.junit.Test;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.ThreadFactory;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 public final class ExecutorThreadFactoryBuilderTest {
     
@@ -44,4 +47,16 @@ public final class ExecutorThreadFactoryBuilderTest {
         });
         assertThat(thread.getName(), is("ShardingSphere-test"));
     }
+    
+    @Test
+    public void assertBuildForkJoinWorkerThreadFactory() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            ForkJoinWorkerThread thread = ExecutorThreadFactoryBuilder.buildForkJoinWorkerThreadFactory("test-%d").newThread(pool);
+            assertThat(thread.getName(), is("ShardingSphere-test-0"));
+            assertTrue(thread.isDaemon());
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ManagedBlockingCallableTest {
+    
+    @Test
+    public void assertCallWithBlockedWorkersCompensated() throws ExecutionException, InterruptedException {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(1);
+        CountDownLatch latch = new CountDownLatch(2);
+        try {
+            Future<Boolean> first = forkJoinPool.submit(new ManagedBlockingCallable<Boolean>(() -> {
+                latch.countDown();
+                return latch.await(5L, TimeUnit.SECONDS);
+            }));
+            Future<Boolean> second = forkJoinPool.submit(new ManagedBlockingCallable<Boolean>(() -> {
+                latch.countDown();
+                return latch.await(5L, TimeUnit.SECONDS);
+            }));
+            assertTrue(first.get());
+            assertTrue(second.get());
+        } finally {
+            forkJoinPool.shutdownNow();
+        }
+    }
+    
+    @Test
+    public void assertCall() throws Exception {
+        assertThat(new ManagedBlockingCallable<String>(() -> "succeed").call(), is("succeed"));
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertCallWithException() throws Exception {
+        new ManagedBlockingCallable<String>(() -> {
+            throw new SQLException("failed");
+        }).call();
+    }
+}
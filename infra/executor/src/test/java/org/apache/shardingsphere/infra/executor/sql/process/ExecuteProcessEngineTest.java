@@ -48,6 +48,7 @@ public final class ExecuteProcessEngineTest {
         executionGroupContext = createMockedExecutionGroups();
         ExecuteProcessEngine.initializeExecution(createQueryContext(), executionGroupContext, eventBusContext);
         assertThat(ExecutorDataMap.getValue().get("EXECUTE_ID"), is(executionGroupContext.getExecutionID()));
+        assertThat(ExecutorDataMap.getValue().get(ExecutorDataMap.DATABASE_NAME), is("foo_db"));
         assertThat(ExecuteProcessReporterFixture.ACTIONS.get(0), is("Report the summary of this task."));
     }
     
@@ -76,6 +77,7 @@ public final class ExecuteProcessEngineTest {
     private ExecutionGroupContext<? extends SQLExecutionUnit> createMockedExecutionGroups() {
         ExecutionGroupContext<? extends SQLExecutionUnit> result = mock(ExecutionGroupContext.class);
         when(result.getExecutionID()).thenReturn(UUID.randomUUID().toString());
+        when(result.getDatabaseName()).thenReturn("foo_db");
         return result;
     }
 }
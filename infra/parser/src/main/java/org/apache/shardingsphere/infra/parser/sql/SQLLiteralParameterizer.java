@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL literal parameterizer.
+ * 
+ * <p>Lexes SQL in MySQL lexical rules once, and replaces number and string literals which are compared with columns or listed in VALUES and IN
+ * with parameter markers, so SQL with different literals shares the same SQL statement cache.
+ * Literals in projections, literals with escapes and SQL with parameter markers or executable comments are left untouched.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLLiteralParameterizer {
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!=", "<=>"));
+    
+    private static final Collection<String> LIST_KEYWORDS = new HashSet<>(Arrays.asList("VALUES", "VALUE", "IN"));
+    
+    /**
+     * Parameterize literals of SQL.
+     *
+     * @param sql SQL to be parameterized
+     * @return parameterized SQL, empty if no literal can be parameterized
+     */
+    public static Optional<ParameterizedSQL> parameterize(final String sql) {
+        List<Literal> literals = new LinkedList<>();
+        Deque<Boolean> listParentheses = new LinkedList<>();
+        Token previous = null;
+        Literal pending = null;
+        boolean isRowContinuation = false;
+        boolean inProjections = false;
+        int index = 0;
+        while (true) {
+            index = skipWhitespacesAndComments(sql, index);
+            if (index < 0) {
+                return Optional.empty();
+            }
+            Token token = nextToken(sql, index);
+            if (null == token) {
+                return Optional.empty();
+            }
+            if (null != pending && (pending.isInList ? TokenType.COMMA == token.type || TokenType.RIGHT_PAREN == token.type : TokenType.STRING != token.type)) {
+                literals.add(pending);
+            }
+            pending = null;
+            if (TokenType.EOF == token.type) {
+                break;
+            }
+            boolean isInList = !listParentheses.isEmpty() && listParentheses.peek() && null != previous && (TokenType.LEFT_PAREN == previous.type || TokenType.COMMA == previous.type);
+            boolean isCompared = null != previous && TokenType.OPERATOR == previous.type && COMPARISON_OPERATORS.contains(previous.text);
+            if (null != token.value && !inProjections && (isInList || isCompared)) {
+                pending = new Literal(token.startIndex, token.stopIndex, token.value, isInList);
+            }
+            if (TokenType.WORD == token.type && "SELECT".equalsIgnoreCase(token.text)) {
+                inProjections = true;
+            } else if (TokenType.WORD == token.type && "FROM".equalsIgnoreCase(token.text)) {
+                inProjections = false;
+            } else if (TokenType.LEFT_PAREN == token.type) {
+                listParentheses.push(isRowContinuation || null != previous && TokenType.WORD == previous.type && LIST_KEYWORDS.contains(previous.text.toUpperCase()));
+            } else if (TokenType.RIGHT_PAREN == token.type && !listParentheses.isEmpty()) {
+                token.isListClosed = listParentheses.pop();
+            }
+            isRowContinuation = TokenType.COMMA == token.type && null != previous && previous.isListClosed;
+            previous = token;
+            index = token.stopIndex + 1;
+        }
+        return literals.isEmpty() ? Optional.empty() : Optional.of(createParameterizedSQL(sql, literals));
+    }
+    
+    private static ParameterizedSQL createParameterizedSQL(final String sql, final List<Literal> literals) {
+        StringBuilder result = new StringBuilder(sql.length());
+        List<Object> parameters = new ArrayList<>(literals.size());
+        int index = 0;
+        for (Literal each : literals) {
+            result.append(sql, index, each.startIndex).append('?');
+            parameters.add(each.value);
+            index = each.stopIndex + 1;
+        }
+        result.append(sql, index, sql.length());
+        return new ParameterizedSQL(result.toString(), parameters);
+    }
+    
+    private static int skipWhitespacesAndComments(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if (Character.isWhitespace(current)) {
+                result++;
+            } else if ('#' == current || '-' == current && sql.startsWith("--", result) && (result + 2 == sql.length() || Character.isWhitespace(sql.charAt(result + 2)))) {
+                int lineEnd = sql.indexOf('\n', result);
+                result = lineEnd < 0 ? sql.length() : lineEnd + 1;
+            } else if (sql.startsWith("/*", result)) {
+                int commentEnd = sql.indexOf("*/", result + 2);
+                if (commentEnd < 0 || sql.startsWith("/*!", result)) {
+                    return -1;
+                }
+                result = commentEnd + 2;
+            } else {
+                return result;
+            }
+        }
+        return result;
+    }
+    
+    private static Token nextToken(final String sql, final int startIndex) {
+        if (startIndex >= sql.length()) {
+            return new Token(TokenType.EOF, "", startIndex, startIndex, null);
+        }
+        char current = sql.charAt(startIndex);
+        if ('\'' == current || '"' == current || '`' == current) {
+            return nextQuotedToken(sql, startIndex, current);
+        }
+        if (isDigit(current) || '.' == current && startIndex + 1 < sql.length() && isDigit(sql.charAt(startIndex + 1))) {
+            return nextNumberToken(sql, startIndex);
+        }
+        if (isWordCharacter(current) || '@' == current) {
+            int stopIndex = startIndex;
+            while (stopIndex + 1 < sql.length() && (isWordCharacter(sql.charAt(stopIndex + 1)) || '@' == sql.charAt(stopIndex + 1))) {
+                stopIndex++;
+            }
+            return new Token(TokenType.WORD, sql.substring(startIndex, stopIndex + 1), startIndex, stopIndex, null);
+        }
+        switch (current) {
+            case '?':
+                return null;
+            case '(':
+                return new Token(TokenType.LEFT_PAREN, "(", startIndex, startIndex, null);
+            case ')':
+                return new Token(TokenType.RIGHT_PAREN, ")", startIndex, startIndex, null);
+            case ',':
+                return new Token(TokenType.COMMA, ",", startIndex, startIndex, null);
+            default:
+                return nextSymbolToken(sql, startIndex);
+        }
+    }
+    
+    private static Token nextQuotedToken(final String sql, final int startIndex, final char quote) {
+        boolean isEscaped = false;
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current && '`' != quote) {
+                return null;
+            }
+            if (quote == current && index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                isEscaped = true;
+                index += 2;
+                continue;
+            }
+            if (quote == current) {
+                String text = sql.substring(startIndex, index + 1);
+                return '\'' == quote
+                        ? new Token(TokenType.STRING, text, startIndex, index, isEscaped ? null : text.substring(1, text.length() - 1))
+                        : new Token(TokenType.WORD, text, startIndex, index, null);
+            }
+            index++;
+        }
+        return null;
+    }
+    
+    private static Token nextNumberToken(final String sql, final int startIndex) {
+        int stopIndex = startIndex;
+        boolean hasDot = '.' == sql.charAt(startIndex);
+        boolean isPlainNumber = !hasDot;
+        while (stopIndex + 1 < sql.length()) {
+            char next = sql.charAt(stopIndex + 1);
+            if ('.' == next) {
+                isPlainNumber = isPlainNumber && !hasDot;
+                hasDot = true;
+            } else if (isWordCharacter(next) && !isDigit(next)) {
+                isPlainNumber = false;
+            } else if (!isDigit(next)) {
+                break;
+            }
+            stopIndex++;
+        }
+        String text = sql.substring(startIndex, stopIndex + 1);
+        isPlainNumber = isPlainNumber && isDigit(text.charAt(text.length() - 1));
+        return new Token(TokenType.NUMBER, text, startIndex, stopIndex, isPlainNumber ? new NumberLiteralValue(text).getValue() : null);
+    }
+    
+    private static Token nextSymbolToken(final String sql, final int startIndex) {
+        int stopIndex = startIndex;
+        if (isOperatorCharacter(sql.charAt(startIndex))) {
+            while (stopIndex + 1 < sql.length() && isOperatorCharacter(sql.charAt(stopIndex + 1))) {
+                stopIndex++;
+            }
+        } else if (sql.startsWith("->", startIndex) || sql.startsWith(":=", startIndex)) {
+            stopIndex = sql.startsWith("->>", startIndex) ? startIndex + 2 : startIndex + 1;
+            return new Token(TokenType.SYMBOL, sql.substring(startIndex, stopIndex + 1), startIndex, stopIndex, null);
+        }
+        String text = sql.substring(startIndex, stopIndex + 1);
+        return new Token(isOperatorCharacter(text.charAt(0)) ? TokenType.OPERATOR : TokenType.SYMBOL, text, startIndex, stopIndex, null);
+    }
+    
+    private static boolean isOperatorCharacter(final char ch) {
+        return '=' == ch || '<' == ch || '>' == ch || '!' == ch;
+    }
+    
+    private static boolean isWordCharacter(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+    
+    private enum TokenType {
+        
+        WORD, NUMBER, STRING, OPERATOR, SYMBOL, LEFT_PAREN, RIGHT_PAREN, COMMA, EOF
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final TokenType type;
+        
+        private final String text;
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+        
+        private final Object value;
+        
+        private boolean isListClosed;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Literal {
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+        
+        private final Object value;
+        
+        private final boolean isInList;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * SQL parameter inliner.
+ * 
+ * <p>Replaces parameter markers outside of quotes and comments with literals in MySQL lexical rules, so SQL parameterized by {@link SQLLiteralParameterizer}
+ * can be executed by plain statements again. Only nulls, booleans, finite numbers and strings without backslashes are inlined, because their literals do not depend on SQL mode.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLParameterInliner {
+    
+    /**
+     * Inline parameters into SQL.
+     *
+     * @param sql SQL with parameter markers
+     * @param params parameters
+     * @return SQL with parameters inlined, empty if parameters do not match parameter markers or any parameter can not be inlined
+     */
+    public static Optional<String> inline(final String sql, final List<Object> params) {
+        StringBuilder result = new StringBuilder(sql.length() + params.size() * 8);
+        Iterator<Object> paramIterator = params.iterator();
+        int index = 0;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            int stopIndex = getSkippedStopIndex(sql, index);
+            if (stopIndex > index) {
+                result.append(sql, index, stopIndex);
+                index = stopIndex;
+                continue;
+            }
+            if ('?' == current) {
+                if (!paramIterator.hasNext() || !appendLiteral(result, paramIterator.next())) {
+                    return Optional.empty();
+                }
+            } else {
+                result.append(current);
+            }
+            index++;
+        }
+        return paramIterator.hasNext() ? Optional.empty() : Optional.of(result.toString());
+    }
+    
+    private static int getSkippedStopIndex(final String sql, final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if ('\'' == current || '"' == current || '`' == current) {
+            return getQuotedStopIndex(sql, startIndex, current);
+        }
+        if ('#' == current || '-' == current && sql.startsWith("--", startIndex) && (startIndex + 2 == sql.length() || Character.isWhitespace(sql.charAt(startIndex + 2)))) {
+            int lineEnd = sql.indexOf('\n', startIndex);
+            return lineEnd < 0 ? sql.length() : lineEnd + 1;
+        }
+        if (sql.startsWith("/*", startIndex)) {
+            int commentEnd = sql.indexOf("*/", startIndex + 2);
+            return commentEnd < 0 ? sql.length() : commentEnd + 2;
+        }
+        return startIndex;
+    }
+    
+    private static int getQuotedStopIndex(final String sql, final int startIndex, final char quote) {
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char current = sql.charAt(index);
+            if ('\\' == current && '`' != quote) {
+                index += 2;
+            } else if (quote == current && index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                index += 2;
+            } else if (quote == current) {
+                return index + 1;
+            } else {
+                index++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static boolean appendLiteral(final StringBuilder sql, final Object param) {
+        if (null == param) {
+            sql.append("NULL");
+            return true;
+        }
+        if (param instanceof Boolean) {
+            sql.append((boolean) param ? "TRUE" : "FALSE");
+            return true;
+        }
+        if (param instanceof BigDecimal) {
+            sql.append(((BigDecimal) param).toPlainString());
+            return true;
+        }
+        if (param instanceof Integer || param instanceof Long || param instanceof Short || param instanceof Byte || param instanceof BigInteger) {
+            sql.append(param);
+            return true;
+        }
+        if (param instanceof Double || param instanceof Float) {
+            if (Double.isNaN(((Number) param).doubleValue()) || Double.isInfinite(((Number) param).doubleValue())) {
+                return false;
+            }
+            sql.append(param);
+            return true;
+        }
+        if (param instanceof String && -1 == ((String) param).indexOf('\\')) {
+            sql.append('\'').append(((String) param).replace("'", "''")).append('\'');
+            return true;
+        }
+        return false;
+    }
+}
@@ -39,13 +39,15 @@ public final class SQLStatementParserEngineFactory {
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
      * @param isParseComment is parse comment
+     * @param isFastPathParseEnabled is fast path parse enabled
      * @return SQL statement parser engine
      */
     public static SQLStatementParserEngine getSQLStatementParserEngine(final String databaseType,
-                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+                                                                       final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption,
+                                                                       final boolean isParseComment, final boolean isFastPathParseEnabled) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment, isFastPathParseEnabled));
         }
         return result;
     }
@@ -20,8 +20,11 @@ package org.apache.shardingsphere.infra.parser.sql;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.FastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.FastPathSQLParserFactory;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
+import java.util.Optional;
 import java.util.Properties;
 
 /**
@@ -33,9 +36,12 @@ public final class SQLStatementParserExecutor {
     
     private final SQLVisitorEngine visitorEngine;
     
-    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+    private final FastPathSQLParser fastPathParser;
+    
+    public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment, final boolean isFastPathParseEnabled) {
         parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
         visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        fastPathParser = isFastPathParseEnabled ? FastPathSQLParserFactory.findInstance(databaseType).orElse(null) : null;
     }
     
     /**
@@ -45,6 +51,12 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
+        if (null != fastPathParser) {
+            Optional<SQLStatement> result = fastPathParser.parse(sql);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
         return visitorEngine.visit(parserEngine.parse(sql, false));
     }
 }
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralParameterizerTest {
+    
+    @Test
+    public void assertParameterizeComparison() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = 123 AND status<>'init' AND amount >= 1.5 AND user_id = -1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status<>? AND amount >= ? AND user_id = -1"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(123, "init", new BigDecimal("1.5"))));
+    }
+    
+    @Test
+    public void assertParameterizeInsertValues() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 99999999999, 'a'), (2, NOW(), 'b')");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, NOW(), ?)"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 99999999999L, "a", 2, "b")));
+    }
+    
+    @Test
+    public void assertParameterizeInList() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize("UPDATE t_order SET status = 'done' WHERE order_id IN (1, 2, 3 + 1) # comment 'x' = 1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("UPDATE t_order SET status = ? WHERE order_id IN (?, ?, 3 + 1) # comment 'x' = 1"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("done", 1, 2)));
+    }
+    
+    @Test
+    public void assertParameterizeWithoutTouchingUnsafeLiterals() {
+        Optional<ParameterizedSQL> actual = SQLLiteralParameterizer.parameterize(
+                "SELECT 1, a = 2 FROM t_order WHERE status = 'it''s' AND c = 'a' 'b' AND d = _utf8mb4'x' AND e->'$.f' = 0x1F AND g = 1e3 AND h = 3 LIMIT 10");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT 1, a = 2 FROM t_order WHERE status = 'it''s' AND c = 'a' 'b' AND d = _utf8mb4'x' AND e->'$.f' = 0x1F AND g = 1e3 AND h = ? LIMIT 10"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(3)));
+    }
+    
+    @Test
+    public void assertParameterizeFailure() {
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE order_id = ?").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'a\\'b'").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT /*!40001 SQL_NO_CACHE */ * FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order WHERE status = 'init").isPresent());
+        assertFalse(SQLLiteralParameterizer.parameterize("SELECT * FROM t_order").isPresent());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLParameterInlinerTest {
+    
+    @Test
+    public void assertInline() {
+        Optional<String> actual = SQLParameterInliner.inline("SELECT '?', `a?` FROM t_order /* ? */ WHERE order_id = ? AND status = ? AND amount IN (?, ?, ?) # ?",
+                Arrays.asList(1L, "it's", new BigDecimal("1E+2"), null, true));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT '?', `a?` FROM t_order /* ? */ WHERE order_id = 1 AND status = 'it''s' AND amount IN (100, NULL, TRUE) # ?"));
+    }
+    
+    @Test
+    public void assertInlineRoundTripOfParameterizedSQL() {
+        String sql = "INSERT INTO t_order (order_id, user_id, status) VALUES (1, 99999999999, 'a'), (2, NOW(), 'b')";
+        Optional<ParameterizedSQL> parameterizedSQL = SQLLiteralParameterizer.parameterize(sql);
+        assertTrue(parameterizedSQL.isPresent());
+        assertThat(SQLParameterInliner.inline(parameterizedSQL.get().getSql(), parameterizedSQL.get().getParameters()), is(Optional.of(sql)));
+    }
+    
+    @Test
+    public void assertInlineWithUnsafeParameter() {
+        assertFalse(SQLParameterInliner.inline("SELECT * FROM t_order WHERE status = ?", Collections.singletonList("a\\'")).isPresent());
+        assertFalse(SQLParameterInliner.inline("SELECT * FROM t_order WHERE amount = ?", Collections.singletonList(Double.NaN)).isPresent());
+        assertFalse(SQLParameterInliner.inline("SELECT * FROM t_order WHERE content = ?", Collections.singletonList(new byte[]{1})).isPresent());
+    }
+    
+    @Test
+    public void assertInlineWithMismatchedParameters() {
+        assertFalse(SQLParameterInliner.inline("SELECT * FROM t_order WHERE order_id = ? AND user_id = ?", Collections.singletonList(1)).isPresent());
+        assertFalse(SQLParameterInliner.inline("SELECT * FROM t_order WHERE order_id = ?", Arrays.asList(1, 2)).isPresent());
+    }
+}
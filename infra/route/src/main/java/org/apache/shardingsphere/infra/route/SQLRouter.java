@@ -56,4 +56,15 @@ public interface SQLRouter<T extends ShardingSphereRule> extends OrderedSPI<T> {
      * @param connectionContext connection context
      */
     void decorateRouteContext(RouteContext routeContext, QueryContext queryContext, ShardingSphereDatabase database, T rule, ConfigurationProperties props, ConnectionContext connectionContext);
+    
+    /**
+     * Judge whether route result only depends on SQL and meta data, so it can be reused by executions of the same SQL.
+     *
+     * @param queryContext query context
+     * @param rule rule
+     * @return route result is cacheable or not
+     */
+    default boolean isRouteCacheable(final QueryContext queryContext, final T rule) {
+        return false;
+    }
 }
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.infra.route.engine;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.context.ConnectionContext;
@@ -27,6 +26,7 @@ import org.apache.shardingsphere.infra.route.engine.impl.AllSQLRouteExecutor;
 import org.apache.shardingsphere.infra.route.engine.impl.PartialSQLRouteExecutor;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTableStatusStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowTablesStatement;
 
@@ -35,12 +35,13 @@ import java.util.Collection;
 /**
  * SQL route engine.
  */
-@RequiredArgsConstructor
 public final class SQLRouteEngine {
     
-    private final Collection<ShardingSphereRule> rules;
+    private final PartialSQLRouteExecutor partialSQLRouteExecutor;
     
-    private final ConfigurationProperties props;
+    public SQLRouteEngine(final Collection<ShardingSphereRule> rules, final ConfigurationProperties props) {
+        partialSQLRouteExecutor = new PartialSQLRouteExecutor(rules, props);
+    }
     
     /**
      * Route SQL.
@@ -51,10 +52,23 @@ public final class SQLRouteEngine {
      * @return route context
      */
     public RouteContext route(final ConnectionContext connectionContext, final QueryContext queryContext, final ShardingSphereDatabase database) {
-        SQLRouteExecutor executor = isNeedAllSchemas(queryContext.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : new PartialSQLRouteExecutor(rules, props);
+        SQLRouteExecutor executor = isNeedAllSchemas(queryContext.getSqlStatementContext().getSqlStatement()) ? new AllSQLRouteExecutor() : partialSQLRouteExecutor;
         return executor.route(connectionContext, queryContext, database);
     }
     
+    /**
+     * Judge whether route result can be cached by SQL.
+     * 
+     * <p>Only select statements without hint are cacheable, and every router has to confirm its route result only depends on SQL and meta data.</p>
+     *
+     * @param queryContext query context
+     * @return route result is cacheable or not
+     */
+    public boolean isRouteCacheable(final QueryContext queryContext) {
+        SQLStatement sqlStatement = queryContext.getSqlStatementContext().getSqlStatement();
+        return sqlStatement instanceof SelectStatement && !isNeedAllSchemas(sqlStatement) && partialSQLRouteExecutor.isRouteCacheable(queryContext);
+    }
+    
     // TODO use dynamic config to judge UnconfiguredSchema
     private boolean isNeedAllSchemas(final SQLStatement sqlStatement) {
         return sqlStatement instanceof MySQLShowTablesStatement || sqlStatement instanceof MySQLShowTableStatusStatement;
@@ -78,6 +78,25 @@ public final class PartialSQLRouteExecutor implements SQLRouteExecutor {
         return result;
     }
     
+    /**
+     * Judge whether route result only depends on SQL and meta data, so it can be reused by executions of the same SQL.
+     *
+     * @param queryContext query context
+     * @return route result is cacheable or not
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public boolean isRouteCacheable(final QueryContext queryContext) {
+        if (HintManager.isInstantiated()) {
+            return false;
+        }
+        for (Entry<ShardingSphereRule, SQLRouter> entry : routers.entrySet()) {
+            if (!entry.getValue().isRouteCacheable(queryContext, entry.getKey())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     private Optional<String> findDataSourceByHint(final SQLStatementContext<?> sqlStatementContext, final Map<String, DataSource> dataSources) {
         Optional<String> result;
         if (HintManager.isInstantiated() && HintManager.getDataSourceName().isPresent()) {
@@ -29,6 +29,9 @@ import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.fixture.rule.RouteFailureRuleFixture;
 import org.apache.shardingsphere.infra.route.fixture.rule.RouteRuleFixture;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -36,9 +39,11 @@ import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public final class SQLRouteEngineTest {
     
@@ -65,4 +70,29 @@ public final class SQLRouteEngineTest {
                 mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class, RETURNS_DEEP_STUBS), ruleMetaData, Collections.emptyMap());
         new SQLRouteEngine(Collections.singleton(new RouteFailureRuleFixture()), new ConfigurationProperties(new Properties())).route(new ConnectionContext(), queryContext, database);
     }
+    
+    @Test
+    public void assertIsRouteCacheableWithSelectStatement() {
+        QueryContext queryContext = new QueryContext(createSQLStatementContext(mock(SelectStatement.class)), "SELECT 1", Collections.emptyList());
+        assertTrue(new SQLRouteEngine(Collections.singleton(new RouteRuleFixture()), new ConfigurationProperties(new Properties())).isRouteCacheable(queryContext));
+    }
+    
+    @Test
+    public void assertIsNotRouteCacheableWithUpdateStatement() {
+        QueryContext queryContext = new QueryContext(createSQLStatementContext(mock(UpdateStatement.class)), "UPDATE t_order SET status = 'OK'", Collections.emptyList());
+        assertFalse(new SQLRouteEngine(Collections.singleton(new RouteRuleFixture()), new ConfigurationProperties(new Properties())).isRouteCacheable(queryContext));
+    }
+    
+    @Test
+    public void assertIsNotRouteCacheableWithUncacheableRouter() {
+        QueryContext queryContext = new QueryContext(createSQLStatementContext(mock(SelectStatement.class)), "SELECT 1", Collections.emptyList());
+        assertFalse(new SQLRouteEngine(Collections.singleton(new RouteFailureRuleFixture()), new ConfigurationProperties(new Properties())).isRouteCacheable(queryContext));
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private CommonSQLStatementContext<?> createSQLStatementContext(final SQLStatement sqlStatement) {
+        CommonSQLStatementContext result = mock(CommonSQLStatementContext.class);
+        when(result.getSqlStatement()).thenReturn(sqlStatement);
+        return result;
+    }
 }
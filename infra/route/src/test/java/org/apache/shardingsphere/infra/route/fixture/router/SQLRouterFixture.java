@@ -46,6 +46,11 @@ public final class SQLRouterFixture implements SQLRouter<RouteRuleFixture> {
         routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds", "ds_0"), Collections.emptyList()));
     }
     
+    @Override
+    public boolean isRouteCacheable(final QueryContext queryContext, final RouteRuleFixture rule) {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return -10;
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Common shapes of sharding inline expressions, such as {@code t_order_${order_id % 16}} or {@code ds_${Math.abs(user_id.hashCode()) % 4}},
+ * are evaluated in Java without groovy. Values which can not be evaluated the same way as groovy, such as null or decimal values, are not evaluated,
+ * so callers should fall back to groovy closure.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CompiledInlineExpression {
+    
+    private static final String IDENTIFIER = "([A-Za-z_][A-Za-z0-9_]*)";
+    
+    private static final String MODULUS = "\\s*%\\s*([0-9]{1,9})";
+    
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile(IDENTIFIER);
+    
+    private static final Pattern MOD_PATTERN = Pattern.compile(IDENTIFIER + MODULUS);
+    
+    private static final Pattern ABS_MOD_PATTERN = Pattern.compile("\\(\\s*" + IDENTIFIER + MODULUS + "\\s*\\)\\.abs\\(\\)|Math\\.abs\\(\\s*" + IDENTIFIER + MODULUS + "\\s*\\)");
+    
+    private static final Pattern HASH_MOD_PATTERN = Pattern.compile(IDENTIFIER + "\\.hashCode\\(\\)" + MODULUS);
+    
+    private static final Pattern ABS_HASH_MOD_PATTERN = Pattern.compile("Math\\.abs\\(\\s*" + IDENTIFIER + "\\.hashCode\\(\\)\\s*\\)" + MODULUS);
+    
+    private static final Collection<String> RESERVED_IDENTIFIERS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "owner", "delegate"));
+    
+    private final List<String> literals;
+    
+    private final List<Placeholder> placeholders;
+    
+    /**
+     * Compile inline expression.
+     * 
+     * @param inlineExpression inline expression with placeholders already handled
+     * @return compiled inline expression, empty if expression is not a supported shape
+     */
+    public static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        int index = 0;
+        while (index <= inlineExpression.length()) {
+            int start = inlineExpression.indexOf("${", index);
+            String literal = inlineExpression.substring(index, -1 == start ? inlineExpression.length() : start);
+            if (!isPlainLiteral(literal)) {
+                return Optional.empty();
+            }
+            literals.add(literal);
+            if (-1 == start) {
+                break;
+            }
+            int end = inlineExpression.indexOf('}', start);
+            if (-1 == end) {
+                return Optional.empty();
+            }
+            Optional<Placeholder> placeholder = compilePlaceholder(inlineExpression.substring(start + 2, end).trim());
+            if (!placeholder.isPresent()) {
+                return Optional.empty();
+            }
+            placeholders.add(placeholder.get());
+            index = end + 1;
+        }
+        return placeholders.isEmpty() ? Optional.empty() : Optional.of(new CompiledInlineExpression(literals, placeholders));
+    }
+    
+    private static boolean isPlainLiteral(final String literal) {
+        return literal.indexOf('$') < 0 && literal.indexOf('\\') < 0 && literal.indexOf('"') < 0 && literal.indexOf('{') < 0 && literal.indexOf('}') < 0;
+    }
+    
+    private static Optional<Placeholder> compilePlaceholder(final String expression) {
+        Matcher matcher = VARIABLE_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), Operation.VALUE, null);
+        }
+        matcher = MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), Operation.MOD, matcher.group(2));
+        }
+        matcher = ABS_MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return null == matcher.group(1)
+                    ? createPlaceholder(matcher.group(3), Operation.ABS_MOD, matcher.group(4))
+                    : createPlaceholder(matcher.group(1), Operation.ABS_MOD, matcher.group(2));
+        }
+        matcher = HASH_MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), Operation.HASH_MOD, matcher.group(2));
+        }
+        matcher = ABS_HASH_MOD_PATTERN.matcher(expression);
+        if (matcher.matches()) {
+            return createPlaceholder(matcher.group(1), Operation.ABS_HASH_MOD, matcher.group(2));
+        }
+        return Optional.empty();
+    }
+    
+    private static Optional<Placeholder> createPlaceholder(final String variableName, final Operation operation, final String divisor) {
+        if (RESERVED_IDENTIFIERS.contains(variableName)) {
+            return Optional.empty();
+        }
+        int divisorValue = null == divisor ? 0 : Integer.parseInt(divisor);
+        if (null != divisor && 0 == divisorValue) {
+            return Optional.empty();
+        }
+        return Optional.of(new Placeholder(variableName, operation, divisorValue));
+    }
+    
+    /**
+     * Evaluate inline expression.
+     * 
+     * @param variables variables
+     * @return evaluated result, empty if variables can not be evaluated without groovy
+     */
+    public Optional<String> evaluate(final Map<String, ?> variables) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < placeholders.size(); i++) {
+            result.append(literals.get(i));
+            Placeholder placeholder = placeholders.get(i);
+            Object value = variables.get(placeholder.variableName);
+            if (null == value || !placeholder.appendTo(result, value)) {
+                return Optional.empty();
+            }
+        }
+        result.append(literals.get(placeholders.size()));
+        return Optional.of(result.toString());
+    }
+    
+    private enum Operation {
+        
+        VALUE, MOD, ABS_MOD, HASH_MOD, ABS_HASH_MOD
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Placeholder {
+        
+        private final String variableName;
+        
+        private final Operation operation;
+        
+        private final int divisor;
+        
+        private boolean appendTo(final StringBuilder builder, final Object value) {
+            switch (operation) {
+                case VALUE:
+                    if (!(value instanceof String || isIntegral(value) || value instanceof BigInteger)) {
+                        return false;
+                    }
+                    builder.append(value);
+                    return true;
+                case MOD:
+                case ABS_MOD:
+                    if (!isIntegral(value)) {
+                        return false;
+                    }
+                    long remainder = ((Number) value).longValue() % divisor;
+                    builder.append(Operation.ABS_MOD == operation ? Math.abs(remainder) : remainder);
+                    return true;
+                case HASH_MOD:
+                    builder.append(value.hashCode() % divisor);
+                    return true;
+                case ABS_HASH_MOD:
+                    builder.append(Math.abs(value.hashCode()) % divisor);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        
+        private boolean isIntegral(final Object value) {
+            return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+        }
+    }
+}
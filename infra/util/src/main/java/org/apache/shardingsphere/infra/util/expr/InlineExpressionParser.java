@@ -23,6 +23,7 @@ import groovy.lang.Closure;
 import groovy.lang.GString;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import groovy.util.Expando;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
@@ -31,6 +32,8 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
@@ -45,6 +48,8 @@ public final class InlineExpressionParser {
     
     private static final Map<String, Script> SCRIPTS = new ConcurrentHashMap<>();
     
+    private static final Map<String, Optional<CompiledInlineExpression>> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+    
     private static final GroovyShell SHELL = new GroovyShell();
     
     private final String inlineExpression;
@@ -77,6 +82,28 @@ public final class InlineExpressionParser {
         return (Closure<?>) evaluate("{it -> \"" + inlineExpression + "\"}");
     }
     
+    /**
+     * Evaluate with arguments.
+     * 
+     * <p>Common shapes of inline expression are evaluated by compiled inline expression, others are evaluated by groovy closure.</p>
+     *
+     * @param arguments arguments of inline expression
+     * @return evaluated result
+     */
+    public String evaluateWithArgs(final Map<String, ?> arguments) {
+        Optional<String> result = COMPILED_EXPRESSIONS.computeIfAbsent(inlineExpression, CompiledInlineExpression::compile).flatMap(optional -> optional.evaluate(arguments));
+        return result.orElseGet(() -> evaluateClosureWithArgs(arguments));
+    }
+    
+    private String evaluateClosureWithArgs(final Map<String, ?> arguments) {
+        Closure<?> closure = evaluateClosure().rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        for (Entry<String, ?> entry : arguments.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
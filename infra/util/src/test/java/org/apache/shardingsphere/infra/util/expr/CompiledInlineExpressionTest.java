@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.util.expr;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class CompiledInlineExpressionTest {
+    
+    @Test
+    public void assertEvaluateVariable() {
+        assertThat(evaluate("ds_${value}", "value", 3), is(Optional.of("ds_3")));
+        assertThat(evaluate("ds_${value}", "value", "foo"), is(Optional.of("ds_foo")));
+    }
+    
+    @Test
+    public void assertEvaluateMod() {
+        assertThat(evaluate("t_order_${order_id % 16}", "order_id", 35), is(Optional.of("t_order_3")));
+        assertThat(evaluate("t_order_${order_id%16}_suffix", "order_id", 787694822390497281L), is(Optional.of("t_order_1_suffix")));
+        assertThat(evaluate("t_order_${order_id % 4}", "order_id", -1), is(Optional.of("t_order_-1")));
+    }
+    
+    @Test
+    public void assertEvaluateAbsMod() {
+        assertThat(evaluate("t_order_${(order_id % 4).abs()}", "order_id", -1), is(Optional.of("t_order_1")));
+        assertThat(evaluate("t_order_${Math.abs(order_id % 4)}", "order_id", -6L), is(Optional.of("t_order_2")));
+    }
+    
+    @Test
+    public void assertEvaluateHashMod() {
+        assertThat(evaluate("t_user_${user_name.hashCode() % 4}", "user_name", "foo"), is(Optional.of("t_user_" + "foo".hashCode() % 4)));
+        assertThat(evaluate("t_user_${Math.abs(user_name.hashCode()) % 4}", "user_name", "bar"), is(Optional.of("t_user_" + Math.abs("bar".hashCode()) % 4)));
+    }
+    
+    @Test
+    public void assertEvaluateMultipleVariables() {
+        Map<String, Comparable<?>> arguments = new HashMap<>(2, 1);
+        arguments.put("type", 3);
+        arguments.put("order_id", 5);
+        Optional<CompiledInlineExpression> compiled = CompiledInlineExpression.compile("t_order_${type % 2}_${order_id % 4}");
+        assertTrue(compiled.isPresent());
+        assertThat(compiled.get().evaluate(arguments), is(Optional.of("t_order_1_1")));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValues() {
+        assertFalse(evaluate("t_order_${order_id % 4}", "order_id", new BigDecimal("1.5")).isPresent());
+        assertFalse(evaluate("t_order_${order_id % 4}", "order_id", "foo").isPresent());
+        assertFalse(evaluate("t_order_${order_id % 4}", "other_id", 1).isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpressions() {
+        assertFalse(CompiledInlineExpression.compile("t_order").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id / 4}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${order_id % 0}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${it}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_$order_${order_id % 4}").isPresent());
+        assertFalse(CompiledInlineExpression.compile("t_order_${[0, 1]}").isPresent());
+    }
+    
+    private Optional<String> evaluate(final String inlineExpression, final String variableName, final Comparable<?> value) {
+        Optional<CompiledInlineExpression> compiled = CompiledInlineExpression.compile(inlineExpression);
+        assertTrue(compiled.isPresent());
+        return compiled.get().evaluate(Collections.singletonMap(variableName, value));
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.util.expr;
 
 import org.junit.Test;
 
+import java.math.BigInteger;
 import java.util.Collections;
 import java.util.List;
 
@@ -117,4 +118,11 @@ public final class InlineExpressionParserTest {
     public void assertEvaluateClosure() {
         assertThat(new InlineExpressionParser("${1+2}").evaluateClosure().call().toString(), is("3"));
     }
+    
+    @Test
+    public void assertEvaluateWithArgs() {
+        assertThat(new InlineExpressionParser("t_order_${order_id % 4}").evaluateWithArgs(Collections.singletonMap("order_id", 5)), is("t_order_1"));
+        assertThat(new InlineExpressionParser("t_order_${order_id % 4}").evaluateWithArgs(Collections.singletonMap("order_id", new BigInteger("787694822390497281"))), is("t_order_1"));
+        assertThat(new InlineExpressionParser("t_order_${order_id.toString().length()}").evaluateWithArgs(Collections.singletonMap("order_id", 123)), is("t_order_3"));
+    }
 }
@@ -25,8 +25,10 @@ import lombok.Getter;
 import org.apache.shardingsphere.driver.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.driver.jdbc.adapter.invocation.MethodInvocationRecorder;
 import org.apache.shardingsphere.driver.jdbc.core.ShardingSphereSavepoint;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.datasource.pool.creator.DataSourcePoolCreator;
+import org.apache.shardingsphere.infra.datasource.pool.usage.AcquirableConnectionSizeCalculator;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
@@ -77,11 +79,14 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
     
     private final Random random = new SecureRandom();
     
+    private final ContextManager contextManager;
+    
     public ConnectionManager(final String databaseName, final ContextManager contextManager) {
         dataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         dataSourceMap.putAll(getTrafficDataSourceMap(databaseName, contextManager));
         physicalDataSourceMap.putAll(contextManager.getDataSourceMap(databaseName));
         connectionTransaction = createConnectionTransaction(databaseName, contextManager);
+        this.contextManager = contextManager;
     }
     
     private Map<String, DataSource> getTrafficDataSourceMap(final String databaseName, final ContextManager contextManager) {
@@ -322,6 +327,23 @@ public final class ConnectionManager implements ExecutorJDBCConnectionManager, A
         return result;
     }
     
+    @Override
+    public int getAcquirableConnectionSize(final String dataSourceName, final int connectionSize) {
+        DataSource dataSource = dataSourceMap.get(dataSourceName);
+        if (null == dataSource) {
+            return connectionSize;
+        }
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(dataSourceName).size();
+        }
+        if (cachedConnectionSize >= connectionSize) {
+            return connectionSize;
+        }
+        int scatterUsagePercentage = contextManager.getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.CONNECTION_POOL_SCATTER_USAGE_PERCENTAGE);
+        return Math.max(cachedConnectionSize, new AcquirableConnectionSizeCalculator(scatterUsagePercentage).calculate(dataSource, connectionSize));
+    }
+    
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     private List<Connection> createConnections(final String dataSourceName, final DataSource dataSource, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         if (1 == connectionSize) {
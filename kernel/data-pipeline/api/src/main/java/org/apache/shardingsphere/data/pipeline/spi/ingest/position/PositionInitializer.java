@@ -18,12 +18,14 @@
 package org.apache.shardingsphere.data.pipeline.spi.ingest.position;
 
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.required.RequiredSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
 import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.Collection;
 
 /**
  * Position initializer.
@@ -41,6 +43,19 @@ public interface PositionInitializer extends TypedSPI, RequiredSPI {
      */
     IngestPosition<?> init(DataSource dataSource, String slotNameSuffix) throws SQLException;
     
+    /**
+     * Init position by data source and tables to be dumped.
+     *
+     * @param dataSource data source
+     * @param slotNameSuffix slot name suffix
+     * @param tableNames schema and table names of tables to be dumped
+     * @return position
+     * @throws SQLException SQL exception
+     */
+    default IngestPosition<?> init(DataSource dataSource, String slotNameSuffix, Collection<SchemaTableName> tableNames) throws SQLException {
+        return init(dataSource, slotNameSuffix);
+    }
+    
     /**
      * Init position by string data.
      *
@@ -151,6 +151,16 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String schemaName, String tableName, String primaryKey);
     
+    /**
+     * Build unique key minimum value, maximum value and rows count SQL.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return unique key minimum value, maximum value and rows count SQL
+     */
+    String buildUniqueKeyMinMaxCountSQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -162,4 +172,18 @@ public interface PipelineSQLBuilder extends TypedSPI, RequiredSPI {
     default Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build chunked digest SQL, which calculates maximum unique key value, records count and digest of one chunk of records.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param columnNames column names
+     * @param firstQuery first query
+     * @return chunked digest SQL
+     */
+    default Optional<String> buildChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.UnsupportedPipelineDatabaseTypeException;
+import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.ColumnValueReaderFactory;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.infra.algorithm.AlgorithmDescription;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Chunked digest match data consistency calculate algorithm.
+ *
+ * <p>Every chunk of records is reduced to maximum unique key value, records count and digest by database.
+ * Digests are only comparable between same database types, so chunks checked against another database type are loaded and compared record by record.</p>
+ */
+@AlgorithmDescription("Match digest of chunked records.")
+@Slf4j
+public final class ChunkedDigestMatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Arrays.asList("MySQL", "PostgreSQL", "openGauss");
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    @Getter
+    private Properties props;
+    
+    private int chunkSize;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        chunkSize = getChunkSize(props);
+    }
+    
+    private int getChunkSize(final Properties props) {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    public Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param) {
+        CalculatedResult previousCalculatedResult = (CalculatedResult) param.getPreviousCalculatedResult();
+        Object beginUniqueKeyValue = null == previousCalculatedResult ? param.getTableCheckPosition() : previousCalculatedResult.getMaxUniqueKeyValue().orElse(null);
+        Optional<CalculatedResult> digestResult = calculateDigest(param, beginUniqueKeyValue);
+        if (!digestResult.isPresent()) {
+            return Optional.empty();
+        }
+        if (isDigestComparable(param)) {
+            return Optional.of(digestResult.get());
+        }
+        Object maxUniqueKeyValue = digestResult.get().maxUniqueKeyValue;
+        int recordsCount = digestResult.get().recordsCount;
+        return Optional.of(new CalculatedResult(maxUniqueKeyValue, recordsCount, null, loadRecords(param, beginUniqueKeyValue, maxUniqueKeyValue, recordsCount)));
+    }
+    
+    private boolean isDigestComparable(final DataConsistencyCalculateParameter param) {
+        return param.getDatabaseType().equals(param.getPeerDatabaseType());
+    }
+    
+    private Optional<CalculatedResult> calculateDigest(final DataConsistencyCalculateParameter param, final Object beginUniqueKeyValue) {
+        Optional<String> sql = PipelineSQLBuilderFactory.getInstance(param.getDatabaseType())
+                .buildChunkedDigestSQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName(), param.getColumnNames(), null == beginUniqueKeyValue);
+        ShardingSpherePreconditions.checkState(sql.isPresent(), () -> new UnsupportedPipelineDatabaseTypeException(DatabaseTypeFactory.getInstance(param.getDatabaseType())));
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql.get()))) {
+            setParameters(preparedStatement, beginUniqueKeyValue, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                int recordsCount = resultSet.getInt(2);
+                if (0 == recordsCount) {
+                    return Optional.empty();
+                }
+                Object maxUniqueKeyValue = ColumnValueReaderFactory.getInstance(param.getDatabaseType()).readValue(resultSet, resultSet.getMetaData(), 1);
+                return Optional.of(new CalculatedResult(maxUniqueKeyValue, recordsCount, resultSet.getString(3), null));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    private static void setParameters(final PreparedStatement preparedStatement, final Object beginUniqueKeyValue, final int limit) throws SQLException {
+        if (null == beginUniqueKeyValue) {
+            preparedStatement.setInt(1, limit);
+        } else {
+            preparedStatement.setObject(1, beginUniqueKeyValue);
+            preparedStatement.setInt(2, limit);
+        }
+    }
+    
+    private DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult loadRecords(final DataConsistencyCalculateParameter param, final Object beginUniqueKeyValue,
+                                                                                    final Object maxUniqueKeyValue, final int recordsCount) {
+        String sql = PipelineSQLBuilderFactory.getInstance(param.getDatabaseType())
+                .buildChunkedQuerySQL(param.getSchemaName(), param.getLogicTableName(), param.getUniqueKey().getName(), null == beginUniqueKeyValue);
+        try (
+                Connection connection = param.getDataSource().getConnection();
+                PreparedStatement preparedStatement = setCurrentStatement(connection.prepareStatement(sql))) {
+            preparedStatement.setFetchSize(recordsCount);
+            setParameters(preparedStatement, beginUniqueKeyValue, recordsCount);
+            Collection<Collection<Object>> records = new LinkedList<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ColumnValueReader columnValueReader = ColumnValueReaderFactory.getInstance(param.getDatabaseType());
+                while (resultSet.next()) {
+                    ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+                    Collection<Object> record = new LinkedList<>();
+                    for (int columnIndex = 1; columnIndex <= resultSetMetaData.getColumnCount(); columnIndex++) {
+                        record.add(columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex));
+                    }
+                    records.add(record);
+                }
+            }
+            return new DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult(maxUniqueKeyValue, records.size(), records);
+        } catch (final SQLException ex) {
+            throw new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName(), ex);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNKED_DIGEST_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    static final class CalculatedResult implements DataConsistencyCalculatedResult {
+        
+        @NonNull
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordsCount;
+        
+        private final String digest;
+        
+        @Getter(AccessLevel.NONE)
+        private final DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult recordsResult;
+        
+        public Optional<Object> getMaxUniqueKeyValue() {
+            return Optional.of(maxUniqueKeyValue);
+        }
+        
+        @Override
+        public boolean equals(final Object o) {
+            if (null == o) {
+                return false;
+            }
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CalculatedResult)) {
+                log.warn("CalculatedResult type not match, o.className={}", o.getClass().getName());
+                return false;
+            }
+            final CalculatedResult that = (CalculatedResult) o;
+            if (recordsCount != that.recordsCount || !Objects.equals(maxUniqueKeyValue, that.maxUniqueKeyValue)) {
+                log.warn("recordCount or maxUniqueKeyValue not match, recordCount1={}, recordCount2={}, maxUniqueKeyValue1={}, maxUniqueKeyValue2={}",
+                        recordsCount, that.recordsCount, maxUniqueKeyValue, that.maxUniqueKeyValue);
+                return false;
+            }
+            if (null != digest && null != that.digest) {
+                if (digest.equals(that.digest)) {
+                    return true;
+                }
+                log.warn("digest not match, maxUniqueKeyValue={}, recordsCount={}", maxUniqueKeyValue, recordsCount);
+                return false;
+            }
+            if (null != recordsResult && null != that.recordsResult) {
+                return recordsResult.equals(that.recordsResult);
+            }
+            log.warn("digest and records not comparable, maxUniqueKeyValue={}, recordsCount={}", maxUniqueKeyValue, recordsCount);
+            return false;
+        }
+        
+        @Override
+        public int hashCode() {
+            return new HashCodeBuilder(17, 37).append(getMaxUniqueKeyValue().orElse(null)).append(getRecordsCount()).toHashCode();
+        }
+    }
+}
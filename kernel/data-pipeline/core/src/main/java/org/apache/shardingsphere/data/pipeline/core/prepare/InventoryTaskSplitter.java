@@ -42,6 +42,7 @@ import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelCreator;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
@@ -49,6 +50,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -59,6 +61,8 @@ import java.util.List;
 @Slf4j
 public final class InventoryTaskSplitter {
     
+    private static final int MAX_SPARSE_RATIO = 2;
+    
     private final PipelineDataSourceWrapper sourceDataSource;
     
     private final InventoryDumperConfiguration dumperConfig;
@@ -156,42 +160,75 @@ public final class InventoryTaskSplitter {
     
     private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
                                                                               final InventoryDumperConfiguration dumperConfig) {
-        Collection<IngestPosition<?>> result = new LinkedList<>();
-        PipelineJobConfiguration jobConfig = jobItemContext.getJobConfig();
-        String sql = PipelineSQLBuilderFactory.getInstance(jobConfig.getSourceDatabaseType())
-                .buildSplitByPrimaryKeyRangeSQL(dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName())), dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.getInstance(jobItemContext.getJobConfig().getSourceDatabaseType());
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
         int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            // TODO query minimum value less than 0
-            long beginId = 0;
-            long recordsCount = 0;
-            for (int i = 0; i < Integer.MAX_VALUE; i++) {
+        String minMaxCountSQL = sqlBuilder.buildUniqueKeyMinMaxCountSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey());
+        try (Connection connection = dataSource.getConnection()) {
+            long minId;
+            long maxId;
+            long recordsCount;
+            try (
+                    PreparedStatement preparedStatement = connection.prepareStatement(minMaxCountSQL);
+                    ResultSet resultSet = preparedStatement.executeQuery()) {
+                resultSet.next();
+                minId = resultSet.getLong(1);
+                maxId = resultSet.getLong(2);
+                recordsCount = resultSet.getLong(3);
+            }
+            jobItemContext.updateInventoryRecordsCount(recordsCount);
+            // fix empty table missing inventory task
+            if (0 == recordsCount) {
+                return Collections.singletonList(new IntegerPrimaryKeyPosition(0, 0));
+            }
+            if (isDenseUniqueKey(minId, maxId, recordsCount)) {
+                return getPositionByIntegerPrimaryKeyStep(minId, maxId, shardingSize);
+            }
+            return getPositionByIntegerPrimaryKeyRecords(connection, sqlBuilder.buildSplitByPrimaryKeyRangeSQL(schemaName, dumperConfig.getActualTableName(), dumperConfig.getUniqueKey()),
+                    minId, shardingSize);
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
+        }
+    }
+    
+    private boolean isDenseUniqueKey(final long minId, final long maxId, final long recordsCount) {
+        long span = maxId - minId;
+        return span >= 0 && span < recordsCount * MAX_SPARSE_RATIO;
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyStep(final long minId, final long maxId, final int shardingSize) {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        long beginId = minId;
+        while (true) {
+            long endId = Math.subtractExact(maxId, beginId) < shardingSize ? maxId : Math.addExact(beginId, shardingSize - 1);
+            result.add(new IntegerPrimaryKeyPosition(beginId, endId));
+            if (endId == maxId) {
+                return result;
+            }
+            beginId = endId + 1;
+        }
+    }
+    
+    private Collection<IngestPosition<?>> getPositionByIntegerPrimaryKeyRecords(final Connection connection, final String sql, final long minId, final int shardingSize) throws SQLException {
+        Collection<IngestPosition<?>> result = new LinkedList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            long beginId = minId;
+            while (true) {
                 preparedStatement.setLong(1, beginId);
                 preparedStatement.setLong(2, shardingSize);
                 try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                    if (!resultSet.next()) {
-                        break;
+                    if (!resultSet.next() || 0 == resultSet.getLong(2)) {
+                        return result;
                     }
                     long endId = resultSet.getLong(1);
-                    recordsCount += resultSet.getLong(2);
-                    if (0 == endId) {
-                        break;
-                    }
                     result.add(new IntegerPrimaryKeyPosition(beginId, endId));
+                    if (Long.MAX_VALUE == endId) {
+                        return result;
+                    }
                     beginId = endId + 1;
                 }
             }
-            jobItemContext.updateInventoryRecordsCount(recordsCount);
-            // fix empty table missing inventory task
-            if (result.isEmpty()) {
-                result.add(new IntegerPrimaryKeyPosition(0, 0));
-            }
-        } catch (final SQLException ex) {
-            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), dumperConfig.getUniqueKey(), ex);
         }
-        return result;
     }
     
     private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource,
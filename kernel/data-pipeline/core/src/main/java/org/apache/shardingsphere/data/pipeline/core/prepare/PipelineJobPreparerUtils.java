@@ -27,6 +27,9 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.Shardi
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.impl.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobItemIncrementalTasksProgress;
+import org.apache.shardingsphere.data.pipeline.api.metadata.ActualTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
 import org.apache.shardingsphere.data.pipeline.core.check.datasource.DataSourceCheckerFactory;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.prepare.datasource.DataSourcePreparer;
@@ -49,6 +52,8 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
 
 /**
@@ -132,7 +137,18 @@ public final class PipelineJobPreparerUtils {
         }
         String databaseType = dumperConfig.getDataSourceConfig().getDatabaseType().getType();
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
-        return PositionInitializerFactory.getInstance(databaseType).init(dataSource, dumperConfig.getJobId());
+        return PositionInitializerFactory.getInstance(databaseType).init(dataSource, dumperConfig.getJobId(), getSchemaTableNames(dumperConfig));
+    }
+    
+    private static Collection<SchemaTableName> getSchemaTableNames(final DumperConfiguration dumperConfig) {
+        if (null == dumperConfig.getTableNameMap()) {
+            return Collections.emptyList();
+        }
+        Collection<SchemaTableName> result = new LinkedList<>();
+        for (ActualTableName each : dumperConfig.getTableNameMap().keySet()) {
+            result.add(new SchemaTableName(new SchemaName(dumperConfig.getSchemaName(each)), each));
+        }
+        return result;
     }
     
     /**
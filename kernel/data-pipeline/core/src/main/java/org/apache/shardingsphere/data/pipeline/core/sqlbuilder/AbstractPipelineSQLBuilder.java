@@ -30,6 +30,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
 
 /**
  * Abstract pipeline SQL builder.
@@ -189,4 +190,28 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         return String.format("SELECT MAX(%s),COUNT(*) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t",
                 quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName), quotedUniqueKey, quotedUniqueKey);
     }
+    
+    @Override
+    public String buildUniqueKeyMinMaxCountSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        String quotedUniqueKey = quote(uniqueKey);
+        return String.format("SELECT MIN(%s),MAX(%s),COUNT(*) FROM %s", quotedUniqueKey, quotedUniqueKey, getQualifiedTableName(schemaName, tableName));
+    }
+    
+    /**
+     * Build chunked digest SQL which aggregates MD5 of row text in unique key order.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @param columnNames column names
+     * @param firstQuery first query
+     * @return chunked digest SQL
+     */
+    protected final String buildRowTextChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        String quotedUniqueKey = quote(uniqueKey);
+        String rowDigest = String.format("MD5(CAST(ROW(%s) AS TEXT))", columnNames.stream().map(this::quote).collect(Collectors.joining(",")));
+        String whereSQL = firstQuery ? "" : String.format(" WHERE %s>?", quotedUniqueKey);
+        return String.format("SELECT MAX(%s),COUNT(*),MD5(STRING_AGG(row_digest,'' ORDER BY %s)) FROM (SELECT %s,%s AS row_digest FROM %s%s ORDER BY %s ASC LIMIT ?) chunk",
+                quotedUniqueKey, quotedUniqueKey, quotedUniqueKey, rowDigest, getQualifiedTableName(schemaName, tableName), whereSQL, quotedUniqueKey);
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkedDigestMatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNotEquals;
+
+public final class ChunkedDigestMatchCalculatedResultTest {
+    
+    @Test
+    public void assertDigestEquals() {
+        CalculatedResult actual = new CalculatedResult(1000, 10, "123", null);
+        CalculatedResult expected = new CalculatedResult(1000, 10, "123", null);
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertRecordsCountNotEquals() {
+        CalculatedResult result1 = new CalculatedResult(1000, 10, "123", null);
+        CalculatedResult result2 = new CalculatedResult(1000, 9, "123", null);
+        assertNotEquals(result1, result2);
+    }
+    
+    @Test
+    public void assertMaxUniqueKeyValueNotEquals() {
+        CalculatedResult result1 = new CalculatedResult(1000, 10, "123", null);
+        CalculatedResult result2 = new CalculatedResult(1001, 10, "123", null);
+        assertNotEquals(result1, result2);
+    }
+    
+    @Test
+    public void assertDigestNotEquals() {
+        CalculatedResult result1 = new CalculatedResult(1000, 10, "123", null);
+        CalculatedResult result2 = new CalculatedResult(1000, 10, "456", null);
+        assertNotEquals(result1, result2);
+    }
+    
+    @Test
+    public void assertRecordsEquals() {
+        CalculatedResult actual = new CalculatedResult(1000, 1, null, createRecordsResult(1000, "ok"));
+        CalculatedResult expected = new CalculatedResult(1000, 1, null, createRecordsResult(1000, "ok"));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertRecordsNotEquals() {
+        CalculatedResult result1 = new CalculatedResult(1000, 1, null, createRecordsResult(1000, "ok"));
+        CalculatedResult result2 = new CalculatedResult(1000, 1, null, createRecordsResult(1000, "failed"));
+        assertNotEquals(result1, result2);
+    }
+    
+    @Test
+    public void assertDigestAndRecordsNotComparable() {
+        CalculatedResult result1 = new CalculatedResult(1000, 1, "123", null);
+        CalculatedResult result2 = new CalculatedResult(1000, 1, null, createRecordsResult(1000, "ok"));
+        assertNotEquals(result1, result2);
+    }
+    
+    private DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult createRecordsResult(final Object uniqueKeyValue, final String status) {
+        return new DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult(uniqueKeyValue, 1, Collections.<Collection<Object>>singletonList(Arrays.asList(uniqueKeyValue, status)));
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkedDigestMatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChunkedDigestMatchDataConsistencyCalculateAlgorithmTest {
+    
+    private static final String DIGEST_SQL = "SELECT MAX(id),COUNT(*),DIGEST FROM foo_tbl";
+    
+    private static final String QUERY_SQL = "SELECT * FROM foo_tbl";
+    
+    private final ChunkedDigestMatchDataConsistencyCalculateAlgorithm algorithm = new ChunkedDigestMatchDataConsistencyCalculateAlgorithm();
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Before
+    public void setUp() throws SQLException {
+        algorithm.init(new Properties());
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+    }
+    
+    @Test
+    public void assertCalculateWithSameDatabaseType() throws SQLException {
+        PreparedStatement digestStatement = mockDigestStatement();
+        when(connection.prepareStatement(DIGEST_SQL)).thenReturn(digestStatement);
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(createParameter("FIXTURE")).iterator();
+        CalculatedResult actualResult = (CalculatedResult) actual.next();
+        assertThat(actualResult.getMaxUniqueKeyValue().orElse(null), is((Object) 2));
+        assertThat(actualResult.getRecordsCount(), is(2));
+        assertThat(actualResult.getDigest(), is("foo_digest"));
+        assertFalse(actual.hasNext());
+        verify(connection, never()).prepareStatement(QUERY_SQL);
+    }
+    
+    @Test
+    public void assertCalculateWithDifferentDatabaseType() throws SQLException {
+        PreparedStatement digestStatement = mockDigestStatement();
+        when(connection.prepareStatement(DIGEST_SQL)).thenReturn(digestStatement);
+        PreparedStatement queryStatement = mockQueryStatement();
+        when(connection.prepareStatement(QUERY_SQL)).thenReturn(queryStatement);
+        Iterator<DataConsistencyCalculatedResult> actual = algorithm.calculate(createParameter("MySQL")).iterator();
+        CalculatedResult actualResult = (CalculatedResult) actual.next();
+        assertThat(actualResult.getDigest(), nullValue());
+        DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult expectedRecords = new DataMatchDataConsistencyCalculateAlgorithm.CalculatedResult(2, 2,
+                Arrays.<Collection<Object>>asList(Arrays.asList(1, "foo"), Arrays.asList(2, "bar")));
+        assertThat(actualResult, is(new CalculatedResult(2, 2, null, expectedRecords)));
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test(expected = PipelineTableDataConsistencyCheckLoadingFailedException.class)
+    public void assertCalculateFailed() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException());
+        algorithm.calculate(createParameter("FIXTURE")).iterator().next();
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final String peerDatabaseType) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "id", Types.INTEGER, "integer", false, true, true);
+        return new DataConsistencyCalculateParameter(pipelineDataSource, null, "foo_tbl", Arrays.asList("id", "status"), "FIXTURE", peerDatabaseType, uniqueKey, null);
+    }
+    
+    private PreparedStatement mockDigestStatement() throws SQLException {
+        ResultSet chunkResultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(chunkResultSet.getInt(2)).thenReturn(2);
+        when(chunkResultSet.getObject(1)).thenReturn(2);
+        when(chunkResultSet.getString(3)).thenReturn("foo_digest");
+        ResultSet emptyResultSet = mock(ResultSet.class);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(chunkResultSet, emptyResultSet);
+        return result;
+    }
+    
+    private PreparedStatement mockQueryStatement() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.getObject(1)).thenReturn(1, 2);
+        when(resultSet.getObject(2)).thenReturn("foo", "bar");
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        return result;
+    }
+}
@@ -70,7 +70,7 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
     
     @Override
     public String buildChunkedQuerySQL(final String schemaName, final String tableName, final String uniqueKey, final boolean firstQuery) {
-        return "";
+        return String.format("SELECT * FROM %s", tableName);
     }
     
     @Override
@@ -83,11 +83,21 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildUniqueKeyMinMaxCountSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String schemaName, final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(*),DIGEST FROM %s", uniqueKey, tableName));
+    }
+    
     @Override
     public String getType() {
         return "FIXTURE";
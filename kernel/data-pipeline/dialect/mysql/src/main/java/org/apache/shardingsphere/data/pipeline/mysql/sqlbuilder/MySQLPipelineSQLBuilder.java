@@ -22,8 +22,10 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -89,6 +91,16 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        String quotedUniqueKey = quote(uniqueKey);
+        String columnDigests = columnNames.stream().map(each -> String.format("IFNULL(MD5(%s),'N')", quote(each))).collect(Collectors.joining(","));
+        String rowDigest = String.format("CAST(CONV(SUBSTRING(MD5(CONCAT_WS(',',%s)),1,16),16,10) AS UNSIGNED)", columnDigests);
+        String whereSQL = firstQuery ? "" : String.format(" WHERE %s>?", quotedUniqueKey);
+        return Optional.of(String.format("SELECT MAX(%s),COUNT(*),BIT_XOR(row_digest) FROM (SELECT %s,%s AS row_digest FROM %s%s ORDER BY %s ASC LIMIT ?) chunk",
+                quotedUniqueKey, quotedUniqueKey, rowDigest, getQualifiedTableName(schemaName, tableName), whereSQL, quotedUniqueKey));
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -51,6 +52,14 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(id) AS UNSIGNED)) AS checksum, COUNT(1) AS cnt FROM t2"));
     }
     
+    @Test
+    public void assertBuildChunkedDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedDigestSQL(null, "t2", "id", Arrays.asList("id", "c1"), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(id),COUNT(*),BIT_XOR(row_digest) FROM (SELECT id,CAST(CONV(SUBSTRING(MD5(CONCAT_WS(',',IFNULL(MD5(id),'N'),IFNULL(MD5(c1),'N'))),1,16),16,10)"
+                + " AS UNSIGNED) AS row_digest FROM t2 WHERE id>? ORDER BY id ASC LIMIT ?) chunk"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -87,6 +88,11 @@ public final class OpenGaussPipelineSQLBuilder extends AbstractPipelineSQLBuilde
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.of(buildRowTextChunkedDigestSQL(schemaName, tableName, uniqueKey, columnNames, firstQuery));
+    }
+    
     @Override
     public String getType() {
         return "openGauss";
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -65,4 +66,12 @@ public final class OpenGaussPipelineSQLBuilderTest {
         String actualDropSQL = sqlBuilder.buildDropSQL("test_normal", "t_order");
         assertThat(actualDropSQL, is("DROP TABLE IF EXISTS test_normal.t_order"));
     }
+    
+    @Test
+    public void assertBuildChunkedDigestSQL() {
+        Optional<String> actual = sqlBuilder.buildChunkedDigestSQL("schema1", "t_order", "order_id", Arrays.asList("order_id", "user_id", "status"), false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT MAX(order_id),COUNT(*),MD5(STRING_AGG(row_digest,'' ORDER BY order_id))"
+                + " FROM (SELECT order_id,MD5(CAST(ROW(order_id,user_id,status) AS TEXT)) AS row_digest FROM schema1.t_order WHERE order_id>? ORDER BY order_id ASC LIMIT ?) chunk"));
+    }
 }
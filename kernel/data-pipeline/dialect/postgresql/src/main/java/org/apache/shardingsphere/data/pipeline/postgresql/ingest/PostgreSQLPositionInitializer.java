@@ -19,6 +19,8 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithoutEnoughPrivilegeException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.position.PositionInitializer;
@@ -29,6 +31,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * PostgreSQL WAL position initializer.
@@ -36,16 +42,27 @@ import java.sql.SQLException;
 @Slf4j
 public final class PostgreSQLPositionInitializer implements PositionInitializer {
     
+    public static final String TEST_DECODING_PLUGIN = "test_decoding";
+    
+    public static final String PGOUTPUT_PLUGIN = "pgoutput";
+    
     private static final String SLOT_NAME_PREFIX = "pipeline";
     
-    private static final String DECODE_PLUGIN = "test_decoding";
+    private static final int PGOUTPUT_MIN_MAJOR_VERSION = 10;
     
     private static final String DUPLICATE_OBJECT_ERROR_CODE = "42710";
     
+    private static final String INSUFFICIENT_PRIVILEGE_ERROR_CODE = "42501";
+    
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
+        return init(dataSource, slotNameSuffix, Collections.emptyList());
+    }
+    
+    @Override
+    public WALPosition init(final DataSource dataSource, final String slotNameSuffix, final Collection<SchemaTableName> tableNames) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix));
+            createSlotIfNotExist(connection, getUniqueSlotName(connection, slotNameSuffix), tableNames);
             return getWalPosition(connection);
         }
     }
@@ -55,12 +72,13 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(Long.parseLong(data))));
     }
     
-    private void createSlotIfNotExist(final Connection connection, final String slotName) throws SQLException {
-        if (isSlotExisting(connection, slotName)) {
+    private void createSlotIfNotExist(final Connection connection, final String slotName, final Collection<SchemaTableName> tableNames) throws SQLException {
+        if (getSlotPlugin(connection, slotName).isPresent()) {
             log.info("createSlotIfNotExist, slot exist, slotName={}", slotName);
             return;
         }
-        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, DECODE_PLUGIN);
+        String decodePlugin = createPublicationIfNotExist(connection, slotName, tableNames) ? PGOUTPUT_PLUGIN : TEST_DECODING_PLUGIN;
+        String createSlotSQL = String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodePlugin);
         try (PreparedStatement preparedStatement = connection.prepareStatement(createSlotSQL)) {
             preparedStatement.execute();
         } catch (final SQLException ex) {
@@ -70,13 +88,67 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         }
     }
     
-    private boolean isSlotExisting(final Connection connection, final String slotName) throws SQLException {
-        String checkSlotSQL = "SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?";
-        try (PreparedStatement preparedStatement = connection.prepareStatement(checkSlotSQL)) {
+    private boolean createPublicationIfNotExist(final Connection connection, final String publicationName, final Collection<SchemaTableName> tableNames) throws SQLException {
+        if (tableNames.isEmpty() || connection.getMetaData().getDatabaseMajorVersion() < PGOUTPUT_MIN_MAJOR_VERSION) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, publicationName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (resultSet.next()) {
+                    return true;
+                }
+            }
+        }
+        Collection<String> qualifiedTableNames = new LinkedList<>();
+        for (SchemaTableName each : tableNames) {
+            String qualifiedTableName = getQualifiedTableName(each);
+            if (!hasReplicaIdentity(connection, qualifiedTableName)) {
+                log.info("Table {} has no replica identity, fall back to {}, publicationName={}", qualifiedTableName, TEST_DECODING_PLUGIN, publicationName);
+                return false;
+            }
+            qualifiedTableNames.add(qualifiedTableName);
+        }
+        String createPublicationSQL = String.format("CREATE PUBLICATION %s FOR TABLE %s", quote(publicationName), String.join(", ", qualifiedTableNames));
+        try (PreparedStatement preparedStatement = connection.prepareStatement(createPublicationSQL)) {
+            preparedStatement.execute();
+            return true;
+        } catch (final SQLException ex) {
+            if (INSUFFICIENT_PRIVILEGE_ERROR_CODE.equals(ex.getSQLState())) {
+                throw new PrepareJobWithoutEnoughPrivilegeException(Collections.singleton(String.format("CREATE PUBLICATION (CREATE on database and ownership of %s)", qualifiedTableNames)));
+            }
+            throw ex;
+        }
+    }
+    
+    private boolean hasReplicaIdentity(final Connection connection, final String qualifiedTableName) throws SQLException {
+        String sql = "SELECT c.relreplident, EXISTS (SELECT 1 FROM pg_index i WHERE i.indrelid = c.oid AND i.indisprimary) FROM pg_class c WHERE c.oid = CAST(? AS regclass)";
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setString(1, qualifiedTableName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return false;
+                }
+                String replicaIdentity = resultSet.getString(1);
+                return "f".equals(replicaIdentity) || "i".equals(replicaIdentity) || ("d".equals(replicaIdentity) && resultSet.getBoolean(2));
+            }
+        }
+    }
+    
+    private String getQualifiedTableName(final SchemaTableName schemaTableName) {
+        String tableName = quote(schemaTableName.getTableName().getLowercase());
+        return null == schemaTableName.getSchemaName().getOriginal() ? tableName : quote(schemaTableName.getSchemaName().getLowercase()) + "." + tableName;
+    }
+    
+    private String quote(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+    
+    private static Optional<String> getSlotPlugin(final Connection connection, final String slotName) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
             preparedStatement.setString(1, slotName);
-            preparedStatement.setString(2, DECODE_PLUGIN);
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
-                return resultSet.next();
+                return resultSet.next() ? Optional.of(resultSet.getString(1)) : Optional.empty();
             }
         }
     }
@@ -109,7 +181,8 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
     
     private void dropSlotIfExist(final Connection connection, final String slotNameSuffix) throws SQLException {
         String slotName = getUniqueSlotName(connection, slotNameSuffix);
-        if (!isSlotExisting(connection, slotName)) {
+        Optional<String> slotPlugin = getSlotPlugin(connection, slotName);
+        if (!slotPlugin.isPresent()) {
             log.info("dropSlotIfExist, slot not exist, slotName={}", slotName);
             return;
         }
@@ -119,6 +192,11 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
             preparedStatement.setString(1, slotName);
             preparedStatement.execute();
         }
+        if (PGOUTPUT_PLUGIN.equals(slotPlugin.get())) {
+            try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("DROP PUBLICATION IF EXISTS %s", quote(slotName)))) {
+                preparedStatement.execute();
+            }
+        }
     }
     
     /**
@@ -135,6 +213,21 @@ public final class PostgreSQLPositionInitializer implements PositionInitializer
         return String.format("%s_%s", SLOT_NAME_PREFIX, slotName);
     }
     
+    /**
+     * Get decoding plugin name of slot.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return decoding plugin name
+     * @throws SQLException SQL exception
+     */
+    public static String getDecodingPluginName(final Connection connection, final String slotName) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < PGOUTPUT_MIN_MAJOR_VERSION) {
+            return TEST_DECODING_PLUGIN;
+        }
+        return getSlotPlugin(connection, slotName).orElse(TEST_DECODING_PLUGIN);
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.PostgreSQLL
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode.TestDecodingPlugin;
@@ -72,20 +73,21 @@ public final class PostgreSQLWALDumper extends AbstractLifecycleExecutor impleme
     @Override
     protected void runBlocking() {
         // TODO use unified PgConnection
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(connection, PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId()),
-                        walPosition.getLogSequenceNumber())) {
-            PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    ThreadUtil.sleep(10L);
-                    continue;
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperConfig.getDataSourceConfig())) {
+            String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, dumperConfig.getJobId());
+            String decodePlugin = PostgreSQLPositionInitializer.getDecodingPluginName(connection, slotName);
+            try (PGReplicationStream stream = logicalReplication.createReplicationStream(connection, slotName, walPosition.getLogSequenceNumber(), decodePlugin)) {
+                PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
+                DecodingPlugin decodingPlugin = PostgreSQLPositionInitializer.PGOUTPUT_PLUGIN.equals(decodePlugin) ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils);
+                while (isRunning()) {
+                    ByteBuffer message = stream.readPending();
+                    if (null == message) {
+                        ThreadUtil.sleep(10L);
+                        continue;
+                    }
+                    AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+                    channel.pushRecord(walEventConverter.convert(event));
                 }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                channel.pushRecord(walEventConverter.convert(event));
             }
         } catch (final SQLException ex) {
             throw new IngestException(ex);
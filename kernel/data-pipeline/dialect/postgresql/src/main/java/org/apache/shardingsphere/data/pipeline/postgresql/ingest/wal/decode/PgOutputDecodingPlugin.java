@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import com.google.common.base.Preconditions;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.ingest.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin of pgoutput, the native binary logical replication protocol.
+ *
+ * <p>Relation messages are cached by relation ID, column values are decoded by type OID of relation column.</p>
+ */
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, PgOutputRelation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result = decodeMessage(data);
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private AbstractWALEvent decodeMessage(final ByteBuffer data) {
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                return readBeginEvent(data);
+            case 'C':
+                return new CommitTXEvent(currentXid, null);
+            case 'R':
+                readRelation(data);
+                return new PlaceholderEvent();
+            case 'I':
+                return readWriteRowEvent(data);
+            case 'U':
+                return readUpdateRowEvent(data);
+            case 'D':
+                return readDeleteRowEvent(data);
+            default:
+                return new PlaceholderEvent();
+        }
+    }
+    
+    private BeginTXEvent readBeginEvent(final ByteBuffer data) {
+        data.getLong();
+        data.getLong();
+        currentXid = Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid);
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        List<PgOutputRelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean key = 0 != (data.get() & 1);
+            String columnName = readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new PgOutputRelationColumn(columnName, typeOid, key));
+        }
+        relations.put(relationId, new PgOutputRelation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        List<Object> beforeRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            beforeRow = readTupleData(data, relation, null);
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, beforeRow));
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        PgOutputRelation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation, null);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                primaryKeys.add(beforeRow.get(i));
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        setTableName(result, relation);
+        return result;
+    }
+    
+    private PgOutputRelation getRelation(final int relationId) {
+        PgOutputRelation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private void setTableName(final AbstractRowEvent rowEvent, final PgOutputRelation relation) {
+        rowEvent.setDatabaseName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final PgOutputRelation relation, final List<Object> beforeRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            char kind = (char) data.get();
+            switch (kind) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    if (null == beforeRow) {
+                        throw new IngestException(String.format("Unchanged toasted value of column `%s` is absent, please set REPLICA IDENTITY FULL for table `%s`",
+                                relation.getColumns().get(i).getName(), relation.getTableName()));
+                    }
+                    result.add(beforeRow.get(i));
+                    break;
+                case 't':
+                    result.add(readColumnValue(data, data.getInt(), relation.getColumns().get(i).getTypeOid()));
+                    break;
+                default:
+                    throw new IngestException("Unknown tuple data kind: " + kind);
+            }
+        }
+        return result;
+    }
+    
+    private Object readColumnValue(final ByteBuffer data, final int length, final int typeOid) {
+        switch (typeOid) {
+            case INT2_OID:
+                return (short) readLong(data, length);
+            case INT4_OID:
+                return (int) readLong(data, length);
+            case INT8_OID:
+                return readLong(data, length);
+            case BOOL_OID:
+                return readBoolean(data, length);
+            case BYTEA_OID:
+                return readByteA(data, length);
+            case FLOAT4_OID:
+                return Float.parseFloat(readString(data, length));
+            case FLOAT8_OID:
+                return Double.parseDouble(readString(data, length));
+            case NUMERIC_OID:
+                return new BigDecimal(readString(data, length));
+            case DATE_OID:
+                return Date.valueOf(readString(data, length));
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, readString(data, length));
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return readString(data, length);
+        }
+    }
+    
+    private long readLong(final ByteBuffer data, final int length) {
+        byte first = data.get();
+        boolean negative = '-' == first;
+        long result = negative ? 0L : first - '0';
+        for (int i = 1; i < length; i++) {
+            result = result * 10L + (data.get() - '0');
+        }
+        return negative ? -result : result;
+    }
+    
+    private boolean readBoolean(final ByteBuffer data, final int length) {
+        boolean result = 't' == data.get();
+        data.position(data.position() + length - 1);
+        return result;
+    }
+    
+    private byte[] readByteA(final ByteBuffer data, final int length) {
+        Preconditions.checkArgument(length >= 2 && 0 == (length & 1), "Illegal hex data length `%s`", length);
+        data.position(data.position() + 2);
+        byte[] result = new byte[(length - 2) >>> 1];
+        for (int i = 0; i < result.length; i++) {
+            int firstHexChar = Character.digit(data.get(), 16);
+            int secondHexChar = Character.digit(data.get(), 16);
+            Preconditions.checkArgument(-1 != firstHexChar && -1 != secondHexChar, "Illegal hex byte in index `%s`", i);
+            result[i] = (byte) ((firstHexChar << 4) + secondHexChar);
+        }
+        return result;
+    }
+    
+    private String readString(final ByteBuffer data, final int length) {
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int end = data.position();
+        while (0 != data.get(end)) {
+            end++;
+        }
+        String result = readString(data, end - data.position());
+        data.get();
+        return result;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -85,6 +86,11 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    @Override
+    public Optional<String> buildChunkedDigestSQL(final String schemaName, final String tableName, final String uniqueKey, final Collection<String> columnNames, final boolean firstQuery) {
+        return Optional.of(buildRowTextChunkedDigestSQL(schemaName, tableName, uniqueKey, columnNames, firstQuery));
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
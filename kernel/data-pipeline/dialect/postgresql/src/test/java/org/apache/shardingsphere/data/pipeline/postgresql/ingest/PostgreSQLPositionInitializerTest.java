@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.ingest;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.SchemaTableName;
+import org.apache.shardingsphere.data.pipeline.api.metadata.TableName;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithoutEnoughPrivilegeException;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.WALPosition;
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +36,8 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -81,8 +87,71 @@ public final class PostgreSQLPositionInitializerTest {
     public void assertGetCurrentPositionOnPostgreSQL10() throws SQLException {
         mockSlotExistsOrNot(false);
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
-        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "");
+        mockReplicaIdentity("d", true);
+        PreparedStatement createPublicationPreparedStatement = mockCreatePublication();
+        PreparedStatement createSlotPreparedStatement = mockCreateSlot("pgoutput");
+        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "", createTableNames());
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createPublicationPreparedStatement).execute();
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test
+    public void assertGetCurrentPositionOnPostgreSQL10WithoutReplicaIdentity() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        mockReplicaIdentity("d", false);
+        mockCreatePublication();
+        PreparedStatement createSlotPreparedStatement = mockCreateSlot("test_decoding");
+        WALPosition actual = new PostgreSQLPositionInitializer().init(dataSource, "", createTableNames());
         assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(createSlotPreparedStatement).execute();
+    }
+    
+    @Test(expected = PrepareJobWithoutEnoughPrivilegeException.class)
+    public void assertGetCurrentPositionOnPostgreSQL10WithoutPublicationPrivilege() throws SQLException {
+        mockSlotExistsOrNot(false);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        mockReplicaIdentity("d", true);
+        PreparedStatement createPublicationPreparedStatement = mockCreatePublication();
+        when(createPublicationPreparedStatement.execute()).thenThrow(new SQLException("must be owner of table t_order_0", "42501"));
+        new PostgreSQLPositionInitializer().init(dataSource, "", createTableNames());
+    }
+    
+    private Collection<SchemaTableName> createTableNames() {
+        return Collections.singletonList(new SchemaTableName(new SchemaName("public"), new TableName("t_order_0")));
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void mockReplicaIdentity(final String replicaIdentity, final boolean hasPrimaryKey) {
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(
+                "SELECT c.relreplident, EXISTS (SELECT 1 FROM pg_index i WHERE i.indrelid = c.oid AND i.indisprimary) FROM pg_class c WHERE c.oid = CAST(? AS regclass)"))
+                .thenReturn(preparedStatement);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn(replicaIdentity);
+        when(resultSet.getBoolean(2)).thenReturn(hasPrimaryKey);
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private PreparedStatement mockCreatePublication() {
+        PreparedStatement queryPublicationPreparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT pubname FROM pg_publication WHERE pubname=?")).thenReturn(queryPublicationPreparedStatement);
+        when(queryPublicationPreparedStatement.executeQuery()).thenReturn(mock(ResultSet.class));
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "");
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(connection.prepareStatement(String.format("CREATE PUBLICATION \"%s\" FOR TABLE \"public\".\"t_order_0\"", slotName))).thenReturn(result);
+        return result;
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private PreparedStatement mockCreateSlot(final String decodingPlugin) {
+        PreparedStatement result = mock(PreparedStatement.class);
+        String slotName = PostgreSQLPositionInitializer.getUniqueSlotName(connection, "");
+        when(connection.prepareStatement(String.format("SELECT * FROM pg_create_logical_replication_slot('%s', '%s')", slotName, decodingPlugin))).thenReturn(result);
+        return result;
     }
     
     @Test(expected = RuntimeException.class)
@@ -116,10 +185,13 @@ public final class PostgreSQLPositionInitializerTest {
     @SneakyThrows(SQLException.class)
     private void mockSlotExistsOrNot(final boolean exists) {
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
-        when(connection.prepareStatement("SELECT slot_name FROM pg_replication_slots WHERE slot_name=? AND plugin=?")).thenReturn(preparedStatement);
+        when(connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")).thenReturn(preparedStatement);
         ResultSet resultSet = mock(ResultSet.class);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(exists);
+        if (exists) {
+            when(resultSet.getString(1)).thenReturn("test_decoding");
+        }
     }
     
     @Test
@@ -82,7 +82,22 @@ public final class PostgreSQLLogicalReplicationTest {
         when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
         when(chainedLogicalStreamBuilder.withSlotOption(anyString(), eq(true))).thenReturn(chainedLogicalStreamBuilder, chainedLogicalStreamBuilder);
         BaseLogSequenceNumber basePosition = new PostgreSQLLogSequenceNumber(startPosition);
-        logicalReplication.createReplicationStream(connection, "", basePosition);
+        logicalReplication.createReplicationStream(connection, "", basePosition, "test_decoding");
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    public void assertCreatePgOutputReplicationStreamSuccess() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("pipeline_slot")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("proto_version", 1)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption("publication_names", "pipeline_slot")).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createReplicationStream(connection, "pipeline_slot", new PostgreSQLLogSequenceNumber(startPosition), "pgoutput");
         verify(chainedLogicalStreamBuilder).start();
     }
     
@@ -90,6 +105,6 @@ public final class PostgreSQLLogicalReplicationTest {
     @SneakyThrows(SQLException.class)
     public void assertCreateReplicationStreamFailure() {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
-        logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L)));
+        logicalReplication.createReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(100L)), "test_decoding");
     }
 }
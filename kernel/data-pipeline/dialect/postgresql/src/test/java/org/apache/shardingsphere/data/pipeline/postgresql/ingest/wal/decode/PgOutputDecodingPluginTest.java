@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.wal.event.WriteRowEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertNull;
+
+public final class PgOutputDecodingPluginTest {
+    
+    private static final int RELATION_ID = 16385;
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private final PgOutputDecodingPlugin decodingPlugin = new PgOutputDecodingPlugin(null);
+    
+    @Before
+    public void setUp() {
+        ByteBuffer relation = ByteBuffer.allocate(256);
+        relation.put((byte) 'R').putInt(RELATION_ID);
+        putString(relation, "public");
+        putString(relation, "t_order");
+        relation.put((byte) 'd').putShort((short) 4);
+        putColumn(relation, true, "order_id", 20);
+        putColumn(relation, false, "status", 1043);
+        putColumn(relation, false, "amount", 1700);
+        putColumn(relation, false, "paid", 16);
+        relation.flip();
+        assertThat(decodingPlugin.decode(relation, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+    
+    private void putString(final ByteBuffer buffer, final String value) {
+        buffer.put(value.getBytes(StandardCharsets.UTF_8)).put((byte) 0);
+    }
+    
+    private void putColumn(final ByteBuffer buffer, final boolean key, final String name, final int typeOid) {
+        buffer.put((byte) (key ? 1 : 0));
+        putString(buffer, name);
+        buffer.putInt(typeOid).putInt(-1);
+    }
+    
+    private void putTextValue(final ByteBuffer buffer, final String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.put((byte) 't').putInt(bytes.length).put(bytes);
+    }
+    
+    @Test
+    public void assertDecodeBeginAndCommitEvent() {
+        ByteBuffer begin = ByteBuffer.allocate(21);
+        begin.put((byte) 'B').putLong(100L).putLong(0L).putInt(-1);
+        begin.flip();
+        BeginTXEvent actualBegin = (BeginTXEvent) decodingPlugin.decode(begin, logSequenceNumber);
+        assertThat(actualBegin.getXid(), is(4294967295L));
+        ByteBuffer commit = ByteBuffer.allocate(26);
+        commit.put((byte) 'C').put((byte) 0).putLong(100L).putLong(101L).putLong(0L);
+        commit.flip();
+        CommitTXEvent actualCommit = (CommitTXEvent) decodingPlugin.decode(commit, logSequenceNumber);
+        assertThat(actualCommit.getXid(), is(4294967295L));
+        assertThat(actualCommit.getLogSequenceNumber(), is(logSequenceNumber));
+    }
+    
+    @Test
+    public void assertDecodeWriteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'I').putInt(RELATION_ID).put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "-123");
+        putTextValue(data, "ok");
+        putTextValue(data, "1.50");
+        data.put((byte) 'n');
+        data.flip();
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getLogSequenceNumber(), is(logSequenceNumber));
+        assertThat(actual.getDatabaseName(), is("public"));
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getAfterRow().get(0), is(-123L));
+        assertThat(actual.getAfterRow().get(1), is("ok"));
+        assertThat(actual.getAfterRow().get(2), is(new BigDecimal("1.50")));
+        assertNull(actual.getAfterRow().get(3));
+    }
+    
+    @Test
+    public void assertDecodeUpdateRowEventWithUnchangedToastedValue() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'U').putInt(RELATION_ID).put((byte) 'O').putShort((short) 4);
+        putTextValue(data, "1");
+        putTextValue(data, "long text");
+        putTextValue(data, "1");
+        putTextValue(data, "f");
+        data.put((byte) 'N').putShort((short) 4);
+        putTextValue(data, "1");
+        data.put((byte) 'u');
+        putTextValue(data, "2");
+        putTextValue(data, "t");
+        data.flip();
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.<Object>asList(1L, "long text", new BigDecimal("2"), true)));
+    }
+    
+    @Test
+    public void assertDecodeDeleteRowEvent() {
+        ByteBuffer data = ByteBuffer.allocate(128);
+        data.put((byte) 'D').putInt(RELATION_ID).put((byte) 'K').putShort((short) 4);
+        putTextValue(data, "9");
+        data.put((byte) 'n').put((byte) 'n').put((byte) 'n');
+        data.flip();
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(data, logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Collections.<Object>singletonList(9L)));
+    }
+    
+    @Test
+    public void assertDecodeUnknownMessage() {
+        ByteBuffer data = ByteBuffer.wrap(new byte[]{'T', 0, 0, 0, 0});
+        assertThat(decodingPlugin.decode(data, logSequenceNumber), instanceOf(PlaceholderEvent.class));
+    }
+}
@@ -33,7 +33,7 @@ public final class SQLParserRuleBuilder implements GlobalRuleBuilder<SQLParserRu
     
     @Override
     public SQLParserRule build(final SQLParserRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases, final ConfigurationProperties props) {
-        return new SQLParserRule(ruleConfig);
+        return new SQLParserRule(ruleConfig, props);
     }
     
     @Override
@@ -19,21 +19,26 @@ package org.apache.shardingsphere.parser.rule;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Properties;
+
 public final class SQLParserRuleTest {
     
     private SQLParserRule sqlParserRule;
     
     @Before
     public void setup() {
-        sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(true, new CacheOption(2, 4), new CacheOption(3, 7)));
+        sqlParserRule = new SQLParserRule(new SQLParserRuleConfiguration(true, new CacheOption(2, 4), new CacheOption(3, 7)), new ConfigurationProperties(new Properties()));
     }
     
     @Test
@@ -58,5 +63,13 @@ public final class SQLParserRuleTest {
         assertThat(sqlParserRule.getParseTreeCache().getMaximumSize(), is(4L));
         assertThat(sqlParserRule.getSqlStatementCache().getInitialCapacity(), is(3));
         assertThat(sqlParserRule.getSqlStatementCache().getMaximumSize(), is(7L));
+        assertFalse(sqlParserRule.isSqlFastPathParseEnabled());
+    }
+    
+    @Test
+    public void assertSQLFastPathParseEnabled() {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.SQL_FAST_PATH_PARSE_ENABLED.getKey(), Boolean.TRUE.toString());
+        assertTrue(new SQLParserRule(new SQLParserRuleConfiguration(true, new CacheOption(2, 4), new CacheOption(3, 7)), new ConfigurationProperties(props)).isSqlFastPathParseEnabled());
     }
 }
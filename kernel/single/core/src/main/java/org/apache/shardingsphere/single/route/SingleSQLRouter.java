@@ -120,6 +120,11 @@ public final class SingleSQLRouter implements SQLRouter<SingleRule> {
         Preconditions.checkState(allTablesInSameDataSource, "All tables must be in the same datasource.");
     }
     
+    @Override
+    public boolean isRouteCacheable(final QueryContext queryContext, final SingleRule rule) {
+        return true;
+    }
+    
     @Override
     public int getOrder() {
         return SingleOrder.ORDER;
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sqlfederation.advanced;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 import org.apache.calcite.adapter.enumerable.EnumerableInterpretable;
 import org.apache.calcite.adapter.enumerable.EnumerableRel;
@@ -34,7 +36,6 @@ import org.apache.calcite.sql2rel.SqlToRelConverter;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
-import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
@@ -47,6 +48,9 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.util.eventbus.EventBusContext;
 import org.apache.shardingsphere.sqlfederation.SQLFederationDataContext;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlan;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCache;
+import org.apache.shardingsphere.sqlfederation.advanced.plan.SQLFederationPlanCacheKey;
 import org.apache.shardingsphere.sqlfederation.advanced.resultset.SQLFederationResultSet;
 import org.apache.shardingsphere.sqlfederation.executor.FilterableTableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.executor.TableScanExecutorContext;
@@ -57,6 +61,8 @@ import org.apache.shardingsphere.sqlfederation.optimizer.context.OptimizerContex
 import org.apache.shardingsphere.sqlfederation.optimizer.context.parser.OptimizerParserContext;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableSchema;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.filter.FilterableTable;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationTableRowCountLoader;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationPlannerUtil;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutorContext;
@@ -68,6 +74,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Advanced sql federation executor.
@@ -76,6 +83,8 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
     
     private static final JavaTypeFactory JAVA_TYPE_FACTORY = new JavaTypeFactoryImpl();
     
+    private static final Cache<ShardingSphereDatabase, SQLFederationPlanCache> PLAN_CACHES = Caffeine.newBuilder().weakKeys().build();
+    
     private String databaseName;
     
     private String schemaName;
@@ -114,33 +123,60 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         Preconditions.checkArgument(sqlStatementContext instanceof SelectStatementContext, "SQL statement context must be select statement context.");
         ShardingSphereDatabase database = federationContext.getMetaData().getDatabase(databaseName);
         ShardingSphereSchema schema = database.getSchema(schemaName);
-        AbstractSchema sqlFederationSchema = createSQLFederationSchema(prepareEngine, database.getProtocolType(), schema, callback, federationContext);
-        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters());
-        resultSet = execute((SelectStatementContext) sqlStatementContext, schema, sqlFederationSchema, params);
+        SQLFederationPlan plan = getPlan(database, schema, (SelectStatementContext) sqlStatementContext, federationContext);
+        Map<String, Object> params = createParameters(federationContext.getQueryContext().getParameters(), createTableScanExecutor(prepareEngine, callback, federationContext));
+        Enumerator<Object> enumerator = plan.getExecutablePlan().bind(new SQLFederationDataContext(plan.getRootSchema(), JAVA_TYPE_FACTORY, params)).enumerator();
+        resultSet = new SQLFederationResultSet(enumerator, schema, plan.getSqlFederationSchema(), (SelectStatementContext) sqlStatementContext, plan.getValidatedNodeType());
         return resultSet;
     }
     
-    private Map<String, Object> createParameters(final List<Object> params) {
-        Map<String, Object> result = new HashMap<>(params.size(), 1);
+    private SQLFederationPlan getPlan(final ShardingSphereDatabase database, final ShardingSphereSchema schema, final SelectStatementContext selectStatementContext,
+                                      final SQLFederationExecutorContext federationContext) {
+        SQLFederationPlanCache planCache = getPlanCache(database);
+        SQLFederationPlanCacheKey cacheKey = new SQLFederationPlanCacheKey(schemaName, federationContext.getQueryContext().getSql());
+        Optional<SQLFederationPlan> cachedPlan = planCache.get(cacheKey, schema, data);
+        if (cachedPlan.isPresent()) {
+            return cachedPlan.get();
+        }
+        SQLFederationPlan result = createPlan(database, schema, selectStatementContext);
+        planCache.put(cacheKey, result);
+        return result;
+    }
+    
+    private SQLFederationPlanCache getPlanCache(final ShardingSphereDatabase database) {
+        SQLFederationPlanCache cachedPlanCache = PLAN_CACHES.getIfPresent(database);
+        if (null != cachedPlanCache && cachedPlanCache.isValid(database, globalRuleMetaData, props)) {
+            return cachedPlanCache;
+        }
+        SQLFederationPlanCache result = new SQLFederationPlanCache(database, globalRuleMetaData, props, 128, 1024L);
+        PLAN_CACHES.put(database, result);
+        return result;
+    }
+    
+    private Map<String, Object> createParameters(final List<Object> params, final TableScanExecutor executor) {
+        Map<String, Object> result = new HashMap<>(params.size() + 1, 1);
         int index = 0;
         for (Object each : params) {
             result.put("?" + index++, each);
         }
+        result.put(FilterableTable.TABLE_SCAN_EXECUTOR_VARIABLE, executor);
         return result;
     }
     
-    private AbstractSchema createSQLFederationSchema(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine, final DatabaseType protocolType,
-                                                     final ShardingSphereSchema schema,
-                                                     final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
+    private TableScanExecutor createTableScanExecutor(final DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine,
+                                                      final JDBCExecutorCallback<? extends ExecuteResult> callback, final SQLFederationExecutorContext federationContext) {
         TableScanExecutorContext executorContext = new TableScanExecutorContext(databaseName, schemaName, props, federationContext);
         // TODO replace FilterableTableScanExecutor with TranslatableTableScanExecutor
-        TableScanExecutor executor = new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data, eventBusContext);
-        // TODO replace FilterableSchema with TranslatableSchema
-        return new FilterableSchema(schemaName, schema, protocolType, JAVA_TYPE_FACTORY, executor);
+        return new FilterableTableScanExecutor(prepareEngine, jdbcExecutor, callback, optimizerContext, globalRuleMetaData, executorContext, data, eventBusContext);
     }
     
     @SuppressWarnings("unchecked")
-    private ResultSet execute(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final AbstractSchema sqlFederationSchema, final Map<String, Object> params) {
+    private SQLFederationPlan createPlan(final ShardingSphereDatabase database, final ShardingSphereSchema schema, final SelectStatementContext selectStatementContext) {
+        long schemaVersion = schema.getVersion();
+        long dataVersion = null == data ? 0L : data.getVersion();
+        // TODO replace FilterableSchema with TranslatableSchema
+        AbstractSchema sqlFederationSchema = new FilterableSchema(schemaName, schema, database.getRuleMetaData(), database.getProtocolType(), JAVA_TYPE_FACTORY, null,
+                FederationTableRowCountLoader.load(data, database));
         OptimizerParserContext parserContext = optimizerContext.getParserContext(databaseName);
         CalciteConnectionConfig connectionConfig = new CalciteConnectionConfigImpl(parserContext.getDialectProps());
         CalciteCatalogReader catalogReader = SQLFederationPlannerUtil.createCatalogReader(schemaName, sqlFederationSchema, JAVA_TYPE_FACTORY, connectionConfig);
@@ -150,8 +186,7 @@ public final class AdvancedSQLFederationExecutor implements SQLFederationExecuto
         RelOptPlanner hepPlanner = optimizerContext.getPlannerContext(databaseName).getHepPlanner();
         SQLOptimizeContext optimizeContext = new SQLOptimizeEngine(converter, hepPlanner).optimize(selectStatementContext.getSqlStatement());
         Bindable<Object> executablePlan = EnumerableInterpretable.toBindable(Collections.emptyMap(), null, (EnumerableRel) optimizeContext.getBestPlan(), EnumerableRel.Prefer.ARRAY);
-        Enumerator<Object> enumerator = executablePlan.bind(new SQLFederationDataContext(validator, converter, params)).enumerator();
-        return new SQLFederationResultSet(enumerator, schema, sqlFederationSchema, selectStatementContext, optimizeContext.getValidatedNodeType());
+        return new SQLFederationPlan(schema, schemaVersion, data, dataVersion, sqlFederationSchema, catalogReader.getRootSchema().plus(), optimizeContext.getValidatedNodeType(), executablePlan);
     }
     
     @Override
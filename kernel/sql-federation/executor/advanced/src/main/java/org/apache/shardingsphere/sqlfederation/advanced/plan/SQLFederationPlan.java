@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractSchema;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+
+/**
+ * SQL federation plan, which is optimized and compiled once and shared by executions of the same SQL.
+ * 
+ * <p>Only the compiled plan and what executions bind to it are kept, validator, converter and planner are released once the plan is compiled.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLFederationPlan {
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingSphereSchema schema;
+    
+    @Getter(AccessLevel.NONE)
+    private final long schemaVersion;
+    
+    @Getter(AccessLevel.NONE)
+    private final ShardingSphereData data;
+    
+    @Getter(AccessLevel.NONE)
+    private final long dataVersion;
+    
+    private final AbstractSchema sqlFederationSchema;
+    
+    private final SchemaPlus rootSchema;
+    
+    private final RelDataType validatedNodeType;
+    
+    private final Bindable<Object> executablePlan;
+    
+    /**
+     * Judge whether plan is built on current version of schema and statistics data.
+     *
+     * @param schema current schema
+     * @param data current ShardingSphere data
+     * @return plan is built on current version of schema and statistics data or not
+     */
+    public boolean isUpToDate(final ShardingSphereSchema schema, final ShardingSphereData data) {
+        return this.schema == schema && schemaVersion == schema.getVersion() && this.data == data && (null == data || dataVersion == data.getVersion());
+    }
+}
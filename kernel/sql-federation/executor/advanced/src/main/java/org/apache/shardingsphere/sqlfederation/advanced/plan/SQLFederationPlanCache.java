@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cache for SQL federation plan.
+ * 
+ * <p>Cache is held per database instance it is built for, and it is only valid for the rules and props it is built with.</p>
+ */
+public final class SQLFederationPlanCache {
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final ConfigurationProperties props;
+    
+    private final List<ShardingSphereRule> rules;
+    
+    private final Cache<SQLFederationPlanCacheKey, SQLFederationPlan> cache;
+    
+    public SQLFederationPlanCache(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                                  final int initialCapacity, final long maximumSize) {
+        this.globalRuleMetaData = globalRuleMetaData;
+        this.props = props;
+        rules = new ArrayList<>(database.getRuleMetaData().getRules());
+        cache = Caffeine.newBuilder().initialCapacity(initialCapacity).maximumSize(maximumSize).softValues().build();
+    }
+    
+    /**
+     * Judge whether cache is still valid for current rules and props.
+     *
+     * @param database database
+     * @param globalRuleMetaData global rule meta data
+     * @param props configuration properties
+     * @return cache is valid or not
+     */
+    public boolean isValid(final ShardingSphereDatabase database, final ShardingSphereRuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        return this.globalRuleMetaData == globalRuleMetaData && this.props == props && isSameRules(database.getRuleMetaData().getRules());
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = rules.iterator();
+        for (ShardingSphereRule each : currentRules) {
+            if (iterator.next() != each) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Cache plan.
+     *
+     * @param key cache key
+     * @param plan plan to be cached
+     */
+    public void put(final SQLFederationPlanCacheKey key, final SQLFederationPlan plan) {
+        cache.put(key, plan);
+    }
+    
+    /**
+     * Get cached plan which is built on current version of schema and statistics data.
+     *
+     * @param key cache key
+     * @param schema current schema
+     * @param data current ShardingSphere data
+     * @return optional cached plan
+     */
+    public Optional<SQLFederationPlan> get(final SQLFederationPlanCacheKey key, final ShardingSphereSchema schema, final ShardingSphereData data) {
+        SQLFederationPlan result = cache.getIfPresent(key);
+        if (null == result) {
+            return Optional.empty();
+        }
+        if (!result.isUpToDate(schema, data)) {
+            cache.invalidate(key);
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.advanced.plan;
+
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.runtime.Bindable;
+import org.apache.calcite.schema.SchemaPlus;
+import org.apache.calcite.schema.impl.AbstractSchema;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class SQLFederationPlanCacheTest {
+    
+    private final SQLFederationPlanCacheKey cacheKey = new SQLFederationPlanCacheKey("foo_schema", "SELECT * FROM t_order WHERE order_id = ?");
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData = new ShardingSphereRuleMetaData(Collections.emptyList());
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    @Test
+    public void assertGet() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(createDatabase(), globalRuleMetaData, props, 1, 1L);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereData data = new ShardingSphereData();
+        SQLFederationPlan plan = createPlan(schema, data);
+        cache.put(cacheKey, plan);
+        Optional<SQLFederationPlan> actual = cache.get(new SQLFederationPlanCacheKey("foo_schema", "SELECT * FROM t_order WHERE order_id = ?"), schema, data);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(plan));
+    }
+    
+    @Test
+    public void assertGetAfterSchemaChanged() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(createDatabase(), globalRuleMetaData, props, 1, 1L);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereData data = new ShardingSphereData();
+        cache.put(cacheKey, createPlan(schema, data));
+        schema.putTable("t_order", new ShardingSphereTable());
+        assertFalse(cache.get(cacheKey, schema, data).isPresent());
+    }
+    
+    @Test
+    public void assertGetAfterDataChanged() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(createDatabase(), globalRuleMetaData, props, 1, 1L);
+        ShardingSphereSchema schema = new ShardingSphereSchema();
+        ShardingSphereData data = new ShardingSphereData();
+        cache.put(cacheKey, createPlan(schema, data));
+        data.markAltered();
+        assertFalse(cache.get(cacheKey, schema, data).isPresent());
+    }
+    
+    @Test
+    public void assertGetWithAnotherSchema() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(createDatabase(), globalRuleMetaData, props, 1, 1L);
+        ShardingSphereData data = new ShardingSphereData();
+        cache.put(cacheKey, createPlan(new ShardingSphereSchema(), data));
+        assertFalse(cache.get(cacheKey, new ShardingSphereSchema(), data).isPresent());
+    }
+    
+    @Test
+    public void assertIsValid() {
+        ShardingSphereDatabase database = createDatabase();
+        assertTrue(new SQLFederationPlanCache(database, globalRuleMetaData, props, 1, 1L).isValid(database, globalRuleMetaData, props));
+    }
+    
+    @Test
+    public void assertIsNotValidWithChangedProps() {
+        ShardingSphereDatabase database = createDatabase();
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(database, globalRuleMetaData, props, 1, 1L);
+        assertFalse(cache.isValid(database, globalRuleMetaData, new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotValidWithChangedRules() {
+        SQLFederationPlanCache cache = new SQLFederationPlanCache(createDatabase(), globalRuleMetaData, props, 1, 1L);
+        ShardingSphereDatabase database = new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(Collections.singletonList(mock(ShardingSphereRule.class))), Collections.emptyMap());
+        assertFalse(cache.isValid(database, globalRuleMetaData, props));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("foo_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList()), Collections.emptyMap());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private SQLFederationPlan createPlan(final ShardingSphereSchema schema, final ShardingSphereData data) {
+        return new SQLFederationPlan(schema, schema.getVersion(), data, data.getVersion(), mock(AbstractSchema.class), mock(SchemaPlus.class), mock(RelDataType.class), mock(Bindable.class));
+    }
+}
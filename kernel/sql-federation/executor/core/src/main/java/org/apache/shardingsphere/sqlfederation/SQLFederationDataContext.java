@@ -22,8 +22,6 @@ import org.apache.calcite.DataContext;
 import org.apache.calcite.adapter.java.JavaTypeFactory;
 import org.apache.calcite.linq4j.QueryProvider;
 import org.apache.calcite.schema.SchemaPlus;
-import org.apache.calcite.sql.validate.SqlValidator;
-import org.apache.calcite.sql2rel.SqlToRelConverter;
 
 import java.util.Map;
 
@@ -33,20 +31,20 @@ import java.util.Map;
 @RequiredArgsConstructor
 public final class SQLFederationDataContext implements DataContext {
     
-    private final SqlValidator validator;
+    private final SchemaPlus rootSchema;
     
-    private final SqlToRelConverter converter;
+    private final JavaTypeFactory typeFactory;
     
     private final Map<String, Object> parameters;
     
     @Override
     public SchemaPlus getRootSchema() {
-        return validator.getCatalogReader().getRootSchema().plus();
+        return rootSchema;
     }
     
     @Override
     public JavaTypeFactory getTypeFactory() {
-        return (JavaTypeFactory) converter.getCluster().getTypeFactory();
+        return typeFactory;
     }
     
     @Override
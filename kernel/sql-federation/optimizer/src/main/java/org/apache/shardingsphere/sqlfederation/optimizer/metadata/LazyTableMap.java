@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.calcite.schema.Table;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Table map of federation schema which creates tables when they are looked up, used for lazy loading schemas.
+ */
+@RequiredArgsConstructor
+public final class LazyTableMap extends AbstractMap<String, Table> {
+    
+    private final ShardingSphereSchema schema;
+    
+    private final Function<ShardingSphereTable, Table> tableCreator;
+    
+    private final Map<String, Table> createdTables = new ConcurrentHashMap<>();
+    
+    @Override
+    public int size() {
+        return schema.getAllTableNames().size();
+    }
+    
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && schema.containsTable((String) key);
+    }
+    
+    @Override
+    public Table get(final Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        Table result = createdTables.get(key);
+        if (null != result) {
+            return result;
+        }
+        ShardingSphereTable table = schema.getTable((String) key);
+        if (null == table) {
+            return null;
+        }
+        result = tableCreator.apply(table);
+        Table previous = createdTables.putIfAbsent((String) key, result);
+        return null == previous ? result : previous;
+    }
+    
+    @Override
+    public Set<String> keySet() {
+        return new LinkedHashSet<>(schema.getAllOriginalTableNames());
+    }
+    
+    @Override
+    public Set<Entry<String, Table>> entrySet() {
+        Map<String, Table> result = new LinkedHashMap<>();
+        for (String each : schema.getAllOriginalTableNames()) {
+            Table table = get(each);
+            if (null != table) {
+                result.put(each, table);
+            }
+        }
+        return result.entrySet();
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -40,14 +41,19 @@ public final class FilterableDatabase extends AbstractSchema {
     private final Map<String, Schema> subSchemaMap;
     
     public FilterableDatabase(final ShardingSphereDatabase database, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+        this(database, javaTypeFactory, executor, Collections.emptyMap());
+    }
+    
+    public FilterableDatabase(final ShardingSphereDatabase database, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor, final Map<String, Double> tableRowCounts) {
         name = database.getName();
-        subSchemaMap = createSubSchemaMap(database, javaTypeFactory, executor);
+        subSchemaMap = createSubSchemaMap(database, javaTypeFactory, executor, tableRowCounts);
     }
     
-    private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+    private Map<String, Schema> createSubSchemaMap(final ShardingSphereDatabase database, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor,
+                                                   final Map<String, Double> tableRowCounts) {
         Map<String, Schema> result = new LinkedHashMap<>(database.getSchemas().size(), 1);
         for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
-            result.put(entry.getKey(), new FilterableSchema(entry.getKey(), entry.getValue(), database.getProtocolType(), javaTypeFactory, executor));
+            result.put(entry.getKey(), new FilterableSchema(entry.getKey(), entry.getValue(), database.getRuleMetaData(), database.getProtocolType(), javaTypeFactory, executor, tableRowCounts));
         }
         return result;
     }
@@ -41,6 +41,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class FilterableTable extends AbstractTable implements ProjectableFilterableTable {
     
+    /**
+     * Name of data context variable holding table scan executor, which is used when table is created without executor.
+     */
+    public static final String TABLE_SCAN_EXECUTOR_VARIABLE = "tableScanExecutor";
+    
     private final ShardingSphereTable table;
     
     private final TableScanExecutor executor;
@@ -56,7 +61,8 @@ public final class FilterableTable extends AbstractTable implements ProjectableF
     
     @Override
     public Enumerable<Object[]> scan(final DataContext root, final List<RexNode> filters, final int[] projects) {
-        return executor.execute(table, new FilterableScanNodeExecutorContext(root, filters, projects));
+        TableScanExecutor actualExecutor = null == executor ? (TableScanExecutor) root.get(TABLE_SCAN_EXECUTOR_VARIABLE) : executor;
+        return actualExecutor.execute(table, new FilterableScanNodeExecutorContext(root, filters, projects));
     }
     
     @Override
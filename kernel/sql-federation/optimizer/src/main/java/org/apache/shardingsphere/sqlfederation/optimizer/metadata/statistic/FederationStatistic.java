@@ -22,8 +22,13 @@ import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +36,49 @@ import java.util.List;
  */
 public final class FederationStatistic implements Statistic {
     
+    private final Double rowCount;
+    
+    private final ImmutableBitSet primaryKey;
+    
+    public FederationStatistic(final ShardingSphereTable table, final ShardingSphereRuleMetaData ruleMetaData, final Double rowCount) {
+        this.rowCount = rowCount;
+        primaryKey = createPrimaryKey(table, ruleMetaData);
+    }
+    
+    /*
+     * Primary key is unique for logic table only if rows with same primary key can not be distributed to different data nodes.
+     */
+    private ImmutableBitSet createPrimaryKey(final ShardingSphereTable table, final ShardingSphereRuleMetaData ruleMetaData) {
+        if (table.getPrimaryKeyColumns().isEmpty()
+                || !ruleMetaData.findRules(DataNodeContainedRule.class).stream().allMatch(each -> each.isDistributedByColumns(table.getName(), table.getPrimaryKeyColumns()))) {
+            return ImmutableBitSet.of();
+        }
+        ImmutableBitSet.Builder result = ImmutableBitSet.builder();
+        int index = 0;
+        for (String each : table.getColumns().keySet()) {
+            if (table.getPrimaryKeyColumns().contains(each)) {
+                result.set(index);
+            }
+            index++;
+        }
+        return result.build();
+    }
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        return !primaryKey.isEmpty() && columns.contains(primaryKey);
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey);
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Federation table row count loader, which sums row count of actual tables collected into sharding table statistics.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FederationTableRowCountLoader {
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    private static final Cache<ShardingSphereDatabase, FederationTableRowCounts> ROW_COUNTS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Load row count of logic tables.
+     * 
+     * <p>Row counts are summed once per version of ShardingSphere data and cached by database instance, so they are only recomputed after statistics are altered.</p>
+     *
+     * @param data ShardingSphere data
+     * @param database database
+     * @return row count map, key is lower case logic table name and value is row count
+     */
+    public static Map<String, Double> load(final ShardingSphereData data, final ShardingSphereDatabase database) {
+        if (null == data) {
+            return Collections.emptyMap();
+        }
+        FederationTableRowCounts cached = ROW_COUNTS.getIfPresent(database);
+        if (null != cached && cached.isValid(data)) {
+            return cached.rowCounts;
+        }
+        long version = data.getVersion();
+        FederationTableRowCounts result = new FederationTableRowCounts(data, version, Collections.unmodifiableMap(load(data, database.getName())));
+        ROW_COUNTS.put(database, result);
+        return result.rowCounts;
+    }
+    
+    private static Map<String, Double> load(final ShardingSphereData data, final String databaseName) {
+        Map<String, Double> result = new HashMap<>();
+        for (ShardingSphereDatabaseData each : data.getDatabaseData().values()) {
+            for (ShardingSphereSchemaData schemaData : each.getSchemaData().values()) {
+                ShardingSphereTableData tableData = schemaData.getTableData().get(SHARDING_TABLE_STATISTICS);
+                if (null != tableData) {
+                    loadRowCounts(tableData, databaseName, result);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private static void loadRowCounts(final ShardingSphereTableData tableData, final String databaseName, final Map<String, Double> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            if (row.size() <= ROW_COUNT_INDEX || null == row.get(LOGIC_TABLE_NAME_INDEX) || !databaseName.equalsIgnoreCase(String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX)))) {
+                continue;
+            }
+            double rowCount = toDouble(row.get(ROW_COUNT_INDEX));
+            if (rowCount > 0) {
+                rowCounts.merge(row.get(LOGIC_TABLE_NAME_INDEX).toString().toLowerCase(), rowCount, Double::sum);
+            }
+        }
+    }
+    
+    private static double toDouble(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return null == value ? 0D : Double.parseDouble(value.toString());
+        } catch (final NumberFormatException ignored) {
+            return 0D;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class FederationTableRowCounts {
+        
+        private final ShardingSphereData data;
+        
+        private final long version;
+        
+        private final Map<String, Double> rowCounts;
+        
+        private boolean isValid(final ShardingSphereData data) {
+            return this.data == data && version == data.getVersion();
+        }
+    }
+}
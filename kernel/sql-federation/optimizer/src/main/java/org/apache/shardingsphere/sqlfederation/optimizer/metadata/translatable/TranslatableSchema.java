@@ -25,10 +25,12 @@ import org.apache.calcite.schema.Table;
 import org.apache.calcite.schema.impl.AbstractSchema;
 import org.apache.calcite.schema.impl.ViewTable;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereView;
 import org.apache.shardingsphere.sqlfederation.optimizer.executor.TableScanExecutor;
+import org.apache.shardingsphere.sqlfederation.optimizer.metadata.LazyTableMap;
 import org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic.FederationStatistic;
 import org.apache.shardingsphere.sqlfederation.optimizer.util.SQLFederationDataTypeUtil;
 
@@ -46,24 +48,32 @@ public final class TranslatableSchema extends AbstractSchema {
     
     private final Map<String, Table> tableMap;
     
-    public TranslatableSchema(final String schemaName, final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+    public TranslatableSchema(final String schemaName, final ShardingSphereSchema schema, final ShardingSphereRuleMetaData ruleMetaData, final DatabaseType protocolType,
+                              final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
         name = schemaName;
-        tableMap = createTableMap(schema, protocolType, javaTypeFactory, executor);
+        tableMap = createTableMap(schema, ruleMetaData, protocolType, javaTypeFactory, executor);
     }
     
-    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+    private Map<String, Table> createTableMap(final ShardingSphereSchema schema, final ShardingSphereRuleMetaData ruleMetaData, final DatabaseType protocolType,
+                                              final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+        if (schema.isLazyLoading()) {
+            return new LazyTableMap(schema, table -> createTable(schema, table, ruleMetaData, protocolType, javaTypeFactory, executor));
+        }
         Map<String, Table> result = new LinkedHashMap<>(schema.getTables().size(), 1);
         for (ShardingSphereTable each : schema.getTables().values()) {
-            if (schema.containsView(each.getName())) {
-                result.put(each.getName(), getViewTable(schema, each, protocolType, javaTypeFactory));
-            } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName(), new FederationTranslatableTable(each, executor, new FederationStatistic(), protocolType));
-            }
+            result.put(each.getName(), createTable(schema, each, ruleMetaData, protocolType, javaTypeFactory, executor));
         }
         return result;
     }
     
+    private static Table createTable(final ShardingSphereSchema schema, final ShardingSphereTable table, final ShardingSphereRuleMetaData ruleMetaData, final DatabaseType protocolType,
+                                     final JavaTypeFactory javaTypeFactory, final TableScanExecutor executor) {
+        if (schema.containsView(table.getName())) {
+            return getViewTable(schema, table, protocolType, javaTypeFactory);
+        }
+        return new FederationTranslatableTable(table, executor, new FederationStatistic(table, ruleMetaData, null), protocolType);
+    }
+    
     private static ViewTable getViewTable(final ShardingSphereSchema schema, final ShardingSphereTable table, final DatabaseType protocolType, final JavaTypeFactory javaTypeFactory) {
         RelDataType relDataType = SQLFederationDataTypeUtil.createRelDataType(table, protocolType, javaTypeFactory);
         ShardingSphereView view = schema.getView(table.getName());
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class FederationStatisticTest {
+    
+    @Test
+    public void assertGetRowCount() {
+        assertThat(new FederationStatistic(createTable(), createRuleMetaData(true), 100D).getRowCount(), is(100D));
+        assertNull(new FederationStatistic(createTable(), createRuleMetaData(true), null).getRowCount());
+    }
+    
+    @Test
+    public void assertIsKey() {
+        FederationStatistic actual = new FederationStatistic(createTable(), createRuleMetaData(true), null);
+        assertTrue(actual.isKey(ImmutableBitSet.of(1)));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 2)));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1))));
+    }
+    
+    @Test
+    public void assertIsKeyWithoutPrimaryKey() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.singletonList(
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
+        FederationStatistic actual = new FederationStatistic(table, createRuleMetaData(true), null);
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+        assertTrue(actual.getKeys().isEmpty());
+    }
+    
+    @Test
+    public void assertIsKeyWithoutShardingColumnsInPrimaryKey() {
+        FederationStatistic actual = new FederationStatistic(createTable(), createRuleMetaData(false), null);
+        assertFalse(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertTrue(actual.getKeys().isEmpty());
+    }
+    
+    private ShardingSphereRuleMetaData createRuleMetaData(final boolean isDistributedByPrimaryKey) {
+        DataNodeContainedRule rule = mock(DataNodeContainedRule.class);
+        when(rule.isDistributedByColumns("t_order", Collections.singletonList("order_id"))).thenReturn(isDistributedByPrimaryKey);
+        return new ShardingSphereRuleMetaData(Collections.singleton(rule));
+    }
+    
+    private ShardingSphereTable createTable() {
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false);
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false);
+        ShardingSphereColumn statusColumn = new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false);
+        return new ShardingSphereTable("t_order", Arrays.asList(userIdColumn, orderIdColumn, statusColumn), Collections.emptyList(), Collections.emptyList());
+    }
+}
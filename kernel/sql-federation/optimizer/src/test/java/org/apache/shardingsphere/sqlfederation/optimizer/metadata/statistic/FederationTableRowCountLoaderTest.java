@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.optimizer.metadata.statistic;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.data.ShardingSphereTableData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public final class FederationTableRowCountLoaderTest {
+    
+    @Test
+    public void assertLoad() {
+        Map<String, Double> actual = FederationTableRowCountLoader.load(createShardingSphereData(), createDatabase());
+        assertThat(actual.size(), is(1));
+        assertThat(actual.get("t_order"), is(300D));
+        assertFalse(actual.containsKey("t_order_item"));
+    }
+    
+    @Test
+    public void assertLoadWithoutData() {
+        assertTrue(FederationTableRowCountLoader.load(null, createDatabase()).isEmpty());
+        assertTrue(FederationTableRowCountLoader.load(new ShardingSphereData(), createDatabase()).isEmpty());
+    }
+    
+    @Test
+    public void assertLoadWithUnalteredData() {
+        ShardingSphereData data = createShardingSphereData();
+        ShardingSphereDatabase database = createDatabase();
+        assertThat(FederationTableRowCountLoader.load(data, database), sameInstance(FederationTableRowCountLoader.load(data, database)));
+    }
+    
+    @Test
+    public void assertLoadWithAlteredData() {
+        ShardingSphereData data = createShardingSphereData();
+        ShardingSphereDatabase database = createDatabase();
+        assertThat(FederationTableRowCountLoader.load(data, database).get("t_order"), is(300D));
+        data.getDatabaseData().get("shardingsphere").getSchemaData().get("shardingsphere").getTableData().get("sharding_table_statistics").getRows()
+                .add(new ShardingSphereRowData(Arrays.asList(5, "sharding_db", "t_order", "ds_2", "t_order_2", new BigDecimal("50"), BigDecimal.ZERO)));
+        data.markAltered();
+        assertThat(FederationTableRowCountLoader.load(data, database).get("t_order"), is(350D));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase("sharding_db", mock(DatabaseType.class), mock(ShardingSphereResourceMetaData.class),
+                new ShardingSphereRuleMetaData(Collections.emptyList()), Collections.emptyMap());
+    }
+    
+    private ShardingSphereData createShardingSphereData() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "sharding_db", "T_ORDER", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "sharding_db", "t_order", "ds_1", "t_order_1", new BigDecimal("200"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "sharding_db", "t_order_item", "ds_0", "t_order_item_0", BigDecimal.ZERO, BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "other_db", "t_order", "ds_0", "t_order_0", new BigDecimal("500"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.getTableData().put("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.getSchemaData().put("shardingsphere", schemaData);
+        ShardingSphereData result = new ShardingSphereData();
+        result.getDatabaseData().put("shardingsphere", databaseData);
+        return result;
+    }
+}
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
@@ -86,7 +87,9 @@ public final class ContextManager implements AutoCloseable {
     public ContextManager(final MetaDataContexts metaDataContexts, final InstanceContext instanceContext) {
         this.metaDataContexts = metaDataContexts;
         this.instanceContext = instanceContext;
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = metaDataContexts.getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<KernelExecutorType>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE));
     }
     
     /**
@@ -391,11 +394,20 @@ public final class ContextManager implements AutoCloseable {
     
     private Map<String, ShardingSphereSchema> newShardingSphereSchemas(final ShardingSphereDatabase database) {
         Map<String, ShardingSphereSchema> result = new LinkedHashMap<>(database.getSchemas().size(), 1);
-        database.getSchemas().forEach((key, value) -> result.put(key, new ShardingSphereSchema(value.getTables(),
+        database.getSchemas().forEach((key, value) -> result.put(key, newShardingSphereSchema(value,
                 metaDataContexts.getPersistService().getDatabaseMetaDataService().getViewMetaDataPersistService().load(database.getName(), key))));
         return result;
     }
     
+    private ShardingSphereSchema newShardingSphereSchema(final ShardingSphereSchema schema, final Map<String, ShardingSphereView> views) {
+        if (!schema.isLazyLoading()) {
+            return new ShardingSphereSchema(schema.getTables(), views);
+        }
+        schema.getViews().clear();
+        views.forEach(schema::putView);
+        return schema;
+    }
+    
     /**
      * Create new ShardingSphere database.
      *
@@ -484,7 +496,7 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void reloadSchema(final String databaseName, final String schemaName, final String dataSourceName) {
         try {
             ShardingSphereSchema reloadedSchema = loadSchema(databaseName, schemaName, dataSourceName);
-            if (reloadedSchema.getTables().isEmpty()) {
+            if (reloadedSchema.getAllTableNames().isEmpty()) {
                 metaDataContexts.getMetaData().getDatabase(databaseName).removeSchema(schemaName);
                 metaDataContexts.getPersistService().getDatabaseMetaDataService().dropSchema(metaDataContexts.getMetaData().getActualDatabaseName(databaseName), schemaName);
             } else {
@@ -564,6 +576,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getShardingSphereData().getDatabaseData().put(databaseName, new ShardingSphereDatabaseData());
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -575,6 +588,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getShardingSphereData().getDatabaseData().remove(databaseName);
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -588,6 +602,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName).getSchemaData().put(schemaName, new ShardingSphereSchemaData());
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -602,6 +617,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         databaseData.getSchemaData().remove(schemaName);
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -621,6 +637,7 @@ public final class ContextManager implements AutoCloseable {
         }
         ShardingSphereDatabaseData database = metaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName);
         database.getSchemaData().get(schemaName).getTableData().put(tableName, new ShardingSphereTableData(tableName));
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -636,6 +653,7 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName).getSchemaData().get(schemaName).getTableData().remove(tableName);
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -660,6 +678,7 @@ public final class ContextManager implements AutoCloseable {
         List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getColumns().values());
         ShardingSphereRowData rowData = new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData);
         tableData.getRows().add(rowData);
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     /**
@@ -678,6 +697,7 @@ public final class ContextManager implements AutoCloseable {
         }
         ShardingSphereTableData tableData = metaDataContexts.getShardingSphereData().getDatabaseData().get(databaseName).getSchemaData().get(schemaName).getTableData().get(tableName);
         tableData.getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        metaDataContexts.getShardingSphereData().markAltered();
     }
     
     @Override
@@ -132,8 +132,12 @@ public final class MetaDataContextsFactory {
         databases.forEach((key, value) -> {
             Map<String, ShardingSphereSchema> schemas = persistService.getDatabaseMetaDataService().loadSchemas(key);
             result.put(key.toLowerCase(), new ShardingSphereDatabase(value.getName(),
-                    value.getProtocolType(), value.getResourceMetaData(), value.getRuleMetaData(), schemas.isEmpty() ? value.getSchemas() : schemas));
+                    value.getProtocolType(), value.getResourceMetaData(), value.getRuleMetaData(), schemas.isEmpty() || isLazyLoading(value) ? value.getSchemas() : schemas));
         });
         return result;
     }
+    
+    private static boolean isLazyLoading(final ShardingSphereDatabase database) {
+        return database.getSchemas().values().stream().anyMatch(ShardingSphereSchema::isLazyLoading);
+    }
 }
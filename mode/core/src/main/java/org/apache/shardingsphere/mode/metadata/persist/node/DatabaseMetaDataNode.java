@@ -42,6 +42,10 @@ public final class DatabaseMetaDataNode {
     
     private static final String VIEWS_NODE = "views";
     
+    private static final String SNAPSHOT_NODE = "snapshot";
+    
+    private static final String TABLES_VERSION_NODE = "tables_version";
+    
     private static final String ACTIVE_VERSION = "active_version";
     
     private static final String VERSIONS = "versions";
@@ -154,6 +158,53 @@ public final class DatabaseMetaDataNode {
         return String.join("/", getMetaDataViewsPath(databaseName, schemaName), view);
     }
     
+    /**
+     * Get meta data snapshot path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return meta data snapshot path
+     */
+    public static String getMetaDataSnapshotPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), SNAPSHOT_NODE);
+    }
+    
+    /**
+     * Get meta data snapshot generation path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param generation snapshot generation
+     * @return meta data snapshot generation path
+     */
+    public static String getMetaDataSnapshotGenerationPath(final String databaseName, final String schemaName, final String generation) {
+        return String.join("/", getMetaDataSnapshotPath(databaseName, schemaName), generation);
+    }
+    
+    /**
+     * Get meta data snapshot chunk path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param generation snapshot generation
+     * @param chunkIndex chunk index
+     * @return meta data snapshot chunk path
+     */
+    public static String getMetaDataSnapshotChunkPath(final String databaseName, final String schemaName, final String generation, final int chunkIndex) {
+        return String.join("/", getMetaDataSnapshotGenerationPath(databaseName, schemaName, generation), String.valueOf(chunkIndex));
+    }
+    
+    /**
+     * Get meta data tables version path.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return meta data tables version path
+     */
+    public static String getMetaDataTablesVersionPath(final String databaseName, final String schemaName) {
+        return String.join("/", getMetaDataSchemaPath(databaseName, schemaName), TABLES_VERSION_NODE);
+    }
+    
     private static String getFullMetaDataPath(final String databaseName, final String node) {
         return String.join("/", "", ROOT_NODE, databaseName, node);
     }
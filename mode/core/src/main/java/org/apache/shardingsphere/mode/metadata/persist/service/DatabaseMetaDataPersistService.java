@@ -29,6 +29,7 @@ import org.apache.shardingsphere.mode.persist.PersistRepository;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Database meta data registry service.
@@ -103,12 +104,12 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void compareAndPersist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getAllTableNames().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
         Map<String, ShardingSphereTable> currentTables = tableMetaDataPersistService.load(databaseName, schemaName);
-        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getTables(), currentTables));
-        SchemaManager.getToBeDeletedTables(schema.getTables(), currentTables).forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        tableMetaDataPersistService.persist(databaseName, schemaName, SchemaManager.getToBeAddedTables(schema.getLoadedTables(), currentTables));
+        tableMetaDataPersistService.delete(databaseName, schemaName, currentTables.keySet().stream().filter(each -> !schema.containsTable(each)).collect(Collectors.toList()));
     }
     
     /**
@@ -119,10 +120,10 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void persist(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        if (schema.getTables().isEmpty() && schema.getViews().isEmpty()) {
+        if (schema.getAllTableNames().isEmpty() && schema.getViews().isEmpty()) {
             addSchema(databaseName, schemaName);
         }
-        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getTables());
+        tableMetaDataPersistService.persist(databaseName, schemaName, schema.getLoadedTables());
     }
     
     /**
@@ -133,7 +134,7 @@ public final class DatabaseMetaDataPersistService {
      * @param schema schema meta data
      */
     public void delete(final String databaseName, final String schemaName, final ShardingSphereSchema schema) {
-        schema.getTables().forEach((key, value) -> tableMetaDataPersistService.delete(databaseName, schemaName, key));
+        tableMetaDataPersistService.delete(databaseName, schemaName, schema.getAllTableNames());
     }
     
     /**
@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service.schema;
 
+import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.primitives.Ints;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.yaml.YamlEngine;
@@ -26,34 +28,120 @@ import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
-import java.util.Map;
-import java.util.LinkedHashMap;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Table meta data persist service.
+ *
+ * <p>Besides one node per table, all tables of a schema are kept in a chunked binary snapshot node so that loading a schema takes a few reads instead of one read per table.
+ * Every change of table nodes writes a new tables version, a snapshot is only used when it was built from the current tables version and its tables match the table nodes.
+ * Chunks of a snapshot are written under a new generation which is published by the snapshot node at last.</p>
  */
 @RequiredArgsConstructor
 public final class TableMetaDataPersistService implements SchemaMetaDataPersistService<Map<String, ShardingSphereTable>> {
     
+    private static final int SNAPSHOT_CHUNK_SIZE = 512 * 1024;
+    
+    private static final String SNAPSHOT_SEPARATOR = ":";
+    
     private final PersistRepository repository;
     
     @Override
     public void persist(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        if (tables.isEmpty()) {
+            return;
+        }
         tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key.toLowerCase()),
                 YamlEngine.marshal(new YamlTableSwapper().swapToYamlConfiguration(value))));
+        dropSnapshot(databaseName, schemaName);
     }
     
     @Override
     public Map<String, ShardingSphereTable> load(final String databaseName, final String schemaName) {
         Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
-        return tableNames.isEmpty() ? Collections.emptyMap() : getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
+        if (tableNames.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        String tablesVersion = repository.getDirectly(DatabaseMetaDataNode.getMetaDataTablesVersionPath(databaseName, schemaName));
+        if (!Strings.isNullOrEmpty(tablesVersion)) {
+            Optional<Map<String, ShardingSphereTable>> snapshot = loadSnapshot(databaseName, schemaName, tablesVersion);
+            if (snapshot.isPresent() && isSnapshotMatched(snapshot.get(), tableNames)) {
+                return snapshot.get();
+            }
+        }
+        return getTableMetaDataByTableNames(databaseName, schemaName, tableNames);
     }
     
     @Override
     public void delete(final String databaseName, final String schemaName, final String tableName) {
-        repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableName.toLowerCase()));
+        delete(databaseName, schemaName, Collections.singleton(tableName));
+    }
+    
+    /**
+     * Delete tables.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableNames table names
+     */
+    public void delete(final String databaseName, final String schemaName, final Collection<String> tableNames) {
+        if (tableNames.isEmpty()) {
+            return;
+        }
+        tableNames.forEach(each -> repository.delete(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each.toLowerCase())));
+        dropSnapshot(databaseName, schemaName);
+    }
+    
+    /**
+     * Persist snapshot of tables if the current snapshot is absent or outdated.
+     *
+     * <p>Snapshot is only persisted when the given tables cover all table nodes, table nodes are not read again.</p>
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tables tables which are already loaded
+     */
+    public void persistSnapshot(final String databaseName, final String schemaName, final Map<String, ShardingSphereTable> tables) {
+        Collection<String> tableNames = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        if (tableNames.isEmpty() || !isSnapshotMatched(tables, tableNames)) {
+            return;
+        }
+        String tablesVersion = repository.getDirectly(DatabaseMetaDataNode.getMetaDataTablesVersionPath(databaseName, schemaName));
+        if (Strings.isNullOrEmpty(tablesVersion)) {
+            tablesVersion = persistTablesVersion(databaseName, schemaName);
+        } else if (isSnapshotPersisted(databaseName, schemaName, tablesVersion)) {
+            return;
+        }
+        persistSnapshotChunks(databaseName, schemaName, tablesVersion, tables);
+    }
+    
+    /**
+     * Invalidate snapshot of tables if present, used when table nodes are changed by others which may not maintain tables version.
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     */
+    public void invalidateSnapshot(final String databaseName, final String schemaName) {
+        if (!Strings.isNullOrEmpty(repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName)))) {
+            dropSnapshot(databaseName, schemaName);
+        }
+    }
+    
+    private void dropSnapshot(final String databaseName, final String schemaName) {
+        persistTablesVersion(databaseName, schemaName);
+        repository.delete(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName));
+    }
+    
+    private String persistTablesVersion(final String databaseName, final String schemaName) {
+        String result = UUID.randomUUID().toString();
+        repository.persist(DatabaseMetaDataNode.getMetaDataTablesVersionPath(databaseName, schemaName), result);
+        return result;
     }
     
     private Map<String, ShardingSphereTable> getTableMetaDataByTableNames(final String databaseName, final String schemaName, final Collection<String> tableNames) {
@@ -66,4 +154,56 @@ public final class TableMetaDataPersistService implements SchemaMetaDataPersistS
         });
         return result;
     }
+    
+    private Optional<Map<String, ShardingSphereTable>> loadSnapshot(final String databaseName, final String schemaName, final String tablesVersion) {
+        String snapshotValue = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName));
+        if (Strings.isNullOrEmpty(snapshotValue)) {
+            return Optional.empty();
+        }
+        List<String> snapshotItems = Splitter.on(SNAPSHOT_SEPARATOR).splitToList(snapshotValue);
+        Integer chunkCount = 3 == snapshotItems.size() ? Ints.tryParse(snapshotItems.get(2)) : null;
+        if (null == chunkCount || !tablesVersion.equals(snapshotItems.get(0))) {
+            return Optional.empty();
+        }
+        StringBuilder snapshot = new StringBuilder();
+        for (int i = 0; i < chunkCount; i++) {
+            String chunk = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath(databaseName, schemaName, snapshotItems.get(1), i));
+            if (Strings.isNullOrEmpty(chunk)) {
+                return Optional.empty();
+            }
+            snapshot.append(chunk);
+        }
+        return TableMetaDataSnapshotCodec.decode(snapshot.toString());
+    }
+    
+    private boolean isSnapshotMatched(final Map<String, ShardingSphereTable> snapshot, final Collection<String> tableNames) {
+        return snapshot.size() == tableNames.size() && tableNames.stream().allMatch(each -> snapshot.containsKey(each.toLowerCase()));
+    }
+    
+    private boolean isSnapshotPersisted(final String databaseName, final String schemaName, final String tablesVersion) {
+        String snapshotValue = repository.getDirectly(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName));
+        return !Strings.isNullOrEmpty(snapshotValue) && snapshotValue.startsWith(tablesVersion + SNAPSHOT_SEPARATOR);
+    }
+    
+    private void persistSnapshotChunks(final String databaseName, final String schemaName, final String tablesVersion, final Map<String, ShardingSphereTable> tables) {
+        String generation = UUID.randomUUID().toString();
+        String snapshot = TableMetaDataSnapshotCodec.encode(tables);
+        int chunkCount = 0;
+        for (int start = 0; start < snapshot.length(); start += SNAPSHOT_CHUNK_SIZE) {
+            String chunk = snapshot.substring(start, Math.min(snapshot.length(), start + SNAPSHOT_CHUNK_SIZE));
+            repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath(databaseName, schemaName, generation, chunkCount++), chunk);
+        }
+        repository.persist(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName), String.join(SNAPSHOT_SEPARATOR, tablesVersion, generation, String.valueOf(chunkCount)));
+        for (String each : repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataSnapshotPath(databaseName, schemaName))) {
+            if (!generation.equals(each)) {
+                deleteSnapshotGeneration(databaseName, schemaName, each);
+            }
+        }
+    }
+    
+    private void deleteSnapshotGeneration(final String databaseName, final String schemaName, final String generation) {
+        String generationPath = DatabaseMetaDataNode.getMetaDataSnapshotGenerationPath(databaseName, schemaName, generation);
+        repository.getChildrenKeys(generationPath).forEach(each -> repository.delete(String.join("/", generationPath, each)));
+        repository.delete(generationPath);
+    }
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service.schema;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereColumn;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereConstraint;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereIndex;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlShardingSphereTable;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.YamlTableSwapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data snapshot codec.
+ *
+ * <p>Encodes all tables of a schema into one compressed binary snapshot, tables are swapped through {@link YamlTableSwapper} so the snapshot carries exactly what the table nodes carry.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataSnapshotCodec {
+    
+    private static final int MAGIC_NUMBER = 0x53534D54;
+    
+    private static final int FORMAT_VERSION = 1;
+    
+    /**
+     * Encode tables to snapshot.
+     *
+     * @param tables tables
+     * @return snapshot
+     */
+    @SneakyThrows(IOException.class)
+    public static String encode(final Map<String, ShardingSphereTable> tables) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(result))) {
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            output.writeInt(tables.size());
+            YamlTableSwapper swapper = new YamlTableSwapper();
+            for (Entry<String, ShardingSphereTable> entry : tables.entrySet()) {
+                output.writeUTF(entry.getKey());
+                writeTable(output, swapper.swapToYamlConfiguration(entry.getValue()));
+            }
+        }
+        return Base64.getEncoder().encodeToString(result.toByteArray());
+    }
+    
+    private static void writeTable(final DataOutputStream output, final YamlShardingSphereTable table) throws IOException {
+        writeNullableString(output, table.getName());
+        Map<String, YamlShardingSphereColumn> columns = null == table.getColumns() ? Collections.emptyMap() : table.getColumns();
+        output.writeInt(columns.size());
+        for (Entry<String, YamlShardingSphereColumn> entry : columns.entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeNullableString(output, entry.getValue().getName());
+            output.writeInt(entry.getValue().getDataType());
+            output.writeBoolean(entry.getValue().isPrimaryKey());
+            output.writeBoolean(entry.getValue().isGenerated());
+            output.writeBoolean(entry.getValue().isCaseSensitive());
+            output.writeBoolean(entry.getValue().isVisible());
+            output.writeBoolean(entry.getValue().isUnsigned());
+        }
+        Map<String, YamlShardingSphereIndex> indexes = null == table.getIndexes() ? Collections.emptyMap() : table.getIndexes();
+        output.writeInt(indexes.size());
+        for (Entry<String, YamlShardingSphereIndex> entry : indexes.entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeNullableString(output, entry.getValue().getName());
+        }
+        Map<String, YamlShardingSphereConstraint> constraints = null == table.getConstraints() ? Collections.emptyMap() : table.getConstraints();
+        output.writeInt(constraints.size());
+        for (Entry<String, YamlShardingSphereConstraint> entry : constraints.entrySet()) {
+            output.writeUTF(entry.getKey());
+            writeNullableString(output, entry.getValue().getName());
+            writeNullableString(output, entry.getValue().getReferencedTableName());
+        }
+    }
+    
+    private static void writeNullableString(final DataOutputStream output, final String value) throws IOException {
+        output.writeBoolean(null != value);
+        if (null != value) {
+            output.writeUTF(value);
+        }
+    }
+    
+    /**
+     * Decode tables from snapshot.
+     *
+     * @param snapshot snapshot
+     * @return tables, empty if snapshot is corrupted or written by an unknown format version
+     */
+    public static Optional<Map<String, ShardingSphereTable>> decode(final String snapshot) {
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(snapshot))))) {
+            if (MAGIC_NUMBER != input.readInt() || FORMAT_VERSION != input.readInt()) {
+                return Optional.empty();
+            }
+            int tableCount = input.readInt();
+            Map<String, ShardingSphereTable> result = new LinkedHashMap<>(tableCount, 1);
+            YamlTableSwapper swapper = new YamlTableSwapper();
+            for (int i = 0; i < tableCount; i++) {
+                result.put(input.readUTF(), swapper.swapToObject(readTable(input)));
+            }
+            return Optional.of(result);
+        } catch (final IOException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+    
+    private static YamlShardingSphereTable readTable(final DataInputStream input) throws IOException {
+        YamlShardingSphereTable result = new YamlShardingSphereTable();
+        result.setName(readNullableString(input));
+        int columnCount = input.readInt();
+        Map<String, YamlShardingSphereColumn> columns = new LinkedHashMap<>(columnCount, 1);
+        for (int i = 0; i < columnCount; i++) {
+            columns.put(input.readUTF(), readColumn(input));
+        }
+        result.setColumns(columns);
+        int indexCount = input.readInt();
+        Map<String, YamlShardingSphereIndex> indexes = new LinkedHashMap<>(indexCount, 1);
+        for (int i = 0; i < indexCount; i++) {
+            indexes.put(input.readUTF(), readIndex(input));
+        }
+        result.setIndexes(indexes);
+        int constraintCount = input.readInt();
+        Map<String, YamlShardingSphereConstraint> constraints = new LinkedHashMap<>(constraintCount, 1);
+        for (int i = 0; i < constraintCount; i++) {
+            constraints.put(input.readUTF(), readConstraint(input));
+        }
+        result.setConstraints(constraints);
+        return result;
+    }
+    
+    private static YamlShardingSphereColumn readColumn(final DataInputStream input) throws IOException {
+        YamlShardingSphereColumn result = new YamlShardingSphereColumn();
+        result.setName(readNullableString(input));
+        result.setDataType(input.readInt());
+        result.setPrimaryKey(input.readBoolean());
+        result.setGenerated(input.readBoolean());
+        result.setCaseSensitive(input.readBoolean());
+        result.setVisible(input.readBoolean());
+        result.setUnsigned(input.readBoolean());
+        return result;
+    }
+    
+    private static YamlShardingSphereIndex readIndex(final DataInputStream input) throws IOException {
+        YamlShardingSphereIndex result = new YamlShardingSphereIndex();
+        result.setName(readNullableString(input));
+        return result;
+    }
+    
+    private static YamlShardingSphereConstraint readConstraint(final DataInputStream input) throws IOException {
+        YamlShardingSphereConstraint result = new YamlShardingSphereConstraint();
+        result.setName(readNullableString(input));
+        result.setReferencedTableName(readNullableString(input));
+        return result;
+    }
+    
+    private static String readNullableString(final DataInputStream input) throws IOException {
+        return input.readBoolean() ? input.readUTF() : null;
+    }
+}
@@ -35,15 +35,22 @@ public final class StorageNodeDataSource {
     
     private long replicationDelayMilliseconds;
     
+    private long replicationDelayResolutionMilliseconds;
+    
+    private long replicationDelayMeasuredMillis;
+    
     public StorageNodeDataSource(final StorageNodeRole role, final StorageNodeStatus status) {
         this.role = role.name().toLowerCase();
         this.status = status.name().toLowerCase();
         replicationDelayMilliseconds = 0L;
     }
     
-    public StorageNodeDataSource(final StorageNodeRole role, final StorageNodeStatus status, final long replicationDelayMilliseconds) {
+    public StorageNodeDataSource(final StorageNodeRole role, final StorageNodeStatus status,
+                                 final long replicationDelayMilliseconds, final long replicationDelayResolutionMilliseconds, final long replicationDelayMeasuredMillis) {
         this.role = role.name().toLowerCase();
         this.status = status.name().toLowerCase();
         this.replicationDelayMilliseconds = replicationDelayMilliseconds;
+        this.replicationDelayResolutionMilliseconds = replicationDelayResolutionMilliseconds;
+        this.replicationDelayMeasuredMillis = replicationDelayMeasuredMillis;
     }
 }
@@ -124,6 +124,16 @@ public class DatabaseMetaDataNodeTest {
         assertThat(DatabaseMetaDataNode.getViewMetaDataPath("logic_db", "logic_schema", "order_view"), is("/metadata/logic_db/schemas/logic_schema/views/order_view"));
     }
     
+    @Test
+    public void assertGetMetaDataSnapshotChunkPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataSnapshotChunkPath("logic_db", "logic_schema", "foo_generation", 0), is("/metadata/logic_db/schemas/logic_schema/snapshot/foo_generation/0"));
+    }
+    
+    @Test
+    public void assertGetMetaDataTablesVersionPath() {
+        assertThat(DatabaseMetaDataNode.getMetaDataTablesVersionPath("logic_db", "logic_schema"), is("/metadata/logic_db/schemas/logic_schema/tables_version"));
+    }
+    
     @Test
     public void assertGetMetaDataNodePath() {
         assertThat(DatabaseMetaDataNode.getMetaDataNodePath(), is("/metadata"));
@@ -17,12 +17,17 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service.config.schema;
 
+import com.google.common.base.Splitter;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereIndex;
 import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
 import org.apache.shardingsphere.mode.metadata.persist.service.schema.TableMetaDataPersistService;
+import org.apache.shardingsphere.mode.metadata.persist.service.schema.TableMetaDataSnapshotCodec;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -30,12 +35,17 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,10 +74,104 @@ public final class TableMetaDataPersistServiceTest {
         assertThat(tables.get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
     }
     
+    @Test
+    public void assertLoadFromSnapshot() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.singletonList(new ShardingSphereColumn("id", 4, true, false, false, true, false)),
+                Collections.singletonList(new ShardingSphereIndex("primary")), Collections.emptyList());
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn("foo_version:foo_generation:1");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot/foo_generation/0")).thenReturn(TableMetaDataSnapshotCodec.encode(Collections.singletonMap("t_order", table)));
+        Map<String, ShardingSphereTable> tables = new TableMetaDataPersistService(repository).load("foo_db", "foo_schema");
+        assertThat(tables, is(Collections.singletonMap("t_order", table)));
+        verify(repository, never()).getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order");
+    }
+    
+    @Test
+    public void assertLoadWithOutdatedSnapshot() {
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("bar_version");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn("foo_version:foo_generation:1");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        Map<String, ShardingSphereTable> tables = new TableMetaDataPersistService(repository).load("foo_db", "foo_schema");
+        assertThat(tables.get("t_order").getColumns().keySet(), is(Collections.singleton("id")));
+        verify(repository, never()).getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot/foo_generation/0");
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertLoadWithMismatchedSnapshot() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn("foo_version:foo_generation:1");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot/foo_generation/0")).thenReturn(TableMetaDataSnapshotCodec.encode(Collections.emptyMap()));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        Map<String, ShardingSphereTable> tables = new TableMetaDataPersistService(repository).load("foo_db", "foo_schema");
+        assertThat(tables.keySet(), is(Collections.singleton("t_order")));
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertPersistSnapshot() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn(Collections.singletonList("bar_generation"));
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/snapshot/bar_generation")).thenReturn(Arrays.asList("0", "1"));
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new TableMetaDataPersistService(repository).persistSnapshot("foo_db", "foo_schema", Collections.singletonMap("t_order", table));
+        verify(repository, never()).getDirectly("/metadata/foo_db/schemas/foo_schema/tables/t_order");
+        ArgumentCaptor<String> snapshotCaptor = ArgumentCaptor.forClass(String.class);
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/snapshot"), snapshotCaptor.capture());
+        List<String> snapshotItems = Splitter.on(":").splitToList(snapshotCaptor.getValue());
+        assertThat(snapshotItems.get(0), is("foo_version"));
+        assertThat(snapshotItems.get(2), is("1"));
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/snapshot/" + snapshotItems.get(1) + "/0"), anyString());
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot/bar_generation/0");
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot/bar_generation/1");
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot/bar_generation");
+    }
+    
+    @Test
+    public void assertPersistSnapshotWithPersistedSnapshot() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonList("t_order"));
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/tables_version")).thenReturn("foo_version");
+        when(repository.getDirectly("/metadata/foo_db/schemas/foo_schema/snapshot")).thenReturn("foo_version:foo_generation:1");
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new TableMetaDataPersistService(repository).persistSnapshot("foo_db", "foo_schema", Collections.singletonMap("t_order", table));
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    public void assertPersistSnapshotWithPartialLoadedTables() {
+        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Arrays.asList("t_order", "t_order_item"));
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new TableMetaDataPersistService(repository).persistSnapshot("foo_db", "foo_schema", Collections.singletonMap("t_order", table));
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(repository, never()).getDirectly(anyString());
+    }
+    
     @Test
     public void assertDelete() {
         new TableMetaDataPersistService(repository).delete("foo_db", "foo_schema", "foo_table");
         verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_table");
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot");
+    }
+    
+    @Test
+    public void assertDeleteTables() {
+        new TableMetaDataPersistService(repository).delete("foo_db", "foo_schema", Arrays.asList("foo_table", "bar_table"));
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/foo_table");
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/tables/bar_table");
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables_version"), anyString());
+        verify(repository).delete("/metadata/foo_db/schemas/foo_schema/snapshot");
+    }
+    
+    @Test
+    public void assertInvalidateAbsentSnapshot() {
+        new TableMetaDataPersistService(repository).invalidateSnapshot("foo_db", "foo_schema");
+        verify(repository, never()).persist(anyString(), anyString());
+        verify(repository, never()).delete(anyString());
     }
     
     @SneakyThrows({IOException.class, URISyntaxException.class})
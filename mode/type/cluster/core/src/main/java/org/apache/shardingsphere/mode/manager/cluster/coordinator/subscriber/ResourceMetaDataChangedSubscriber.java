@@ -86,6 +86,7 @@ public final class ResourceMetaDataChangedSubscriber {
      */
     @Subscribe
     public synchronized void renew(final TableMetaDataChangedEvent event) {
+        contextManager.getMetaDataContexts().getPersistService().getDatabaseMetaDataService().getTableMetaDataPersistService().invalidateSnapshot(event.getDatabaseName(), event.getSchemaName());
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getChangedTableMetaData(), null);
         contextManager.alterSchema(event.getDatabaseName(), event.getSchemaName(), event.getDeletedTable(), null);
     }
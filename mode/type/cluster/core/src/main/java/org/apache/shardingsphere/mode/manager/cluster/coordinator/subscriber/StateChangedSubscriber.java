@@ -20,6 +20,7 @@ package org.apache.shardingsphere.mode.manager.cluster.coordinator.subscriber;
 import com.google.common.eventbus.Subscribe;
 import org.apache.shardingsphere.infra.datasource.state.DataSourceState;
 import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
+import org.apache.shardingsphere.infra.datasource.state.ReplicationDelay;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstance;
 import org.apache.shardingsphere.infra.metadata.database.schema.QualifiedDatabase;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -34,6 +35,8 @@ import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.statu
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.compute.event.StateEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.PrimaryStateChangedEvent;
 import org.apache.shardingsphere.mode.manager.cluster.coordinator.registry.status.storage.event.StorageNodeChangedEvent;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeDataSource;
+import org.apache.shardingsphere.mode.metadata.storage.StorageNodeRole;
 import org.apache.shardingsphere.mode.metadata.storage.event.PrimaryDataSourceChangedEvent;
 import org.apache.shardingsphere.mode.metadata.storage.event.StorageNodeDataSourceChangedEvent;
 
@@ -66,6 +69,9 @@ public final class StateChangedSubscriber {
         if (!contextManager.getMetaDataContexts().getMetaData().containsDatabase(event.getQualifiedDatabase().getDatabaseName())) {
             return;
         }
+        if (StorageNodeRole.MEMBER.name().equalsIgnoreCase(event.getDataSource().getRole())) {
+            updateReplicationDelay(qualifiedDatabase, event.getDataSource());
+        }
         Optional<ShardingSphereRule> dynamicDataSourceRule = contextManager.getMetaDataContexts().getMetaData().getDatabase(qualifiedDatabase.getDatabaseName()).getRuleMetaData()
                 .getRules().stream().filter(each -> each instanceof DynamicDataSourceContainedRule).findFirst();
         if (dynamicDataSourceRule.isPresent()) {
@@ -148,4 +154,13 @@ public final class StateChangedSubscriber {
     public synchronized void renew(final InstanceOfflineEvent event) {
         contextManager.getInstanceContext().deleteComputeNodeInstance(new ComputeNodeInstance(event.getInstanceMetaData()));
     }
+    
+    private void updateReplicationDelay(final QualifiedDatabase qualifiedDatabase, final StorageNodeDataSource dataSource) {
+        if (0L == dataSource.getReplicationDelayMeasuredMillis()) {
+            DataSourceStateManager.getInstance().removeReplicationDelay(qualifiedDatabase.getDatabaseName(), qualifiedDatabase.getDataSourceName());
+            return;
+        }
+        DataSourceStateManager.getInstance().updateReplicationDelay(qualifiedDatabase.getDatabaseName(), qualifiedDatabase.getDataSourceName(),
+                new ReplicationDelay(dataSource.getReplicationDelayMilliseconds(), dataSource.getReplicationDelayResolutionMilliseconds(), dataSource.getReplicationDelayMeasuredMillis()));
+    }
 }
@@ -93,6 +93,19 @@ public final class BackendConnection implements ExecutorJDBCConnectionManager {
         return result;
     }
     
+    @Override
+    public int getAcquirableConnectionSize(final String dataSourceName, final int connectionSize) {
+        Preconditions.checkNotNull(connectionSession.getDatabaseName(), "Current database name is null.");
+        String databaseName = connectionSession.getDatabaseName().toLowerCase();
+        int cachedConnectionSize;
+        synchronized (cachedConnections) {
+            cachedConnectionSize = cachedConnections.get(databaseName + "." + dataSourceName).size();
+        }
+        return cachedConnectionSize >= connectionSize
+                ? connectionSize
+                : Math.max(cachedConnectionSize, ProxyContext.getInstance().getBackendDataSource().getAcquirableConnectionSize(databaseName, dataSourceName, connectionSize));
+    }
+    
     private List<Connection> createNewConnections(final String dataSourceName, final int connectionSize, final ConnectionMode connectionMode) throws SQLException {
         List<Connection> result = ProxyContext.getInstance().getBackendDataSource().getConnections(connectionSession.getDatabaseName().toLowerCase(), dataSourceName, connectionSize, connectionMode);
         setSessionVariablesIfNecessary(result);
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.communication;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.aware.CursorDefinitionAware;
 import org.apache.shardingsphere.infra.binder.decider.context.SQLFederationDeciderContext;
 import org.apache.shardingsphere.infra.binder.decider.engine.SQLFederationDeciderEngine;
@@ -34,24 +35,35 @@ import org.apache.shardingsphere.infra.context.refresher.MetaDataRefreshEngine;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.metadata.JDBCQueryResultMetaData;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.merge.MergeEngine;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtil;
+import org.apache.shardingsphere.infra.parser.sql.SQLParameterInliner;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.communication.coalesce.CoalescedInsertSQLBuilder;
+import org.apache.shardingsphere.proxy.backend.communication.coalesce.CoalescibleInsert;
+import org.apache.shardingsphere.proxy.backend.communication.coalesce.CoalescibleInsertFinder;
+import org.apache.shardingsphere.proxy.backend.communication.coalesce.InsertCoalescer;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.statement.JDBCBackendStatement;
@@ -69,6 +81,7 @@ import org.apache.shardingsphere.proxy.backend.response.header.query.QueryRespon
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
 import org.apache.shardingsphere.sqlfederation.rule.SQLFederationRule;
 import org.apache.shardingsphere.sqlfederation.spi.SQLFederationExecutor;
@@ -172,8 +185,20 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         if (executionContext.getExecutionUnits().isEmpty()) {
             return new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement());
         }
+        ConnectionSession connectionSession = backendConnection.getConnectionSession();
+        Optional<CoalescibleInsert> coalescibleInsert = CoalescibleInsertFinder.find(queryContext, executionContext, database, connectionSession, metaDataContexts.getMetaData().getProps());
+        if (coalescibleInsert.isPresent()) {
+            Collection<UpdateResult> updateResults = new LinkedList<>();
+            if (InsertCoalescer.getInstance().coalesce(CoalescibleInsertFinder.getCoalescingKey(executionContext, coalescibleInsert.get(), database.getName(), driverType, connectionSession),
+                    coalescibleInsert.get(), metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_INSERT_COALESCING_WINDOW_MILLISECONDS),
+                    inserts -> updateResults.addAll(executeCoalescedInsert(inserts, executionContext)))) {
+                return updateResults.isEmpty()
+                        ? new UpdateResponseHeader(executionContext.getSqlStatementContext().getSqlStatement(), Collections.singletonList(new UpdateResult(1, 0L)))
+                        : processExecuteUpdate(executionContext, updateResults);
+            }
+        }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
-        List result = proxySQLExecutor.execute(executionContext);
+        List result = executeWithLiteralParameters(executionContext);
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult
@@ -186,6 +211,42 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         return deciderEngine.decide(queryContext, database);
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Collection<UpdateResult> executeCoalescedInsert(final List<CoalescibleInsert> inserts, final ExecutionContext leaderExecutionContext) throws SQLException {
+        if (1 == inserts.size()) {
+            proxySQLExecutor.checkExecutePrerequisites(leaderExecutionContext);
+            return (List) executeWithLiteralParameters(leaderExecutionContext);
+        }
+        String sql = CoalescedInsertSQLBuilder.buildSQL(inserts);
+        List<Object> params = CoalescedInsertSQLBuilder.buildParameters(inserts);
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        SQLParserRule sqlParserRule = metaDataContexts.getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
+        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(DatabaseTypeEngine.getTrunkDatabaseTypeName(database.getProtocolType())).parse(sql, false);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataContexts.getMetaData(), params, sqlStatement, database.getName());
+        QueryContext coalescedQueryContext = new QueryContext(sqlStatementContext, sql, params, new HintValueContext(), queryContext.isLiteralParameterized());
+        ExecutionContext executionContext = new KernelProcessor().generateExecutionContext(coalescedQueryContext, database,
+                metaDataContexts.getMetaData().getGlobalRuleMetaData(), metaDataContexts.getMetaData().getProps(), backendConnection.getConnectionSession().getConnectionContext());
+        proxySQLExecutor.checkExecutePrerequisites(executionContext);
+        executeWithLiteralParameters(executionContext);
+        return Collections.emptyList();
+    }
+    
+    private List<ExecuteResult> executeWithLiteralParameters(final ExecutionContext executionContext) throws SQLException {
+        if (!executionContext.getQueryContext().isLiteralParameterized() || JDBCDriverType.PREPARED_STATEMENT.equals(driverType)
+                || executionContext.getExecutionUnits().stream().allMatch(each -> each.getSqlUnit().getParameters().isEmpty())) {
+            return proxySQLExecutor.execute(executionContext);
+        }
+        Collection<ExecutionUnit> executionUnits = new LinkedList<>();
+        for (ExecutionUnit each : executionContext.getExecutionUnits()) {
+            Optional<String> sql = SQLParameterInliner.inline(each.getSqlUnit().getSql(), each.getSqlUnit().getParameters());
+            if (!sql.isPresent()) {
+                return new ProxySQLExecutor(JDBCDriverType.PREPARED_STATEMENT, backendConnection, this).execute(executionContext);
+            }
+            executionUnits.add(new ExecutionUnit(each.getDataSourceName(), new SQLUnit(sql.get(), Collections.emptyList(), each.getSqlUnit().getTableRouteMappers())));
+        }
+        return proxySQLExecutor.execute(new ExecutionContext(executionContext.getQueryContext(), executionUnits, executionContext.getRouteContext()));
+    }
+    
     private void prepareFederationExecutor() {
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         String databaseName = backendConnection.getConnectionSession().getDatabaseName();
@@ -202,7 +263,7 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
         Map<String, DatabaseType> storageTypes = database.getResourceMetaData().getStorageTypes();
-        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, storageTypes,
+        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(getFederationDriverType(), protocolType, storageTypes,
                 queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, metaDataContexts);
         SQLFederationExecutorContext context = new SQLFederationExecutorContext(false, queryContext, metaDataContexts.getMetaData());
@@ -212,11 +273,15 @@ public final class DatabaseCommunicationEngine implements DatabaseBackendHandler
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine(final boolean isReturnGeneratedKeys, final MetaDataContexts metaData) {
         int maxConnectionsSizePerQuery = metaData.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
         JDBCBackendStatement statementManager = (JDBCBackendStatement) backendConnection.getConnectionSession().getStatementManager();
-        return new DriverExecutionPrepareEngine<>(driverType, maxConnectionsSizePerQuery, backendConnection, statementManager,
+        return new DriverExecutionPrepareEngine<>(getFederationDriverType(), maxConnectionsSizePerQuery, backendConnection, statementManager,
                 new StatementOption(isReturnGeneratedKeys), metaData.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName()).getRuleMetaData().getRules(),
                 metaData.getMetaData().getDatabase(backendConnection.getConnectionSession().getDatabaseName()).getResourceMetaData().getStorageTypes());
     }
     
+    private String getFederationDriverType() {
+        return queryContext.getParameters().isEmpty() ? driverType : JDBCDriverType.PREPARED_STATEMENT;
+    }
+    
     private ResponseHeader processExecuteFederation(final ResultSet resultSet, final MetaDataContexts metaDataContexts) throws SQLException {
         int columnCount = resultSet.getMetaData().getColumnCount();
         queryHeaders = new ArrayList<>(columnCount);
@@ -51,7 +51,7 @@ public final class DatabaseCommunicationEngineFactory {
      */
     public DatabaseCommunicationEngine newDatabaseCommunicationEngine(final QueryContext queryContext, final BackendConnection backendConnection, final boolean preferPreparedStatement) {
         ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(backendConnection.getConnectionSession().getDatabaseName());
-        String driverType = preferPreparedStatement || !queryContext.getParameters().isEmpty() ? JDBCDriverType.PREPARED_STATEMENT : JDBCDriverType.STATEMENT;
+        String driverType = preferPreparedStatement || !queryContext.getParameters().isEmpty() && !queryContext.isLiteralParameterized() ? JDBCDriverType.PREPARED_STATEMENT : JDBCDriverType.STATEMENT;
         DatabaseCommunicationEngine result = new DatabaseCommunicationEngine(driverType, database, queryContext, backendConnection);
         backendConnection.add(result);
         return result;
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Coalesced insert SQL builder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CoalescedInsertSQLBuilder {
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param inserts coalescible inserts with same shape
+     * @return multi-row insert SQL
+     */
+    public static String buildSQL(final List<CoalescibleInsert> inserts) {
+        CoalescibleInsert sample = inserts.get(0);
+        return sample.getPrefix() + inserts.stream().map(CoalescibleInsert::getValues).collect(Collectors.joining(", ")) + sample.getSuffix();
+    }
+    
+    /**
+     * Build parameters of multi-row insert SQL.
+     *
+     * @param inserts coalescible inserts with same shape
+     * @return parameters of multi-row insert SQL
+     */
+    public static List<Object> buildParameters(final List<CoalescibleInsert> inserts) {
+        return inserts.stream().flatMap(each -> each.getParams().stream()).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatementHandler;
+
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Coalescible insert finder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CoalescibleInsertFinder {
+    
+    /**
+     * Find coalescible insert.
+     *
+     * @param queryContext query context
+     * @param executionContext execution context
+     * @param database database
+     * @param connectionSession connection session
+     * @param props configuration properties
+     * @return coalescible insert, empty if insert can not be coalesced
+     */
+    public static Optional<CoalescibleInsert> find(final QueryContext queryContext, final ExecutionContext executionContext, final ShardingSphereDatabase database,
+                                                   final ConnectionSession connectionSession, final ConfigurationProperties props) {
+        if (props.<Integer>getValue(ConfigurationPropertyKey.PROXY_INSERT_COALESCING_WINDOW_MILLISECONDS) <= 0 || !connectionSession.isAutoCommit()
+                || connectionSession.getTransactionStatus().isInTransaction() || 1 != executionContext.getExecutionUnits().size()
+                || !(executionContext.getSqlStatementContext() instanceof InsertStatementContext)) {
+            return Optional.empty();
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) executionContext.getSqlStatementContext();
+        if (!isSingleRowInsert(insertStatementContext) || queryContext.getParameters().size() != insertStatementContext.getInsertValueContexts().get(0).getParameterCount()
+                || !isWithoutGeneratedColumn(insertStatementContext, database)) {
+            return Optional.empty();
+        }
+        String sql = queryContext.getSql();
+        InsertValuesSegment valuesSegment = insertStatementContext.getSqlStatement().getValues().iterator().next();
+        if (valuesSegment.getStopIndex() >= sql.length() || '(' != sql.charAt(valuesSegment.getStartIndex()) || ')' != sql.charAt(valuesSegment.getStopIndex())) {
+            return Optional.empty();
+        }
+        return Optional.of(new CoalescibleInsert(sql.substring(0, valuesSegment.getStartIndex()), sql.substring(valuesSegment.getStartIndex(), valuesSegment.getStopIndex() + 1),
+                sql.substring(valuesSegment.getStopIndex() + 1), queryContext.getParameters()));
+    }
+    
+    private static boolean isSingleRowInsert(final InsertStatementContext insertStatementContext) {
+        InsertStatement insertStatement = insertStatementContext.getSqlStatement();
+        return 1 == insertStatement.getValues().size() && 1 == insertStatementContext.getInsertValueContexts().size() && !insertStatementContext.getGeneratedKeyContext().isPresent()
+                && null == insertStatementContext.getInsertSelectContext() && null == insertStatementContext.getOnDuplicateKeyUpdateValueContext()
+                && !InsertStatementHandler.getSetAssignmentSegment(insertStatement).isPresent() && !InsertStatementHandler.getReturningSegment(insertStatement).isPresent()
+                && !InsertStatementHandler.getOutputSegment(insertStatement).isPresent() && !InsertStatementHandler.isIgnoreOrReplace(insertStatement);
+    }
+    
+    private static boolean isWithoutGeneratedColumn(final InsertStatementContext insertStatementContext, final ShardingSphereDatabase database) {
+        String defaultSchemaName = DatabaseTypeEngine.getDefaultSchemaName(insertStatementContext.getDatabaseType(), database.getName());
+        ShardingSphereSchema schema = database.getSchema(insertStatementContext.getTablesContext().getSchemaName().orElse(defaultSchemaName));
+        if (null == schema) {
+            return false;
+        }
+        ShardingSphereTable table = schema.getTable(insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue());
+        return null != table && table.getColumns().values().stream().noneMatch(ShardingSphereColumn::isGenerated);
+    }
+    
+    /**
+     * Get coalescing key.
+     *
+     * <p>Inserts with same key are executed on the connection and session of the leading one, so the key covers target, shape, user and session state of inserts.</p>
+     *
+     * @param executionContext execution context
+     * @param coalescibleInsert coalescible insert
+     * @param databaseName database name
+     * @param driverType driver type
+     * @param connectionSession connection session
+     * @return coalescing key
+     */
+    public static String getCoalescingKey(final ExecutionContext executionContext, final CoalescibleInsert coalescibleInsert, final String databaseName, final String driverType,
+                                          final ConnectionSession connectionSession) {
+        RouteUnit routeUnit = executionContext.getRouteContext().getRouteUnits().iterator().next();
+        String actualTableNames = routeUnit.getTableMappers().stream().map(RouteMapper::getActualName).collect(Collectors.joining(","));
+        return String.join("\n", databaseName, driverType, routeUnit.getDataSourceMapper().getActualName(), actualTableNames, coalescibleInsert.getPrefix(), coalescibleInsert.getSuffix(),
+                String.valueOf(connectionSession.getGrantee()), connectionSession.getRequiredSessionVariableRecorder().getVariables().toString(),
+                String.valueOf(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Insert coalescer.
+ * 
+ * <p>Autocommit single-row inserts with same shape and same target are queued while a batch of them is executing, and executed as one multi-row insert by the first queued one after that.
+ * Inserts never wait for others to arrive, an insert which is not taken into a batch within the window is withdrawn and executed alone.
+ * If multi-row insert failed, the failure is returned to every insert without executing again, because rows may be committed already.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InsertCoalescer {
+    
+    private static final int MAX_COALESCED_ROWS = 1000;
+    
+    private static final InsertCoalescer INSTANCE = new InsertCoalescer();
+    
+    private final Map<String, InsertCoalescingQueue> queues = new ConcurrentHashMap<>();
+    
+    /**
+     * Get insert coalescer.
+     *
+     * @return insert coalescer
+     */
+    public static InsertCoalescer getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Coalesce insert.
+     *
+     * @param key coalescing key, inserts with same shape and same target have same key
+     * @param insert coalescible insert
+     * @param windowMilliseconds window milliseconds to wait for being taken into a batch
+     * @param executor executor of batch, batch with only one insert is executed by executor too
+     * @return whether insert is executed by batch, false means insert should be executed alone
+     * @throws SQLException SQL exception if batch failed
+     */
+    public boolean coalesce(final String key, final CoalescibleInsert insert, final long windowMilliseconds, final CoalescedInsertExecutor executor) throws SQLException {
+        InsertCoalescingQueue queue = queues.computeIfAbsent(key, unused -> new InsertCoalescingQueue(MAX_COALESCED_ROWS));
+        if (queue.offer(insert)) {
+            return lead(key, queue, executor);
+        }
+        Optional<InsertCoalescingResult> result = await(queue, insert, windowMilliseconds);
+        if (!result.isPresent()) {
+            return false;
+        }
+        return InsertCoalescingResult.EXECUTED == result.get() || lead(key, queue, executor);
+    }
+    
+    private Optional<InsertCoalescingResult> await(final InsertCoalescingQueue queue, final CoalescibleInsert insert, final long windowMilliseconds) throws SQLException {
+        try {
+            return Optional.of(insert.getResult().get(windowMilliseconds, TimeUnit.MILLISECONDS));
+        } catch (final TimeoutException ignored) {
+            return queue.withdraw(insert) ? Optional.empty() : Optional.of(getResult(insert));
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+            return queue.withdraw(insert) ? Optional.empty() : Optional.of(getResult(insert));
+        } catch (final ExecutionException ex) {
+            throw toSQLException(ex.getCause());
+        }
+    }
+    
+    private InsertCoalescingResult getResult(final CoalescibleInsert insert) throws SQLException {
+        try {
+            return insert.getResult().join();
+        } catch (final CompletionException ex) {
+            throw toSQLException(ex.getCause());
+        }
+    }
+    
+    private SQLException toSQLException(final Throwable cause) {
+        if (cause instanceof SQLException) {
+            return (SQLException) cause;
+        }
+        throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+    }
+    
+    private boolean lead(final String key, final InsertCoalescingQueue queue, final CoalescedInsertExecutor executor) throws SQLException {
+        List<CoalescibleInsert> batch = queue.poll();
+        try {
+            executor.execute(batch);
+        } catch (final SQLException ex) {
+            batch.forEach(each -> each.getResult().completeExceptionally(ex));
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            batch.forEach(each -> each.getResult().completeExceptionally(ex));
+            throw ex;
+        } finally {
+            if (!queue.handOver()) {
+                queues.remove(key, queue);
+            }
+        }
+        batch.forEach(each -> each.getResult().complete(InsertCoalescingResult.EXECUTED));
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Insert coalescing queue.
+ */
+public final class InsertCoalescingQueue {
+    
+    private final int maxBatchSize;
+    
+    private final LinkedList<CoalescibleInsert> pending = new LinkedList<>();
+    
+    private boolean executing;
+    
+    public InsertCoalescingQueue(final int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+    
+    /**
+     * Offer insert.
+     *
+     * @param insert coalescible insert
+     * @return whether insert leads execution, false means a batch is executing and insert waits for next batch
+     */
+    public synchronized boolean offer(final CoalescibleInsert insert) {
+        pending.add(insert);
+        if (executing) {
+            return false;
+        }
+        executing = true;
+        return true;
+    }
+    
+    /**
+     * Withdraw insert which is neither taken into a batch nor chosen to lead next batch.
+     *
+     * @param insert coalescible insert
+     * @return withdrawn or not
+     */
+    public synchronized boolean withdraw(final CoalescibleInsert insert) {
+        return !insert.getResult().isDone() && pending.remove(insert);
+    }
+    
+    /**
+     * Poll batch, the first insert of batch is the leader.
+     *
+     * @return inserts of batch
+     */
+    public synchronized List<CoalescibleInsert> poll() {
+        List<CoalescibleInsert> result = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+        while (!pending.isEmpty() && result.size() < maxBatchSize) {
+            result.add(pending.poll());
+        }
+        return result;
+    }
+    
+    /**
+     * Hand over execution to the first pending insert after batch executed.
+     *
+     * @return handed over or not, false means no pending insert and queue is idle
+     */
+    public synchronized boolean handOver() {
+        CoalescibleInsert next = pending.peek();
+        if (null == next) {
+            executing = false;
+            return false;
+        }
+        next.getResult().complete(InsertCoalescingResult.LEADING);
+        return true;
+    }
+}
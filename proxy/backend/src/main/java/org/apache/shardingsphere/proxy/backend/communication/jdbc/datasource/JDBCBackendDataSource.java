@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.proxy.backend.communication.jdbc.datasource;
 
 import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.datasource.pool.usage.AcquirableConnectionSizeCalculator;
 import org.apache.shardingsphere.infra.datasource.registry.GlobalDataSourceRegistry;
 import org.apache.shardingsphere.infra.exception.OverallConnectionNotEnoughException;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
@@ -68,13 +70,7 @@ public final class JDBCBackendDataSource implements BackendDataSource {
     @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
     public List<Connection> getConnections(final String databaseName, final String dataSourceName,
                                            final int connectionSize, final ConnectionMode connectionMode, final TransactionType transactionType) throws SQLException {
-        DataSource dataSource = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
-        if (dataSourceName.contains(".")) {
-            String dataSourceStr = dataSourceName.split("\\.")[0];
-            if (GlobalDataSourceRegistry.getInstance().getCachedDataSourceDataSources().containsKey(dataSourceStr)) {
-                dataSource = GlobalDataSourceRegistry.getInstance().getCachedDataSourceDataSources().get(dataSourceStr);
-            }
-        }
+        DataSource dataSource = getDataSource(databaseName, dataSourceName);
         Preconditions.checkNotNull(dataSource, "Can not get connection from datasource %s.", dataSourceName);
         if (1 == connectionSize) {
             return Collections.singletonList(createConnection(databaseName, dataSourceName, dataSource, transactionType));
@@ -87,6 +83,34 @@ public final class JDBCBackendDataSource implements BackendDataSource {
         }
     }
     
+    /**
+     * Get acquirable connection size.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param connectionSize expected connection size
+     * @return acquirable connection size
+     */
+    public int getAcquirableConnectionSize(final String databaseName, final String dataSourceName, final int connectionSize) {
+        DataSource dataSource = getDataSource(databaseName, dataSourceName);
+        if (null == dataSource) {
+            return connectionSize;
+        }
+        int scatterUsagePercentage = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()
+                .<Integer>getValue(ConfigurationPropertyKey.CONNECTION_POOL_SCATTER_USAGE_PERCENTAGE);
+        return new AcquirableConnectionSizeCalculator(scatterUsagePercentage).calculate(dataSource, connectionSize);
+    }
+    
+    private DataSource getDataSource(final String databaseName, final String dataSourceName) {
+        if (dataSourceName.contains(".")) {
+            String dataSourceStr = dataSourceName.split("\\.")[0];
+            if (GlobalDataSourceRegistry.getInstance().getCachedDataSourceDataSources().containsKey(dataSourceStr)) {
+                return GlobalDataSourceRegistry.getInstance().getCachedDataSourceDataSources().get(dataSourceStr);
+            }
+        }
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getDatabase(databaseName).getResourceMetaData().getDataSources().get(dataSourceName);
+    }
+    
     private List<Connection> createConnections(final String databaseName, final String dataSourceName,
                                                final DataSource dataSource, final int connectionSize, final TransactionType transactionType) throws SQLException {
         List<Connection> result = new ArrayList<>(connectionSize);
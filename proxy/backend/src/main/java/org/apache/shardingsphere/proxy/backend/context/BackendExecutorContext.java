@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorType;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 
 /**
@@ -32,8 +33,9 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSizeAndType(
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<KernelExecutorType>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_TYPE));
     
     /**
      * Get executor context instance.
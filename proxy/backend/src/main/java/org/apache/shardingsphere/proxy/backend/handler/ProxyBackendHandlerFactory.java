@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.handler;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.apache.shardingsphere.distsql.parser.statement.DistSQLStatement;
 import org.apache.shardingsphere.distsql.parser.statement.ral.QueryableRALStatement;
 import org.apache.shardingsphere.distsql.parser.statement.rql.RQLStatement;
@@ -27,9 +28,15 @@ import org.apache.shardingsphere.distsql.parser.statement.rul.RULStatement;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.ParameterizedSQL;
+import org.apache.shardingsphere.infra.parser.sql.SQLLiteralParameterizer;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
@@ -45,12 +52,17 @@ import org.apache.shardingsphere.proxy.backend.handler.extra.ExtraProxyBackendHa
 import org.apache.shardingsphere.proxy.backend.handler.skip.SkipBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.transaction.TransactionBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.FlushStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dcl.DCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.CreateDatabaseStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.ddl.DropDatabaseStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.tcl.TCLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtil;
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dal.MySQLShowCreateUserStatement;
@@ -60,6 +72,7 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -100,8 +113,17 @@ public final class ProxyBackendHandlerFactory {
         if (Strings.isNullOrEmpty(SQLUtil.trimComment(sql))) {
             return new SkipBackendHandler(new EmptyStatement());
         }
-        SQLParserRule sqlParserRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().getSingleRule(SQLParserRule.class);
-        SQLStatement sqlStatement = sqlParserRule.getSQLParserEngine(getProtocolType(databaseType, connectionSession).getType()).parse(sql, false);
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        DatabaseType protocolType = getProtocolType(databaseType, connectionSession);
+        ShardingSphereSQLParserEngine sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(protocolType.getType());
+        if (protocolType instanceof MySQLDatabaseType && metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZE_ENABLED)) {
+            Optional<QueryContext> queryContext = createParameterizedQueryContext(metaData, sqlParserEngine, sql, connectionSession, hintValueContext);
+            if (queryContext.isPresent()) {
+                connectionSession.setQueryContext(queryContext.get());
+                return newInstance(databaseType, queryContext.get(), sql, connectionSession, false);
+            }
+        }
+        SQLStatement sqlStatement = sqlParserEngine.parse(sql, false);
         return newInstance(databaseType, sql, sqlStatement, connectionSession, hintValueContext);
     }
     
@@ -157,9 +179,14 @@ public final class ProxyBackendHandlerFactory {
      * @return created instance
      * @throws SQLException SQL exception
      */
-    @SuppressWarnings("unchecked")
     public static ProxyBackendHandler newInstance(final DatabaseType databaseType, final QueryContext queryContext, final ConnectionSession connectionSession,
                                                   final boolean preferPreparedStatement) throws SQLException {
+        return newInstance(databaseType, queryContext, queryContext.getSql(), connectionSession, preferPreparedStatement);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static ProxyBackendHandler newInstance(final DatabaseType databaseType, final QueryContext queryContext, final String sql, final ConnectionSession connectionSession,
+                                                   final boolean preferPreparedStatement) throws SQLException {
         SQLStatementContext<?> sqlStatementContext = queryContext.getSqlStatementContext();
         SQLStatement sqlStatement = sqlStatementContext.getSqlStatement();
         databaseType.handleRollbackOnly(connectionSession.getTransactionStatus().isRollbackOnly(), sqlStatement);
@@ -171,7 +198,6 @@ public final class ProxyBackendHandlerFactory {
             checkUnsupportedDistSQLStatementInTransaction(sqlStatement, connectionSession);
             return DistSQLBackendHandlerFactory.newInstance((DistSQLStatement) sqlStatement, connectionSession);
         }
-        String sql = queryContext.getSql();
         handleAutoCommit(sqlStatement, connectionSession);
         if (sqlStatement instanceof TCLStatement) {
             return TransactionBackendHandlerFactory.newInstance((SQLStatementContext<TCLStatement>) sqlStatementContext, sql, connectionSession);
@@ -197,6 +223,35 @@ public final class ProxyBackendHandlerFactory {
         return backendHandler.orElseGet(() -> DatabaseBackendHandlerFactory.newInstance(queryContext, connectionSession, preferPreparedStatement));
     }
     
+    private static Optional<QueryContext> createParameterizedQueryContext(final ShardingSphereMetaData metaData, final ShardingSphereSQLParserEngine sqlParserEngine, final String sql,
+                                                                          final ConnectionSession connectionSession, final HintValueContext hintValueContext) {
+        Optional<ParameterizedSQL> parameterizedSQL = SQLLiteralParameterizer.parameterize(sql);
+        if (!parameterizedSQL.isPresent()) {
+            return Optional.empty();
+        }
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = sqlParserEngine.parse(parameterizedSQL.get().getSql(), true);
+        } catch (final SQLParsingException | ParseCancellationException ignored) {
+            return Optional.empty();
+        }
+        List<Object> params = parameterizedSQL.get().getParameters();
+        if (!isParameterizable(sqlStatement, params.size())) {
+            return Optional.empty();
+        }
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, params, sqlStatement, connectionSession.getDefaultDatabaseName());
+        if (sqlStatementContext.getTablesContext().getTableNames().isEmpty() || sqlStatementContext.getTablesContext().getDatabaseName().isPresent()) {
+            return Optional.empty();
+        }
+        return Optional.of(new QueryContext(sqlStatementContext, parameterizedSQL.get().getSql(), params, hintValueContext, true));
+    }
+    
+    private static boolean isParameterizable(final SQLStatement sqlStatement, final int paramCount) {
+        boolean isSupportedStatement = sqlStatement instanceof SelectStatement || sqlStatement instanceof InsertStatement || sqlStatement instanceof UpdateStatement
+                || sqlStatement instanceof DeleteStatement;
+        return isSupportedStatement && sqlStatement.getParameterCount() == paramCount;
+    }
+    
     private static void checkUnsupportedDistSQLStatementInTransaction(final SQLStatement sqlStatement, final ConnectionSession connectionSession) {
         ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction() || isSupportedDistSQLStatementInTransaction(sqlStatement),
                 () -> new UnsupportedSQLOperationException("Non-query DistSQL is not supported within a transaction"));
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -44,6 +45,15 @@ public final class RequiredSessionVariableRecorder {
         sessionVariables.put(variableName, variableValue);
     }
     
+    /**
+     * Get variables.
+     *
+     * @return variables sorted by variable name
+     */
+    public Map<String, String> getVariables() {
+        return new TreeMap<>(sessionVariables);
+    }
+    
     /**
      * Return true if no session variable was set.
      *
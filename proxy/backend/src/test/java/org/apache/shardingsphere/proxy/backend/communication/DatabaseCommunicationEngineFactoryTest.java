@@ -21,6 +21,8 @@ import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -31,6 +33,7 @@ import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.util.ProxyContextRestorer;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -38,6 +41,7 @@ import java.util.Map;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
@@ -86,4 +90,28 @@ public final class DatabaseCommunicationEngineFactoryTest extends ProxyContextRe
                 DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), backendConnection, false),
                 instanceOf(DatabaseCommunicationEngine.class));
     }
+    
+    @Test
+    public void assertNewDatabaseCommunicationEngineWithClientParameters() throws ReflectiveOperationException {
+        BackendConnection backendConnection = mock(BackendConnection.class, RETURNS_DEEP_STUBS);
+        when(backendConnection.getConnectionSession().getDatabaseName()).thenReturn("db");
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1));
+        DatabaseCommunicationEngine actual = DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(queryContext, backendConnection, false);
+        assertThat((String) Plugins.getMemberAccessor().get(DatabaseCommunicationEngine.class.getDeclaredField("driverType"), actual), is(JDBCDriverType.PREPARED_STATEMENT));
+    }
+    
+    @Test
+    public void assertNewDatabaseCommunicationEngineWithLiteralParameters() throws ReflectiveOperationException {
+        BackendConnection backendConnection = mock(BackendConnection.class, RETURNS_DEEP_STUBS);
+        when(backendConnection.getConnectionSession().getDatabaseName()).thenReturn("db");
+        SQLStatementContext<?> sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "SELECT * FROM t_order WHERE order_id = ?", Collections.singletonList(1), new HintValueContext(), true);
+        DatabaseCommunicationEngine textEngine = DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(queryContext, backendConnection, false);
+        assertThat((String) Plugins.getMemberAccessor().get(DatabaseCommunicationEngine.class.getDeclaredField("driverType"), textEngine), is(JDBCDriverType.STATEMENT));
+        DatabaseCommunicationEngine binaryEngine = DatabaseCommunicationEngineFactory.getInstance().newDatabaseCommunicationEngine(queryContext, backendConnection, true);
+        assertThat((String) Plugins.getMemberAccessor().get(DatabaseCommunicationEngine.class.getDeclaredField("driverType"), binaryEngine), is(JDBCDriverType.PREPARED_STATEMENT));
+    }
 }
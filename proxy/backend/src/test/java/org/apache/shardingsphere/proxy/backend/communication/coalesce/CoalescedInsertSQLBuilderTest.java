@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public final class CoalescedInsertSQLBuilderTest {
+    
+    @Test
+    public void assertBuildSQL() {
+        List<CoalescibleInsert> inserts = Arrays.asList(createInsert(1), createInsert(2));
+        assertThat(CoalescedInsertSQLBuilder.buildSQL(inserts), is("INSERT INTO t_order (order_id, status) VALUES (?, 'INIT'), (?, 'INIT') /* foo */"));
+    }
+    
+    @Test
+    public void assertBuildSQLWithSingleInsert() {
+        assertThat(CoalescedInsertSQLBuilder.buildSQL(Collections.singletonList(createInsert(1))), is("INSERT INTO t_order (order_id, status) VALUES (?, 'INIT') /* foo */"));
+    }
+    
+    @Test
+    public void assertBuildParameters() {
+        assertThat(CoalescedInsertSQLBuilder.buildParameters(Arrays.asList(createInsert(1), createInsert(2))), is(Arrays.<Object>asList(1, 2)));
+    }
+    
+    private CoalescibleInsert createInsert(final int id) {
+        return new CoalescibleInsert("INSERT INTO t_order (order_id, status) VALUES ", "(?, 'INIT')", " /* foo */", Collections.singletonList(id));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import io.netty.util.DefaultAttributeMap;
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.backend.session.RequiredSessionVariableRecorder;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class CoalescibleInsertFinderTest {
+    
+    private static final String SQL = "INSERT INTO t_order (order_id) VALUES (?)";
+    
+    @Test
+    public void assertFind() {
+        Optional<CoalescibleInsert> actual = CoalescibleInsertFinder.find(
+                createQueryContext(SQL), createExecutionContext(SQL, false), createDatabase(false), createConnectionSession(), createProps("10"));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getPrefix(), is("INSERT INTO t_order (order_id) VALUES "));
+        assertThat(actual.get().getValues(), is("(?)"));
+        assertThat(actual.get().getSuffix(), is(""));
+        assertThat(actual.get().getParams(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertFindWhenDisabled() {
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(SQL), createExecutionContext(SQL, false), createDatabase(false), createConnectionSession(), createProps("0")).isPresent());
+    }
+    
+    @Test
+    public void assertFindInTransaction() {
+        ConnectionSession connectionSession = createConnectionSession();
+        when(connectionSession.getTransactionStatus().isInTransaction()).thenReturn(true);
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(SQL), createExecutionContext(SQL, false), createDatabase(false), connectionSession, createProps("10")).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithGeneratedKey() {
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(SQL), createExecutionContext(SQL, true), createDatabase(false), createConnectionSession(), createProps("10")).isPresent());
+    }
+    
+    @Test
+    public void assertFindWithGeneratedColumn() {
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(SQL), createExecutionContext(SQL, false), createDatabase(true), createConnectionSession(), createProps("10")).isPresent());
+    }
+    
+    @Test
+    public void assertFindInsertIgnore() {
+        String sql = "INSERT IGNORE INTO t_order (order_id) VALUES (?)";
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setIgnore(true);
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(sql), createExecutionContext(sql, false, insertStatement), createDatabase(false), createConnectionSession(), createProps("10"))
+                .isPresent());
+    }
+    
+    @Test
+    public void assertFindReplace() {
+        String sql = "REPLACE INTO t_order (order_id) VALUES (?)";
+        MySQLInsertStatement insertStatement = new MySQLInsertStatement();
+        insertStatement.setReplace(true);
+        assertFalse(CoalescibleInsertFinder.find(createQueryContext(sql), createExecutionContext(sql, false, insertStatement), createDatabase(false), createConnectionSession(), createProps("10"))
+                .isPresent());
+    }
+    
+    @Test
+    public void assertGetCoalescingKey() {
+        CoalescibleInsert insert = new CoalescibleInsert("INSERT INTO t_order (order_id) VALUES ", "(?)", "", Collections.singletonList(1));
+        ExecutionContext executionContext = createExecutionContext(SQL, false);
+        String expected = CoalescibleInsertFinder.getCoalescingKey(executionContext, insert, "foo_db", "JDBC.PREPARED_STATEMENT", createConnectionSession());
+        assertThat(CoalescibleInsertFinder.getCoalescingKey(executionContext, insert, "foo_db", "JDBC.PREPARED_STATEMENT", createConnectionSession()), is(expected));
+        ConnectionSession otherUserSession = createConnectionSession();
+        when(otherUserSession.getGrantee()).thenReturn(new Grantee("foo_user", "%"));
+        assertThat(CoalescibleInsertFinder.getCoalescingKey(executionContext, insert, "foo_db", "JDBC.PREPARED_STATEMENT", otherUserSession), not(expected));
+        ConnectionSession otherVariablesSession = createConnectionSession();
+        otherVariablesSession.getRequiredSessionVariableRecorder().setVariable("sql_mode", "''");
+        assertThat(CoalescibleInsertFinder.getCoalescingKey(executionContext, insert, "foo_db", "JDBC.PREPARED_STATEMENT", otherVariablesSession), not(expected));
+    }
+    
+    private QueryContext createQueryContext(final String sql) {
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSql()).thenReturn(sql);
+        when(result.getParameters()).thenReturn(Collections.singletonList(1));
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final String sql, final boolean containsGeneratedKey) {
+        return createExecutionContext(sql, containsGeneratedKey, new MySQLInsertStatement());
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private ExecutionContext createExecutionContext(final String sql, final boolean containsGeneratedKey, final MySQLInsertStatement insertStatement) {
+        insertStatement.setTable(new SimpleTableSegment(new TableNameSegment(0, 0, new IdentifierValue("t_order"))));
+        insertStatement.getValues().add(new InsertValuesSegment(sql.indexOf("(?)"), sql.indexOf("(?)") + 2, Collections.emptyList()));
+        SQLStatementContext sqlStatementContext = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        when(insertStatementContext.getSqlStatement()).thenReturn(insertStatement);
+        when(insertStatementContext.getDatabaseType()).thenReturn(new MySQLDatabaseType());
+        when(insertStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.empty());
+        InsertValueContext insertValueContext = mock(InsertValueContext.class);
+        when(insertValueContext.getParameterCount()).thenReturn(1);
+        when(insertStatementContext.getInsertValueContexts()).thenReturn(Collections.singletonList(insertValueContext));
+        when(insertStatementContext.getGeneratedKeyContext()).thenReturn(containsGeneratedKey ? Optional.of(mock(GeneratedKeyContext.class)) : Optional.empty());
+        when(insertStatementContext.getInsertSelectContext()).thenReturn(null);
+        when(insertStatementContext.getOnDuplicateKeyUpdateValueContext()).thenReturn(null);
+        ExecutionContext result = mock(ExecutionContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getExecutionUnits()).thenReturn(Collections.singletonList(mock(ExecutionUnit.class)));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("foo_ds", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0"))));
+        when(result.getRouteContext()).thenReturn(routeContext);
+        return result;
+    }
+    
+    private ShardingSphereDatabase createDatabase(final boolean containsGeneratedColumn) {
+        ShardingSphereTable table = new ShardingSphereTable("t_order",
+                Collections.singletonList(new ShardingSphereColumn("order_id", 4, true, containsGeneratedColumn, false, true, false)), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getName()).thenReturn("foo_db");
+        when(result.getSchema("foo_db")).thenReturn(new ShardingSphereSchema(Collections.singletonMap("t_order", table), Collections.emptyMap()));
+        return result;
+    }
+    
+    private ConnectionSession createConnectionSession() {
+        ConnectionSession result = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(result.isAutoCommit()).thenReturn(true);
+        when(result.getTransactionStatus().isInTransaction()).thenReturn(false);
+        when(result.getGrantee()).thenReturn(new Grantee("root", "%"));
+        when(result.getRequiredSessionVariableRecorder()).thenReturn(new RequiredSessionVariableRecorder());
+        when(result.getAttributeMap()).thenReturn(new DefaultAttributeMap());
+        return result;
+    }
+    
+    private ConfigurationProperties createProps(final String windowMilliseconds) {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_INSERT_COALESCING_WINDOW_MILLISECONDS.getKey(), windowMilliseconds);
+        return new ConfigurationProperties(props);
+    }
+}
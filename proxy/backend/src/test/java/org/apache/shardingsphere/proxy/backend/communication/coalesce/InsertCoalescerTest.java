@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.communication.coalesce;
+
+import lombok.SneakyThrows;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public final class InsertCoalescerTest {
+    
+    @Test
+    public void assertCoalesceSingleInsert() throws SQLException {
+        List<List<CoalescibleInsert>> executed = new CopyOnWriteArrayList<>();
+        assertTrue(InsertCoalescer.getInstance().coalesce("single", createInsert(1), 10L, executed::add));
+        assertThat(executed.size(), is(1));
+        assertThat(executed.get(0).size(), is(1));
+    }
+    
+    @Test
+    public void assertCoalesceInsertsQueuedWhileExecuting() throws InterruptedException, ExecutionException {
+        List<List<CoalescibleInsert>> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch leaderExecuting = new CountDownLatch(1);
+        CountDownLatch leaderReleased = new CountDownLatch(1);
+        CoalescedInsertExecutor executor = inserts -> {
+            executed.add(inserts);
+            if (1 == executed.size()) {
+                leaderExecuting.countDown();
+                await(leaderReleased);
+            }
+        };
+        final FutureTask<Boolean> leader = startCoalesce("queued", createInsert(1), 10000L, executor);
+        leaderExecuting.await();
+        final FutureTask<Boolean> firstFollower = startQueuedCoalesce("queued", createInsert(2), 10000L, executor);
+        final FutureTask<Boolean> secondFollower = startQueuedCoalesce("queued", createInsert(3), 10000L, executor);
+        leaderReleased.countDown();
+        assertTrue(leader.get());
+        assertTrue(firstFollower.get());
+        assertTrue(secondFollower.get());
+        assertThat(executed.size(), is(2));
+        assertThat(executed.get(1).stream().map(CoalescibleInsert::getParams).collect(Collectors.toList()),
+                is(Arrays.asList(Collections.<Object>singletonList(2), Collections.<Object>singletonList(3))));
+    }
+    
+    @Test
+    public void assertCoalesceInsertsFailed() throws InterruptedException {
+        List<List<CoalescibleInsert>> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch leaderExecuting = new CountDownLatch(1);
+        CountDownLatch leaderReleased = new CountDownLatch(1);
+        CoalescedInsertExecutor executor = inserts -> {
+            executed.add(inserts);
+            if (1 == executed.size()) {
+                leaderExecuting.countDown();
+                await(leaderReleased);
+                return;
+            }
+            throw new SQLException("Duplicate entry", "23000");
+        };
+        final FutureTask<Boolean> leader = startCoalesce("failed", createInsert(1), 10000L, executor);
+        leaderExecuting.await();
+        final FutureTask<Boolean> firstFollower = startQueuedCoalesce("failed", createInsert(2), 10000L, executor);
+        final FutureTask<Boolean> secondFollower = startQueuedCoalesce("failed", createInsert(3), 10000L, executor);
+        leaderReleased.countDown();
+        assertFailed(firstFollower, "23000");
+        assertFailed(secondFollower, "23000");
+        assertThat(executed.size(), is(2));
+        assertTrue(leader.isDone());
+    }
+    
+    @Test
+    public void assertCoalesceInsertWithdrawnAfterWindow() throws InterruptedException, ExecutionException, SQLException {
+        List<List<CoalescibleInsert>> executed = new CopyOnWriteArrayList<>();
+        CountDownLatch leaderExecuting = new CountDownLatch(1);
+        CountDownLatch leaderReleased = new CountDownLatch(1);
+        final FutureTask<Boolean> leader = startCoalesce("withdrawn", createInsert(1), 10000L, inserts -> {
+            executed.add(inserts);
+            leaderExecuting.countDown();
+            await(leaderReleased);
+        });
+        leaderExecuting.await();
+        assertFalse(InsertCoalescer.getInstance().coalesce("withdrawn", createInsert(2), 10L, executed::add));
+        leaderReleased.countDown();
+        assertTrue(leader.get());
+        assertThat(executed.size(), is(1));
+    }
+    
+    private FutureTask<Boolean> startCoalesce(final String key, final CoalescibleInsert insert, final long windowMilliseconds, final CoalescedInsertExecutor executor) {
+        FutureTask<Boolean> result = new FutureTask<>(() -> InsertCoalescer.getInstance().coalesce(key, insert, windowMilliseconds, executor));
+        new Thread(result).start();
+        return result;
+    }
+    
+    private FutureTask<Boolean> startQueuedCoalesce(final String key, final CoalescibleInsert insert, final long windowMilliseconds,
+                                                    final CoalescedInsertExecutor executor) throws InterruptedException {
+        FutureTask<Boolean> result = new FutureTask<>(() -> InsertCoalescer.getInstance().coalesce(key, insert, windowMilliseconds, executor));
+        Thread thread = new Thread(result);
+        thread.start();
+        while (Thread.State.TIMED_WAITING != thread.getState() && !result.isDone()) {
+            Thread.sleep(1L);
+        }
+        return result;
+    }
+    
+    private void assertFailed(final FutureTask<Boolean> actual, final String expectedSQLState) throws InterruptedException {
+        try {
+            actual.get();
+            fail("Expected failure of coalesced insert.");
+        } catch (final ExecutionException ex) {
+            assertThat(((SQLException) ex.getCause()).getSQLState(), is(expectedSQLState));
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void await(final CountDownLatch latch) {
+        latch.await();
+    }
+    
+    private CoalescibleInsert createInsert(final int id) {
+        return new CoalescibleInsert("INSERT INTO t_order (order_id) VALUES ", "(?)", "", Collections.singletonList(id));
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.backend.handler;
 
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.proxy.backend.communication.BackendConnection;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.handler.admin.DatabaseAdminBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.handler.admin.DatabaseAdminQueryBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.admin.DatabaseAdminUpdateBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.data.impl.UnicastDatabaseBackendHandler;
@@ -55,17 +57,26 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -222,6 +233,21 @@ public final class ProxyBackendHandlerFactoryTest extends ProxyContextRestorer {
         assertThat(actual, instanceOf(DatabaseAdminQueryBackendHandler.class));
     }
     
+    @Test
+    public void assertNewInstanceWithParameterizedQueryToAdminHandler() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(ConfigurationPropertyKey.PROXY_SQL_LITERAL_PARAMETERIZE_ENABLED.getKey(), Boolean.TRUE.toString());
+        when(ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(props));
+        String sql = "UPDATE t_order SET status = 'done' WHERE order_id = 1";
+        ProxyBackendHandler expected = mock(ProxyBackendHandler.class);
+        try (MockedStatic<DatabaseAdminBackendHandlerFactory> mockedFactory = mockStatic(DatabaseAdminBackendHandlerFactory.class)) {
+            mockedFactory.when(() -> DatabaseAdminBackendHandlerFactory.newInstance(eq(databaseType), any(), eq(connectionSession), anyString())).thenReturn(Optional.of(expected));
+            assertThat(ProxyBackendHandlerFactory.newInstance(databaseType, sql, connectionSession), is(expected));
+            mockedFactory.verify(() -> DatabaseAdminBackendHandlerFactory.newInstance(eq(databaseType), any(), eq(connectionSession), eq(sql)));
+        }
+        verify(connectionSession).setQueryContext(argThat(each -> "UPDATE t_order SET status = ? WHERE order_id = ?".equals(each.getSql()) && 2 == each.getParameters().size()));
+    }
+    
     @Test
     public void assertNewInstanceWithEmptyString() throws SQLException {
         String sql = "";
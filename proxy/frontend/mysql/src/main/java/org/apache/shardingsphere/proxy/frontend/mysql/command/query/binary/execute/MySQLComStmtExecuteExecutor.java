@@ -19,14 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.exec
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
-import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLNewParametersBoundFlag;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLComStmtExecutePacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValue;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.binder.QueryContext;
 import org.apache.shardingsphere.infra.binder.aware.ParameterAware;
@@ -35,7 +35,6 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeFactory;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
-import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -47,7 +46,6 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQL
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -66,6 +64,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private MySQLBinaryColumnType[] columnTypes;
+    
+    private MySQLBinaryProtocolValue[] binaryProtocolValues;
+    
     @Override
     public Collection<DatabasePacket<?>> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -109,16 +111,29 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
-        return new MySQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow));
+        List<QueryResponseCell> cells = proxyBackendHandler.getRowData().getCells();
+        if (null == columnTypes) {
+            initColumnTypes(cells);
+        }
+        Object[] data = new Object[cells.size()];
+        int index = 0;
+        for (QueryResponseCell each : cells) {
+            data[index] = each.getData();
+            if (null != data[index] && null == binaryProtocolValues[index]) {
+                binaryProtocolValues[index] = MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes[index]);
+            }
+            index++;
+        }
+        return new MySQLBinaryResultSetRowPacket(binaryProtocolValues, data);
     }
     
-    private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
-        List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
-        for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+    private void initColumnTypes(final List<QueryResponseCell> cells) {
+        columnTypes = new MySQLBinaryColumnType[cells.size()];
+        binaryProtocolValues = new MySQLBinaryProtocolValue[cells.size()];
+        int index = 0;
+        for (QueryResponseCell each : cells) {
+            columnTypes[index++] = MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType());
         }
-        return new BinaryRow(result);
     }
     
     @Override
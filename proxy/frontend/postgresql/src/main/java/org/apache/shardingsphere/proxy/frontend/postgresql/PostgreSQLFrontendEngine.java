@@ -30,8 +30,11 @@ import org.apache.shardingsphere.proxy.frontend.context.FrontendContext;
 import org.apache.shardingsphere.proxy.frontend.postgresql.authentication.PostgreSQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.PostgreSQLPortalContextRegistry;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLCopyInContext;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
+import java.sql.SQLException;
+
 /**
  * Frontend engine for PostgreSQL.
  */
@@ -54,6 +57,10 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     @Override
     public void release(final ConnectionSession connectionSession) {
         PostgreSQLPortalContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        PostgreSQLCopyInContext copyInContext = connectionSession.getAttributeMap().attr(PostgreSQLCopyInContext.ATTRIBUTE_KEY).getAndSet(null);
+        if (null != copyInContext) {
+            copyInContext.cancel(new SQLException("Connection closed during COPY"));
+        }
     }
     
     @Override
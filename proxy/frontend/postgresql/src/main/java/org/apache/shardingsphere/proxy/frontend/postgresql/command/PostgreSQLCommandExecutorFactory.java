@@ -29,6 +29,8 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
@@ -42,10 +44,17 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extende
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse.PostgreSQLComParseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.sync.PostgreSQLComSyncExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.PostgreSQLComQueryExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLCopyCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLCopyInExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy.PostgreSQLCopyOutExecutor;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -103,7 +112,7 @@ public final class PostgreSQLCommandExecutorFactory {
                                                       final PortalContext portalContext) throws SQLException {
         switch (commandPacketType) {
             case SIMPLE_QUERY:
-                return new PostgreSQLComQueryExecutor(portalContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, connectionSession, portalContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
@@ -116,10 +125,25 @@ public final class PostgreSQLCommandExecutorFactory {
                 return new PostgreSQLComSyncExecutor(connectionSession);
             case CLOSE_COMMAND:
                 return new PostgreSQLComCloseExecutor(portalContext, (PostgreSQLComClosePacket) commandPacket, connectionSession);
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLComCopyDataPacket) commandPacket, connectionSession);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLComCopyFailPacket) commandPacket, connectionSession);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final PostgreSQLComQueryPacket comQueryPacket, final ConnectionSession connectionSession,
+                                                       final PortalContext portalContext) throws SQLException {
+        Optional<PostgreSQLCopyCommand> copyCommand = PostgreSQLCopyCommand.parse(comQueryPacket.getSql());
+        if (!copyCommand.isPresent()) {
+            return new PostgreSQLComQueryExecutor(portalContext, comQueryPacket, connectionSession);
+        }
+        return copyCommand.get().isCopyIn() ? new PostgreSQLCopyInExecutor(copyCommand.get(), connectionSession) : new PostgreSQLCopyOutExecutor(copyCommand.get(), connectionSession);
+    }
 }
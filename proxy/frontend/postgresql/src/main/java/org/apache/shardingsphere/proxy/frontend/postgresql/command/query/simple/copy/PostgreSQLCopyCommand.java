@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * COPY command between proxy and client for PostgreSQL.
+ * 
+ * <p>Only {@code COPY table [(column, ...)] FROM STDIN} and {@code COPY table [(column, ...)] TO STDOUT} in text format are handled by proxy,
+ * other forms of COPY are executed as ordinary SQL.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyCommand {
+    
+    private static final Pattern COPY_PATTERN = Pattern.compile(
+            "^\\s*COPY\\s+(?:(\"[^\"]+\"|\\w+)\\s*\\.\\s*)?(\"[^\"]+\"|\\w+)\\s*(\\([^)]*\\))?\\s*(FROM\\s+STDIN|TO\\s+STDOUT)\\s*;?\\s*$", Pattern.CASE_INSENSITIVE);
+    
+    private final String sql;
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    @Getter(AccessLevel.NONE)
+    private final String columnsClause;
+    
+    private final boolean copyIn;
+    
+    /**
+     * Parse COPY command.
+     *
+     * @param sql SQL
+     * @return parsed COPY command, empty if SQL is not a COPY from STDIN or to STDOUT
+     */
+    public static Optional<PostgreSQLCopyCommand> parse(final String sql) {
+        if (sql.length() < 4 || !sql.trim().regionMatches(true, 0, "COPY", 0, 4)) {
+            return Optional.empty();
+        }
+        Matcher matcher = COPY_PATTERN.matcher(sql);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String schemaName = null == matcher.group(1) ? null : normalizeIdentifier(matcher.group(1));
+        String columnsClause = null == matcher.group(3) ? "" : matcher.group(3);
+        boolean copyIn = matcher.group(4).toUpperCase().startsWith("FROM");
+        return Optional.of(new PostgreSQLCopyCommand(sql, schemaName, normalizeIdentifier(matcher.group(2)), parseColumnNames(columnsClause), columnsClause, copyIn));
+    }
+    
+    private static List<String> parseColumnNames(final String columnsClause) {
+        if (columnsClause.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> result = new LinkedList<>();
+        for (String each : columnsClause.substring(1, columnsClause.length() - 1).split(",")) {
+            if (!each.trim().isEmpty()) {
+                result.add(normalizeIdentifier(each.trim()));
+            }
+        }
+        return result;
+    }
+    
+    private static String normalizeIdentifier(final String identifier) {
+        return identifier.startsWith("\"") ? identifier.substring(1, identifier.length() - 1) : identifier.toLowerCase();
+    }
+    
+    /**
+     * Get COPY SQL for actual table.
+     *
+     * @param actualTableName actual table name
+     * @return COPY SQL for actual table
+     */
+    public String getActualSQL(final String actualTableName) {
+        StringBuilder result = new StringBuilder("COPY ").append(actualTableName);
+        if (!columnsClause.isEmpty()) {
+            result.append(' ').append(columnsClause);
+        }
+        return result.append(copyIn ? " FROM STDIN" : " TO STDOUT").toString();
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import io.netty.util.AttributeKey;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * COPY in context for PostgreSQL.
+ * 
+ * <p>Rows sent by client in text format are split by line, routed by sharding columns and buffered per data node.
+ * Every data node is written by its own COPY stream on a separate connection of backend connection, so COPY of data nodes runs concurrently in backend databases.
+ * Connections of an actual data source are limited by max connections size per query, data nodes beyond the limit share COPY streams,
+ * and a shared COPY stream is switched to another data node when necessary.
+ * All rows are written in one transaction, which is begun by COPY if there is no transaction in session.
+ * Context of unfinished COPY is held in attribute of connection session.</p>
+ */
+public final class PostgreSQLCopyInContext {
+    
+    /**
+     * Attribute key of COPY in context in connection session.
+     */
+    public static final AttributeKey<PostgreSQLCopyInContext> ATTRIBUTE_KEY = AttributeKey.valueOf(PostgreSQLCopyInContext.class.getName());
+    
+    private static final int FLUSH_THRESHOLD = 64 * 1024;
+    
+    private static final byte VERTICAL_TAB = 11;
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final PostgreSQLCopyRouter router;
+    
+    private final Charset charset;
+    
+    private final ExecutorJDBCConnectionManager connectionManager;
+    
+    private final TransactionManager transactionManager;
+    
+    private final int maxConnectionsSizePerQuery;
+    
+    private final boolean routeByColumnValues;
+    
+    private final String[] columnValues;
+    
+    private final Map<DataNode, ByteArrayOutputStream> buffers = new LinkedHashMap<>();
+    
+    private final Map<DataNode, CopyInStream> dataNodeStreams = new LinkedHashMap<>();
+    
+    private final Map<String, List<CopyInStream>> dataSourceStreams = new LinkedHashMap<>();
+    
+    private final ByteArrayOutputStream pendingRow = new ByteArrayOutputStream();
+    
+    private final ByteArrayOutputStream decodedValue = new ByteArrayOutputStream();
+    
+    @Getter
+    private long rowCount;
+    
+    /**
+     * Create COPY in context.
+     *
+     * @param copyCommand COPY command
+     * @param router COPY router
+     * @param charset charset of client
+     * @param connectionManager connection manager of backend connection
+     * @param transactionManager transaction manager of transaction begun by COPY, null if COPY runs in transaction of session
+     * @param maxConnectionsSizePerQuery max connections size of an actual data source used by COPY
+     */
+    public PostgreSQLCopyInContext(final PostgreSQLCopyCommand copyCommand, final PostgreSQLCopyRouter router, final Charset charset,
+                                   final ExecutorJDBCConnectionManager connectionManager, final TransactionManager transactionManager, final int maxConnectionsSizePerQuery) {
+        this.copyCommand = copyCommand;
+        this.router = router;
+        this.charset = charset;
+        this.connectionManager = connectionManager;
+        this.transactionManager = transactionManager;
+        this.maxConnectionsSizePerQuery = Math.max(1, maxConnectionsSizePerQuery);
+        columnValues = new String[router.getColumnCount()];
+        boolean routeByColumnValues = false;
+        for (int i = 0; i < columnValues.length; i++) {
+            routeByColumnValues |= router.isShardingColumn(i);
+        }
+        this.routeByColumnValues = routeByColumnValues;
+    }
+    
+    /**
+     * Write data of COPY, which may contain partial rows.
+     *
+     * @param data data of COPY
+     * @throws SQLException SQL exception
+     */
+    public void write(final byte[] data) throws SQLException {
+        int rowStart = 0;
+        for (int i = 0; i < data.length; i++) {
+            if ('\n' != data[i]) {
+                continue;
+            }
+            if (0 == pendingRow.size()) {
+                writeRow(data, rowStart, i + 1 - rowStart);
+            } else {
+                pendingRow.write(data, rowStart, i + 1 - rowStart);
+                writePendingRow();
+            }
+            rowStart = i + 1;
+        }
+        pendingRow.write(data, rowStart, data.length - rowStart);
+    }
+    
+    private void writePendingRow() throws SQLException {
+        byte[] row = pendingRow.toByteArray();
+        pendingRow.reset();
+        writeRow(row, 0, row.length);
+    }
+    
+    private void writeRow(final byte[] row, final int offset, final int length) throws SQLException {
+        int contentLength = getContentLength(row, offset, length);
+        if (2 == contentLength && '\\' == row[offset] && '.' == row[offset + 1]) {
+            return;
+        }
+        if (routeByColumnValues) {
+            extractColumnValues(row, offset, contentLength);
+        }
+        for (DataNode each : router.route(columnValues)) {
+            ByteArrayOutputStream buffer = buffers.computeIfAbsent(each, unused -> new ByteArrayOutputStream(FLUSH_THRESHOLD));
+            buffer.write(row, offset, length);
+            if (buffer.size() >= FLUSH_THRESHOLD) {
+                flush(each, buffer);
+            }
+        }
+        rowCount++;
+    }
+    
+    private int getContentLength(final byte[] row, final int offset, final int length) {
+        int result = length;
+        while (result > 0 && ('\n' == row[offset + result - 1] || '\r' == row[offset + result - 1])) {
+            result--;
+        }
+        return result;
+    }
+    
+    private void extractColumnValues(final byte[] row, final int offset, final int length) {
+        Arrays.fill(columnValues, null);
+        int columnIndex = 0;
+        int columnStart = offset;
+        int end = offset + length;
+        for (int i = offset; i <= end; i++) {
+            if (i < end && '\t' != row[i]) {
+                continue;
+            }
+            if (router.isShardingColumn(columnIndex)) {
+                columnValues[columnIndex] = decodeColumnValue(row, columnStart, i - columnStart);
+            }
+            columnIndex++;
+            columnStart = i + 1;
+        }
+    }
+    
+    private String decodeColumnValue(final byte[] row, final int offset, final int length) {
+        if (2 == length && '\\' == row[offset] && 'N' == row[offset + 1]) {
+            return null;
+        }
+        int end = offset + length;
+        int escapeIndex = indexOfBackslash(row, offset, end);
+        if (escapeIndex < 0) {
+            return new String(row, offset, length, charset);
+        }
+        decodedValue.reset();
+        decodedValue.write(row, offset, escapeIndex - offset);
+        int i = escapeIndex;
+        while (i < end) {
+            if ('\\' != row[i] || i + 1 == end) {
+                decodedValue.write(row[i++]);
+                continue;
+            }
+            i = unescape(row, i + 1, end);
+        }
+        return new String(decodedValue.toByteArray(), charset);
+    }
+    
+    private int indexOfBackslash(final byte[] row, final int offset, final int end) {
+        for (int i = offset; i < end; i++) {
+            if ('\\' == row[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    private int unescape(final byte[] row, final int offset, final int end) {
+        byte escapedByte = row[offset];
+        if (isOctalDigit(escapedByte)) {
+            int value = 0;
+            int i = offset;
+            while (i < end && i < offset + 3 && isOctalDigit(row[i])) {
+                value = (value << 3) + row[i++] - '0';
+            }
+            decodedValue.write(value);
+            return i;
+        }
+        if ('x' == escapedByte && offset + 1 < end && Character.digit(row[offset + 1], 16) >= 0) {
+            int value = 0;
+            int i = offset + 1;
+            while (i < end && i < offset + 3 && Character.digit(row[i], 16) >= 0) {
+                value = (value << 4) + Character.digit(row[i++], 16);
+            }
+            decodedValue.write(value);
+            return i;
+        }
+        decodedValue.write(getEscapedByte(escapedByte));
+        return offset + 1;
+    }
+    
+    private boolean isOctalDigit(final byte value) {
+        return value >= '0' && value <= '7';
+    }
+    
+    private byte getEscapedByte(final byte escapedByte) {
+        switch (escapedByte) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return VERTICAL_TAB;
+            default:
+                return escapedByte;
+        }
+    }
+    
+    private void flush(final DataNode dataNode, final ByteArrayOutputStream buffer) throws SQLException {
+        if (0 == buffer.size()) {
+            return;
+        }
+        CopyIn copyIn = getStream(dataNode).switchTo(dataNode);
+        copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+        buffer.reset();
+    }
+    
+    private CopyInStream getStream(final DataNode dataNode) throws SQLException {
+        CopyInStream result = dataNodeStreams.get(dataNode);
+        if (null == result) {
+            result = assignStream(dataNode.getDataSourceName());
+            dataNodeStreams.put(dataNode, result);
+        }
+        return result;
+    }
+    
+    private CopyInStream assignStream(final String actualDataSourceName) throws SQLException {
+        List<CopyInStream> streams = dataSourceStreams.computeIfAbsent(actualDataSourceName, unused -> new ArrayList<>(maxConnectionsSizePerQuery));
+        int assignedDataNodeCount = (int) dataNodeStreams.keySet().stream().filter(each -> actualDataSourceName.equals(each.getDataSourceName())).count();
+        if (streams.size() >= maxConnectionsSizePerQuery) {
+            return streams.get(assignedDataNodeCount % streams.size());
+        }
+        int connectionSize = streams.size() + 1;
+        CopyInStream result = new CopyInStream(connectionManager.getConnections(actualDataSourceName, connectionSize, ConnectionMode.CONNECTION_STRICTLY).get(connectionSize - 1));
+        streams.add(result);
+        return result;
+    }
+    
+    /**
+     * Finish COPY of all data nodes, and commit transaction begun by COPY.
+     *
+     * @return count of rows received from client
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        try {
+            if (pendingRow.size() > 0) {
+                writePendingRow();
+            }
+            for (Map.Entry<DataNode, ByteArrayOutputStream> entry : buffers.entrySet()) {
+                flush(entry.getKey(), entry.getValue());
+            }
+            for (List<CopyInStream> each : dataSourceStreams.values()) {
+                for (CopyInStream eachStream : each) {
+                    eachStream.end();
+                }
+            }
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            cancel(ex);
+            throw ex;
+        }
+        clearStreams();
+        if (null != transactionManager) {
+            transactionManager.commit();
+        }
+        return rowCount;
+    }
+    
+    /**
+     * Cancel unfinished COPY of all data nodes and roll back transaction begun by COPY, exception thrown while canceling is suppressed into cause.
+     *
+     * @param cause cause of cancel
+     */
+    public void cancel(final Exception cause) {
+        for (List<CopyInStream> each : dataSourceStreams.values()) {
+            for (CopyInStream eachStream : each) {
+                try {
+                    eachStream.cancel();
+                } catch (final SQLException ex) {
+                    cause.addSuppressed(ex);
+                }
+            }
+        }
+        clearStreams();
+        if (null == transactionManager) {
+            return;
+        }
+        try {
+            transactionManager.rollback();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+    
+    private void clearStreams() {
+        dataNodeStreams.clear();
+        dataSourceStreams.clear();
+    }
+    
+    private final class CopyInStream {
+        
+        private final Connection connection;
+        
+        private DataNode activeDataNode;
+        
+        private CopyIn activeCopyIn;
+        
+        private CopyInStream(final Connection connection) {
+            this.connection = connection;
+        }
+        
+        private CopyIn switchTo(final DataNode dataNode) throws SQLException {
+            if (dataNode.equals(activeDataNode)) {
+                return activeCopyIn;
+            }
+            end();
+            activeCopyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyCommand.getActualSQL(dataNode.getTableName()));
+            activeDataNode = dataNode;
+            return activeCopyIn;
+        }
+        
+        private void end() throws SQLException {
+            if (null != activeCopyIn) {
+                activeCopyIn.endCopy();
+                activeCopyIn = null;
+                activeDataNode = null;
+            }
+        }
+        
+        private void cancel() throws SQLException {
+            if (null != activeCopyIn && activeCopyIn.isActive()) {
+                activeCopyIn.cancelCopy();
+            }
+            activeCopyIn = null;
+            activeDataNode = null;
+        }
+    }
+}
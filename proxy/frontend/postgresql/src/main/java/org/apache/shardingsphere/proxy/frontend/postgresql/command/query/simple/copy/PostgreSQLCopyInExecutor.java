@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
+import org.apache.shardingsphere.proxy.backend.communication.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.transaction.api.TransactionType;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * COPY from STDIN executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInExecutor implements CommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() throws SQLException {
+        if (TransactionType.BASE == connectionSession.getTransactionStatus().getTransactionType()) {
+            throw new UnsupportedSQLOperationException("COPY FROM STDIN in BASE transaction");
+        }
+        PostgreSQLCopyRouter router = PostgreSQLCopyRouter.newInstance(copyCommand, connectionSession);
+        Charset charset = connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get();
+        TransactionManager transactionManager = null;
+        if (!connectionSession.getTransactionStatus().isInTransaction()) {
+            transactionManager = new BackendTransactionManager(connectionSession.getBackendConnection());
+            transactionManager.begin();
+        }
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(copyCommand, router, null == charset ? StandardCharsets.UTF_8 : charset,
+                connectionSession.getBackendConnection(), transactionManager, getMaxConnectionsSizePerQuery());
+        connectionSession.getAttributeMap().attr(PostgreSQLCopyInContext.ATTRIBUTE_KEY).set(copyInContext);
+        return Collections.singletonList(new PostgreSQLCopyInResponsePacket(router.getColumnCount()));
+    }
+    
+    private int getMaxConnectionsSizePerQuery() {
+        return ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLCopyDonePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * COPY to STDOUT executor for PostgreSQL.
+ * 
+ * <p>Rows are streamed from data nodes one by one, every row read from storage node is sent to client as a COPY data packet without materializing.
+ * Connections are acquired from backend connection, COPY done and command complete packets are sent as the last packets of COPY,
+ * so response type is neither query nor update.</p>
+ */
+public final class PostgreSQLCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final PostgreSQLCopyRouter router;
+    
+    private final ExecutorJDBCConnectionManager connectionManager;
+    
+    private final Iterator<DataNode> dataNodes;
+    
+    private CopyOut currentCopyOut;
+    
+    private PostgreSQLPacket currentPacket;
+    
+    private long rowCount;
+    
+    private boolean copyDone;
+    
+    private boolean commandCompleted;
+    
+    public PostgreSQLCopyOutExecutor(final PostgreSQLCopyCommand copyCommand, final ConnectionSession connectionSession) {
+        this(copyCommand, PostgreSQLCopyRouter.newInstance(copyCommand, connectionSession), connectionSession.getBackendConnection());
+    }
+    
+    public PostgreSQLCopyOutExecutor(final PostgreSQLCopyCommand copyCommand, final PostgreSQLCopyRouter router, final ExecutorJDBCConnectionManager connectionManager) {
+        this.copyCommand = copyCommand;
+        this.router = router;
+        this.connectionManager = connectionManager;
+        dataNodes = router.getAllDataNodes().iterator();
+    }
+    
+    @Override
+    public Collection<DatabasePacket<?>> execute() {
+        return Collections.singletonList(new PostgreSQLCopyOutResponsePacket(router.getColumnCount()));
+    }
+    
+    @Override
+    public ResponseType getResponseType() {
+        return null;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null != currentCopyOut || dataNodes.hasNext()) {
+            if (null == currentCopyOut) {
+                openCopyOut(dataNodes.next());
+            }
+            byte[] row = currentCopyOut.readFromCopy();
+            if (null != row) {
+                currentPacket = new PostgreSQLCopyDataPacket(row);
+                rowCount++;
+                return true;
+            }
+            currentCopyOut = null;
+        }
+        if (!copyDone) {
+            copyDone = true;
+            currentPacket = new PostgreSQLCopyDonePacket();
+            return true;
+        }
+        if (!commandCompleted) {
+            commandCompleted = true;
+            currentPacket = new PostgreSQLCommandCompletePacket(PostgreSQLCommand.COPY.name(), rowCount);
+            return true;
+        }
+        return false;
+    }
+    
+    private void openCopyOut(final DataNode dataNode) throws SQLException {
+        PGConnection connection = connectionManager.getConnections(dataNode.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY).get(0).unwrap(PGConnection.class);
+        currentCopyOut = connection.getCopyAPI().copyOut(copyCommand.getActualSQL(dataNode.getTableName()));
+    }
+    
+    @Override
+    public PostgreSQLPacket getQueryRowPacket() {
+        return currentPacket;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (null != currentCopyOut && currentCopyOut.isActive()) {
+                currentCopyOut.cancelCopy();
+            }
+        } finally {
+            currentCopyOut = null;
+        }
+    }
+}
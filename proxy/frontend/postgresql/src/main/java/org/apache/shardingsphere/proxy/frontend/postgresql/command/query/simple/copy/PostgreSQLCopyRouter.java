@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import org.apache.shardingsphere.infra.binder.QueryContext;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.segment.insert.keygen.GeneratedKeyContext;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.context.ConnectionContext;
+import org.apache.shardingsphere.infra.context.kernel.KernelExecutionPlanCache;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.check.SQLCheckEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.decorator.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataNodeContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.DataSourceContainedRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.shadow.rule.ShadowRule;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.single.rule.SingleRule;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * COPY router for PostgreSQL.
+ * 
+ * <p>Rows of COPY FROM STDIN are routed by kernel route engine as rows of an insert statement with the same columns,
+ * and data nodes of COPY TO STDOUT are routed as a select statement of the table. Logic data sources left in route result are
+ * mapped to their write data sources by data source contained rules.</p>
+ */
+public final class PostgreSQLCopyRouter {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private final ConnectionContext connectionContext;
+    
+    private final SQLRouteEngine routeEngine;
+    
+    private final String logicTableName;
+    
+    private final String qualifiedTableName;
+    
+    private final List<String> columnNames;
+    
+    private final int[] columnDataTypes;
+    
+    private final boolean[] shardingColumnFlags;
+    
+    private final String insertSQL;
+    
+    private final InsertStatement insertStatement;
+    
+    private final Collection<DataNode> unshardedDataNodes;
+    
+    private final Collection<String> dataSourceNames;
+    
+    private final Collection<DataSourceContainedRule> dataSourceContainedRules;
+    
+    public PostgreSQLCopyRouter(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database, final String schemaName, final PostgreSQLCopyCommand copyCommand,
+                                final ShardingSphereSQLParserEngine sqlParserEngine, final ConnectionContext connectionContext) {
+        this.metaData = metaData;
+        this.database = database;
+        this.sqlParserEngine = sqlParserEngine;
+        this.connectionContext = connectionContext;
+        routeEngine = KernelExecutionPlanCache.getExecutionPlan(database, metaData.getGlobalRuleMetaData(), metaData.getProps()).getRouteEngine();
+        logicTableName = copyCommand.getTableName();
+        checkUnsupportedRules(database);
+        qualifiedTableName = null == copyCommand.getSchemaName() ? quote(logicTableName) : quote(copyCommand.getSchemaName()) + "." + quote(logicTableName);
+        ShardingSphereTable table = findTable(database, schemaName);
+        columnNames = copyCommand.getColumnNames().isEmpty() && null != table ? table.getColumnNames() : copyCommand.getColumnNames();
+        if (columnNames.isEmpty()) {
+            throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` without columns", logicTableName));
+        }
+        columnDataTypes = getColumnDataTypes(table);
+        shardingColumnFlags = getShardingColumnFlags(database.getRuleMetaData().findRules(DataNodeContainedRule.class));
+        insertSQL = createInsertSQL();
+        insertStatement = (InsertStatement) sqlParserEngine.parse(insertSQL, false);
+        dataSourceNames = database.getResourceMetaData().getDataSources().keySet();
+        dataSourceContainedRules = database.getRuleMetaData().findRules(DataSourceContainedRule.class);
+        checkGeneratedKey();
+        unshardedDataNodes = isRouteByColumnValues() ? Collections.emptyList() : routeInsert(new String[columnNames.size()]);
+    }
+    
+    /**
+     * Create COPY router for connection session, authority and SQL checks of COPY are done before router is created.
+     *
+     * @param copyCommand COPY command
+     * @param connectionSession connection session
+     * @return created COPY router
+     */
+    public static PostgreSQLCopyRouter newInstance(final PostgreSQLCopyCommand copyCommand, final ConnectionSession connectionSession) {
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = ProxyContext.getInstance().getDatabase(connectionSession.getDatabaseName());
+        ShardingSphereSQLParserEngine sqlParserEngine = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(connectionSession.getProtocolType().getType());
+        check(metaData, database, sqlParserEngine, copyCommand, connectionSession);
+        String schemaName = null == copyCommand.getSchemaName() ? DatabaseTypeEngine.getDefaultSchemaName(connectionSession.getProtocolType(), database.getName()) : copyCommand.getSchemaName();
+        return new PostgreSQLCopyRouter(metaData, database, schemaName, copyCommand, sqlParserEngine, connectionSession.getConnectionContext());
+    }
+    
+    private static void check(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database, final ShardingSphereSQLParserEngine sqlParserEngine,
+                              final PostgreSQLCopyCommand copyCommand, final ConnectionSession connectionSession) {
+        SQLStatement sqlStatement = sqlParserEngine.parse(copyCommand.getSql(), false);
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, sqlStatement, connectionSession.getDatabaseName());
+        SQLCheckEngine.check(sqlStatementContext, Collections.emptyList(), database.getRuleMetaData().getRules(), database.getName(), metaData.getDatabases(), connectionSession.getGrantee());
+    }
+    
+    private void checkUnsupportedRules(final ShardingSphereDatabase database) {
+        for (TableContainedRule each : database.getRuleMetaData().findRules(TableContainedRule.class)) {
+            if (!(each instanceof ShardingRule) && !(each instanceof SingleRule) && containsTable(each.getTables())) {
+                throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` with %s", logicTableName, each.getType()));
+            }
+        }
+        Optional<ShadowRule> shadowRule = database.getRuleMetaData().findSingleRule(ShadowRule.class);
+        if (shadowRule.isPresent() && containsTable(shadowRule.get().getAllShadowTableNames())) {
+            throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` with %s", logicTableName, shadowRule.get().getType()));
+        }
+    }
+    
+    private boolean containsTable(final Collection<String> tableNames) {
+        for (String each : tableNames) {
+            if (each.equalsIgnoreCase(logicTableName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private String quote(final String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+    
+    private ShardingSphereTable findTable(final ShardingSphereDatabase database, final String schemaName) {
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        return null == schema ? null : schema.getTable(logicTableName);
+    }
+    
+    private int[] getColumnDataTypes(final ShardingSphereTable table) {
+        int[] result = new int[columnNames.size()];
+        for (int i = 0; i < result.length; i++) {
+            ShardingSphereColumn column = null == table ? null : table.getColumns().get(columnNames.get(i).toLowerCase());
+            result[i] = null == column ? Types.VARCHAR : column.getDataType();
+        }
+        return result;
+    }
+    
+    private boolean[] getShardingColumnFlags(final Collection<DataNodeContainedRule> dataNodeContainedRules) {
+        if (!isDistributedByColumns(dataNodeContainedRules, columnNames)) {
+            throw new UnsupportedSQLOperationException(String.format("COPY for sharding table `%s` without sharding columns", logicTableName));
+        }
+        boolean[] result = new boolean[columnNames.size()];
+        if (isDistributedByColumns(dataNodeContainedRules, Collections.emptyList())) {
+            return result;
+        }
+        for (int i = 0; i < result.length; i++) {
+            List<String> otherColumnNames = new ArrayList<>(columnNames);
+            otherColumnNames.remove(i);
+            result[i] = !isDistributedByColumns(dataNodeContainedRules, otherColumnNames);
+        }
+        return result;
+    }
+    
+    private boolean isDistributedByColumns(final Collection<DataNodeContainedRule> dataNodeContainedRules, final Collection<String> columnNames) {
+        for (DataNodeContainedRule each : dataNodeContainedRules) {
+            if (!each.isDistributedByColumns(logicTableName, columnNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String createInsertSQL() {
+        String columns = columnNames.stream().map(this::quote).collect(Collectors.joining(", "));
+        String params = String.join(", ", Collections.nCopies(columnNames.size(), "?"));
+        return String.format("INSERT INTO %s (%s) VALUES (%s)", qualifiedTableName, columns, params);
+    }
+    
+    private void checkGeneratedKey() {
+        List<Object> params = Arrays.asList(new Object[columnNames.size()]);
+        Optional<GeneratedKeyContext> generatedKeyContext = new InsertStatementContext(metaData, params, insertStatement, database.getName()).getGeneratedKeyContext();
+        if (generatedKeyContext.isPresent() && generatedKeyContext.get().isGenerated()) {
+            throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` without generated key column `%s`", logicTableName, generatedKeyContext.get().getColumnName()));
+        }
+    }
+    
+    private boolean isRouteByColumnValues() {
+        for (boolean each : shardingColumnFlags) {
+            if (each) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columnNames.size();
+    }
+    
+    /**
+     * Judge whether column value is required to route row.
+     *
+     * @param columnIndex column index
+     * @return column value is required to route row or not
+     */
+    public boolean isShardingColumn(final int columnIndex) {
+        return columnIndex < shardingColumnFlags.length && shardingColumnFlags[columnIndex];
+    }
+    
+    /**
+     * Get all data nodes which rows of COPY can be read from.
+     *
+     * @return data nodes
+     */
+    public Collection<DataNode> getAllDataNodes() {
+        String sql = "SELECT * FROM " + qualifiedTableName;
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(metaData, sqlParserEngine.parse(sql, false), database.getName());
+        return getDataNodes(routeEngine.route(connectionContext, new QueryContext(sqlStatementContext, sql, Collections.emptyList()), database));
+    }
+    
+    /**
+     * Route row of COPY.
+     *
+     * @param columnValues column values of row, only values of sharding columns are required
+     * @return data nodes which row should be written into, data source of data node is actual data source
+     */
+    public Collection<DataNode> route(final String[] columnValues) {
+        return unshardedDataNodes.isEmpty() ? routeInsert(columnValues) : unshardedDataNodes;
+    }
+    
+    private Collection<DataNode> routeInsert(final String[] columnValues) {
+        List<Object> params = new ArrayList<>(columnValues.length);
+        for (int i = 0; i < columnValues.length; i++) {
+            params.add(shardingColumnFlags[i] && null != columnValues[i] ? convert(columnValues[i], columnDataTypes[i]) : null);
+        }
+        InsertStatementContext sqlStatementContext = new InsertStatementContext(metaData, params, insertStatement, database.getName());
+        return getDataNodes(routeEngine.route(connectionContext, new QueryContext(sqlStatementContext, insertSQL, params), database));
+    }
+    
+    private Collection<DataNode> getDataNodes(final RouteContext routeContext) {
+        if (routeContext.getRouteUnits().isEmpty()) {
+            throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` without data node", logicTableName));
+        }
+        Collection<DataNode> result = new ArrayList<>(routeContext.getRouteUnits().size());
+        for (RouteUnit each : routeContext.getRouteUnits()) {
+            result.add(new DataNode(getActualDataSourceName(each.getDataSourceMapper().getActualName()), getActualTableName(each)));
+        }
+        return result;
+    }
+    
+    private String getActualDataSourceName(final String dataSourceName) {
+        if (dataSourceNames.contains(dataSourceName)) {
+            return dataSourceName;
+        }
+        for (DataSourceContainedRule each : dataSourceContainedRules) {
+            Collection<String> actualDataSourceNames = each.getDataSourceMapper().get(dataSourceName);
+            if (null != actualDataSourceNames && !actualDataSourceNames.isEmpty() && dataSourceNames.contains(actualDataSourceNames.iterator().next())) {
+                return actualDataSourceNames.iterator().next();
+            }
+        }
+        throw new UnsupportedSQLOperationException(String.format("COPY for table `%s` without data source `%s`", logicTableName, dataSourceName));
+    }
+    
+    private String getActualTableName(final RouteUnit routeUnit) {
+        for (RouteMapper each : routeUnit.getTableMappers()) {
+            if (logicTableName.equalsIgnoreCase(each.getLogicName())) {
+                return each.getActualName();
+            }
+        }
+        return logicTableName;
+    }
+    
+    private Comparable<?> convert(final String value, final int dataType) {
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(value);
+            case Types.BIGINT:
+                return Long.parseLong(value);
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value);
+            default:
+                return value;
+        }
+    }
+}
@@ -133,6 +133,7 @@ public final class PostgreSQLComDescribeExecutorTest extends ProxyContextRestore
         when(contextManager.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getProtocolType()).thenReturn(new PostgreSQLDatabaseType());
         when(contextManager.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getResourceMetaData().getStorageTypes())
                 .thenReturn(Collections.singletonMap("ds_0", new PostgreSQLDatabaseType()));
+        when(contextManager.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
         when(contextManager.getMetaDataContexts().getMetaData().containsDatabase(DATABASE_NAME)).thenReturn(true);
     }
     
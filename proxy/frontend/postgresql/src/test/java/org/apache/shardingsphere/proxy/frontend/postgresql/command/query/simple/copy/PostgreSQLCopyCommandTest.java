@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class PostgreSQLCopyCommandTest {
+    
+    @Test
+    public void assertParseCopyFromStdin() {
+        PostgreSQLCopyCommand actual = PostgreSQLCopyCommand.parse("copy public.\"T_Order\" (order_id, \"User_Id\") from stdin;").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSchemaName(), is("public"));
+        assertThat(actual.getTableName(), is("T_Order"));
+        assertThat(actual.getColumnNames(), is(Arrays.asList("order_id", "User_Id")));
+        assertTrue(actual.isCopyIn());
+        assertThat(actual.getActualSQL("t_order_0"), is("COPY t_order_0 (order_id, \"User_Id\") FROM STDIN"));
+    }
+    
+    @Test
+    public void assertParseCopyToStdout() {
+        PostgreSQLCopyCommand actual = PostgreSQLCopyCommand.parse("COPY T_ORDER TO STDOUT").orElseThrow(IllegalStateException::new);
+        assertThat(actual.getSchemaName(), nullValue());
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getColumnNames(), is(Collections.emptyList()));
+        assertFalse(actual.isCopyIn());
+        assertThat(actual.getActualSQL("t_order_1"), is("COPY t_order_1 TO STDOUT"));
+    }
+    
+    @Test
+    public void assertParseUnsupportedCopy() {
+        assertFalse(PostgreSQLCopyCommand.parse("COPY t_order FROM '/tmp/t_order.csv'").isPresent());
+        assertFalse(PostgreSQLCopyCommand.parse("COPY t_order FROM STDIN WITH (FORMAT csv)").isPresent());
+        assertFalse(PostgreSQLCopyCommand.parse("COPY (SELECT * FROM t_order) TO STDOUT").isPresent());
+        assertFalse(PostgreSQLCopyCommand.parse("SELECT 1").isPresent());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.copy;
+
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.ExecutorJDBCConnectionManager;
+import org.apache.shardingsphere.proxy.backend.communication.TransactionManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class PostgreSQLCopyInContextTest {
+    
+    private final DataNode firstDataNode = new DataNode("ds_0", "t_order_0");
+    
+    private final DataNode secondDataNode = new DataNode("ds_1", "t_order_1");
+    
+    private final DataNode sameDataSourceDataNode = new DataNode("ds_0", "t_order_2");
+    
+    private List<DataNode> routedDataNodes = Arrays.asList(firstDataNode, secondDataNode);
+    
+    @Mock
+    private PostgreSQLCopyRouter router;
+    
+    @Mock
+    private ExecutorJDBCConnectionManager connectionManager;
+    
+    @Mock
+    private TransactionManager transactionManager;
+    
+    @Mock
+    private Connection firstConnection;
+    
+    @Mock
+    private Connection secondConnection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PGConnection firstPGConnection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PGConnection secondPGConnection;
+    
+    @Mock
+    private CopyIn firstCopyIn;
+    
+    @Mock
+    private CopyIn secondCopyIn;
+    
+    @Before
+    public void setUp() {
+        when(router.getColumnCount()).thenReturn(2);
+        when(router.isShardingColumn(0)).thenReturn(true);
+        when(router.route(any())).thenAnswer(invocation -> {
+            String shardingValue = ((String[]) invocation.getArgument(0))[0];
+            return Collections.singletonList(routedDataNodes.get(Integer.parseInt(shardingValue) % 2));
+        });
+    }
+    
+    private void prepareDataNodes() throws SQLException {
+        prepareDataNode(firstDataNode, firstConnection, firstPGConnection, firstCopyIn, "COPY t_order_0 FROM STDIN");
+        prepareDataNode(secondDataNode, secondConnection, secondPGConnection, secondCopyIn, "COPY t_order_1 FROM STDIN");
+    }
+    
+    private void prepareDataNode(final DataNode dataNode, final Connection connection, final PGConnection pgConnection, final CopyIn copyIn, final String sql) throws SQLException {
+        when(connectionManager.getConnections(dataNode.getDataSourceName(), 1, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Collections.singletonList(connection));
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI().copyIn(sql)).thenReturn(copyIn);
+    }
+    
+    private PostgreSQLCopyInContext createCopyInContext() {
+        return createCopyInContext(1);
+    }
+    
+    private PostgreSQLCopyInContext createCopyInContext(final int maxConnectionsSizePerQuery) {
+        return new PostgreSQLCopyInContext(PostgreSQLCopyCommand.parse("COPY t_order FROM STDIN").orElseThrow(IllegalStateException::new),
+                router, StandardCharsets.UTF_8, connectionManager, transactionManager, maxConnectionsSizePerQuery);
+    }
+    
+    @Test
+    public void assertWriteRowsAcrossPackets() throws SQLException {
+        prepareDataNodes();
+        PostgreSQLCopyInContext actual = createCopyInContext();
+        actual.write("2\tfoo\n1\tb".getBytes(StandardCharsets.UTF_8));
+        actual.write("ar\n4\tbaz\n".getBytes(StandardCharsets.UTF_8));
+        actual.write("\\.\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.finish(), is(3L));
+        verify(firstCopyIn).writeToCopy(argThat(bytes -> "2\tfoo\n4\tbaz\n".equals(new String(bytes, 0, 12, StandardCharsets.UTF_8))), eq(0), eq(12));
+        verify(secondCopyIn).writeToCopy(argThat(bytes -> "1\tbar\n".equals(new String(bytes, 0, 6, StandardCharsets.UTF_8))), eq(0), eq(6));
+        verify(firstCopyIn).endCopy();
+        verify(secondCopyIn).endCopy();
+        verify(transactionManager).commit();
+        verify(firstConnection, never()).close();
+        verify(secondConnection, never()).close();
+    }
+    
+    @Test
+    public void assertWriteRowsWithEscapedShardingValues() throws SQLException {
+        prepareDataNodes();
+        PostgreSQLCopyInContext actual = createCopyInContext();
+        actual.write("\\062\tfoo\n\\x31\tbar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.finish(), is(2L));
+        verify(firstCopyIn).writeToCopy(any(), eq(0), eq(9));
+        verify(secondCopyIn).writeToCopy(any(), eq(0), eq(9));
+    }
+    
+    @Test
+    public void assertWriteRowsIntoDataNodesOfSameDataSourceConcurrently() throws SQLException {
+        routedDataNodes = Arrays.asList(firstDataNode, sameDataSourceDataNode);
+        prepareDataNode(firstDataNode, firstConnection, firstPGConnection, firstCopyIn, "COPY t_order_0 FROM STDIN");
+        Connection sameDataSourceConnection = mock(Connection.class);
+        when(connectionManager.getConnections("ds_0", 2, ConnectionMode.CONNECTION_STRICTLY)).thenReturn(Arrays.asList(firstConnection, sameDataSourceConnection));
+        PGConnection sameDataSourcePGConnection = mock(PGConnection.class, Answers.RETURNS_DEEP_STUBS);
+        when(sameDataSourceConnection.unwrap(PGConnection.class)).thenReturn(sameDataSourcePGConnection);
+        CopyIn sameDataSourceCopyIn = mock(CopyIn.class);
+        when(sameDataSourcePGConnection.getCopyAPI().copyIn("COPY t_order_2 FROM STDIN")).thenReturn(sameDataSourceCopyIn);
+        PostgreSQLCopyInContext actual = createCopyInContext(2);
+        actual.write("2\tfoo\n1\tbar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.finish(), is(2L));
+        verify(firstCopyIn).writeToCopy(any(), eq(0), eq(6));
+        verify(sameDataSourceCopyIn).writeToCopy(any(), eq(0), eq(6));
+        verify(firstCopyIn).endCopy();
+        verify(sameDataSourceCopyIn).endCopy();
+    }
+    
+    @Test
+    public void assertWriteRowsIntoDataNodesOfSameDataSourceWithSharedConnection() throws SQLException {
+        routedDataNodes = Arrays.asList(firstDataNode, sameDataSourceDataNode);
+        CopyIn sameDataSourceCopyIn = mock(CopyIn.class);
+        prepareDataNode(firstDataNode, firstConnection, firstPGConnection, firstCopyIn, "COPY t_order_0 FROM STDIN");
+        when(firstPGConnection.getCopyAPI().copyIn("COPY t_order_2 FROM STDIN")).thenReturn(sameDataSourceCopyIn);
+        PostgreSQLCopyInContext actual = createCopyInContext();
+        actual.write("2\tfoo\n1\tbar\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(actual.finish(), is(2L));
+        verify(connectionManager, never()).getConnections("ds_0", 2, ConnectionMode.CONNECTION_STRICTLY);
+        verify(firstCopyIn).endCopy();
+        verify(sameDataSourceCopyIn).endCopy();
+    }
+    
+    @Test
+    public void assertFinishFailed() throws SQLException {
+        prepareDataNodes();
+        PostgreSQLCopyInContext actual = createCopyInContext();
+        actual.write("2\tfoo\n1\tbar\n".getBytes(StandardCharsets.UTF_8));
+        SQLException expected = new SQLException("duplicate key");
+        when(secondCopyIn.endCopy()).thenThrow(expected);
+        when(secondCopyIn.isActive()).thenReturn(true);
+        assertThat(assertThrows(SQLException.class, actual::finish), is(expected));
+        verify(secondCopyIn).cancelCopy();
+        verify(transactionManager).rollback();
+        verify(transactionManager, never()).commit();
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        PostgreSQLCopyInContext actual = createCopyInContext();
+        actual.write("2\tfoo\n".getBytes(StandardCharsets.UTF_8));
+        actual.cancel(new SQLException("canceled"));
+        verify(connectionManager, never()).getConnections(any(), anyInt(), any());
+        verify(transactionManager).rollback();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.IntervalSet;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementLexer;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementParser;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.AbstractFastPathSQLParser;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLInsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLUpdateStatement;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+/**
+ * Fast path SQL parser for MySQL.
+ */
+public final class MySQLFastPathSQLParser extends AbstractFastPathSQLParser {
+    
+    private static final Map<String, Integer> KEYWORD_TOKEN_TYPES = createKeywordTokenTypes();
+    
+    private static final IntervalSet IDENTIFIER_TOKEN_TYPES = MySQLStatementParser._ATN.nextTokens(MySQLStatementParser._ATN.ruleToStartState[MySQLStatementParser.RULE_identifier]);
+    
+    private static final Collection<String> UNSUPPORTED_WORDS = new HashSet<>(Arrays.asList("LAST_DAY", "SKIP", "IO_THREAD", "MASTER_COMPRESSION_ALGORITHMS",
+            "SQL_TSI_SECOND", "SQL_TSI_MINUTE", "SQL_TSI_HOUR", "SQL_TSI_DAY", "SQL_TSI_WEEK", "SQL_TSI_MONTH", "SQL_TSI_QUARTER", "SQL_TSI_YEAR"));
+    
+    private static Map<String, Integer> createKeywordTokenTypes() {
+        Vocabulary vocabulary = MySQLStatementLexer.VOCABULARY;
+        Map<String, Integer> result = new HashMap<>(vocabulary.getMaxTokenType() * 2, 1);
+        for (int i = 1; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null != symbolicName && !symbolicName.endsWith("_")) {
+                result.put(symbolicName, i);
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    protected char getIdentifierQuoteCharacter() {
+        return '`';
+    }
+    
+    @Override
+    protected boolean isIdentifier(final String word) {
+        String upperCaseWord = word.toUpperCase();
+        if (UNSUPPORTED_WORDS.contains(upperCaseWord)) {
+            return false;
+        }
+        Integer tokenType = KEYWORD_TOKEN_TYPES.get(upperCaseWord);
+        return null == tokenType || IDENTIFIER_TOKEN_TYPES.contains(tokenType);
+    }
+    
+    @Override
+    protected SelectStatement createSelectStatement() {
+        return new MySQLSelectStatement();
+    }
+    
+    @Override
+    protected UpdateStatement createUpdateStatement() {
+        return new MySQLUpdateStatement();
+    }
+    
+    @Override
+    protected InsertStatement createInsertStatement() {
+        return new MySQLInsertStatement();
+    }
+    
+    @Override
+    public String getType() {
+        return "MySQL";
+    }
+}
@@ -1115,6 +1115,7 @@ public abstract class MySQLStatementSQLVisitor extends MySQLStatementBaseVisitor
         if (null != ctx.onDuplicateKeyClause()) {
             result.setOnDuplicateKeyColumns((OnDuplicateKeyColumnsSegment) visit(ctx.onDuplicateKeyClause()));
         }
+        result.setIgnore(null != ctx.insertSpecification().IGNORE());
         result.setTable((SimpleTableSegment) visit(ctx.tableName()));
         result.setParameterCount(currentParameterIndex);
         result.getParameterMarkerSegments().addAll(getParameterMarkerSegments());
@@ -1187,6 +1188,7 @@ public abstract class MySQLStatementSQLVisitor extends MySQLStatementBaseVisitor
             result = new MySQLInsertStatement();
             result.setSetAssignment((SetAssignmentSegment) visit(ctx.setAssignmentsClause()));
         }
+        result.setReplace(true);
         result.setTable((SimpleTableSegment) visit(ctx.tableName()));
         result.setParameterCount(currentParameterIndex);
         result.getParameterMarkerSegments().addAll(getParameterMarkerSegments());
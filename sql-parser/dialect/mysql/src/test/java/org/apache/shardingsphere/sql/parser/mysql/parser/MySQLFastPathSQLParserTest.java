@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.mysql.parser;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.autogen.MySQLStatementLexer;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.FastPathSQLParserFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public final class MySQLFastPathSQLParserTest {
+    
+    private final MySQLFastPathSQLParser fastPathParser = new MySQLFastPathSQLParser();
+    
+    private final SQLParserEngine parserEngine = new SQLParserEngine("MySQL", new CacheOption(128, 1024L));
+    
+    private final SQLVisitorEngine visitorEngine = new SQLVisitorEngine("MySQL", "STATEMENT", false, new Properties());
+    
+    @Test
+    public void assertFindInstance() {
+        assertThat(FastPathSQLParserFactory.findInstance("MySQL").orElse(null), instanceOf(MySQLFastPathSQLParser.class));
+    }
+    
+    @Test
+    public void assertParseSameAsANTLR() {
+        Collection<String> sqls = Arrays.asList(
+                "SELECT * FROM t_order WHERE order_id = ?",
+                "select order_id, user_id from t_order where order_id = 10",
+                "SELECT `order_id`, status FROM `t_order` WHERE user_id = 'foo' AND order_id = ? and status = 99999999999;",
+                "SELECT id FROM t",
+                "UPDATE t_order SET status = ?, user_id = 2 WHERE order_id = ?",
+                "update t_order set status='init'",
+                "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')",
+                "INSERT INTO t_order(order_id,user_id) VALUES(1,?),(?,2);",
+                "\n  SELECT\t*\r\nFROM t_order WHERE order_id=?  ");
+        for (String each : sqls) {
+            assertSameAsANTLR(each);
+        }
+    }
+    
+    @Test
+    public void assertParseKeywordIdentifierSameAsANTLR() {
+        for (int i = 1; i <= MySQLStatementLexer.VOCABULARY.getMaxTokenType(); i++) {
+            String word = MySQLStatementLexer.VOCABULARY.getSymbolicName(i);
+            if (null != word && !word.endsWith("_") && fastPathParser.isIdentifier(word)) {
+                assertSameAsANTLR(String.format("SELECT %s FROM %s WHERE %s = ?", word, word, word));
+                assertSameAsANTLR(String.format("UPDATE %s SET %s = 1 WHERE %s = ?", word, word, word));
+                assertSameAsANTLR(String.format("INSERT INTO %s (%s) VALUES (?)", word, word));
+            }
+        }
+    }
+    
+    @Test
+    public void assertParseOutOfFastPath() {
+        Collection<String> sqls = Arrays.asList(
+                "SELECT * FROM t_order WHERE order_id > ?",
+                "SELECT o.* FROM t_order o WHERE order_id = ?",
+                "SELECT * FROM t_order WHERE order_id = ? OR user_id = ?",
+                "SELECT * FROM t_order WHERE order_id = ? LIMIT 1",
+                "SELECT * FROM t_order WHERE order_id = 1.5",
+                "SELECT * FROM t_order WHERE status = 'it''s'",
+                "SELECT * FROM t_order WHERE status = 'a\\'b'",
+                "SELECT * FROM t_order /* comment */ WHERE order_id = ?",
+                "SELECT * FROM t_order WHERE order_id = ? -- comment",
+                "SELECT * FROM t_order.t WHERE order_id = ?",
+                "SELECT * FROM `order` o",
+                "SELECT * FROM order",
+                "SELECT COUNT(*) FROM t_order",
+                "SELECT DISTINCT order_id FROM t_order",
+                "UPDATE t_order SET status = DEFAULT WHERE order_id = ?",
+                "INSERT INTO t_order VALUES (?, ?)",
+                "INSERT INTO t_order (order_id) VALUES (?) ON DUPLICATE KEY UPDATE order_id = ?",
+                "INSERT INTO t_order (order_id) SELECT order_id FROM t_order_item",
+                "DELETE FROM t_order WHERE order_id = ?",
+                "SELECT * FROM t_order; SELECT * FROM t_order");
+        for (String each : sqls) {
+            assertFalse(each, fastPathParser.parse(each).isPresent());
+        }
+    }
+    
+    private void assertSameAsANTLR(final String sql) {
+        Optional<SQLStatement> actual = fastPathParser.parse(sql);
+        assertTrue(sql, actual.isPresent());
+        assertSameObject(sql, visitorEngine.visit(parserEngine.parse(sql, false)), actual.get());
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void assertSameObject(final String path, final Object expected, final Object actual) {
+        if (null == expected || null == actual) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        assertThat(path, actual.getClass().getName(), is(expected.getClass().getName()));
+        if (expected instanceof Number || expected instanceof CharSequence || expected instanceof Boolean || expected instanceof Enum) {
+            assertThat(path, actual, is(expected));
+            return;
+        }
+        if (expected instanceof Collection) {
+            assertThat(path, ((Collection<?>) actual).size(), is(((Collection<?>) expected).size()));
+            Iterator<?> actualIterator = ((Collection<?>) actual).iterator();
+            int index = 0;
+            for (Object each : (Collection<?>) expected) {
+                assertSameObject(path + "[" + index++ + "]", each, actualIterator.next());
+            }
+            return;
+        }
+        for (Class<?> clazz = expected.getClass(); Object.class != clazz; clazz = clazz.getSuperclass()) {
+            for (Field each : clazz.getDeclaredFields()) {
+                if (!Modifier.isStatic(each.getModifiers())) {
+                    each.setAccessible(true);
+                    assertSameObject(path + "." + each.getName(), each.get(expected), each.get(actual));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.ColumnAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.ParameterMarkerSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.AbstractSQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Abstract fast path SQL parser.
+ * 
+ * <p>Recursive descent parser for the following grammar, which covers the dominant point queries and single table writes:</p>
+ * <pre>
+ * SELECT (* | column [, column ...]) FROM table [WHERE condition]
+ * UPDATE table SET column = value [, column = value ...] [WHERE condition]
+ * INSERT INTO table (column [, column ...]) VALUES (value [, value ...]) [, (value [, value ...]) ...]
+ * condition: column = value [AND column = value ...]
+ * value: ? | unsigned integer | string literal without escapes
+ * </pre>
+ * 
+ * <p>The SQL statements built here must be the same as the ones built by ANTLR visitor of the dialect, anything else is left to ANTLR.</p>
+ */
+public abstract class AbstractFastPathSQLParser implements FastPathSQLParser {
+    
+    @Override
+    public final Optional<SQLStatement> parse(final String sql) {
+        Optional<List<FastPathSQLToken>> tokens = FastPathSQLLexer.tokenize(sql, getIdentifierQuoteCharacter());
+        return tokens.isPresent() ? Optional.ofNullable(new StatementParser(sql, tokens.get()).parse()) : Optional.empty();
+    }
+    
+    /**
+     * Get quote character of identifier.
+     * 
+     * @return quote character of identifier
+     */
+    protected abstract char getIdentifierQuoteCharacter();
+    
+    /**
+     * Judge whether unquoted word can be used as identifier.
+     * 
+     * @param word unquoted word
+     * @return can be used as identifier or not
+     */
+    protected abstract boolean isIdentifier(String word);
+    
+    /**
+     * Create select statement.
+     * 
+     * @return created select statement
+     */
+    protected abstract SelectStatement createSelectStatement();
+    
+    /**
+     * Create update statement.
+     * 
+     * @return created update statement
+     */
+    protected abstract UpdateStatement createUpdateStatement();
+    
+    /**
+     * Create insert statement.
+     * 
+     * @return created insert statement
+     */
+    protected abstract InsertStatement createInsertStatement();
+    
+    @RequiredArgsConstructor
+    private final class StatementParser {
+        
+        private final String sql;
+        
+        private final List<FastPathSQLToken> tokens;
+        
+        private final Collection<ParameterMarkerSegment> parameterMarkerSegments = new LinkedList<>();
+        
+        private int position;
+        
+        private SQLStatement parse() {
+            AbstractSQLStatement result;
+            if (consumeKeyword("SELECT")) {
+                result = parseSelect();
+            } else if (consumeKeyword("UPDATE")) {
+                result = parseUpdate();
+            } else if (consumeKeyword("INSERT") && consumeKeyword("INTO")) {
+                result = parseInsert();
+            } else {
+                return null;
+            }
+            if (null == result || !isEnd()) {
+                return null;
+            }
+            result.setParameterCount(parameterMarkerSegments.size());
+            result.getParameterMarkerSegments().addAll(parameterMarkerSegments);
+            return result;
+        }
+        
+        private SelectStatement parseSelect() {
+            ProjectionsSegment projections = parseProjections();
+            if (null == projections || !consumeKeyword("FROM")) {
+                return null;
+            }
+            SimpleTableSegment table = parseTable();
+            if (null == table) {
+                return null;
+            }
+            WhereSegment where = null;
+            if (isKeyword(peek(), "WHERE")) {
+                where = parseWhere();
+                if (null == where) {
+                    return null;
+                }
+            }
+            SelectStatement result = createSelectStatement();
+            result.setProjections(projections);
+            result.setFrom(table);
+            result.setWhere(where);
+            return result;
+        }
+        
+        private ProjectionsSegment parseProjections() {
+            FastPathSQLToken token = peek();
+            if (FastPathSQLTokenType.ASTERISK == token.getType()) {
+                position++;
+                ProjectionsSegment result = new ProjectionsSegment(token.getStartIndex(), token.getStopIndex());
+                result.getProjections().add(new ShorthandProjectionSegment(token.getStartIndex(), token.getStopIndex()));
+                return result;
+            }
+            Collection<ColumnSegment> columns = parseColumns();
+            if (null == columns) {
+                return null;
+            }
+            ProjectionsSegment result = new ProjectionsSegment(token.getStartIndex(), tokens.get(position - 1).getStopIndex());
+            for (ColumnSegment each : columns) {
+                result.getProjections().add(new ColumnProjectionSegment(each));
+            }
+            return result;
+        }
+        
+        private UpdateStatement parseUpdate() {
+            SimpleTableSegment table = parseTable();
+            SetAssignmentSegment setAssignment = null == table ? null : parseSetAssignment();
+            if (null == setAssignment) {
+                return null;
+            }
+            WhereSegment where = null;
+            if (isKeyword(peek(), "WHERE")) {
+                where = parseWhere();
+                if (null == where) {
+                    return null;
+                }
+            }
+            UpdateStatement result = createUpdateStatement();
+            result.setTable(table);
+            result.setSetAssignment(setAssignment);
+            result.setWhere(where);
+            return result;
+        }
+        
+        private SetAssignmentSegment parseSetAssignment() {
+            FastPathSQLToken setToken = peek();
+            if (!consumeKeyword("SET")) {
+                return null;
+            }
+            Collection<AssignmentSegment> assignments = new LinkedList<>();
+            do {
+                ColumnSegment column = parseColumn();
+                ExpressionSegment value = null == column || !consume(FastPathSQLTokenType.EQ) ? null : parseValue();
+                if (null == value) {
+                    return null;
+                }
+                List<ColumnSegment> columns = new LinkedList<>();
+                columns.add(column);
+                assignments.add(new ColumnAssignmentSegment(column.getStartIndex(), value.getStopIndex(), columns, value));
+            } while (consume(FastPathSQLTokenType.COMMA));
+            return new SetAssignmentSegment(setToken.getStartIndex(), tokens.get(position - 1).getStopIndex(), assignments);
+        }
+        
+        private InsertStatement parseInsert() {
+            SimpleTableSegment table = parseTable();
+            InsertColumnsSegment insertColumns = null == table ? null : parseInsertColumns();
+            if (null == insertColumns || !consumeKeyword("VALUES")) {
+                return null;
+            }
+            InsertStatement result = createInsertStatement();
+            result.setTable(table);
+            result.setInsertColumns(insertColumns);
+            do {
+                InsertValuesSegment values = parseInsertValues();
+                if (null == values) {
+                    return null;
+                }
+                result.getValues().add(values);
+            } while (consume(FastPathSQLTokenType.COMMA));
+            return result;
+        }
+        
+        private InsertColumnsSegment parseInsertColumns() {
+            FastPathSQLToken leftParenToken = peek();
+            if (!consume(FastPathSQLTokenType.LEFT_PAREN)) {
+                return null;
+            }
+            Collection<ColumnSegment> columns = parseColumns();
+            FastPathSQLToken rightParenToken = peek();
+            return null != columns && consume(FastPathSQLTokenType.RIGHT_PAREN) ? new InsertColumnsSegment(leftParenToken.getStartIndex(), rightParenToken.getStopIndex(), columns) : null;
+        }
+        
+        private InsertValuesSegment parseInsertValues() {
+            FastPathSQLToken leftParenToken = peek();
+            if (!consume(FastPathSQLTokenType.LEFT_PAREN)) {
+                return null;
+            }
+            List<ExpressionSegment> values = new LinkedList<>();
+            do {
+                ExpressionSegment value = parseValue();
+                if (null == value) {
+                    return null;
+                }
+                values.add(value);
+            } while (consume(FastPathSQLTokenType.COMMA));
+            FastPathSQLToken rightParenToken = peek();
+            return consume(FastPathSQLTokenType.RIGHT_PAREN) ? new InsertValuesSegment(leftParenToken.getStartIndex(), rightParenToken.getStopIndex(), values) : null;
+        }
+        
+        private WhereSegment parseWhere() {
+            FastPathSQLToken whereToken = tokens.get(position++);
+            ExpressionSegment left = parseEqualCondition();
+            while (null != left && isKeyword(peek(), "AND")) {
+                String operator = tokens.get(position++).getText();
+                ExpressionSegment right = parseEqualCondition();
+                left = null == right ? null : createBinaryOperationExpression(left, right, operator);
+            }
+            return null == left ? null : new WhereSegment(whereToken.getStartIndex(), left.getStopIndex(), left);
+        }
+        
+        private ExpressionSegment parseEqualCondition() {
+            ColumnSegment column = parseColumn();
+            ExpressionSegment value = null == column || !consume(FastPathSQLTokenType.EQ) ? null : parseValue();
+            return null == value ? null : createBinaryOperationExpression(column, value, "=");
+        }
+        
+        private BinaryOperationExpression createBinaryOperationExpression(final ExpressionSegment left, final ExpressionSegment right, final String operator) {
+            return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, operator, sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+        }
+        
+        private ExpressionSegment parseValue() {
+            FastPathSQLToken token = peek();
+            switch (token.getType()) {
+                case PARAMETER_MARKER:
+                    position++;
+                    ParameterMarkerExpressionSegment result = new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterMarkerSegments.size());
+                    parameterMarkerSegments.add(result);
+                    return result;
+                case NUMBER:
+                    position++;
+                    return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+                case STRING:
+                    position++;
+                    return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), token.getText().substring(1, token.getText().length() - 1));
+                default:
+                    return null;
+            }
+        }
+        
+        private Collection<ColumnSegment> parseColumns() {
+            Collection<ColumnSegment> result = new LinkedList<>();
+            do {
+                ColumnSegment column = parseColumn();
+                if (null == column) {
+                    return null;
+                }
+                result.add(column);
+            } while (consume(FastPathSQLTokenType.COMMA));
+            return result;
+        }
+        
+        private ColumnSegment parseColumn() {
+            FastPathSQLToken token = peek();
+            return consumeIdentifier() ? new ColumnSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText())) : null;
+        }
+        
+        private SimpleTableSegment parseTable() {
+            FastPathSQLToken token = peek();
+            return consumeIdentifier() ? new SimpleTableSegment(new TableNameSegment(token.getStartIndex(), token.getStopIndex(), new IdentifierValue(token.getText()))) : null;
+        }
+        
+        private boolean consumeIdentifier() {
+            FastPathSQLToken token = peek();
+            if (FastPathSQLTokenType.QUOTED_IDENTIFIER == token.getType() || FastPathSQLTokenType.WORD == token.getType() && isIdentifier(token.getText())) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean consumeKeyword(final String keyword) {
+            if (isKeyword(peek(), keyword)) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean consume(final FastPathSQLTokenType type) {
+            if (type == peek().getType()) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+        
+        private boolean isKeyword(final FastPathSQLToken token, final String keyword) {
+            return FastPathSQLTokenType.WORD == token.getType() && keyword.equalsIgnoreCase(token.getText());
+        }
+        
+        private boolean isEnd() {
+            consume(FastPathSQLTokenType.SEMI);
+            return FastPathSQLTokenType.EOF == peek().getType();
+        }
+        
+        private FastPathSQLToken peek() {
+            return tokens.get(position);
+        }
+    }
+}
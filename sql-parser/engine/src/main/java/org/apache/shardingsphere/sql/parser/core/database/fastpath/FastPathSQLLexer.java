@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Fast path SQL lexer.
+ * 
+ * <p>Only recognizes unqualified identifiers, parameter markers, unsigned integers, string literals without escapes and a few symbols.
+ * Anything else, including comments, makes the SQL out of fast path.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class FastPathSQLLexer {
+    
+    /**
+     * Tokenize SQL.
+     *
+     * @param sql SQL to be tokenized
+     * @param identifierQuoteCharacter quote character of identifier
+     * @return tokens ended with EOF token, empty if SQL contains characters out of fast path
+     */
+    static Optional<List<FastPathSQLToken>> tokenize(final String sql, final char identifierQuoteCharacter) {
+        List<FastPathSQLToken> result = new ArrayList<>(32);
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char current = sql.charAt(index);
+            if (isWhitespace(current)) {
+                index++;
+                continue;
+            }
+            int stopIndex;
+            FastPathSQLTokenType type;
+            boolean isSymbol = false;
+            if (isWordStart(current)) {
+                stopIndex = scanWhile(sql, index, true);
+                type = FastPathSQLTokenType.WORD;
+            } else if (isDigit(current)) {
+                stopIndex = scanWhile(sql, index, false);
+                type = FastPathSQLTokenType.NUMBER;
+            } else if ('\'' == current || identifierQuoteCharacter == current) {
+                stopIndex = scanQuoted(sql, index, current);
+                type = '\'' == current ? FastPathSQLTokenType.STRING : FastPathSQLTokenType.QUOTED_IDENTIFIER;
+            } else {
+                stopIndex = index;
+                type = getSymbolType(current);
+                isSymbol = true;
+            }
+            if (null == type || stopIndex < 0 || !isSymbol && isFollowedByWordPart(sql, stopIndex + 1)) {
+                return Optional.empty();
+            }
+            result.add(new FastPathSQLToken(type, sql.substring(index, stopIndex + 1), index, stopIndex));
+            index = stopIndex + 1;
+        }
+        result.add(new FastPathSQLToken(FastPathSQLTokenType.EOF, "", length, length));
+        return Optional.of(result);
+    }
+    
+    private static int scanWhile(final String sql, final int startIndex, final boolean isWord) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && (isWord ? isWordPart(sql.charAt(result + 1)) : isDigit(sql.charAt(result + 1)))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int scanQuoted(final String sql, final int startIndex, final char quoteCharacter) {
+        for (int i = startIndex + 1; i < sql.length(); i++) {
+            char current = sql.charAt(i);
+            if (quoteCharacter == current) {
+                boolean isEmptyOrDoubled = i == startIndex + 1 || i + 1 < sql.length() && quoteCharacter == sql.charAt(i + 1);
+                return isEmptyOrDoubled ? -1 : i;
+            }
+            if ('\\' == current) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static FastPathSQLTokenType getSymbolType(final char symbol) {
+        switch (symbol) {
+            case '?':
+                return FastPathSQLTokenType.PARAMETER_MARKER;
+            case ',':
+                return FastPathSQLTokenType.COMMA;
+            case '(':
+                return FastPathSQLTokenType.LEFT_PAREN;
+            case ')':
+                return FastPathSQLTokenType.RIGHT_PAREN;
+            case '=':
+                return FastPathSQLTokenType.EQ;
+            case '*':
+                return FastPathSQLTokenType.ASTERISK;
+            case ';':
+                return FastPathSQLTokenType.SEMI;
+            default:
+                return null;
+        }
+    }
+    
+    private static boolean isFollowedByWordPart(final String sql, final int index) {
+        if (index >= sql.length()) {
+            return false;
+        }
+        char next = sql.charAt(index);
+        return isWordPart(next) || '.' == next || next > 127;
+    }
+    
+    private static boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\n' == ch || '\r' == ch;
+    }
+    
+    private static boolean isWordStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z';
+    }
+    
+    private static boolean isWordPart(final char ch) {
+        return isWordStart(ch) || isDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private static boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -76,6 +76,16 @@ public final class InsertStatementHandler implements SQLStatementHandler {
         return insertStatement instanceof MySQLStatement ? ((MySQLInsertStatement) insertStatement).getSetAssignment() : Optional.empty();
     }
     
+    /**
+     * Judge whether insert statement is ignore or replace insert, whose conflicted rows are skipped or replaced instead of failed.
+     *
+     * @param insertStatement insert statement
+     * @return is ignore or replace insert or not
+     */
+    public static boolean isIgnoreOrReplace(final InsertStatement insertStatement) {
+        return insertStatement instanceof MySQLStatement && (((MySQLInsertStatement) insertStatement).isIgnore() || ((MySQLInsertStatement) insertStatement).isReplace());
+    }
+    
     /**
      * Get with segment.
      *
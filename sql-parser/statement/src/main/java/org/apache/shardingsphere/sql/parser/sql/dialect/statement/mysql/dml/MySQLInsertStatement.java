@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml;
 
+import lombok.Getter;
 import lombok.Setter;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.assignment.SetAssignmentSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.OnDuplicateKeyColumnsSegment;
@@ -35,6 +36,12 @@ public final class MySQLInsertStatement extends InsertStatement implements MySQL
     
     private OnDuplicateKeyColumnsSegment onDuplicateKeyColumns;
     
+    @Getter
+    private boolean ignore;
+    
+    @Getter
+    private boolean replace;
+    
     /**
      * Get set assignment segment.
      *
@@ -98,6 +98,26 @@ public final class InsertStatementHandlerTest {
         assertFalse(InsertStatementHandler.getSetAssignmentSegment(new SQLServerInsertStatement()).isPresent());
     }
     
+    @Test
+    public void assertIsIgnoreOrReplaceForMySQL() {
+        MySQLInsertStatement ignoreStatement = new MySQLInsertStatement();
+        ignoreStatement.setIgnore(true);
+        assertTrue(InsertStatementHandler.isIgnoreOrReplace(ignoreStatement));
+        MySQLInsertStatement replaceStatement = new MySQLInsertStatement();
+        replaceStatement.setReplace(true);
+        assertTrue(InsertStatementHandler.isIgnoreOrReplace(replaceStatement));
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new MySQLInsertStatement()));
+    }
+    
+    @Test
+    public void assertIsIgnoreOrReplaceForOtherDatabases() {
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new OpenGaussInsertStatement()));
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new OracleInsertStatement()));
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new PostgreSQLInsertStatement()));
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new SQL92InsertStatement()));
+        assertFalse(InsertStatementHandler.isIgnoreOrReplace(new SQLServerInsertStatement()));
+    }
+    
     @Test
     public void assertGetWithSegmentForPostgreSQL() {
         PostgreSQLInsertStatement insertStatement = new PostgreSQLInsertStatement();
@@ -107,6 +107,38 @@ public final class InventoryTaskSplitterTest {
         assertThat(((IntegerPrimaryKeyPosition) task.getTaskProgress().getPosition()).getEndValue(), is(100L));
     }
     
+    @Test
+    public void assertSplitInventoryDataWithSparseIntPrimary() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), -100, 1000);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(-100L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(8900L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getBeginValue(), is(88901L));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue(), is(98900L));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithIntPrimaryNearLongMinValue() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), Long.MIN_VALUE, 1);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(Long.MIN_VALUE));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getEndValue(), is(Long.MIN_VALUE + 9));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getBeginValue(), is(Long.MIN_VALUE + 90));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue(), is(Long.MIN_VALUE + 99));
+    }
+    
+    @Test
+    public void assertSplitInventoryDataWithIntPrimaryNearLongMaxValue() throws SQLException {
+        initIntPrimaryEnvironment(taskConfig.getDumperConfig(), Long.MAX_VALUE - 99, 1);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition()).getBeginValue(), is(Long.MAX_VALUE - 99));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getBeginValue(), is(Long.MAX_VALUE - 9));
+        assertThat(((IntegerPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue(), is(Long.MAX_VALUE));
+    }
+    
     @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
@@ -152,14 +184,18 @@ public final class InventoryTaskSplitterTest {
     }
     
     private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        initIntPrimaryEnvironment(dumperConfig, 1, 1);
+    }
+    
+    private void initIntPrimaryEnvironment(final DumperConfiguration dumperConfig, final long firstOrderId, final long orderIdStep) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (
                 Connection connection = dataSource.getConnection();
                 Statement statement = connection.createStatement()) {
             statement.execute("DROP TABLE IF EXISTS t_order");
-            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id VARCHAR(12))");
-            for (int i = 1; i <= 100; i++) {
-                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", i));
+            statement.execute("CREATE TABLE t_order (order_id BIGINT PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 0; i < 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES (%d, 'x')", firstOrderId + i * orderIdStep));
             }
         }
     }